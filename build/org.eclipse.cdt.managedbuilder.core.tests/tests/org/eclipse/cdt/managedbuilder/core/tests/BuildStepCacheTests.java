@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.core.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildDescription;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuilderCorePlugin;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildCommand;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.BuildStepCache;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BuildStepCacheTests {
+	@TempDir
+	File fTmpDir;
+	private File fSource;
+	private File fHeader;
+	private File fObject;
+	private IBuildStep fStep;
+	private BuildStepCache fCache;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		fSource = write("main.c", "#include \"main.h\"\nint main() { return VALUE; }\n");
+		fHeader = write("main.h", "#define VALUE 0\n");
+		fObject = new File(fTmpDir, "main.o");
+		fStep = createStep(fSource, fObject);
+		fCache = new BuildStepCache(new File(fTmpDir, "cache"), Long.MAX_VALUE);
+	}
+
+	@Test
+	public void testNotUsedForFullBuilds() {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(ManagedBuilderCorePlugin.PLUGIN_ID);
+		prefs.putBoolean(BuildStepCache.PREF_ENABLED, true);
+		try {
+			assertNotNull(BuildStepCache.getCache(true));
+			assertNull(BuildStepCache.getCache(false));
+		} finally {
+			prefs.remove(BuildStepCache.PREF_ENABLED);
+		}
+	}
+
+	@Test
+	public void testRestore() throws IOException {
+		IBuildCommand[] cmds = { createCommand(Collections.emptyMap(), "-MD") };
+		String key = fCache.getKey(fStep, cmds);
+		assertNotNull(key);
+		compile();
+		fCache.store(fStep, cmds, key);
+
+		write("main.o", "other object");
+		assertTrue(fCache.restore(fStep, fCache.getKey(fStep, cmds)));
+		assertEquals("object 0", Files.readString(fObject.toPath()));
+	}
+
+	@Test
+	public void testHeaderChange() throws IOException {
+		IBuildCommand[] cmds = { createCommand(Collections.emptyMap(), "-MD") };
+		String key = fCache.getKey(fStep, cmds);
+		compile();
+		fCache.store(fStep, cmds, key);
+
+		// The header is not an input of the step, it is only known from the dependency file
+		write("main.h", "#define VALUE 100\n");
+		assertFalse(fCache.restore(fStep, fCache.getKey(fStep, cmds)));
+	}
+
+	@Test
+	public void testEnvironment() {
+		String key = fCache.getKey(fStep, new IBuildCommand[] { createCommand(Collections.emptyMap(), "-MD") });
+		String cpathKey = fCache.getKey(fStep,
+				new IBuildCommand[] { createCommand(Collections.singletonMap("CPATH", "/opt/include"), "-MD") });
+		assertNotNull(key);
+		assertNotEquals(key, cpathKey);
+	}
+
+	@Test
+	public void testIncompleteDependencies() {
+		assertNull(fCache.getKey(fStep, new IBuildCommand[] { createCommand(Collections.emptyMap()) }));
+		// -MMD leaves out the system headers
+		assertNull(fCache.getKey(fStep, new IBuildCommand[] { createCommand(Collections.emptyMap(), "-MMD") }));
+	}
+
+	@Test
+	public void testDependencyFile() {
+		assertEquals(new File(fTmpDir, "main.d"),
+				BuildStepCache.getDependencyFile(createCommand(Collections.emptyMap(), "-MD")));
+		assertEquals(new File(fTmpDir, "deps/main.dep"), BuildStepCache
+				.getDependencyFile(createCommand(Collections.emptyMap(), "-MD", "-MF", "deps/main.dep")));
+		assertEquals(new File(fTmpDir, "main.dep"),
+				BuildStepCache.getDependencyFile(createCommand(Collections.emptyMap(), "-MD", "-MFmain.dep")));
+	}
+
+	@Test
+	public void testParseDependencies() {
+		String content = "main.o: main.c /usr/include/stdio.h \\\n" //
+				+ " dir\\ with\\ spaces/a.h C:/include/b.h \\\n" //
+				+ "  pre$$fix.h\n" //
+				+ "/usr/include/stdio.h:\n";
+		assertEquals(Arrays.asList("main.c", "/usr/include/stdio.h", "dir with spaces/a.h", "C:/include/b.h",
+				"pre$fix.h"), BuildStepCache.parseDependencies(content));
+	}
+
+	/**
+	 * Simulates a compiler writing an object depending on the value in the header
+	 */
+	private void compile() throws IOException {
+		String header = Files.readString(fHeader.toPath());
+		write("main.o", "object " + header.substring(header.lastIndexOf(' ') + 1).trim());
+		write("main.d", "main.o: main.c " + fHeader.getAbsolutePath() + "\n");
+	}
+
+	private IBuildCommand createCommand(Map<String, String> env, String... depArgs) {
+		String[] args = new String[depArgs.length + 4];
+		System.arraycopy(depArgs, 0, args, 0, depArgs.length);
+		System.arraycopy(new String[] { "-c", "main.c", "-o", "main.o" }, 0, args, depArgs.length, 4);
+		return new BuildCommand(new Path("gcc"), args, env, new Path(fTmpDir.getAbsolutePath()), null);
+	}
+
+	private File write(String name, String content) throws IOException {
+		File file = new File(fTmpDir, name);
+		Files.writeString(file.toPath(), content);
+		return file;
+	}
+
+	private static IBuildStep createStep(File input, File output) {
+		IBuildDescription des = stub(IBuildDescription.class, (name, args) -> null);
+		IBuildResource[] inputs = { createResource(input) };
+		IBuildResource[] outputs = { createResource(output) };
+		return stub(IBuildStep.class, (name, args) -> {
+			switch (name) {
+			case "getBuildDescription":
+				return des;
+			case "getInputResources":
+				return inputs;
+			case "getOutputResources":
+				return outputs;
+			default:
+				return null;
+			}
+		});
+	}
+
+	private static IBuildResource createResource(File file) {
+		IPath location = new Path(file.getAbsolutePath());
+		return stub(IBuildResource.class, (name, args) -> name.equals("getLocation") ? location : null);
+	}
+
+	private interface Answer {
+		Object answer(String method, Object[] args);
+	}
+
+	private static <T> T stub(Class<T> type, Answer answer) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "toString":
+						return type.getSimpleName();
+					default:
+						return answer.answer(method.getName(), args);
+					}
+				}));
+	}
+}
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.core.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildDescription;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.ParallelBuilder;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.StepDurations;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the order in which the parallel internal builder starts the steps
+ */
+public class ParallelBuilderTests {
+	private IBuildDescription fDes;
+	private IBuildStep fInputStep;
+	private IBuildStep fA1;
+	private IBuildStep fA2;
+	private IBuildStep fA3;
+	private IBuildStep fArchive;
+	private IBuildStep fB;
+	private IBuildStep fC;
+	private IBuildStep fLink;
+	private List<IBuildStep> fQueued;
+
+	/**
+	 * A builder which starts one step at a time, without running the commands of the steps
+	 */
+	private static class TestBuilder extends ParallelBuilder {
+		TestBuilder(IBuildDescription des, List<IBuildStep> steps, StepDurations durations) {
+			super(new Path("/build"), null, null, null, new NullProgressMonitor(), false, false, null, des);
+			this.durations = durations;
+			for (IBuildStep step : steps)
+				queue.add(new BuildQueueElement(step, 0));
+		}
+
+		/**
+		 * Returns the steps whose prerequisites are all built before the build starts
+		 */
+		Set<IBuildStep> getReady() {
+			Set<IBuildStep> ready = new HashSet<>();
+			for (BuildQueueElement elem : createReadyQueue())
+				ready.add(elem.getStep());
+			return ready;
+		}
+
+		/**
+		 * Returns the steps in the order they are built
+		 */
+		List<IBuildStep> schedule() {
+			List<IBuildStep> order = new ArrayList<>();
+			Queue<BuildQueueElement> ready = createReadyQueue();
+			while (!ready.isEmpty()) {
+				BuildQueueElement elem = ready.poll();
+				order.add(elem.getStep());
+				releaseDependents(elem, ready);
+			}
+			return order;
+		}
+	}
+
+	/**
+	 * Builds the following steps, where the archive step is up to date and thus not queued:
+	 *
+	 * <pre>
+	 * a1.c -> a1 -> a2 -> a3 -> archive -+
+	 * b.c  -> b  ------------------------+-> link
+	 * c.c  -> c  ------------------------+
+	 * </pre>
+	 */
+	@BeforeEach
+	public void setUp() {
+		fDes = stub(IBuildDescription.class, (name, args) -> name.equals("getInputStep") ? fInputStep : null);
+		fInputStep = createStep("input");
+		fA1 = createStep("a1", createOutput(fInputStep, "a1.c"));
+		fA2 = createStep("a2", createOutput(fA1, "a1.o"));
+		fA3 = createStep("a3", createOutput(fA2, "a2.o"));
+		fArchive = createStep("archive", createOutput(fA3, "a3.o"));
+		fB = createStep("b", createOutput(fInputStep, "b.c"));
+		fC = createStep("c", createOutput(fInputStep, "c.c"));
+		fLink = createStep("link", createOutput(fArchive, "liba.a"), createOutput(fB, "b.o"),
+				createOutput(fC, "c.o"));
+		fQueued = Arrays.asList(fLink, fC, fB, fA3, fA2, fA1);
+	}
+
+	@Test
+	public void testReady() {
+		TestBuilder builder = new TestBuilder(fDes, fQueued, new StepDurations());
+		assertEquals(new HashSet<>(Arrays.asList(fA1, fB, fC)), builder.getReady());
+	}
+
+	@Test
+	public void testDependencyOrder() {
+		List<IBuildStep> order = new TestBuilder(fDes, fQueued, new StepDurations()).schedule();
+		assertEquals(fQueued.size(), order.size());
+		assertTrue(order.indexOf(fA1) < order.indexOf(fA2));
+		assertTrue(order.indexOf(fA2) < order.indexOf(fA3));
+		// the link waits for the step producing the input of the archive step
+		assertTrue(order.indexOf(fA3) < order.indexOf(fLink));
+		assertTrue(order.indexOf(fB) < order.indexOf(fLink));
+		assertTrue(order.indexOf(fC) < order.indexOf(fLink));
+	}
+
+	@Test
+	public void testCriticalPathFirst() {
+		// Without durations, each step takes the same time and the longest chain starts first
+		List<IBuildStep> order = new TestBuilder(fDes, fQueued, new StepDurations()).schedule();
+		assertEquals(Arrays.asList(fA1, fA2), order.subList(0, 2));
+		assertEquals(fLink, order.get(order.size() - 1));
+
+		StepDurations durations = new StepDurations();
+		durations.put(key("a1"), 10);
+		durations.put(key("a2"), 10);
+		durations.put(key("a3"), 10);
+		durations.put(key("b"), 100);
+		durations.put(key("c"), 5);
+		durations.put(key("link"), 10);
+		order = new TestBuilder(fDes, fQueued, durations).schedule();
+		assertEquals(Arrays.asList(fB, fA1, fA2, fA3, fC, fLink), order);
+	}
+
+	@Test
+	public void testUnknownDurations() {
+		// Steps never built before take the average time of the others
+		StepDurations durations = new StepDurations();
+		durations.put(key("a1"), 10);
+		durations.put(key("a2"), 10);
+		durations.put(key("a3"), 10);
+		durations.put(key("c"), 50);
+		durations.put(key("link"), 30);
+		List<IBuildStep> order = new TestBuilder(fDes, fQueued, durations).schedule();
+		assertEquals(Arrays.asList(fC, fA1, fB, fA2, fA3, fLink), order);
+	}
+
+	@Test
+	public void testDependencyCycle() {
+		// x and y produce each other's inputs, z depends on the cycle
+		IBuildResource[] xInputs = new IBuildResource[2];
+		IBuildStep x = createStep("x", xInputs);
+		IBuildStep y = createStep("y", createOutput(x, "x.o"));
+		xInputs[0] = createOutput(y, "y.o");
+		xInputs[1] = createOutput(fA1, "a1.o");
+		IBuildStep z = createStep("z", createOutput(y, "y.o"));
+		List<IBuildStep> queued = Arrays.asList(z, y, x, fB, fA1);
+		// The cycle is broken at y, which does not wait for x
+		TestBuilder builder = new TestBuilder(fDes, queued, new StepDurations());
+		assertEquals(new HashSet<>(Arrays.asList(fB, fA1, y)), builder.getReady());
+
+		// No step is dropped, and the other dependencies are kept
+		List<IBuildStep> order = new TestBuilder(fDes, queued, new StepDurations()).schedule();
+		assertEquals(queued.size(), order.size());
+		assertEquals(new HashSet<>(queued), new HashSet<>(order));
+		assertTrue(order.indexOf(y) < order.indexOf(x));
+		assertTrue(order.indexOf(fA1) < order.indexOf(x));
+		assertTrue(order.indexOf(y) < order.indexOf(z));
+	}
+
+	@Test
+	public void testDurationsBounded() {
+		StepDurations durations = new StepDurations();
+		for (int i = 0; i <= StepDurations.MAX_STEPS; i++)
+			durations.put(key("step" + i), i);
+		assertEquals(StepDurations.MAX_STEPS, durations.size());
+		assertNull(durations.get(key("step0")));
+		assertEquals(Long.valueOf(StepDurations.MAX_STEPS), durations.get(key("step" + StepDurations.MAX_STEPS)));
+	}
+
+	/**
+	 * Returns the key of the durations of the step with the given name, i.e. the location of its output
+	 */
+	private static String key(String name) {
+		return "/build/" + name + ".out";
+	}
+
+	private IBuildStep createStep(String name, IBuildResource... inputs) {
+		IBuildResource[] outputs = { createOutput(null, name + ".out") };
+		return stub(IBuildStep.class, (method, args) -> {
+			switch (method) {
+			case "getBuildDescription":
+				return fDes;
+			case "getInputResources":
+				return inputs;
+			case "getOutputResources":
+				return outputs;
+			default:
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Returns the resource with the given name produced by the given step
+	 */
+	private static IBuildResource createOutput(IBuildStep producer, String name) {
+		IPath location = new Path("/build").append(name);
+		return stub(IBuildResource.class, (method, args) -> {
+			switch (method) {
+			case "getLocation":
+				return location;
+			case "getProducerStep":
+				return producer;
+			default:
+				return null;
+			}
+		});
+	}
+
+	private interface Answer {
+		Object answer(String method, Object[] args);
+	}
+
+	private static <T> T stub(Class<T> type, Answer answer) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "toString":
+						return type.getSimpleName();
+					default:
+						return answer.answer(method.getName(), args);
+					}
+				}));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 Intel Corporation and others.
+ * Copyright (c) 2006, 2026 Intel Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,8 @@ public class BuildProcessManager {
 	protected boolean show;
 	protected Vector<ProcessLauncher> processes;
 	protected int maxProcesses;
+	private final Object completionLock = new Object();
+	private int completedProcesses;
 
 	/**
 	 * Initializes process manager
@@ -72,6 +74,7 @@ public class BuildProcessManager {
 			if (i >= processes.size()) {
 				ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
 						mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
+				process.setCompletionListener(this::processCompleted);
 				processes.add(process);
 				process.launch();
 				return process;
@@ -80,6 +83,7 @@ public class BuildProcessManager {
 			if (processes.get(i).queryState() == ProcessLauncher.STATE_DONE) {
 				ProcessLauncher process = new ProcessLauncher(cmd.getCommand(), cmd.getArgs(),
 						mapToStringArray(cmd.getEnvironment()), cwd, out, err, monitor, show);
+				process.setCompletionListener(this::processCompleted);
 				processes.set(i, process);
 				process.launch();
 				return process;
@@ -88,6 +92,33 @@ public class BuildProcessManager {
 		return null;
 	}
 
+	/**
+	 * Waits until a process launched by this manager completes or the timeout
+	 * elapses. Returns immediately if a process has completed since the previous
+	 * call.
+	 *
+	 * @param timeout Maximum time to wait in milliseconds
+	 */
+	public void waitForProcess(long timeout) {
+		synchronized (completionLock) {
+			if (completedProcesses == 0) {
+				try {
+					completionLock.wait(timeout);
+				} catch (InterruptedException e) {
+					// do nothing
+				}
+			}
+			completedProcesses = 0;
+		}
+	}
+
+	private void processCompleted() {
+		synchronized (completionLock) {
+			completedProcesses++;
+			completionLock.notifyAll();
+		}
+	}
+
 	/**
 	 * Checks states of all currently running processes. If it finds
 	 * one with state other than STATE_DONE or STATE_RUNNING, it is
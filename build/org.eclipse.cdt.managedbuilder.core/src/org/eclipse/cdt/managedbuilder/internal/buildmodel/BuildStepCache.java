@@ -0,0 +1,534 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.internal.buildmodel;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildDescription;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
+import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuilderCorePlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
+
+/**
+ * This class implements build avoidance based on the content of the inputs of
+ * the build steps, together with a local object cache of their outputs.
+ *
+ * A step is identified by a hash of its command lines, of the executables
+ * running them, of the environment variables affecting the compiler and of the
+ * content of its input resources. Only steps whose commands all write complete
+ * dependency files (<code>-MD</code>) are cached. After a successful build of
+ * a step, the files listed in its dependency files, including system headers
+ * and <code>-include</code> files, are recorded for the hash of the step. The
+ * outputs are stored in the cache under the hash of their content and recorded
+ * for the hash of the step and of the content of its dependencies. When the
+ * step is to be built again, e.g. because its inputs were touched by switching
+ * branches, and none of the recorded dependencies changed, the outputs whose
+ * content differs are restored from the cache and the step is not run. The
+ * cache is shared by all projects and configurations of the workspace.
+ *
+ * The cache is enabled with the {@link #PREF_ENABLED} preference. It is only
+ * used for incremental builds, full and clean builds run all tools.
+ *
+ * NOTE: This class is subject to change and discuss,
+ * and is currently available in experimental mode only
+ */
+public class BuildStepCache {
+	/** Boolean preference enabling the cache, <code>false</code> by default */
+	public static final String PREF_ENABLED = "buildStepCache"; //$NON-NLS-1$
+	/** Long preference limiting the size of the cache in bytes */
+	public static final String PREF_MAX_SIZE = "buildStepCacheMaxSize"; //$NON-NLS-1$
+	public static final long DEFAULT_MAX_SIZE = 2L << 30;
+
+	private static final String CACHE_LOCATION = "buildStepCache"; //$NON-NLS-1$
+	private static final String OBJECTS = "objects"; //$NON-NLS-1$
+	private static final String DEPENDENCIES = "dependencies"; //$NON-NLS-1$
+	private static final String STEPS = "steps"; //$NON-NLS-1$
+	private static final String VERSION = "2"; //$NON-NLS-1$
+	/** Environment variables changing the headers, libraries or tools used by the compiler */
+	private static final String[] ENV_VARS = { "CPATH", "C_INCLUDE_PATH", "CPLUS_INCLUDE_PATH", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"OBJC_INCLUDE_PATH", "LIBRARY_PATH", "COMPILER_PATH", "GCC_EXEC_PREFIX", "SOURCE_DATE_EPOCH", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			"DEPENDENCIES_OUTPUT", "SUNPRO_DEPENDENCIES" }; //$NON-NLS-1$ //$NON-NLS-2$
+	/** Maximum number of content hashes kept in memory */
+	private static final int MAX_FILE_HASHES = 20000;
+
+	/**
+	 * Content hash of a file, valid as long as the file keeps its length and modification time
+	 */
+	private static final class FileHash {
+		final long length;
+		final long lastModified;
+		final String hash;
+
+		FileHash(long length, long lastModified, String hash) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.hash = hash;
+		}
+	}
+
+	/** Content hashes of the files hashed recently, by location */
+	private static final Map<String, FileHash> fileHashes = Collections
+			.synchronizedMap(new LinkedHashMap<String, FileHash>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, FileHash> eldest) {
+					return size() > MAX_FILE_HASHES;
+				}
+			});
+	/** Cache directories trimmed in this session */
+	private static final Set<File> trimmedDirs = ConcurrentHashMap.newKeySet();
+
+	private final File fObjectsDir;
+	private final File fDependenciesDir;
+	private final File fStepsDir;
+
+	/**
+	 * Returns the cache of the workspace to be used by a build, or <code>null</code>
+	 * if it is not enabled or the build is not incremental
+	 */
+	public static BuildStepCache getCache(boolean buildIncrementally) {
+		if (!buildIncrementally)
+			return null;
+		IPreferencesService prefs = Platform.getPreferencesService();
+		if (!prefs.getBoolean(ManagedBuilderCorePlugin.PLUGIN_ID, PREF_ENABLED, false, null))
+			return null;
+		File dir = ManagedBuilderCorePlugin.getDefault().getStateLocation().append(CACHE_LOCATION).toFile();
+		long maxSize = prefs.getLong(ManagedBuilderCorePlugin.PLUGIN_ID, PREF_MAX_SIZE, DEFAULT_MAX_SIZE, null);
+		return new BuildStepCache(dir, maxSize);
+	}
+
+	/**
+	 * Creates a cache stored in the given directory. The least recently used
+	 * entries are removed from the directory the first time it is used in a
+	 * session, such that it does not exceed the given size.
+	 */
+	public BuildStepCache(File dir, long maxSize) {
+		fObjectsDir = new File(dir, OBJECTS);
+		fDependenciesDir = new File(dir, DEPENDENCIES);
+		fStepsDir = new File(dir, STEPS);
+		if (trimmedDirs.add(dir))
+			trim(maxSize);
+	}
+
+	/**
+	 * Returns the hash identifying the given step run with the given commands,
+	 * or <code>null</code> if the outputs of the step cannot be cached. The hash
+	 * does not cover the dependencies found by the commands, they are checked
+	 * when the outputs are restored.
+	 */
+	public String getKey(IBuildStep step, IBuildCommand[] cmds) {
+		IBuildDescription des = step.getBuildDescription();
+		if (step == des.getInputStep() || step == des.getOutputStep() || cmds == null || cmds.length == 0)
+			return null;
+		IBuildResource[] outputs = step.getOutputResources();
+		if (outputs.length == 0)
+			return null;
+
+		MessageDigest digest = createDigest();
+		update(digest, VERSION);
+		for (IBuildCommand cmd : cmds) {
+			if (getDependencyFile(cmd) == null)
+				return null;
+			update(digest, cmd.getCommand().toString());
+			update(digest, getExecutableStamp(cmd));
+			for (String name : ENV_VARS) {
+				String value = getEnv(cmd, name);
+				update(digest, value != null ? name + '=' + value : name);
+			}
+			boolean debugInfo = false;
+			for (String arg : cmd.getArgs()) {
+				update(digest, arg);
+				debugInfo |= arg.startsWith("-g"); //$NON-NLS-1$
+			}
+			// The working directory is recorded in the debug information
+			if (debugInfo && cmd.getCWD() != null)
+				update(digest, cmd.getCWD().toString());
+		}
+
+		IBuildResource[] inputs = step.getInputResources().clone();
+		Arrays.sort(inputs, Comparator.comparing(rc -> String.valueOf(rc.getLocation())));
+		for (IBuildResource input : inputs) {
+			IPath location = input.getLocation();
+			String hash = location != null ? hashFile(location.toFile()) : null;
+			if (hash == null)
+				return null;
+			update(digest, hash);
+		}
+
+		for (IBuildResource output : outputs) {
+			if (output.getLocation() == null)
+				return null;
+			update(digest, output.getLocation().lastSegment());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Makes the outputs of the given step match those recorded for the given
+	 * key, copying them from the cache when their content differs.
+	 *
+	 * @return whether the outputs are up to date, i.e. the step need not run
+	 */
+	public boolean restore(IBuildStep step, String key) {
+		File dependencies = getEntry(fDependenciesDir, key);
+		if (!dependencies.isFile())
+			return false;
+		try {
+			String contentKey = getContentKey(key,
+					Files.readAllLines(dependencies.toPath(), StandardCharsets.UTF_8));
+			if (contentKey == null)
+				return false;
+			File manifest = getEntry(fStepsDir, contentKey);
+			if (!manifest.isFile())
+				return false;
+			List<String> objects = Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8);
+			IBuildResource[] outputs = step.getOutputResources();
+			if (objects.size() != outputs.length)
+				return false;
+			for (String object : objects) {
+				if (!getEntry(fObjectsDir, object).isFile())
+					return false;
+			}
+
+			long now = System.currentTimeMillis();
+			for (int i = 0; i < outputs.length; i++) {
+				File output = outputs[i].getLocation().toFile();
+				File object = getEntry(fObjectsDir, objects.get(i));
+				if (!objects.get(i).equals(hashFile(output))) {
+					output.getParentFile().mkdirs();
+					copy(object, output);
+				}
+				object.setLastModified(now);
+			}
+			manifest.setLastModified(now);
+			dependencies.setLastModified(now);
+			return true;
+		} catch (IOException e) {
+			if (DbgUtil.DEBUG)
+				DbgUtil.trace("failed to restore step " + key + ", error: " + e.getLocalizedMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			return false;
+		}
+	}
+
+	/**
+	 * Stores the outputs of the given step, successfully built with the given
+	 * commands, for the given key
+	 */
+	public void store(IBuildStep step, IBuildCommand[] cmds, String key) {
+		try {
+			List<String> dependencies = new ArrayList<>();
+			for (IBuildCommand cmd : cmds) {
+				File file = getDependencyFile(cmd);
+				if (file == null || !file.isFile())
+					return;
+				for (String dependency : parseDependencies(Files.readString(file.toPath()))) {
+					dependencies.add(resolve(cmd, dependency).getAbsolutePath());
+				}
+			}
+			String contentKey = getContentKey(key, dependencies);
+			if (contentKey == null)
+				return;
+
+			StringBuilder manifest = new StringBuilder();
+			for (IBuildResource output : step.getOutputResources()) {
+				File file = output.getLocation().toFile();
+				String hash = hashFile(file);
+				if (hash == null)
+					return;
+				File object = getEntry(fObjectsDir, hash);
+				if (!object.isFile()) {
+					object.getParentFile().mkdirs();
+					copy(file, object);
+				}
+				manifest.append(hash).append('\n');
+			}
+			write(getEntry(fStepsDir, contentKey), manifest);
+			write(getEntry(fDependenciesDir, key), String.join("\n", dependencies)); //$NON-NLS-1$
+		} catch (IOException e) {
+			if (DbgUtil.DEBUG)
+				DbgUtil.trace("failed to store step " + key + ", error: " + e.getLocalizedMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Removes the least recently used entries until the cache is smaller than the given size
+	 */
+	void trim(long maxSize) {
+		List<File> files = new ArrayList<>();
+		collectFiles(fObjectsDir, files);
+		collectFiles(fDependenciesDir, files);
+		collectFiles(fStepsDir, files);
+		long size = 0;
+		for (File file : files)
+			size += file.length();
+		if (size <= maxSize)
+			return;
+
+		files.sort(Comparator.comparingLong(File::lastModified));
+		// Leave some room for the next builds
+		long target = maxSize - maxSize / 10;
+		for (File file : files) {
+			if (size <= target)
+				break;
+			long length = file.length();
+			if (file.delete())
+				size -= length;
+		}
+	}
+
+	/**
+	 * Returns the hash of the given key and of the content of the given
+	 * dependencies, or <code>null</code> if one of them cannot be read
+	 */
+	private static String getContentKey(String key, List<String> dependencies) {
+		MessageDigest digest = createDigest();
+		update(digest, key);
+		for (String dependency : dependencies) {
+			String hash = hashFile(new File(dependency));
+			if (hash == null)
+				return null;
+			update(digest, dependency);
+			update(digest, hash);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Returns the dependency file written by the given command, or
+	 * <code>null</code> if the command does not write a dependency file
+	 * listing all headers, including the system headers
+	 */
+	public static File getDependencyFile(IBuildCommand cmd) {
+		boolean allHeaders = false;
+		String depFile = null;
+		String outFile = null;
+		String[] args = cmd.getArgs();
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (arg.equals("-MD")) { //$NON-NLS-1$
+				allHeaders = true;
+			} else if (arg.equals("-MMD")) { //$NON-NLS-1$
+				return null;
+			} else if (arg.equals("-MF") || arg.equals("-o")) { //$NON-NLS-1$ //$NON-NLS-2$
+				if (++i == args.length)
+					return null;
+				if (arg.equals("-MF")) //$NON-NLS-1$
+					depFile = args[i];
+				else
+					outFile = args[i];
+			} else if (arg.startsWith("-MF")) { //$NON-NLS-1$
+				depFile = arg.substring(3);
+			} else if (arg.startsWith("-o")) { //$NON-NLS-1$
+				outFile = arg.substring(2);
+			}
+		}
+		if (!allHeaders)
+			return null;
+		if (depFile == null) {
+			if (outFile == null)
+				return null;
+			int dot = outFile.lastIndexOf('.');
+			if (dot > Math.max(outFile.lastIndexOf('/'), outFile.lastIndexOf(File.separatorChar)))
+				outFile = outFile.substring(0, dot);
+			depFile = outFile + ".d"; //$NON-NLS-1$
+		}
+		File file = resolve(cmd, depFile);
+		return file.isAbsolute() ? file : null;
+	}
+
+	/**
+	 * Returns the file of the given path relative to the working directory of the given command
+	 */
+	private static File resolve(IBuildCommand cmd, String path) {
+		File file = new File(path);
+		if (file.isAbsolute() || cmd.getCWD() == null)
+			return file;
+		return new File(cmd.getCWD().toFile(), path);
+	}
+
+	/**
+	 * Returns the prerequisites listed in the rules of the given content of a
+	 * dependency file, in the make syntax written by <code>-MD</code>
+	 */
+	public static List<String> parseDependencies(String content) {
+		List<String> dependencies = new ArrayList<>();
+		content = content.replace("\\\r\n", " ").replace("\\\n", " "); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		for (String line : content.split("\\r?\\n")) { //$NON-NLS-1$
+			int colon = findRuleSeparator(line);
+			if (colon < 0)
+				continue;
+			StringBuilder name = new StringBuilder();
+			for (int i = colon + 1; i <= line.length(); i++) {
+				char c = i < line.length() ? line.charAt(i) : ' ';
+				if (c == '\\' && i + 1 < line.length() && (line.charAt(i + 1) == ' ' || line.charAt(i + 1) == '#')) {
+					name.append(line.charAt(++i));
+				} else if (c == '$' && i + 1 < line.length() && line.charAt(i + 1) == '$') {
+					name.append(line.charAt(++i));
+				} else if (Character.isWhitespace(c)) {
+					if (name.length() > 0 && !dependencies.contains(name.toString()))
+						dependencies.add(name.toString());
+					name.setLength(0);
+				} else {
+					name.append(c);
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Returns the index of the colon separating the targets from the
+	 * prerequisites of a rule, skipping drive letters of Windows paths
+	 */
+	private static int findRuleSeparator(String line) {
+		for (int i = line.indexOf(':'); i >= 0; i = line.indexOf(':', i + 1)) {
+			if (i + 1 == line.length() || Character.isWhitespace(line.charAt(i + 1)))
+				return i;
+		}
+		return -1;
+	}
+
+	private static String getEnv(IBuildCommand cmd, String name) {
+		Map<String, String> env = cmd.getEnvironment();
+		return env != null ? env.get(name) : System.getenv(name);
+	}
+
+	private static void write(File entry, CharSequence content) throws IOException {
+		entry.getParentFile().mkdirs();
+		Path tmp = Files.createTempFile(entry.getParentFile().toPath(), null, null);
+		Files.writeString(tmp, content, StandardCharsets.UTF_8);
+		Files.move(tmp, entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void collectFiles(File dir, List<File> files) {
+		File[] children = dir.listFiles();
+		if (children == null)
+			return;
+		for (File child : children) {
+			if (child.isDirectory())
+				collectFiles(child, files);
+			else
+				files.add(child);
+		}
+	}
+
+	/**
+	 * Returns a stamp of the executable of the given command, which changes
+	 * when the tool is updated
+	 */
+	private static String getExecutableStamp(IBuildCommand cmd) {
+		File file = cmd.getCommand().toFile();
+		if (!file.isAbsolute()) {
+			Map<String, String> env = cmd.getEnvironment();
+			String path = env != null ? env.get("PATH") : null; //$NON-NLS-1$
+			if (path == null)
+				path = System.getenv("PATH"); //$NON-NLS-1$
+			file = findExecutable(cmd.getCommand().toString(), path);
+		}
+		if (file == null || !file.isFile())
+			return ""; //$NON-NLS-1$
+		return file.getAbsolutePath() + ':' + file.length() + ':' + file.lastModified();
+	}
+
+	private static File findExecutable(String name, String path) {
+		if (path == null)
+			return null;
+		String[] extensions = Platform.getOS().equals(Platform.OS_WIN32)
+				? new String[] { "", ".exe", ".bat", ".cmd" } //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				: new String[] { "" }; //$NON-NLS-1$
+		for (String dir : path.split(File.pathSeparator)) {
+			for (String extension : extensions) {
+				File file = new File(dir, name + extension);
+				if (file.isFile())
+					return file;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the hash of the content of the given file, or <code>null</code> if
+	 * it cannot be read
+	 */
+	private static String hashFile(File file) {
+		long length = file.length();
+		long lastModified = file.lastModified();
+		if (lastModified == 0)
+			return null;
+		String location = file.getAbsolutePath();
+		FileHash hash = fileHashes.get(location);
+		if (hash != null && hash.length == length && hash.lastModified == lastModified)
+			return hash.hash;
+
+		MessageDigest digest = createDigest();
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			int n;
+			while ((n = in.read(buffer)) > 0)
+				digest.update(buffer, 0, n);
+		} catch (IOException e) {
+			return null;
+		}
+		hash = new FileHash(length, lastModified, HexFormat.of().formatHex(digest.digest()));
+		fileHashes.put(location, hash);
+		return hash.hash;
+	}
+
+	private static void copy(File from, File to) throws IOException {
+		Path tmp = Files.createTempFile(to.getParentFile().toPath(), null, null);
+		try {
+			Files.copy(from.toPath(), tmp, StandardCopyOption.REPLACE_EXISTING);
+			Files.move(tmp, to.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	private static File getEntry(File dir, String hash) {
+		return new File(new File(dir, hash.substring(0, 2)), hash.substring(2));
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+}
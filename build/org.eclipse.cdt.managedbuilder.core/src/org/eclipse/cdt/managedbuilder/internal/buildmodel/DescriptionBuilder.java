@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 Intel Corporation and others.
+ * Copyright (c) 2006, 2026 Intel Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ public class DescriptionBuilder implements IBuildModelBuilder {
 	private IBuildDescription fDes;
 	private IPath fCWD;
 	private boolean fBuildIncrementaly;
+	private BuildStepCache fCache;
 	private boolean fResumeOnErrs;
 	private Map<IBuildStep, StepBuilder> fStepToStepBuilderMap = new HashMap<>();
 	private int fNumCommands = -1;
@@ -132,6 +133,7 @@ public class DescriptionBuilder implements IBuildModelBuilder {
 		fDes = des;
 		fCWD = cwd;
 		fBuildIncrementaly = buildIncrementaly;
+		fCache = BuildStepCache.getCache(buildIncrementaly);
 		fResumeOnErrs = resumeOnErrs;
 		fDir = new GenDirInfo(fDes.getConfiguration());
 
@@ -196,7 +198,7 @@ public class DescriptionBuilder implements IBuildModelBuilder {
 	protected StepBuilder getStepBuilder(IBuildStep step) {
 		StepBuilder b = fStepToStepBuilderMap.get(step);
 		if (b == null) {
-			b = new StepBuilder(step, fCWD, fResumeOnErrs, fDir, fRebuildStateContainer);
+			b = new StepBuilder(step, fCWD, fResumeOnErrs, fDir, fRebuildStateContainer, fCache);
 			fStepToStepBuilderMap.put(step, b);
 		}
 		return b;
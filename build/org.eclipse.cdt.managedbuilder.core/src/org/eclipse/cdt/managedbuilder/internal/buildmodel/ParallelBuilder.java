@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2013 Intel Corporation and others.
+ * Copyright (c) 2006, 2026 Intel Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,12 +17,18 @@ package org.eclipse.cdt.managedbuilder.internal.buildmodel;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.Vector;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.managedbuilder.buildmodel.IBuildCommand;
@@ -52,6 +58,7 @@ public class ParallelBuilder {
 	public static final int STATUS_ERROR = 1;
 	public static final int STATUS_CANCELED = 2;
 	public static final int STATUS_INVALID = -1;
+	/** Maximum time in milliseconds to wait for a process before checking for cancellation */
 	public static final long MAIN_LOOP_DELAY = 50L;
 
 	private static final String BUILDER_MSG_HEADER = "InternalBuilder.msg.header"; //$NON-NLS-1$
@@ -59,6 +66,12 @@ public class ParallelBuilder {
 
 	public static int lastThreadsUsed = 0; // use externally for report purposes only
 
+	/**
+	 * Orders the steps ready to be built, longest critical path first
+	 */
+	private static final Comparator<BuildQueueElement> CRITICAL_PATH_ORDER = Comparator
+			.comparingLong(BuildQueueElement::getPriority).reversed().thenComparingInt(BuildQueueElement::getLevel);
+
 	protected IPath cwd;
 	protected GenDirInfo dirs;
 	protected IProgressMonitor monitor;
@@ -71,6 +84,11 @@ public class ParallelBuilder {
 	protected LinkedList<BuildQueueElement> queue = new LinkedList<>();
 	private IResourceRebuildStateContainer fRebuildStateContainer;
 	private IBuildDescription fDes;
+	private BuildStepCache fCache;
+	/** Durations of the steps of the configuration in the previous builds */
+	protected StepDurations durations;
+	private long dispatchStart;
+	private long busyTime;
 
 	/**
 	 * This class implements queue element
@@ -78,6 +96,9 @@ public class ParallelBuilder {
 	protected class BuildQueueElement implements Comparable<BuildQueueElement> {
 		protected IBuildStep step;
 		protected int level;
+		protected long priority;
+		protected int pendingPrerequisites;
+		protected List<BuildQueueElement> dependents = new ArrayList<>();
 
 		public BuildQueueElement(IBuildStep _step, int _level) {
 			step = _step;
@@ -96,6 +117,13 @@ public class ParallelBuilder {
 			level = _level;
 		}
 
+		/**
+		 * Returns the estimated duration of the longest chain of steps starting with this one
+		 */
+		public long getPriority() {
+			return priority;
+		}
+
 		@Override
 		public int hashCode() {
 			return step.hashCode();
@@ -142,9 +170,20 @@ public class ParallelBuilder {
 		protected int activeCmd;
 		protected boolean done;
 		protected ProcessLauncher launcher;
+		protected BuildQueueElement element;
+		protected long startTime;
+		protected String cacheKey;
+		protected boolean restored;
+		protected boolean failed;
+
+		public ActiveBuildStep(BuildQueueElement _element) {
+			this(_element.getStep());
+			element = _element;
+		}
 
 		public ActiveBuildStep(IBuildStep _step) {
 			step = _step;
+			startTime = System.currentTimeMillis();
 
 			if (dirs == null)
 				stepDirs = new GenDirInfo(step.getBuildDescription().getConfiguration());
@@ -406,6 +445,8 @@ public class ParallelBuilder {
 		buildIncrementally = _buildIncrementally;
 		fRebuildStateContainer = _fRebuildStateContainer;
 		fDes = _fDes;
+		fCache = BuildStepCache.getCache(_buildIncrementally);
+		durations = StepDurations.get(_fDes.getConfiguration());
 	}
 
 	/**
@@ -468,18 +509,152 @@ public class ParallelBuilder {
 	}
 
 	/**
-	 * Dispatches the build queue and returns build status
+	 * Links each queued step with the queued steps producing its inputs, and computes
+	 * the critical path of each step, i.e. the estimated duration of the longest chain
+	 * of steps starting with it. Durations are taken from the previous builds.
+	 *
+	 * @return the steps whose prerequisites are all built
+	 */
+	protected List<BuildQueueElement> linkQueue() {
+		Map<IBuildStep, BuildQueueElement> elements = new HashMap<>();
+		for (BuildQueueElement elem : queue)
+			elements.put(elem.getStep(), elem);
+
+		List<BuildQueueElement> ready = new ArrayList<>();
+		for (BuildQueueElement elem : queue) {
+			Set<BuildQueueElement> prereqs = new HashSet<>();
+			collectPrerequisites(elem.getStep(), elements, new HashSet<>(), prereqs);
+			prereqs.remove(elem);
+			elem.pendingPrerequisites = prereqs.size();
+			for (BuildQueueElement prereq : prereqs)
+				prereq.dependents.add(elem);
+			if (prereqs.isEmpty())
+				ready.add(elem);
+		}
+
+		// Sort the steps topologically
+		List<BuildQueueElement> order = new ArrayList<>(ready);
+		Set<BuildQueueElement> ordered = new HashSet<>(ready);
+		Map<BuildQueueElement, Integer> pending = new HashMap<>();
+		Iterator<BuildQueueElement> candidates = queue.iterator();
+		for (int i = 0; order.size() < queue.size(); i++) {
+			if (i == order.size()) {
+				// The remaining steps are in or after a dependency cycle, so they would never
+				// be released. Like the level based dispatch did, a step of a cycle is built
+				// without waiting for the other steps of the cycle.
+				BuildQueueElement elem = candidates.next();
+				while (ordered.contains(elem))
+					elem = candidates.next();
+				elem = findCycle(elem, ordered);
+				if (DbgUtil.DEBUG)
+					DbgUtil.trace("dependency cycle, building " + stepLabel(elem.getStep()) + " first"); //$NON-NLS-1$ //$NON-NLS-2$
+				for (BuildQueueElement other : queue) {
+					if (!ordered.contains(other) && other.dependents.remove(elem))
+						elem.pendingPrerequisites--;
+				}
+				if (elem.pendingPrerequisites == 0)
+					ready.add(elem);
+				order.add(elem);
+				ordered.add(elem);
+			}
+			for (BuildQueueElement dependent : order.get(i).dependents) {
+				int left = pending.getOrDefault(dependent, dependent.pendingPrerequisites) - 1;
+				pending.put(dependent, left);
+				if (left == 0) {
+					order.add(dependent);
+					ordered.add(dependent);
+				}
+			}
+		}
+
+		// Steps never built before are assumed to take the average time
+		long total = 0;
+		int count = 0;
+		for (BuildQueueElement elem : queue) {
+			Long duration = getStepDuration(elem.getStep());
+			if (duration != null) {
+				total += duration;
+				count++;
+			}
+		}
+		long defaultDuration = count > 0 ? Math.max(1, total / count) : 1;
+		for (BuildQueueElement elem : queue) {
+			Long duration = getStepDuration(elem.getStep());
+			elem.priority = duration != null ? duration : defaultDuration;
+		}
+		for (int i = order.size() - 1; i >= 0; i--) {
+			BuildQueueElement elem = order.get(i);
+			long longest = 0;
+			for (BuildQueueElement dependent : elem.dependents)
+				longest = Math.max(longest, dependent.priority);
+			elem.priority += longest;
+		}
+
+		return ready;
+	}
+
+	/**
+	 * Follows the pending prerequisites of the given step until a step is reached
+	 * again, which is then part of a dependency cycle
+	 */
+	private BuildQueueElement findCycle(BuildQueueElement elem, Set<BuildQueueElement> ordered) {
+		Set<BuildQueueElement> visited = new HashSet<>();
+		while (visited.add(elem)) {
+			for (BuildQueueElement other : queue) {
+				if (!ordered.contains(other) && other.dependents.contains(elem)) {
+					elem = other;
+					break;
+				}
+			}
+		}
+		return elem;
+	}
+
+	/**
+	 * Links the queued steps and returns the queue of the steps ready to be built,
+	 * longest critical path first
+	 */
+	protected Queue<BuildQueueElement> createReadyQueue() {
+		Queue<BuildQueueElement> ready = new PriorityQueue<>(CRITICAL_PATH_ORDER);
+		ready.addAll(linkQueue());
+		return ready;
+	}
+
+	/**
+	 * Collects the queued steps producing the inputs of the given step. Steps which
+	 * are not queued are looked through, as they may depend on queued steps.
+	 */
+	private void collectPrerequisites(IBuildStep step, Map<IBuildStep, BuildQueueElement> elements,
+			Set<IBuildStep> visited, Set<BuildQueueElement> prereqs) {
+		for (IBuildResource bldRes : step.getInputResources()) {
+			IBuildStep producer = bldRes.getProducerStep();
+			if (producer == null || producer == producer.getBuildDescription().getInputStep()
+					|| !visited.add(producer))
+				continue;
+			BuildQueueElement elem = elements.get(producer);
+			if (elem != null)
+				prereqs.add(elem);
+			else
+				collectPrerequisites(producer, elements, visited, prereqs);
+		}
+	}
+
+	/**
+	 * Dispatches the build queue and returns build status. A step is launched as
+	 * soon as a process is available and all the steps producing its inputs are
+	 * built, the steps on the longest chains first.
 	 */
 	protected int dispatch(BuildProcessManager mgr) {
 		int maxProcesses = mgr.getMaxProcesses();
-		Vector<ActiveBuildStep> active = new Vector<>(Math.min(maxProcesses, 10), 10);
+		List<ActiveBuildStep> active = new ArrayList<>(maxProcesses);
+		Queue<BuildQueueElement> ready = createReadyQueue();
+		queue.clear();
 
-		int activeCount = 0;
-		int maxLevel = 0;
 		int status = STATUS_OK;
 		String errorMsg = null;
+		dispatchStart = System.currentTimeMillis();
+		busyTime = 0;
 
-		// Going into "infinite" main loop
 		main_loop: while (true) {
 			if (monitor.isCanceled()) {
 				status = STATUS_CANCELED;
@@ -497,130 +672,58 @@ public class ParallelBuilder {
 				errorMsg = launcher.getErrorMessage();
 				break main_loop;
 			}
-			// Everything goes OK.
-			boolean proceed = true;
 
-			// Check if there is room for new process
-			if (!mgr.hasEmpty()) {
-				proceed = false;
-			} else {
-				// Check "active steps" list for completed ones
-				for (ActiveBuildStep buildStep : active) {
-					ProcessLauncher pl = buildStep.getLauncher();
-					if (pl == null)
-						continue;
-					if (pl.queryState() == ProcessLauncher.STATE_DONE) {
-						// If process has terminated with error, break loop
-						// (except resumeOnErrors == true)
-
-						if (!resumeOnErrors && pl.getExitCode() != 0) {
-							status = STATUS_ERROR;
-							break main_loop;
-						}
-						// Try to launch next command for the current active step
-						if (buildStep.isDone())
-							continue;
-						if (buildStep.launchNextCmd(mgr)) {
-							// Command has been launched. Check if process pool is not maximized yet
-							if (!mgr.hasEmpty()) {
-								proceed = false;
-								break;
-							}
-						} else {
-							// Command has not been launched: step complete
-							refreshOutputs(buildStep.getStep());
-							activeCount--;
-							monitor.worked(1);
-						}
+			// Check "active steps" list for completed commands
+			for (Iterator<ActiveBuildStep> iter = active.iterator(); iter.hasNext();) {
+				ActiveBuildStep buildStep = iter.next();
+				ProcessLauncher pl = buildStep.getLauncher();
+				if (pl.queryState() != ProcessLauncher.STATE_DONE)
+					continue;
+				// If process has terminated with error, break loop
+				// (except resumeOnErrors == true)
+				if ((!resumeOnErrors || buildStep.cacheKey != null) && pl.getExitCode() != 0) {
+					if (!resumeOnErrors) {
+						status = STATUS_ERROR;
+						break main_loop;
 					}
+					buildStep.failed = true;
 				}
-			}
-
-			// If nothing to do, then sleep and continue main loop
-			if (!proceed) {
-				try {
-					Thread.sleep(MAIN_LOOP_DELAY);
-				} catch (InterruptedException e) {
-					// do nothing
+				// Try to launch next command for the current active step. The process
+				// of the completed command leaves room for it.
+				if (!buildStep.launchNextCmd(mgr)) {
+					// Command has not been launched: step complete
+					iter.remove();
+					stepCompleted(buildStep, ready, active.size());
 				}
-				continue main_loop;
 			}
 
-			// Check if we need to schedule another process
-			if (queue.size() != 0 && activeCount < maxProcesses) {
-				// Need to schedule another process
-				Iterator<BuildQueueElement> iter = queue.iterator();
-
-				// Iterate over build queue
-				while (iter.hasNext()) {
-					BuildQueueElement elem = iter.next();
-
-					// If "active steps" list reaches maximum, then break loop
-					if (activeCount == maxProcesses)
-						break;
-
-					// If current element's level exceeds maximum level of currently built
-					// resources, then stop iteration (we can not build it anyway)
-					if (elem.getLevel() > maxLevel + 1)
-						break;
-
-					//Check if all prerequisites are built
-					boolean prereqBuilt = true;
-					for (IBuildResource bldRes : elem.getStep().getInputResources()) {
-						IBuildStep step = bldRes.getProducerStep(); // step which produces input for curr
-						boolean built = true;
-						if (step != step.getBuildDescription().getInputStep()) {
-							for (ActiveBuildStep buildStep : active) {
-								if (buildStep != null && buildStep.getStep().equals(step) && !buildStep.isDone()) {
-									built = false;
-									break;
-								}
-							}
-						}
-						if (!built) {
-							prereqBuilt = false;
-							break;
-						}
-					}
-
-					if (prereqBuilt) {
-						// All prereqs are built
-						IBuildStep step = elem.getStep();
-
-						// Remove element from the build queue and add it to the
-						// "active steps" list.
-						iter.remove();
-						for (int i = 0; i < maxProcesses; i++) {
-							if (i >= active.size()) {
-								// add new item
-								ActiveBuildStep buildStep = new ActiveBuildStep(step);
-								active.add(buildStep);
-								if (buildStep.launchNextCmd(mgr))
-									activeCount++;
-								break;
-							}
-							if (active.get(i).isDone()) {
-								// replace old item
-								ActiveBuildStep buildStep = new ActiveBuildStep(step);
-								active.set(i, buildStep);
-								if (buildStep.launchNextCmd(mgr))
-									activeCount++;
-								break;
-							}
-						}
-
-						// Update maxLevel
-						if (elem.getLevel() > maxLevel)
-							maxLevel = elem.getLevel();
-						// We don't need to start new process immediately since
-						// it will be done on the next main loop iteration
-					}
+			// Launch the steps which are ready, as long as there is room for new processes
+			while (!ready.isEmpty() && active.size() < maxProcesses && mgr.hasEmpty()) {
+				ActiveBuildStep buildStep = new ActiveBuildStep(ready.poll());
+				if (fCache != null && restoreStep(buildStep)) {
+					stepCompleted(buildStep, ready, active.size());
+					continue;
 				}
+				if (DbgUtil.DEBUG)
+					DbgUtil.trace(String.format("%6d ms: started %s, %d running", //$NON-NLS-1$
+							buildStep.startTime - dispatchStart, stepLabel(buildStep.getStep()), active.size() + 1));
+				if (buildStep.launchNextCmd(mgr))
+					active.add(buildStep);
+				else
+					stepCompleted(buildStep, ready, active.size());
 			}
 
 			// Now finally, check if we're done
-			if (activeCount <= 0 && queue.size() == 0)
+			if (active.isEmpty() && ready.isEmpty())
 				break main_loop;
+
+			mgr.waitForProcess(MAIN_LOOP_DELAY);
+		}
+
+		if (DbgUtil.DEBUG) {
+			long elapsed = Math.max(1, System.currentTimeMillis() - dispatchStart);
+			DbgUtil.trace(String.format("%6d ms: dispatch done, steps busy for %d ms, average parallelism %.2f", //$NON-NLS-1$
+					elapsed, busyTime, (double) busyTime / elapsed));
 		}
 
 		if (status != STATUS_OK && errorMsg != null)
@@ -628,6 +731,82 @@ public class ParallelBuilder {
 		return status;
 	}
 
+	/**
+	 * Updates info about a completed step, records its duration and makes the steps
+	 * waiting for it only ready to be built
+	 */
+	protected void stepCompleted(ActiveBuildStep buildStep, Queue<BuildQueueElement> ready, int running) {
+		IBuildStep step = buildStep.getStep();
+		if (buildStep.cacheKey != null && !buildStep.restored && !buildStep.failed && !monitor.isCanceled())
+			fCache.store(step, buildStep.cmds, buildStep.cacheKey);
+		refreshOutputs(step);
+		monitor.worked(1);
+
+		long now = System.currentTimeMillis();
+		long duration = now - buildStep.startTime;
+		busyTime += duration;
+		// The duration of a restored step says nothing about the time needed to build it
+		String key = getStepKey(step);
+		if (key != null && !buildStep.restored)
+			durations.put(key, duration);
+		if (DbgUtil.DEBUG)
+			DbgUtil.trace(String.format("%6d ms: finished %s in %d ms, %d running", //$NON-NLS-1$
+					now - dispatchStart, stepLabel(step), duration, running));
+
+		if (buildStep.element != null)
+			releaseDependents(buildStep.element, ready);
+	}
+
+	/**
+	 * Makes the steps waiting only for the given completed step ready to be built
+	 */
+	protected void releaseDependents(BuildQueueElement elem, Queue<BuildQueueElement> ready) {
+		for (BuildQueueElement dependent : elem.dependents) {
+			if (--dependent.pendingPrerequisites == 0)
+				ready.add(dependent);
+		}
+	}
+
+	/**
+	 * Computes the cache key of the step and restores its outputs from the build
+	 * step cache if they were built before from the same inputs
+	 *
+	 * @return whether the outputs were restored, i.e. the step need not be built
+	 */
+	private boolean restoreStep(ActiveBuildStep buildStep) {
+		buildStep.cacheKey = fCache.getKey(buildStep.getStep(), buildStep.cmds);
+		if (buildStep.cacheKey == null || !fCache.restore(buildStep.getStep(), buildStep.cacheKey))
+			return false;
+		buildStep.restored = true;
+		buildStep.done = true;
+		printMessage(ManagedMakeMessages.getFormattedString("BuildStepCache.restored", //$NON-NLS-1$
+				buildStep.getStep().getOutputResources()[0].getLocation().lastSegment()), out);
+		return true;
+	}
+
+	private Long getStepDuration(IBuildStep step) {
+		String key = getStepKey(step);
+		return key != null ? durations.get(key) : null;
+	}
+
+	/**
+	 * Returns the key of the step in the step durations, or <code>null</code> if the
+	 * step has no outputs
+	 */
+	private static String getStepKey(IBuildStep step) {
+		IBuildResource[] outputs = step.getOutputResources();
+		if (outputs.length == 0 || outputs[0].getLocation() == null)
+			return null;
+		return outputs[0].getLocation().toString();
+	}
+
+	private static String stepLabel(IBuildStep step) {
+		IBuildResource[] outputs = step.getOutputResources();
+		if (outputs.length == 0)
+			return DbgUtil.stepName(step);
+		return DbgUtil.stepName(step) + " -> " + DbgUtil.resourceName(outputs[0]); //$NON-NLS-1$
+	}
+
 	/**
 	 * Prints output to the console
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 Intel Corporation and others.
+ * Copyright (c) 2006, 2026 Intel Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,8 @@ public class ProcessLauncher {
 	protected Process process;
 	protected ProcessClosure closure = null;
 	protected int state;
+	protected volatile boolean completed;
+	protected Runnable completionListener;
 
 	/**
 	 * Returns command line as a string array
@@ -96,7 +98,7 @@ public class ProcessLauncher {
 	 * Returns exit code of a process
 	 */
 	public int getExitCode() {
-		if (process == null || closure.isAlive())
+		if (process == null || (closure.isAlive() && !completed))
 			return 0;
 		try {
 			return process.waitFor();
@@ -129,6 +131,14 @@ public class ProcessLauncher {
 		lineSeparator = System.getProperty("line.separator", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Sets the callback to run once the process has completed or failed to launch.
+	 * The callback may be run by any thread.
+	 */
+	public void setCompletionListener(Runnable listener) {
+		completionListener = listener;
+	}
+
 	/**
 	 * Launches a process
 	 */
@@ -145,13 +155,24 @@ public class ProcessLauncher {
 			} catch (IOException e) {
 				// do nothing
 			}
-			closure.runNonBlocking();
+			closure.runNonBlocking(this::processCompleted);
 		} catch (IOException e) {
 			error = e.getMessage();
 			closure = null;
+			if (completionListener != null)
+				completionListener.run();
 		}
 	}
 
+	/**
+	 * Called once all output of the process has been read
+	 */
+	protected void processCompleted() {
+		completed = true;
+		if (completionListener != null)
+			completionListener.run();
+	}
+
 	/**
 	 * Returns process state
 	 */
@@ -163,7 +184,7 @@ public class ProcessLauncher {
 				closure.terminate();
 				error = CCorePlugin.getResourceString("CommandLauncher.error.commandCanceled"); //$NON-NLS-1$
 				state = STATE_CANCELED;
-			} else if (!closure.isRunning()) {
+			} else if (completed || !closure.isRunning()) {
 				state = STATE_DONE;
 			}
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2011 Intel Corporation and others.
+ * Copyright (c) 2006, 2026 Intel Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.managedbuilder.internal.buildmodel;
 
+import java.io.IOException;
 import java.io.OutputStream;
 
 import org.eclipse.cdt.managedbuilder.buildmodel.BuildDescriptionManager;
@@ -21,6 +22,7 @@ import org.eclipse.cdt.managedbuilder.buildmodel.IBuildDescription;
 import org.eclipse.cdt.managedbuilder.buildmodel.IBuildResource;
 import org.eclipse.cdt.managedbuilder.buildmodel.IBuildStep;
 import org.eclipse.cdt.managedbuilder.core.IConfiguration;
+import org.eclipse.cdt.managedbuilder.internal.core.ManagedMakeMessages;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -48,8 +50,10 @@ public class StepBuilder implements IBuildModelBuilder {
 	private GenDirInfo fDirs;
 	private boolean fResumeOnErrs;
 	private int fNumCommands = -1;
+	private IBuildCommand fCommands[];
 	private CommandBuilder fCommandBuilders[];
 	private IResourceRebuildStateContainer fRebuildStateContainer;
+	private BuildStepCache fCache;
 
 	public StepBuilder(IBuildStep step, IResourceRebuildStateContainer rs) {
 		this(step, null, rs);
@@ -61,6 +65,15 @@ public class StepBuilder implements IBuildModelBuilder {
 
 	public StepBuilder(IBuildStep step, IPath cwd, boolean resumeOnErrs, GenDirInfo dirs,
 			IResourceRebuildStateContainer rs) {
+		this(step, cwd, resumeOnErrs, dirs, rs, null);
+	}
+
+	/**
+	 * @param cache the cache to restore the outputs of the step from and to store
+	 *     them in, or <code>null</code> if the step is always built
+	 */
+	public StepBuilder(IBuildStep step, IPath cwd, boolean resumeOnErrs, GenDirInfo dirs,
+			IResourceRebuildStateContainer rs, BuildStepCache cache) {
 		fStep = step;
 		fCWD = cwd;
 		fDirs = dirs;
@@ -73,6 +86,7 @@ public class StepBuilder implements IBuildModelBuilder {
 			fCWD = fStep.getBuildDescription().getDefaultBuildDirLocation();
 
 		fRebuildStateContainer = rs;
+		fCache = cache;
 	}
 
 	/* (non-Javadoc)
@@ -90,6 +104,14 @@ public class StepBuilder implements IBuildModelBuilder {
 			//TODO: monitor
 			createOutDirs(new NullProgressMonitor());
 
+			String cacheKey = fCache != null ? fCache.getKey(fStep, fCommands) : null;
+			if (cacheKey != null && fCache.restore(fStep, cacheKey)) {
+				printRestored(out);
+				status = postProcess(STATUS_OK, new NullProgressMonitor());
+				monitor.done();
+				return status;
+			}
+
 			for (int i = 0; i < bs.length && status != STATUS_CANCELLED
 					&& (fResumeOnErrs || status == STATUS_OK); i++) {
 				CommandBuilder builder = bs[i];
@@ -108,6 +130,8 @@ public class StepBuilder implements IBuildModelBuilder {
 					break;
 				}
 			}
+			if (cacheKey != null && status == STATUS_OK && !monitor.isCanceled())
+				fCache.store(fStep, fCommands, cacheKey);
 			//TODO: monitor
 			status = postProcess(status, new NullProgressMonitor());
 		}
@@ -133,6 +157,21 @@ public class StepBuilder implements IBuildModelBuilder {
 		return status;
 	}
 
+	private void printRestored(OutputStream out) {
+		if (out == null)
+			return;
+		String msg = ManagedMakeMessages.getFormattedString("BuildStepCache.restored", //$NON-NLS-1$
+				fStep.getOutputResources()[0].getLocation().lastSegment());
+		msg = ManagedMakeMessages.getFormattedString("InternalBuilder.msg.header", msg) //$NON-NLS-1$
+				+ System.getProperty("line.separator", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			out.write(msg.getBytes());
+			out.flush();
+		} catch (IOException e) {
+			// do nothing
+		}
+	}
+
 	private void clearRebuildState() {
 		if (fRebuildStateContainer == null)
 			return;
@@ -219,6 +258,7 @@ public class StepBuilder implements IBuildModelBuilder {
 	protected CommandBuilder[] getCommandBuilders() {
 		if (fCommandBuilders == null) {
 			IBuildCommand cmds[] = fStep.getCommands(fCWD, null, null, true);
+			fCommands = cmds;
 			if (cmds == null)
 				fCommandBuilders = new CommandBuilder[0];
 			else {
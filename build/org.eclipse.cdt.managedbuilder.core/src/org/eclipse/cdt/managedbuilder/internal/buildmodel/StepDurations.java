@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.managedbuilder.internal.buildmodel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.managedbuilder.core.IConfiguration;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuilderCorePlugin;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.QualifiedName;
+
+/**
+ * The durations in milliseconds of the steps of a configuration built in this
+ * session, by the location of their first output. The parallel builder uses
+ * them to estimate the critical path of the steps in the next builds.
+ *
+ * The durations are kept in a session property of the project, so they are
+ * discarded when the project is closed or deleted, and are cleared when the
+ * configuration is cleaned. Only the durations of the {@link #MAX_STEPS} most
+ * recently built steps are kept.
+ */
+public class StepDurations {
+	public static final int MAX_STEPS = 10000;
+
+	private static final String PROPERTY_PREFIX = "stepDurations."; //$NON-NLS-1$
+
+	private final Map<String, Long> durations = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+			return size() > MAX_STEPS;
+		}
+	};
+
+	/**
+	 * Returns the durations of the steps of the given configuration. A new empty
+	 * instance is returned if the configuration does not belong to an open project.
+	 */
+	public static StepDurations get(IConfiguration cfg) {
+		IProject project = getProject(cfg);
+		if (project == null)
+			return new StepDurations();
+		QualifiedName name = getPropertyName(cfg);
+		synchronized (StepDurations.class) {
+			try {
+				StepDurations durations = (StepDurations) project.getSessionProperty(name);
+				if (durations == null) {
+					durations = new StepDurations();
+					project.setSessionProperty(name, durations);
+				}
+				return durations;
+			} catch (CoreException e) {
+				return new StepDurations();
+			}
+		}
+	}
+
+	/**
+	 * Forgets the durations of the steps of the given configuration, e.g. when it
+	 * is cleaned
+	 */
+	public static void clear(IConfiguration cfg) {
+		IProject project = getProject(cfg);
+		if (project == null)
+			return;
+		synchronized (StepDurations.class) {
+			try {
+				project.setSessionProperty(getPropertyName(cfg), null);
+			} catch (CoreException e) {
+				// the project is closed, its session properties are gone
+			}
+		}
+	}
+
+	/**
+	 * Returns the duration of the step with the given key, or <code>null</code>
+	 * if it was not built before
+	 */
+	public synchronized Long get(String key) {
+		return durations.get(key);
+	}
+
+	public synchronized void put(String key, long duration) {
+		durations.put(key, duration);
+	}
+
+	public synchronized int size() {
+		return durations.size();
+	}
+
+	private static IProject getProject(IConfiguration cfg) {
+		if (cfg == null)
+			return null;
+		IResource owner = cfg.getOwner();
+		if (owner == null || !owner.isAccessible())
+			return null;
+		return owner.getProject();
+	}
+
+	private static QualifiedName getPropertyName(IConfiguration cfg) {
+		return new QualifiedName(ManagedBuilderCorePlugin.PLUGIN_ID, PROPERTY_PREFIX + cfg.getId());
+	}
+}
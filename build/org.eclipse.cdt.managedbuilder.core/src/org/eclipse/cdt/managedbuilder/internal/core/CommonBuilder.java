@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 Intel Corporation and others.
+ * Copyright (c) 2007, 2026 Intel Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,7 @@ import org.eclipse.cdt.managedbuilder.internal.buildmodel.IBuildModelBuilder;
 import org.eclipse.cdt.managedbuilder.internal.buildmodel.IConfigurationBuildState;
 import org.eclipse.cdt.managedbuilder.internal.buildmodel.IProjectBuildState;
 import org.eclipse.cdt.managedbuilder.internal.buildmodel.StepBuilder;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.StepDurations;
 import org.eclipse.cdt.managedbuilder.internal.core.jsoncdb.generator.CompilationDatabaseGenerator;
 import org.eclipse.cdt.managedbuilder.macros.BuildMacroException;
 import org.eclipse.cdt.managedbuilder.macros.IBuildMacroProvider;
@@ -1107,6 +1108,7 @@ public class CommonBuilder extends ACBuilder implements IIncrementalProjectBuild
 				pbs.removeConfigurationBuildState(cfg.getId());
 				bsMngr.setProjectBuildState(project, pbs);
 			}
+			StepDurations.clear(cfg);
 
 			if (!cfg.getEditableBuilder().isManagedBuildOn()) {
 				performExternalClean(bInfo, false, monitor);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2002, 2016 IBM Corporation and others.
+ *  Copyright (c) 2002, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,7 @@ import org.eclipse.cdt.managedbuilder.internal.buildmodel.DescriptionBuilder;
 import org.eclipse.cdt.managedbuilder.internal.buildmodel.IBuildModelBuilder;
 import org.eclipse.cdt.managedbuilder.internal.buildmodel.ParallelBuilder;
 import org.eclipse.cdt.managedbuilder.internal.buildmodel.StepBuilder;
+import org.eclipse.cdt.managedbuilder.internal.buildmodel.StepDurations;
 import org.eclipse.cdt.managedbuilder.macros.BuildMacroException;
 import org.eclipse.cdt.managedbuilder.macros.IBuildMacroProvider;
 import org.eclipse.cdt.managedbuilder.makegen.IManagedBuilderMakefileGenerator;
@@ -604,6 +605,7 @@ public class GeneratedMakefileBuilder extends ACBuilder {
 			outputError(getProject().getName(), "Build information is not valid"); //$NON-NLS-1$
 			return;
 		}
+		StepDurations.clear(info.getDefaultConfiguration());
 		IPath buildDirPath = getProject().getLocation().append(info.getConfigurationName());
 		IWorkspace workspace = CCorePlugin.getWorkspace();
 		IContainer buildDir = workspace.getRoot().getContainerForLocation(buildDirPath);
@@ -361,7 +361,7 @@ public class CMakeBuildConfiguration extends CBuildConfiguration implements ICMa
 		IFile file = getCompileCommandsFile();
 		CompileCommandsJsonParser parser = new CompileCommandsJsonParser(
 				new ParseRequest(file, new CMakeIndexerInfoConsumer(this::setScannerInformation),
-						CommandLauncherManager.getInstance().getCommandLauncher(this), console));
+						() -> CommandLauncherManager.getInstance().getCommandLauncher(this), console));
 		parser.parse(monitor);
 	}
 
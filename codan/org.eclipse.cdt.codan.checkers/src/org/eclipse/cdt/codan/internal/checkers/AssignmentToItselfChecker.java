@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 Severin Gehwolf
+ * Copyright (c) 2010, 2026 Severin Gehwolf
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.checkers;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTBinaryExpression;
 import org.eclipse.cdt.core.dom.ast.IASTExpression;
@@ -24,13 +24,17 @@ import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
  * a = a. It can produce some false positives such as
  * a[f()]=a[f()] - but who writes code like that?
  */
-public class AssignmentToItselfChecker extends AbstractIndexAstChecker {
+public class AssignmentToItselfChecker extends AbstractAstVisitorChecker {
 	private static final String ER_ID = "org.eclipse.cdt.codan.internal.checkers.AssignmentToItselfProblem"; //$NON-NLS-1$
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		// Traverse the ast using the visitor pattern.
-		ast.accept(new ASTVisitor() {
+	protected boolean isThreadSafe() {
+		return true;
+	}
+
+	@Override
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new ASTVisitor() {
 			{ // constructor
 				shouldVisitExpressions = true;
 			}
@@ -62,6 +66,6 @@ public class AssignmentToItselfChecker extends AbstractIndexAstChecker {
 				}
 				return false;
 			}
-		});
+		};
 	}
 }
\ No newline at end of file
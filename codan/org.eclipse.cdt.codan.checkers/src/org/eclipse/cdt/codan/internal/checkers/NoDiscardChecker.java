@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Marco Stornelli
+ * Copyright (c) 2020, 2026 Marco Stornelli
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,11 @@ public class NoDiscardChecker extends AbstractAstFunctionChecker {
 	public static final String ER_ID = "org.eclipse.cdt.codan.internal.checkers.NoDiscardProblem"; //$NON-NLS-1$
 	public static final String PARAM_MACRO_ID = "macro"; //$NON-NLS-1$
 
+	@Override
+	protected boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	protected void processFunction(IASTFunctionDefinition func) {
 		func.accept(new FunctionCallVisitor());
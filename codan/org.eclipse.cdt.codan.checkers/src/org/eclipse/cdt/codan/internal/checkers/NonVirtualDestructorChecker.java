@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2012 Alena Laskavaia
+ * Copyright (c) 2009, 2026 Alena Laskavaia
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,9 @@
 package org.eclipse.cdt.codan.internal.checkers;
 
 import java.util.HashSet;
+import java.util.Set;
 
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTDeclSpecifier;
 import org.eclipse.cdt.core.dom.ast.IASTName;
@@ -42,16 +43,17 @@ import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPTemplates;
  *
  * @author Alena Laskavaia
  */
-public class NonVirtualDestructorChecker extends AbstractIndexAstChecker {
+public class NonVirtualDestructorChecker extends AbstractAstVisitorChecker {
 	public static final String PROBLEM_ID = "org.eclipse.cdt.codan.internal.checkers.NonVirtualDestructorProblem"; //$NON-NLS-1$
 
-	// Prevent stack overflow in case: class A: public A {};
-	private static HashSet<ICPPClassType> checkedClassTypes = new HashSet<>();
+	@Override
+	protected boolean isThreadSafe() {
+		return true;
+	}
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		// Traverse the AST using the visitor pattern.
-		ast.accept(new OnEachClass());
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new OnEachClass();
 	}
 
 	private static ICPPMethod getDestructor(ICPPClassType classType) {
@@ -68,7 +70,8 @@ public class NonVirtualDestructorChecker extends AbstractIndexAstChecker {
 		return null;
 	}
 
-	private static boolean hasVirtualDestructor(ICPPClassType classType) {
+	// The checked class types prevent stack overflow in case: class A: public A {};
+	private static boolean hasVirtualDestructor(ICPPClassType classType, Set<ICPPClassType> checkedClassTypes) {
 		checkedClassTypes.add(classType);
 		ICPPMethod destructor = getDestructor(classType);
 		if (destructor != null && destructor.isVirtual()) {
@@ -83,7 +86,8 @@ public class NonVirtualDestructorChecker extends AbstractIndexAstChecker {
 			IBinding baseClass = base.getBaseClass();
 			if (baseClass instanceof ICPPClassType) {
 				ICPPClassType cppClassType = (ICPPClassType) baseClass;
-				if (!checkedClassTypes.contains(cppClassType) && hasVirtualDestructor(cppClassType)) {
+				if (!checkedClassTypes.contains(cppClassType)
+						&& hasVirtualDestructor(cppClassType, checkedClassTypes)) {
 					return true;
 				}
 			} else if (baseClass instanceof ICPPTemplateTypeParameter) {
@@ -95,6 +99,8 @@ public class NonVirtualDestructorChecker extends AbstractIndexAstChecker {
 	}
 
 	private class OnEachClass extends ASTVisitor {
+		private final Set<ICPPClassType> checkedClassTypes = new HashSet<>();
+
 		OnEachClass() {
 			shouldVisitDeclSpecifiers = true;
 		}
@@ -111,7 +117,7 @@ public class NonVirtualDestructorChecker extends AbstractIndexAstChecker {
 				try {
 					CPPSemantics.pushLookupPoint(className);
 					ICPPClassType classType = (ICPPClassType) binding;
-					boolean hasVirtualDestructor = hasVirtualDestructor(classType);
+					boolean hasVirtualDestructor = hasVirtualDestructor(classType, checkedClassTypes);
 					checkedClassTypes.clear();
 					if (hasVirtualDestructor) {
 						return PROCESS_CONTINUE;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Marco Stornelli
+ * Copyright (c) 2019, 2026 Marco Stornelli
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.cdt.codan.checkers.CodanCheckersActivator;
-import org.eclipse.cdt.codan.core.cxx.model.AbstractIndexAstChecker;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
 import org.eclipse.cdt.codan.core.model.IProblemLocation;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
@@ -43,16 +43,11 @@ import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPInternalVariable;
 import org.eclipse.cdt.internal.core.pdom.dom.PDOMGlobalScope;
 import org.eclipse.core.runtime.CoreException;
 
-public class SymbolShadowingChecker extends AbstractIndexAstChecker {
+public class SymbolShadowingChecker extends AbstractAstVisitorChecker {
 
 	public static final String ERR_ID = "org.eclipse.cdt.codan.internal.checkers.SymbolShadowingProblem"; //$NON-NLS-1$
 	public static final String PARAM_FUNC_PARAM = "paramFuncParameters"; //$NON-NLS-1$
 
-	private IASTTranslationUnit ast;
-	private IIndex index;
-
-	private boolean checkFuncParams;
-
 	@Override
 	public void initPreferences(IProblemWorkingCopy problem) {
 		super.initPreferences(problem);
@@ -61,20 +56,29 @@ public class SymbolShadowingChecker extends AbstractIndexAstChecker {
 	}
 
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		this.ast = ast;
-		index = ast.getIndex();
-		checkFuncParams = (Boolean) getPreference(getProblemById(ERR_ID, getFile()), PARAM_FUNC_PARAM);
-		ast.accept(new VariableDeclarationVisitor());
+	protected boolean isThreadSafe() {
+		return true;
+	}
+
+	@Override
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		boolean checkFuncParams = (Boolean) getPreference(getProblemById(ERR_ID, getFile()), PARAM_FUNC_PARAM);
+		return new VariableDeclarationVisitor(ast, checkFuncParams);
 	}
 
 	/**
 	 * This visitor looks for variable declarations.
 	 */
 	class VariableDeclarationVisitor extends ASTVisitor {
+		private final IASTTranslationUnit ast;
+		private final IIndex index;
+		private final boolean checkFuncParams;
 
-		VariableDeclarationVisitor() {
+		VariableDeclarationVisitor(IASTTranslationUnit ast, boolean checkFuncParams) {
 			shouldVisitDeclarators = true;
+			this.ast = ast;
+			this.index = ast.getIndex();
+			this.checkFuncParams = checkFuncParams;
 		}
 
 		/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009,2012 Alena Laskavaia
+ * Copyright (c) 2009, 2026 Alena Laskavaia
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,11 +21,13 @@ import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 /**
  * Abstract class for checkers that do all the work on function definition level
  */
-public abstract class AbstractAstFunctionChecker extends AbstractIndexAstChecker {
+public abstract class AbstractAstFunctionChecker extends AbstractAstVisitorChecker {
+	/**
+	 * @since 3.7
+	 */
 	@Override
-	public void processAst(IASTTranslationUnit ast) {
-		// traverse the ast using the visitor pattern.
-		ast.accept(new ASTVisitor() {
+	protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+		return new ASTVisitor() {
 			{
 				shouldVisitDeclarations = true;
 			}
@@ -39,7 +41,7 @@ public abstract class AbstractAstFunctionChecker extends AbstractIndexAstChecker
 				// and gcc extensions
 				return PROCESS_CONTINUE;
 			}
-		});
+		};
 	}
 
 	/**
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.model;
+
+import org.eclipse.cdt.codan.core.model.ISharedPassChecker;
+import org.eclipse.cdt.codan.core.model.ISharedPassRunner;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+
+/**
+ * Convenience implementation of a checker doing all its work in a visitor of the AST. The
+ * visitors of all enabled checkers of this kind are run in a single traversal of the AST.
+ * <p>
+ * Only checkers that declare themselves thread safe by overriding {@link #isThreadSafe()} take
+ * part in the shared traversal. Such checkers are not locked, such that different files can be
+ * checked on different threads at the same time. {@link #createVisitor(IASTTranslationUnit)} may
+ * then be called concurrently, the state of a check has to be kept in the visitor rather than in
+ * fields of the checker.
+ * <p>
+ * Visitors that visit inactive or ambiguous nodes traverse the AST on their own.
+ *
+ * Clients may extend this class.
+ * @since 3.7
+ */
+public abstract class AbstractAstVisitorChecker extends AbstractIndexAstChecker implements ISharedPassChecker {
+	private Boolean supportsSharedPass;
+
+	/**
+	 * Creates the visitor checking the given AST. The visitor must not depend on being called
+	 * from {@link #processAst(IASTTranslationUnit)}.
+	 *
+	 * @param ast the AST to check.
+	 * @return the visitor, or {@code null} if there is nothing to check.
+	 */
+	protected abstract ASTVisitor createVisitor(IASTTranslationUnit ast);
+
+	@Override
+	public void processAst(IASTTranslationUnit ast) {
+		ASTVisitor visitor = createVisitor(ast);
+		if (visitor != null) {
+			ast.accept(visitor);
+		}
+	}
+
+	/**
+	 * Returns whether the visitors of this checker keep all their state, such that different ASTs
+	 * can be checked on different threads at the same time. Checkers that are not thread safe are
+	 * run on their own and are locked while they check a file.
+	 *
+	 * @return {@code false} by default, subclasses that keep no state in fields may override.
+	 */
+	protected boolean isThreadSafe() {
+		return false;
+	}
+
+	/**
+	 * Returns the runner traversing the AST for all checkers of this kind. Subclasses that
+	 * override {@link #processAst(IASTTranslationUnit)} or that are not thread safe are run on
+	 * their own.
+	 */
+	@Override
+	public ISharedPassRunner getSharedPassRunner() {
+		if (supportsSharedPass == null) {
+			try {
+				supportsSharedPass = isThreadSafe()
+						&& getClass().getMethod("processAst", IASTTranslationUnit.class) //$NON-NLS-1$
+								.getDeclaringClass() == AbstractAstVisitorChecker.class;
+			} catch (NoSuchMethodException | SecurityException e) {
+				supportsSharedPass = false;
+			}
+		}
+		return supportsSharedPass ? AstVisitorPassRunner.INSTANCE : null;
+	}
+}
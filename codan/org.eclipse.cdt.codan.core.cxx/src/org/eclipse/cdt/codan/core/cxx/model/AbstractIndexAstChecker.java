@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2016 Alena Laskavaia
+ * Copyright (c) 2009, 2026 Alena Laskavaia
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,7 +52,8 @@ import org.eclipse.core.runtime.OperationCanceledException;
  */
 public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblemPreferences
 		implements ICAstChecker, IRunnableInEditorChecker {
-	private CxxModelsCache modelCache;
+	// Kept per thread like the invocation context, see AbstractChecker.
+	private final ThreadLocal<CxxModelsCache> modelCache = new ThreadLocal<>();
 
 	@Override
 	public synchronized boolean processResource(IResource resource) throws OperationCanceledException {
@@ -65,36 +66,74 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 	}
 
 	private void processFile(IFile file) throws OperationCanceledException {
-		ICheckerInvocationContext context = getContext();
+		if (!initModelCache(file))
+			return;
+		try {
+			IASTTranslationUnit ast = getIndexBasedAst();
+			if (ast != null) {
+				synchronized (ast) {
+					processAst(ast);
+				}
+			}
+		} catch (CoreException e) {
+			Activator.log(e);
+		} finally {
+			modelCache.remove();
+		}
+	}
+
+	private boolean initModelCache(IFile file) {
+		CxxModelsCache cache = getModelCache(file, getContext());
+		if (cache == null)
+			return false;
+		modelCache.set(cache);
+		return true;
+	}
+
+	/**
+	 * Returns the model cache of the file shared by the checkers using the given context, or
+	 * {@code null} if the file is not a translation unit.
+	 */
+	static CxxModelsCache getModelCache(IFile file, ICheckerInvocationContext context) {
 		synchronized (context) {
-			modelCache = context.get(CxxModelsCache.class);
-			if (modelCache == null) {
+			CxxModelsCache cache = context.get(CxxModelsCache.class);
+			if (cache == null) {
 				ICElement celement = CoreModel.getDefault().create(file);
 				if (!(celement instanceof ITranslationUnit)) {
-					return;
+					return null;
 				}
-				modelCache = new CxxModelsCache((ITranslationUnit) celement);
-				context.add(modelCache);
+				cache = new CxxModelsCache((ITranslationUnit) celement);
+				context.add(cache);
 			}
+			return cache;
 		}
-		try {
-			// Run the checker only if the index is fully initialized. Otherwise it may produce
-			// false positives.
-			if (modelCache.getIndex().isFullyInitialized()) {
-				IASTTranslationUnit ast = modelCache.getAST();
-				if (ast != null) {
-					synchronized (ast) {
-						processAst(ast);
-					}
-				}
+	}
+
+	private void initModelCache(IASTTranslationUnit ast) {
+		ICheckerInvocationContext context = getContext();
+		synchronized (context) {
+			CxxModelsCache cache = context.get(CxxModelsCache.class);
+			if (cache == null) {
+				cache = new CxxModelsCache(ast);
+				context.add(cache);
 			}
-		} catch (CoreException e) {
-			Activator.log(e);
-		} finally {
-			modelCache = null;
+			modelCache.set(cache);
 		}
 	}
 
+	/**
+	 * Returns the AST of the file of the model cache, or {@code null} if the checker should not
+	 * be run on it.
+	 */
+	private IASTTranslationUnit getIndexBasedAst() throws CoreException, OperationCanceledException {
+		// Run the checker only if the index is fully initialized. Otherwise it may produce
+		// false positives.
+		CxxModelsCache cache = modelCache.get();
+		if (!cache.getIndex().isFullyInitialized())
+			return null;
+		return cache.getAST();
+	}
+
 	@Override
 	public synchronized void processModel(Object model, ICheckerInvocationContext context) {
 		if (model instanceof IASTTranslationUnit) {
@@ -104,24 +143,69 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 			if (ast.isBasedOnIncompleteIndex())
 				return;
 			setContext(context);
-			synchronized (context) {
-				modelCache = context.get(CxxModelsCache.class);
-				if (modelCache == null) {
-					modelCache = new CxxModelsCache(ast);
-					context.add(modelCache);
-				}
-			}
+			initModelCache(ast);
 			CPPSemantics.pushLookupPoint(ast);
 			try {
 				processAst(ast);
 			} finally {
-				modelCache = null;
+				modelCache.remove();
 				setContext(null);
 				CPPSemantics.popLookupPoint();
 			}
 		}
 	}
 
+	/**
+	 * Prepares the checker for a traversal of the AST that is shared with other checkers. Has to be
+	 * followed by {@link #endSharedPass()} regardless of the outcome.
+	 *
+	 * @param resource the resource to check.
+	 * @param model the AST when running as you type, otherwise {@code null}.
+	 * @param context the invocation context.
+	 * @return the AST to check, or {@code null} if the checker should not be run on the resource.
+	 */
+	IASTTranslationUnit beginSharedPass(IResource resource, Object model, ICheckerInvocationContext context)
+			throws CoreException, OperationCanceledException {
+		setContext(context);
+		if (model != null) {
+			if (!(model instanceof IASTTranslationUnit))
+				return null;
+			IASTTranslationUnit ast = (IASTTranslationUnit) model;
+			if (ast.isBasedOnIncompleteIndex())
+				return null;
+			initModelCache(ast);
+			return ast;
+		}
+		if (!shouldProduceProblems(resource) || !(resource instanceof IFile))
+			return null;
+		if (!initModelCache((IFile) resource))
+			return null;
+		return getIndexBasedAst();
+	}
+
+	void endSharedPass() {
+		modelCache.remove();
+		setContext(null);
+	}
+
+	/**
+	 * Returns a key describing the build configuration of the file and the contents of the file
+	 * and of the files it includes, as recorded in the index. Returns {@code null} when the index
+	 * is not up to date for these files.
+	 * <p>
+	 * The results of a checker are reused only if it implements
+	 * {@link org.eclipse.cdt.codan.core.model.ICacheableChecker}, which subclasses should do only
+	 * if their problems depend on no other inputs, e.g. not on files that are not included.
+	 *
+	 * @see org.eclipse.cdt.codan.core.model.ICacheableChecker#getInputKey(IResource, ICheckerInvocationContext)
+	 * @since 3.7
+	 */
+	public String getInputKey(IResource resource, ICheckerInvocationContext context) {
+		if (!(resource instanceof IFile))
+			return null;
+		return TranslationUnitInputKey.get((IFile) resource, context);
+	}
+
 	@Override
 	public boolean runInEditor() {
 		return true;
@@ -164,7 +248,7 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 	protected List<IASTComment> getLineCommentsForLocation(IProblemLocation loc) {
 		ArrayList<IASTComment> lineComments = new ArrayList<>();
 		try {
-			IASTComment[] commentsArray = modelCache.getAST().getComments();
+			IASTComment[] commentsArray = modelCache.get().getAST().getComments();
 			for (IASTComment comm : commentsArray) {
 				IASTFileLocation fileLocation = comm.getFileLocation();
 				if (fileLocation.getStartingLineNumber() == loc.getLineNumber()) {
@@ -223,7 +307,7 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 	}
 
 	protected IFile getFile() {
-		return modelCache.getFile();
+		return modelCache.get().getFile();
 	}
 
 	protected IProject getProject() {
@@ -232,10 +316,10 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 	}
 
 	protected CxxModelsCache getModelCache() {
-		return modelCache;
+		return modelCache.get();
 	}
 
 	protected ICodanCommentMap getCommentMap() {
-		return modelCache.getCommentedNodeMap();
+		return modelCache.get().getCommentedNodeMap();
 	}
 }
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.codan.core.cxx.Activator;
+import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
+import org.eclipse.cdt.codan.core.model.ISharedPassChecker;
+import org.eclipse.cdt.codan.core.model.ISharedPassRunner;
+import org.eclipse.cdt.codan.internal.core.CheckersTimeStats;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Runs the visitors of {@link AbstractAstVisitorChecker}s in a single traversal of the AST.
+ */
+final class AstVisitorPassRunner implements ISharedPassRunner {
+	static final AstVisitorPassRunner INSTANCE = new AstVisitorPassRunner();
+
+	private AstVisitorPassRunner() {
+	}
+
+	@Override
+	public void run(List<ISharedPassChecker> checkers, IResource resource, Object model,
+			ICheckerInvocationContext context) throws OperationCanceledException {
+		CheckersTimeStats stats = CheckersTimeStats.getInstance();
+		boolean measureTime = stats.isEnabled();
+		List<AbstractAstVisitorChecker> started = new ArrayList<>(checkers.size());
+		List<AbstractAstVisitorChecker> shared = new ArrayList<>(checkers.size());
+		List<ASTVisitor> visitors = new ArrayList<>(checkers.size());
+		long[] setupNanos = new long[checkers.size()];
+		IASTTranslationUnit sharedAst = null;
+		try {
+			for (ISharedPassChecker c : checkers) {
+				AbstractAstVisitorChecker checker = (AbstractAstVisitorChecker) c;
+				long start = measureTime ? System.nanoTime() : 0;
+				started.add(checker);
+				try {
+					IASTTranslationUnit ast = checker.beginSharedPass(resource, model, context);
+					ASTVisitor visitor = ast == null ? null : checker.createVisitor(ast);
+					if (visitor == null)
+						continue;
+					if (sharedAst == null)
+						sharedAst = ast;
+					if (ast != sharedAst || visitor.includeInactiveNodes || visitor.shouldVisitAmbiguousNodes) {
+						accept(ast, visitor, model != null);
+					} else {
+						shared.add(checker);
+						visitors.add(visitor);
+					}
+				} catch (OperationCanceledException e) {
+					throw e;
+				} catch (Throwable e) {
+					Activator.log(e);
+				} finally {
+					if (measureTime)
+						setupNanos[started.size() - 1] = System.nanoTime() - start;
+				}
+			}
+
+			if (!visitors.isEmpty()) {
+				CompositeASTVisitor composite = new CompositeASTVisitor(visitors.toArray(new ASTVisitor[visitors.size()]),
+						measureTime);
+				accept(sharedAst, composite, model != null);
+				if (measureTime) {
+					for (int i = 0; i < shared.size(); i++) {
+						setupNanos[started.indexOf(shared.get(i))] += composite.getElapsedNanos(i);
+					}
+				}
+			}
+		} finally {
+			for (int i = 0; i < started.size(); i++) {
+				AbstractAstVisitorChecker checker = started.get(i);
+				checker.endSharedPass();
+				if (measureTime)
+					stats.checkerAddTime(checker.getClass().getName(), setupNanos[i] / 1000000);
+			}
+		}
+	}
+
+	private static void accept(IASTTranslationUnit ast, ASTVisitor visitor, boolean inEditor) {
+		if (inEditor) {
+			CPPSemantics.pushLookupPoint(ast);
+			try {
+				ast.accept(visitor);
+			} finally {
+				CPPSemantics.popLookupPoint();
+			}
+		} else {
+			synchronized (ast) {
+				ast.accept(visitor);
+			}
+		}
+	}
+}
@@ -0,0 +1,654 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.model;
+
+import org.eclipse.cdt.codan.core.cxx.Activator;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTArrayModifier;
+import org.eclipse.cdt.core.dom.ast.IASTAttribute;
+import org.eclipse.cdt.core.dom.ast.IASTAttributeSpecifier;
+import org.eclipse.cdt.core.dom.ast.IASTDeclSpecifier;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTDeclarator;
+import org.eclipse.cdt.core.dom.ast.IASTEnumerationSpecifier.IASTEnumerator;
+import org.eclipse.cdt.core.dom.ast.IASTExpression;
+import org.eclipse.cdt.core.dom.ast.IASTImplicitDestructorName;
+import org.eclipse.cdt.core.dom.ast.IASTImplicitName;
+import org.eclipse.cdt.core.dom.ast.IASTInitializer;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTParameterDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTPointerOperator;
+import org.eclipse.cdt.core.dom.ast.IASTProblem;
+import org.eclipse.cdt.core.dom.ast.IASTStatement;
+import org.eclipse.cdt.core.dom.ast.IASTToken;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IASTTypeId;
+import org.eclipse.cdt.core.dom.ast.c.ICASTDesignator;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTCapture;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTClassVirtSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTCompositeTypeSpecifier.ICPPASTBaseSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTDecltypeSpecifier;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTDesignator;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTNamespaceDefinition;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTemplateParameter;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTVirtSpecifier;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Visitor forwarding the nodes of a single traversal to a number of delegate visitors, such that
+ * each delegate observes the same calls as if it traversed the AST on its own. The visitor visits
+ * the union of the kinds of nodes the delegates are interested in. A delegate returning
+ * {@link #PROCESS_SKIP} is suspended until the traversal leaves the skipped node, a delegate
+ * returning {@link #PROCESS_ABORT} or throwing an exception is not called anymore. The children of
+ * a node are skipped only if all delegates that were not aborted are suspended.
+ * <p>
+ * Delegates that visit inactive or ambiguous nodes are not supported.
+ */
+final class CompositeASTVisitor extends ASTVisitor {
+	private static final int TRANSLATION_UNIT = 0;
+	private static final int NAME = 1;
+	private static final int DECLARATION = 2;
+	private static final int INITIALIZER = 3;
+	private static final int PARAMETER_DECLARATION = 4;
+	private static final int DECLARATOR = 5;
+	private static final int DECL_SPECIFIER = 6;
+	private static final int ARRAY_MODIFIER = 7;
+	private static final int POINTER_OPERATOR = 8;
+	private static final int ATTRIBUTE = 9;
+	private static final int ATTRIBUTE_SPECIFIER = 10;
+	private static final int TOKEN = 11;
+	private static final int EXPRESSION = 12;
+	private static final int STATEMENT = 13;
+	private static final int TYPE_ID = 14;
+	private static final int ENUMERATOR = 15;
+	private static final int PROBLEM = 16;
+	private static final int BASE_SPECIFIER = 17;
+	private static final int NAMESPACE = 18;
+	private static final int TEMPLATE_PARAMETER = 19;
+	private static final int CAPTURE = 20;
+	private static final int C_DESIGNATOR = 21;
+	private static final int CPP_DESIGNATOR = 22;
+	private static final int VIRT_SPECIFIER = 23;
+	private static final int CLASS_VIRT_SPECIFIER = 24;
+	private static final int DECLTYPE_SPECIFIER = 25;
+
+	private final ASTVisitor[] fDelegates;
+	/** The node a delegate returned {@link #PROCESS_SKIP} for, or {@code null}. */
+	private final IASTNode[] fSkippedNodes;
+	private final boolean[] fAborted;
+	private final long[] fElapsedNanos;
+	private final boolean fMeasureTime;
+	private int fActive;
+	private int fSuspended;
+
+	/**
+	 * @param delegates the visitors to forward the nodes to.
+	 * @param measureTime whether to measure the time spent in each of the delegates.
+	 */
+	CompositeASTVisitor(ASTVisitor[] delegates, boolean measureTime) {
+		fDelegates = delegates;
+		fSkippedNodes = new IASTNode[delegates.length];
+		fAborted = new boolean[delegates.length];
+		fElapsedNanos = new long[delegates.length];
+		fMeasureTime = measureTime;
+		fActive = delegates.length;
+		for (ASTVisitor v : delegates) {
+			assert !v.includeInactiveNodes && !v.shouldVisitAmbiguousNodes;
+			shouldVisitNames |= v.shouldVisitNames;
+			shouldVisitDeclarations |= v.shouldVisitDeclarations;
+			shouldVisitInitializers |= v.shouldVisitInitializers;
+			shouldVisitParameterDeclarations |= v.shouldVisitParameterDeclarations;
+			shouldVisitDeclarators |= v.shouldVisitDeclarators;
+			shouldVisitDeclSpecifiers |= v.shouldVisitDeclSpecifiers;
+			shouldVisitArrayModifiers |= v.shouldVisitArrayModifiers;
+			shouldVisitPointerOperators |= v.shouldVisitPointerOperators;
+			shouldVisitAttributes |= v.shouldVisitAttributes;
+			shouldVisitTokens |= v.shouldVisitTokens;
+			shouldVisitExpressions |= v.shouldVisitExpressions;
+			shouldVisitStatements |= v.shouldVisitStatements;
+			shouldVisitTypeIds |= v.shouldVisitTypeIds;
+			shouldVisitEnumerators |= v.shouldVisitEnumerators;
+			shouldVisitTranslationUnit |= v.shouldVisitTranslationUnit;
+			shouldVisitProblems |= v.shouldVisitProblems;
+			shouldVisitDesignators |= v.shouldVisitDesignators;
+			shouldVisitBaseSpecifiers |= v.shouldVisitBaseSpecifiers;
+			shouldVisitNamespaces |= v.shouldVisitNamespaces;
+			shouldVisitTemplateParameters |= v.shouldVisitTemplateParameters;
+			shouldVisitCaptures |= v.shouldVisitCaptures;
+			shouldVisitVirtSpecifiers |= v.shouldVisitVirtSpecifiers;
+			shouldVisitDecltypeSpecifiers |= v.shouldVisitDecltypeSpecifiers;
+			shouldVisitImplicitNames |= v.shouldVisitImplicitNames;
+			shouldVisitImplicitNameAlternates |= v.shouldVisitImplicitNameAlternates;
+			shouldVisitImplicitDestructorNames |= v.shouldVisitImplicitDestructorNames;
+		}
+	}
+
+	/**
+	 * Returns whether the delegate with the given index was aborted because of an exception or
+	 * by returning {@link #PROCESS_ABORT}.
+	 */
+	boolean isAborted(int index) {
+		return fAborted[index];
+	}
+
+	/**
+	 * Returns the time spent in the delegate with the given index, or 0 if the time is not
+	 * measured.
+	 */
+	long getElapsedNanos(int index) {
+		return fElapsedNanos[index];
+	}
+
+	private int visit(int kind, IASTNode node) {
+		for (int i = 0; i < fDelegates.length; i++) {
+			ASTVisitor delegate = fDelegates[i];
+			if (fAborted[i] || fSkippedNodes[i] != null || !shouldVisit(delegate, kind, node))
+				continue;
+
+			int result = call(i, kind, node, true);
+			if (result == PROCESS_SKIP) {
+				fSkippedNodes[i] = node;
+				fSuspended++;
+			}
+		}
+		if (fActive == 0)
+			return PROCESS_ABORT;
+		if (fSuspended == fActive) {
+			// The node is left without a call to leave(), resume the delegates that skipped it.
+			for (int i = 0; i < fSkippedNodes.length; i++) {
+				if (fSkippedNodes[i] == node) {
+					fSkippedNodes[i] = null;
+					fSuspended--;
+				}
+			}
+			return PROCESS_SKIP;
+		}
+		return PROCESS_CONTINUE;
+	}
+
+	private int leave(int kind, IASTNode node) {
+		for (int i = 0; i < fDelegates.length; i++) {
+			if (fAborted[i])
+				continue;
+			IASTNode skipped = fSkippedNodes[i];
+			if (skipped == node) {
+				fSkippedNodes[i] = null;
+				fSuspended--;
+			} else if (skipped == null && shouldVisit(fDelegates[i], kind, node)) {
+				call(i, kind, node, false);
+			}
+		}
+		return fActive == 0 ? PROCESS_ABORT : PROCESS_CONTINUE;
+	}
+
+	private int call(int i, int kind, IASTNode node, boolean visit) {
+		long start = fMeasureTime ? System.nanoTime() : 0;
+		int result;
+		try {
+			result = visit ? dispatchVisit(fDelegates[i], kind, node) : dispatchLeave(fDelegates[i], kind, node);
+		} catch (OperationCanceledException e) {
+			throw e;
+		} catch (Throwable e) {
+			Activator.log(e);
+			result = PROCESS_ABORT;
+		}
+		if (fMeasureTime)
+			fElapsedNanos[i] += System.nanoTime() - start;
+		if (result == PROCESS_ABORT) {
+			fAborted[i] = true;
+			fActive--;
+		}
+		return result;
+	}
+
+	private static boolean shouldVisit(ASTVisitor v, int kind, IASTNode node) {
+		switch (kind) {
+		case TRANSLATION_UNIT:
+			return v.shouldVisitTranslationUnit;
+		case NAME:
+			if (node instanceof IASTImplicitName) {
+				// Implicit names are reached only if the owner of the name visits implicit names.
+				if (!v.shouldVisitImplicitNames)
+					return false;
+				if (((IASTImplicitName) node).isAlternate() && !v.shouldVisitImplicitNameAlternates)
+					return false;
+				return !(node instanceof IASTImplicitDestructorName) || v.shouldVisitImplicitDestructorNames;
+			}
+			return v.shouldVisitNames;
+		case DECLARATION:
+			return v.shouldVisitDeclarations;
+		case INITIALIZER:
+			return v.shouldVisitInitializers;
+		case PARAMETER_DECLARATION:
+			return v.shouldVisitParameterDeclarations;
+		case DECLARATOR:
+			return v.shouldVisitDeclarators;
+		case DECL_SPECIFIER:
+			return v.shouldVisitDeclSpecifiers;
+		case ARRAY_MODIFIER:
+			return v.shouldVisitArrayModifiers;
+		case POINTER_OPERATOR:
+			return v.shouldVisitPointerOperators;
+		case ATTRIBUTE:
+		case ATTRIBUTE_SPECIFIER:
+			return v.shouldVisitAttributes;
+		case TOKEN:
+			return v.shouldVisitTokens;
+		case EXPRESSION:
+			return v.shouldVisitExpressions;
+		case STATEMENT:
+			return v.shouldVisitStatements;
+		case TYPE_ID:
+			return v.shouldVisitTypeIds;
+		case ENUMERATOR:
+			return v.shouldVisitEnumerators;
+		case PROBLEM:
+			return v.shouldVisitProblems;
+		case BASE_SPECIFIER:
+			return v.shouldVisitBaseSpecifiers;
+		case NAMESPACE:
+			return v.shouldVisitNamespaces;
+		case TEMPLATE_PARAMETER:
+			return v.shouldVisitTemplateParameters;
+		case CAPTURE:
+			return v.shouldVisitCaptures;
+		case C_DESIGNATOR:
+		case CPP_DESIGNATOR:
+			return v.shouldVisitDesignators;
+		case VIRT_SPECIFIER:
+		case CLASS_VIRT_SPECIFIER:
+			return v.shouldVisitVirtSpecifiers;
+		case DECLTYPE_SPECIFIER:
+			return v.shouldVisitDecltypeSpecifiers;
+		default:
+			return false;
+		}
+	}
+
+	private static int dispatchVisit(ASTVisitor v, int kind, IASTNode node) {
+		switch (kind) {
+		case TRANSLATION_UNIT:
+			return v.visit((IASTTranslationUnit) node);
+		case NAME:
+			return v.visit((IASTName) node);
+		case DECLARATION:
+			return v.visit((IASTDeclaration) node);
+		case INITIALIZER:
+			return v.visit((IASTInitializer) node);
+		case PARAMETER_DECLARATION:
+			return v.visit((IASTParameterDeclaration) node);
+		case DECLARATOR:
+			return v.visit((IASTDeclarator) node);
+		case DECL_SPECIFIER:
+			return v.visit((IASTDeclSpecifier) node);
+		case ARRAY_MODIFIER:
+			return v.visit((IASTArrayModifier) node);
+		case POINTER_OPERATOR:
+			return v.visit((IASTPointerOperator) node);
+		case ATTRIBUTE:
+			return v.visit((IASTAttribute) node);
+		case ATTRIBUTE_SPECIFIER:
+			return v.visit((IASTAttributeSpecifier) node);
+		case TOKEN:
+			return v.visit((IASTToken) node);
+		case EXPRESSION:
+			return v.visit((IASTExpression) node);
+		case STATEMENT:
+			return v.visit((IASTStatement) node);
+		case TYPE_ID:
+			return v.visit((IASTTypeId) node);
+		case ENUMERATOR:
+			return v.visit((IASTEnumerator) node);
+		case PROBLEM:
+			return v.visit((IASTProblem) node);
+		case BASE_SPECIFIER:
+			return v.visit((ICPPASTBaseSpecifier) node);
+		case NAMESPACE:
+			return v.visit((ICPPASTNamespaceDefinition) node);
+		case TEMPLATE_PARAMETER:
+			return v.visit((ICPPASTTemplateParameter) node);
+		case CAPTURE:
+			return v.visit((ICPPASTCapture) node);
+		case C_DESIGNATOR:
+			return v.visit((ICASTDesignator) node);
+		case CPP_DESIGNATOR:
+			return v.visit((ICPPASTDesignator) node);
+		case VIRT_SPECIFIER:
+			return v.visit((ICPPASTVirtSpecifier) node);
+		case CLASS_VIRT_SPECIFIER:
+			return v.visit((ICPPASTClassVirtSpecifier) node);
+		case DECLTYPE_SPECIFIER:
+			return v.visit((ICPPASTDecltypeSpecifier) node);
+		default:
+			return PROCESS_CONTINUE;
+		}
+	}
+
+	private static int dispatchLeave(ASTVisitor v, int kind, IASTNode node) {
+		switch (kind) {
+		case TRANSLATION_UNIT:
+			return v.leave((IASTTranslationUnit) node);
+		case NAME:
+			return v.leave((IASTName) node);
+		case DECLARATION:
+			return v.leave((IASTDeclaration) node);
+		case INITIALIZER:
+			return v.leave((IASTInitializer) node);
+		case PARAMETER_DECLARATION:
+			return v.leave((IASTParameterDeclaration) node);
+		case DECLARATOR:
+			return v.leave((IASTDeclarator) node);
+		case DECL_SPECIFIER:
+			return v.leave((IASTDeclSpecifier) node);
+		case ARRAY_MODIFIER:
+			return v.leave((IASTArrayModifier) node);
+		case POINTER_OPERATOR:
+			return v.leave((IASTPointerOperator) node);
+		case ATTRIBUTE:
+			return v.leave((IASTAttribute) node);
+		case ATTRIBUTE_SPECIFIER:
+			return v.leave((IASTAttributeSpecifier) node);
+		case TOKEN:
+			return v.leave((IASTToken) node);
+		case EXPRESSION:
+			return v.leave((IASTExpression) node);
+		case STATEMENT:
+			return v.leave((IASTStatement) node);
+		case TYPE_ID:
+			return v.leave((IASTTypeId) node);
+		case ENUMERATOR:
+			return v.leave((IASTEnumerator) node);
+		case PROBLEM:
+			return v.leave((IASTProblem) node);
+		case BASE_SPECIFIER:
+			return v.leave((ICPPASTBaseSpecifier) node);
+		case NAMESPACE:
+			return v.leave((ICPPASTNamespaceDefinition) node);
+		case TEMPLATE_PARAMETER:
+			return v.leave((ICPPASTTemplateParameter) node);
+		case CAPTURE:
+			return v.leave((ICPPASTCapture) node);
+		case C_DESIGNATOR:
+			return v.leave((ICASTDesignator) node);
+		case CPP_DESIGNATOR:
+			return v.leave((ICPPASTDesignator) node);
+		case VIRT_SPECIFIER:
+			return v.leave((ICPPASTVirtSpecifier) node);
+		case CLASS_VIRT_SPECIFIER:
+			return v.leave((ICPPASTClassVirtSpecifier) node);
+		case DECLTYPE_SPECIFIER:
+			return v.leave((ICPPASTDecltypeSpecifier) node);
+		default:
+			return PROCESS_CONTINUE;
+		}
+	}
+
+	@Override
+	public int visit(IASTTranslationUnit tu) {
+		return visit(TRANSLATION_UNIT, tu);
+	}
+
+	@Override
+	public int visit(IASTName name) {
+		return visit(NAME, name);
+	}
+
+	@Override
+	public int visit(IASTDeclaration declaration) {
+		return visit(DECLARATION, declaration);
+	}
+
+	@Override
+	public int visit(IASTInitializer initializer) {
+		return visit(INITIALIZER, initializer);
+	}
+
+	@Override
+	public int visit(IASTParameterDeclaration parameterDeclaration) {
+		return visit(PARAMETER_DECLARATION, parameterDeclaration);
+	}
+
+	@Override
+	public int visit(IASTDeclarator declarator) {
+		return visit(DECLARATOR, declarator);
+	}
+
+	@Override
+	public int visit(IASTDeclSpecifier declSpec) {
+		return visit(DECL_SPECIFIER, declSpec);
+	}
+
+	@Override
+	public int visit(IASTArrayModifier arrayModifier) {
+		return visit(ARRAY_MODIFIER, arrayModifier);
+	}
+
+	@Override
+	public int visit(IASTPointerOperator ptrOperator) {
+		return visit(POINTER_OPERATOR, ptrOperator);
+	}
+
+	@Override
+	public int visit(IASTAttribute attribute) {
+		return visit(ATTRIBUTE, attribute);
+	}
+
+	@Override
+	public int visit(IASTAttributeSpecifier specifier) {
+		return visit(ATTRIBUTE_SPECIFIER, specifier);
+	}
+
+	@Override
+	public int visit(IASTToken token) {
+		return visit(TOKEN, token);
+	}
+
+	@Override
+	public int visit(IASTExpression expression) {
+		return visit(EXPRESSION, expression);
+	}
+
+	@Override
+	public int visit(IASTStatement statement) {
+		return visit(STATEMENT, statement);
+	}
+
+	@Override
+	public int visit(IASTTypeId typeId) {
+		return visit(TYPE_ID, typeId);
+	}
+
+	@Override
+	public int visit(IASTEnumerator enumerator) {
+		return visit(ENUMERATOR, enumerator);
+	}
+
+	@Override
+	public int visit(IASTProblem problem) {
+		return visit(PROBLEM, problem);
+	}
+
+	@Override
+	public int visit(ICPPASTBaseSpecifier baseSpecifier) {
+		return visit(BASE_SPECIFIER, baseSpecifier);
+	}
+
+	@Override
+	public int visit(ICPPASTNamespaceDefinition namespaceDefinition) {
+		return visit(NAMESPACE, namespaceDefinition);
+	}
+
+	@Override
+	public int visit(ICPPASTTemplateParameter templateParameter) {
+		return visit(TEMPLATE_PARAMETER, templateParameter);
+	}
+
+	@Override
+	public int visit(ICPPASTCapture capture) {
+		return visit(CAPTURE, capture);
+	}
+
+	@Override
+	public int visit(ICASTDesignator designator) {
+		return visit(C_DESIGNATOR, designator);
+	}
+
+	@Override
+	public int visit(ICPPASTDesignator designator) {
+		return visit(CPP_DESIGNATOR, designator);
+	}
+
+	@Override
+	public int visit(ICPPASTVirtSpecifier virtSpecifier) {
+		return visit(VIRT_SPECIFIER, virtSpecifier);
+	}
+
+	@Override
+	public int visit(ICPPASTClassVirtSpecifier classVirtSpecifier) {
+		return visit(CLASS_VIRT_SPECIFIER, classVirtSpecifier);
+	}
+
+	@Override
+	public int visit(ICPPASTDecltypeSpecifier decltypeSpecifier) {
+		return visit(DECLTYPE_SPECIFIER, decltypeSpecifier);
+	}
+
+	@Override
+	public int leave(IASTTranslationUnit tu) {
+		return leave(TRANSLATION_UNIT, tu);
+	}
+
+	@Override
+	public int leave(IASTName name) {
+		return leave(NAME, name);
+	}
+
+	@Override
+	public int leave(IASTDeclaration declaration) {
+		return leave(DECLARATION, declaration);
+	}
+
+	@Override
+	public int leave(IASTInitializer initializer) {
+		return leave(INITIALIZER, initializer);
+	}
+
+	@Override
+	public int leave(IASTParameterDeclaration parameterDeclaration) {
+		return leave(PARAMETER_DECLARATION, parameterDeclaration);
+	}
+
+	@Override
+	public int leave(IASTDeclarator declarator) {
+		return leave(DECLARATOR, declarator);
+	}
+
+	@Override
+	public int leave(IASTDeclSpecifier declSpec) {
+		return leave(DECL_SPECIFIER, declSpec);
+	}
+
+	@Override
+	public int leave(IASTArrayModifier arrayModifier) {
+		return leave(ARRAY_MODIFIER, arrayModifier);
+	}
+
+	@Override
+	public int leave(IASTPointerOperator ptrOperator) {
+		return leave(POINTER_OPERATOR, ptrOperator);
+	}
+
+	@Override
+	public int leave(IASTAttribute attribute) {
+		return leave(ATTRIBUTE, attribute);
+	}
+
+	@Override
+	public int leave(IASTAttributeSpecifier specifier) {
+		return leave(ATTRIBUTE_SPECIFIER, specifier);
+	}
+
+	@Override
+	public int leave(IASTToken token) {
+		return leave(TOKEN, token);
+	}
+
+	@Override
+	public int leave(IASTExpression expression) {
+		return leave(EXPRESSION, expression);
+	}
+
+	@Override
+	public int leave(IASTStatement statement) {
+		return leave(STATEMENT, statement);
+	}
+
+	@Override
+	public int leave(IASTTypeId typeId) {
+		return leave(TYPE_ID, typeId);
+	}
+
+	@Override
+	public int leave(IASTEnumerator enumerator) {
+		return leave(ENUMERATOR, enumerator);
+	}
+
+	@Override
+	public int leave(IASTProblem problem) {
+		return leave(PROBLEM, problem);
+	}
+
+	@Override
+	public int leave(ICPPASTBaseSpecifier baseSpecifier) {
+		return leave(BASE_SPECIFIER, baseSpecifier);
+	}
+
+	@Override
+	public int leave(ICPPASTNamespaceDefinition namespaceDefinition) {
+		return leave(NAMESPACE, namespaceDefinition);
+	}
+
+	@Override
+	public int leave(ICPPASTTemplateParameter templateParameter) {
+		return leave(TEMPLATE_PARAMETER, templateParameter);
+	}
+
+	@Override
+	public int leave(ICPPASTCapture capture) {
+		return leave(CAPTURE, capture);
+	}
+
+	@Override
+	public int leave(ICASTDesignator designator) {
+		return leave(C_DESIGNATOR, designator);
+	}
+
+	@Override
+	public int leave(ICPPASTDesignator designator) {
+		return leave(CPP_DESIGNATOR, designator);
+	}
+
+	@Override
+	public int leave(ICPPASTVirtSpecifier virtSpecifier) {
+		return leave(VIRT_SPECIFIER, virtSpecifier);
+	}
+
+	@Override
+	public int leave(ICPPASTClassVirtSpecifier classVirtSpecifier) {
+		return leave(CLASS_VIRT_SPECIFIER, classVirtSpecifier);
+	}
+
+	@Override
+	public int leave(ICPPASTDecltypeSpecifier decltypeSpecifier) {
+		return leave(DECLTYPE_SPECIFIER, decltypeSpecifier);
+	}
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.cdt.codan.core.cxx.Activator;
+import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
+import org.eclipse.cdt.codan.core.model.ICodanDisposable;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.index.IIndexInclude;
+import org.eclipse.cdt.core.index.IndexLocationFactory;
+import org.eclipse.cdt.core.model.ITranslationUnit;
+import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Path;
+
+/**
+ * Describes the inputs of the analysis of a file: the build configuration of the file and
+ * the contents hashes and significant macros recorded in the index for the file and all files
+ * it includes. Computed at most once per invocation context.
+ */
+final class TranslationUnitInputKey implements ICodanDisposable {
+	private boolean computed;
+	private String value;
+
+	private TranslationUnitInputKey() {
+	}
+
+	/**
+	 * Returns the key for the given file, or {@code null} if the index is not up to date for
+	 * the file or for one of the files it includes.
+	 */
+	static String get(IFile file, ICheckerInvocationContext context) {
+		TranslationUnitInputKey key;
+		synchronized (context) {
+			key = context.get(TranslationUnitInputKey.class);
+			if (key == null) {
+				key = new TranslationUnitInputKey();
+				context.add(key);
+			}
+		}
+		return key.getValue(file, context);
+	}
+
+	private synchronized String getValue(IFile file, ICheckerInvocationContext context) {
+		if (!computed) {
+			computed = true;
+			try {
+				value = compute(file, context);
+			} catch (CoreException e) {
+				Activator.log(e);
+			} catch (OperationCanceledException e) {
+				// The checkers will notice the cancellation.
+			}
+		}
+		return value;
+	}
+
+	private static String compute(IFile file, ICheckerInvocationContext context)
+			throws CoreException, OperationCanceledException {
+		CxxModelsCache modelCache = AbstractIndexAstChecker.getModelCache(file, context);
+		if (modelCache == null)
+			return null;
+		IIndex index = modelCache.getIndex();
+		if (!index.isFullyInitialized())
+			return null;
+		ITranslationUnit tu = modelCache.getTranslationUnit();
+		IIndexFile[] files = index.getFiles(IndexLocationFactory.getIFL(tu));
+		if (files.length == 0)
+			return null;
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		addScannerInfo(digest, tu.getScannerInfo(true));
+
+		Set<IIndexFile> visited = new HashSet<>(Arrays.asList(files));
+		Deque<IIndexFile> queue = new ArrayDeque<>(Arrays.asList(files));
+		while (!queue.isEmpty()) {
+			IIndexFile indexFile = queue.removeFirst();
+			IIndexFileLocation location = indexFile.getLocation();
+			if (indexFile.getTimestamp() != getLastModified(location))
+				return null; // The file has not been indexed since it was modified.
+			update(digest, location.getURI().toString());
+			update(digest, Long.toString(indexFile.getContentsHash()));
+			update(digest, new String(indexFile.getSignificantMacros().encode()));
+			for (IIndexInclude include : indexFile.getIncludes()) {
+				update(digest, include.getFullName());
+				if (!include.isResolved())
+					continue;
+				IIndexFile included = index.resolveInclude(include);
+				if (included == null)
+					return null;
+				if (visited.add(included))
+					queue.add(included);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void addScannerInfo(MessageDigest digest, IScannerInfo scannerInfo) {
+		if (scannerInfo == null)
+			return;
+		Map<String, String> symbols = scannerInfo.getDefinedSymbols();
+		if (symbols != null) {
+			for (Map.Entry<String, String> entry : new TreeMap<>(symbols).entrySet()) {
+				update(digest, entry.getKey());
+				update(digest, entry.getValue());
+			}
+		}
+		update(digest, scannerInfo.getIncludePaths());
+		if (scannerInfo instanceof IExtendedScannerInfo) {
+			IExtendedScannerInfo extendedInfo = (IExtendedScannerInfo) scannerInfo;
+			update(digest, extendedInfo.getLocalIncludePath());
+			update(digest, extendedInfo.getMacroFiles());
+			update(digest, extendedInfo.getIncludeFiles());
+		}
+	}
+
+	private static long getLastModified(IIndexFileLocation location) {
+		String fullPath = location.getFullPath();
+		if (fullPath != null) {
+			IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(new Path(fullPath));
+			return resource != null ? resource.getLocalTimeStamp() : 0;
+		}
+		IPath path = IndexLocationFactory.getAbsolutePath(location);
+		return path != null ? path.toFile().lastModified() : 0;
+	}
+
+	private static void update(MessageDigest digest, String[] values) {
+		if (values != null) {
+			for (String value : values) {
+				update(digest, value);
+			}
+		}
+		digest.update((byte) 0);
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null)
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	@Override
+	public void dispose() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Marco Stornelli
+ * Copyright (c) 2019, 2026 Marco Stornelli
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -10,8 +10,29 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.core.internal.checkers;
 
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.PreferenceConstants;
+import org.eclipse.cdt.codan.core.cxx.model.AbstractAstVisitorChecker;
+import org.eclipse.cdt.codan.core.model.ISharedPassChecker;
 import org.eclipse.cdt.codan.core.tests.CheckerTestCase;
 import org.eclipse.cdt.codan.internal.checkers.GotoStatementChecker;
+import org.eclipse.cdt.codan.internal.core.CheckerInvocationContext;
+import org.eclipse.cdt.codan.internal.core.model.CodanMarkerProblemReporter;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 
 /**
  * Test for {@link GotoStatementChecker} class
@@ -51,4 +72,143 @@ public class GotoStatementCheckerTest extends CheckerTestCase {
 		loadCodeAndRun(getAboveComment());
 		checkNoErrorsOfKind(ERR_ID);
 	}
+
+	//void foo() {
+	//   goto label;
+	//label:
+	//   return;
+	//}
+
+	//void bar() {
+	//   return;
+	//}
+
+	//void baz() {
+	//label:
+	//   goto label;
+	//}
+	public void testParallelAnalysis() throws Exception {
+		CharSequence[] code = getContents(3);
+		File file1 = loadcode(code[0].toString());
+		loadcode(code[1].toString());
+		File file3 = loadcode(code[2].toString());
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(CodanCorePlugin.PLUGIN_ID);
+		preferences.putInt(PreferenceConstants.P_ANALYSIS_THREADS, 2);
+		try {
+			runCodan();
+		} finally {
+			preferences.remove(PreferenceConstants.P_ANALYSIS_THREADS);
+		}
+		checkErrorLine(file1, 2, ERR_ID);
+		checkErrorLine(file3, 3, ERR_ID);
+		assertEquals(2, markers.length);
+	}
+
+	//void foo() {
+	//}
+
+	//void bar() {
+	//}
+	public void testSharedPassRunsConcurrently() throws Exception {
+		CharSequence[] code = getContents(2);
+		loadcode(code[0].toString());
+		IFile file1 = currentIFile;
+		loadcode(code[1].toString());
+		IFile file2 = currentIFile;
+		indexFiles();
+		// Each visitor waits for the visitor on the other thread, this only succeeds if the
+		// traversals of the two files overlap.
+		final CyclicBarrier barrier = new CyclicBarrier(2);
+		final Map<Thread, IFile> visitedFiles = new ConcurrentHashMap<>();
+		final AbstractAstVisitorChecker checker = new AbstractAstVisitorChecker() {
+			@Override
+			public boolean shouldProduceProblems(IResource resource) {
+				return true;
+			}
+
+			@Override
+			protected ASTVisitor createVisitor(IASTTranslationUnit ast) {
+				return new ASTVisitor() {
+					{
+						shouldVisitDeclarations = true;
+					}
+
+					@Override
+					public int visit(IASTDeclaration declaration) {
+						try {
+							barrier.await(10, TimeUnit.SECONDS);
+						} catch (Exception e) {
+							throw new RuntimeException(e);
+						}
+						visitedFiles.put(Thread.currentThread(), getFile());
+						return PROCESS_ABORT;
+					}
+				};
+			}
+		};
+		IFile[] files = { file1, file2 };
+		Thread[] threads = new Thread[files.length];
+		for (int i = 0; i < files.length; i++) {
+			final int n = i;
+			threads[i] = new Thread(() -> {
+				checker.getSharedPassRunner().run(Collections.<ISharedPassChecker>singletonList(checker), files[n],
+						null, new CheckerInvocationContext(files[n]));
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertFalse(barrier.isBroken());
+		assertEquals(file1, visitedFiles.get(threads[0]));
+		assertEquals(file2, visitedFiles.get(threads[1]));
+	}
+
+	//@file:jump.h
+	//#define JUMP goto label
+
+	//@file:jump.cpp
+	//#include "jump.h"
+	//void foo() {
+	//   JUMP;
+	//label:
+	//   return;
+	//}
+
+	//@file:jump.h
+	//#define JUMP goto label // changed
+	public void testResultsOfUnchangedFilesAreKept() throws Exception {
+		CharSequence[] code = getContents(3);
+		loadcode(code[0].toString());
+		File file = loadcode(code[1].toString());
+		runCodan();
+		checkErrorLine(file, 3, ERR_ID);
+		// Remove the markers behind the back of the problem reporter to detect whether
+		// the file is analyzed again.
+		for (IMarker marker : markers) {
+			marker.delete();
+		}
+		runCodan();
+		assertEquals(0, markers.length);
+		loadcode(code[2].toString());
+		runCodan();
+		checkErrorLine(file, 3, ERR_ID);
+	}
+
+	public void testResultKeysAreStoredAfterCommit() throws Exception {
+		final boolean[] stored = { false };
+		CodanMarkerProblemReporter.beginBatch();
+		try {
+			CodanMarkerProblemReporter.runAfterCommit(() -> stored[0] = true);
+			assertFalse(stored[0]);
+			CodanMarkerProblemReporter.commitBatch();
+			assertTrue(stored[0]);
+		} finally {
+			CodanMarkerProblemReporter.endBatch();
+		}
+		stored[0] = false;
+		// Without a batch the markers are written when the checker finishes.
+		CodanMarkerProblemReporter.runAfterCommit(() -> stored[0] = true);
+		assertTrue(stored[0]);
+	}
 }
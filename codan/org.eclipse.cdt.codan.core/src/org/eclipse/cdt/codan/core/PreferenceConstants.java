@@ -21,4 +21,10 @@ public class PreferenceConstants {
 	public static final String P_RUN_IN_EDITOR = "inEditor"; //$NON-NLS-1$
 	public static final String P_PROBLEMS = "problems"; //$NON-NLS-1$
 	public static final String P_USE_PARENT = "useParentScope"; //$NON-NLS-1$
+	/**
+	 * Number of threads analyzing the files of a project or folder during a full build or when
+	 * code analysis is run on demand. With a single thread the files are analyzed one by one.
+	 * @since 4.3
+	 */
+	public static final String P_ANALYSIS_THREADS = "analysisThreads"; //$NON-NLS-1$
 }
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.model;
+
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Interface for checkers whose problems for a resource are fully determined by inputs that can be
+ * summarized in a key, e.g. the contents of a file and of the files it includes. When the key and
+ * the preferences of the problems of the checker did not change since the checker was last run
+ * on the resource, the problems reported by that run are kept and the checker is not run again.
+ * <p>
+ * Checkers are not run again only when running on saved files, not when running as you type.
+ * The results of a checker are reused only if the checker implements this interface itself,
+ * e.g. subclasses of <code>AbstractIndexAstChecker</code> inherit an implementation of
+ * {@link #getInputKey(IResource, ICheckerInvocationContext)} but have to declare this interface.
+ *
+ * @since 4.3
+ */
+public interface ICacheableChecker extends IChecker {
+	/**
+	 * Returns the key describing the inputs the problems of the checker depend on, other than
+	 * the preferences of the problems reported by the checker. Called before
+	 * {@link #before(IResource)}.
+	 *
+	 * @param resource the resource to check.
+	 * @param context the invocation context the checker is going to be run with.
+	 * @return the key, or {@code null} if the checker has to be run on the resource.
+	 */
+	String getInputKey(IResource resource, ICheckerInvocationContext context);
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.model;
+
+/**
+ * Interface for checkers that can be run together with other checkers in a single pass over
+ * the model of a resource, e.g. a single traversal of an AST. Enabled checkers that return
+ * the same runner are processed by that runner together, instead of being called one by one.
+ * <p>
+ * Checkers run in a shared pass are not locked while processing a resource. Different resources
+ * may be processed by the same checker on different threads at the same time, so the state of
+ * the resource being processed must not be kept in fields of the checker.
+ *
+ * @since 4.3
+ */
+public interface ISharedPassChecker extends IChecker {
+	/**
+	 * Returns the runner processing this checker together with other checkers, or {@code null}
+	 * if the checker has to be run on its own.
+	 */
+	ISharedPassRunner getSharedPassRunner();
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.model;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Runs a group of {@link ISharedPassChecker}s in a single pass over the model of a resource.
+ *
+ * @see ISharedPassChecker#getSharedPassRunner()
+ * @since 4.3
+ */
+public interface ISharedPassRunner {
+	/**
+	 * Processes a resource with the given checkers. The caller calls
+	 * {@link IChecker#before(IResource)} and {@link IChecker#after(IResource)} for each of them.
+	 * The checkers are not locked, the same checkers may be processing other resources on other
+	 * threads at the same time. A failure of an individual checker must not prevent the other checkers from
+	 * being run.
+	 *
+	 * @param checkers the enabled checkers to run, in the order of the registry.
+	 * @param resource the resource to process.
+	 * @param model the model of the resource when running as you type, otherwise {@code null}.
+	 * @param context container object for sharing data between different checkers operating
+	 *     on the resource.
+	 */
+	void run(List<ISharedPassChecker> checkers, IResource resource, Object model,
+			ICheckerInvocationContext context) throws OperationCanceledException;
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.model.ICacheableChecker;
+import org.eclipse.cdt.codan.core.model.IChecker;
+import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
+import org.eclipse.cdt.codan.core.model.IProblem;
+import org.eclipse.cdt.codan.core.model.IProblemProfile;
+import org.eclipse.cdt.codan.core.param.IProblemPreference;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.service.prefs.BackingStoreException;
+
+/**
+ * Remembers for which inputs the markers of a {@link ICacheableChecker} on a file were produced.
+ * The keys are stored in persistent properties of the files, the markers themselves are
+ * persisted by the workspace. All keys are invalidated at once by incrementing a generation
+ * counter, e.g. when all code analysis markers are deleted.
+ */
+public final class CheckerResultCache {
+	private static final String PROPERTY_PREFIX = "checkerResult:"; //$NON-NLS-1$
+	private static final String GENERATION = "checkerResultGeneration"; //$NON-NLS-1$
+	private static volatile long generation = -1;
+
+	private CheckerResultCache() {
+	}
+
+	/**
+	 * Returns the key describing the inputs and the problem preferences the markers of
+	 * the checker on the resource depend on, or {@code null} if the markers cannot be reused.
+	 */
+	static String getKey(ICacheableChecker checker, IResource resource, ICheckerInvocationContext context) {
+		String inputKey = checker.getInputKey(resource, context);
+		if (inputKey == null)
+			return null;
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		update(digest, inputKey);
+		update(digest, Long.toString(getGeneration()));
+		update(digest, checker.getClass().getName());
+		Bundle bundle = FrameworkUtil.getBundle(checker.getClass());
+		if (bundle != null)
+			update(digest, bundle.getVersion().toString());
+		CheckersRegistry registry = CheckersRegistry.getInstance();
+		IProblemProfile profile = registry.getResourceProfile(resource);
+		for (IProblem p : registry.getRefProblems(checker)) {
+			IProblem problem = profile.findProblem(p.getId());
+			if (problem == null)
+				continue;
+			update(digest, problem.getId());
+			update(digest, Boolean.toString(problem.isEnabled()));
+			update(digest, problem.getSeverity().toString());
+			update(digest, problem.getMessagePattern());
+			IProblemPreference preference = problem.getPreference();
+			if (preference != null)
+				update(digest, preference.exportValue());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null)
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Checks whether the markers of the checker on the resource were produced for the given key.
+	 */
+	static boolean isUpToDate(IResource resource, IChecker checker, String key) {
+		try {
+			return key.equals(resource.getPersistentProperty(getPropertyName(checker)));
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Records that the markers of the checker on the resource were produced for the given key.
+	 */
+	static void store(IResource resource, IChecker checker, String key) {
+		try {
+			resource.setPersistentProperty(getPropertyName(checker), key);
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+		}
+	}
+
+	/**
+	 * Forgets the key of the markers of the checker on the resource.
+	 */
+	public static void invalidate(IResource resource, IChecker checker) {
+		QualifiedName name = getPropertyName(checker);
+		try {
+			if (resource.exists() && resource.getPersistentProperty(name) != null)
+				resource.setPersistentProperty(name, null);
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+		}
+	}
+
+	/**
+	 * Forgets the keys of the markers of all checkers on the resource.
+	 */
+	public static void invalidate(IResource resource) {
+		if (!resource.exists())
+			return;
+		try {
+			for (QualifiedName name : resource.getPersistentProperties().keySet()) {
+				if (CodanCorePlugin.PLUGIN_ID.equals(name.getQualifier())
+						&& name.getLocalName().startsWith(PROPERTY_PREFIX)) {
+					resource.setPersistentProperty(name, null);
+				}
+			}
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+		}
+	}
+
+	/**
+	 * Forgets the keys of the markers on all resources.
+	 */
+	public static synchronized void invalidateAll() {
+		long next = getGeneration() + 1;
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(CodanCorePlugin.PLUGIN_ID);
+		node.putLong(GENERATION, next);
+		try {
+			node.flush();
+		} catch (BackingStoreException e) {
+			CodanCorePlugin.log(e);
+		}
+		generation = next;
+	}
+
+	private static long getGeneration() {
+		long value = generation;
+		if (value < 0) {
+			value = InstanceScope.INSTANCE.getNode(CodanCorePlugin.PLUGIN_ID).getLong(GENERATION, 0);
+			generation = value;
+		}
+		return value;
+	}
+
+	private static QualifiedName getPropertyName(IChecker checker) {
+		return new QualifiedName(CodanCorePlugin.PLUGIN_ID, PROPERTY_PREFIX + checker.getClass().getName());
+	}
+}
@@ -18,7 +18,7 @@ import java.util.Iterator;
 import java.util.Map;
 
 /**
- * Class to collect time states for checkers runs
+ * Class to collect time states for checkers runs. The stats may be updated by multiple threads.
  */
 public class CheckersTimeStats {
 	public static final String ALL = "ALL"; //$NON-NLS-1$
@@ -90,7 +90,7 @@ public class CheckersTimeStats {
 	 * @param id
 	 * @param counter
 	 */
-	public void checkerStart(String id, String counter) {
+	public synchronized void checkerStart(String id, String counter) {
 		if (enableStats) {
 			TimeRecord record = getTimeRecord(getKey(id, counter));
 			record.start();
@@ -105,7 +105,7 @@ public class CheckersTimeStats {
 	 * @param id
 	 * @param counter
 	 */
-	public void checkerStop(String id, String counter) {
+	public synchronized void checkerStop(String id, String counter) {
 		if (enableStats) {
 			getTimeRecord(getKey(id, counter)).stop();
 		}
@@ -118,6 +118,22 @@ public class CheckersTimeStats {
 		checkerStop(id, ELAPSED);
 	}
 
+	/**
+	 * Adds time measured by the caller to the elapsed time of the checker with given id. Used for
+	 * checkers that are run together with other checkers, such that their elapsed time cannot be
+	 * measured with {@link #checkerStart(String)} and {@link #checkerStop(String)}.
+	 *
+	 * @param id - checker id
+	 * @param millis - the elapsed time in milliseconds
+	 */
+	public synchronized void checkerAddTime(String id, long millis) {
+		if (enableStats) {
+			TimeRecord record = getTimeRecord(getKey(id, ELAPSED));
+			record.count++;
+			record.duration += millis;
+		}
+	}
+
 	/**
 	 * Print checker stats to stdout if tracing enabled
 	 */
@@ -130,7 +146,7 @@ public class CheckersTimeStats {
 	/**
 	 *
 	 */
-	public void printStats() {
+	public synchronized void printStats() {
 		System.out.println("---"); //$NON-NLS-1$
 		String totalId = getKey(ALL, ELAPSED);
 		TimeRecord all = records.get(totalId);
@@ -147,7 +163,7 @@ public class CheckersTimeStats {
 	/**
 	 *
 	 */
-	public void reset() {
+	public synchronized void reset() {
 		records.clear();
 	}
 
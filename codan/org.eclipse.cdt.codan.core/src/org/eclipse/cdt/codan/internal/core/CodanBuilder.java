@@ -112,6 +112,12 @@ public class CodanBuilder extends IncrementalProjectBuilder implements ICodanBui
 		processResource(resource, monitor, CheckerLaunchMode.RUN_ON_INC_BUILD);
 	}
 
+	@Override
+	protected void clean(IProgressMonitor monitor) throws CoreException {
+		// Make the next build analyze all files again.
+		CheckerResultCache.invalidateAll();
+	}
+
 	protected void fullBuild(final IProgressMonitor monitor) throws CoreException {
 		processResource(getProject(), monitor);
 	}
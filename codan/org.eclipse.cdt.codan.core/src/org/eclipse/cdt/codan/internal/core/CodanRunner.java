@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 Alena Laskavaia
+ * Copyright (c) 2009, 2026 Alena Laskavaia
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,16 +14,38 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.core;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.CodanRuntime;
+import org.eclipse.cdt.codan.core.PreferenceConstants;
 import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
+import org.eclipse.cdt.codan.core.model.ICacheableChecker;
 import org.eclipse.cdt.codan.core.model.IChecker;
 import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
 import org.eclipse.cdt.codan.core.model.IRunnableInEditorChecker;
+import org.eclipse.cdt.codan.core.model.ISharedPassChecker;
+import org.eclipse.cdt.codan.core.model.ISharedPassRunner;
+import org.eclipse.cdt.codan.internal.core.model.CodanMarkerProblemReporter;
 import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
 
@@ -35,6 +57,9 @@ import org.eclipse.osgi.util.NLS;
  * CodanRuntime.getInstance().getBuilder()
  */
 public class CodanRunner {
+	/** Number of files after which an analysis thread commits the reported markers. */
+	private static final int MARKER_BATCH_SIZE = 16;
+
 	/** Do not instantiate. All methods are static */
 	private CodanRunner() {
 	}
@@ -59,6 +84,15 @@ public class CodanRunner {
 	 */
 	public static void processResource(IResource resource, CheckerLaunchMode checkerLaunchMode,
 			IProgressMonitor monitor) {
+		if (resource instanceof IContainer && (checkerLaunchMode == CheckerLaunchMode.RUN_ON_FULL_BUILD
+				|| checkerLaunchMode == CheckerLaunchMode.RUN_ON_DEMAND)) {
+			int threadCount = Platform.getPreferencesService().getInt(CodanCorePlugin.PLUGIN_ID,
+					PreferenceConstants.P_ANALYSIS_THREADS, 1, null);
+			if (threadCount > 1) {
+				processInParallel((IContainer) resource, checkerLaunchMode, threadCount, monitor);
+				return;
+			}
+		}
 		processResource(resource, null, checkerLaunchMode, monitor);
 	}
 
@@ -84,11 +118,42 @@ public class CodanRunner {
 			ICheckerInvocationContext context = new CheckerInvocationContext(resource);
 			if (children == null) {
 				try {
+					Map<ISharedPassRunner, List<ISharedPassChecker>> sharedPasses = new LinkedHashMap<>();
+					Map<IChecker, String> resultKeys = new HashMap<>();
+					// The results can be reused only if they are kept in markers.
+					boolean reuseResults = model == null
+							&& CodanRuntime.getInstance().getProblemReporter() instanceof CodanMarkerProblemReporter;
 					for (IChecker checker : chegistry) {
 						if (subMonitor.isCanceled())
 							return;
 						if (chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode)) {
+							String resultKey = null;
+							if (checker instanceof ICacheableChecker) {
+								if (model != null) {
+									// The markers are going to reflect unsaved contents.
+									CheckerResultCache.invalidate(resource, checker);
+								} else if (reuseResults) {
+									resultKey = CheckerResultCache.getKey((ICacheableChecker) checker, resource,
+											context);
+									if (resultKey != null) {
+										if (CheckerResultCache.isUpToDate(resource, checker, resultKey)) {
+											subMonitor.worked(1);
+											continue;
+										}
+										resultKeys.put(checker, resultKey);
+									}
+								}
+							}
+							ISharedPassRunner runner = checker instanceof ISharedPassChecker
+									? ((ISharedPassChecker) checker).getSharedPassRunner()
+									: null;
+							if (runner != null) {
+								sharedPasses.computeIfAbsent(runner, r -> new ArrayList<>())
+										.add((ISharedPassChecker) checker);
+								continue;
+							}
 							synchronized (checker) {
+								boolean completed = false;
 								try {
 									checker.before(resource);
 									CheckersTimeStats.getInstance().checkerStart(checker.getClass().getName());
@@ -97,6 +162,7 @@ public class CodanRunner {
 									} else {
 										checker.processResource(resource, context);
 									}
+									completed = true;
 								} catch (OperationCanceledException e) {
 									return;
 								} catch (Throwable e) {
@@ -105,10 +171,20 @@ public class CodanRunner {
 									CheckersTimeStats.getInstance().checkerStop(checker.getClass().getName());
 									checker.after(resource);
 								}
+								if (completed && resultKey != null)
+									storeResultKey(resource, checker, resultKey);
 							}
 						}
 						subMonitor.worked(1);
 					}
+					for (Map.Entry<ISharedPassRunner, List<ISharedPassChecker>> entry : sharedPasses.entrySet()) {
+						if (subMonitor.isCanceled())
+							return;
+						List<ISharedPassChecker> group = entry.getValue();
+						if (!runSharedPass(entry.getKey(), group, resource, model, context, resultKeys))
+							return;
+						subMonitor.worked(group.size());
+					}
 				} finally {
 					context.dispose();
 					CheckersTimeStats.getInstance().checkerStop(CheckersTimeStats.ALL);
@@ -128,4 +204,134 @@ public class CodanRunner {
 			monitor.done();
 		}
 	}
+
+	/**
+	 * Analyzes the files of a container on multiple threads. Each file is analyzed by a single
+	 * thread. The checkers are shared between the threads, checkers run in a shared pass are
+	 * not locked, the other checkers remain synchronized. The markers are committed in batches.
+	 */
+	private static void processInParallel(IContainer container, CheckerLaunchMode checkerLaunchMode,
+			int threadCount, IProgressMonitor monitor) {
+		final List<IFile> files = new ArrayList<>();
+		final Set<IProject> projects = new HashSet<>();
+		try {
+			container.accept(proxy -> {
+				if (proxy.getType() == IResource.FILE) {
+					IResource file = proxy.requestResource();
+					files.add((IFile) file);
+					projects.add(file.getProject());
+				}
+				return true;
+			}, IResource.NONE);
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+		}
+		SubMonitor progress = SubMonitor.convert(monitor, files.size());
+		progress.subTask(NLS.bind(Messages.CodanRunner_Code_analysis_on, container.getFullPath().toString()));
+		// Load the problem profiles on this thread, the analysis threads only read them.
+		for (IProject project : projects) {
+			CheckersRegistry.getInstance().getResourceProfile(project);
+		}
+
+		final Queue<IFile> queue = new ConcurrentLinkedQueue<>(files);
+		final AtomicInteger processed = new AtomicInteger();
+		final AtomicBoolean stop = new AtomicBoolean();
+		final IProgressMonitor threadMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return stop.get();
+			}
+		};
+		Thread[] threads = new Thread[Math.min(threadCount, files.size())];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> runAnalysisThread(queue, checkerLaunchMode, processed, threadMonitor),
+					"Code Analysis " + (i + 1)); //$NON-NLS-1$
+			threads[i].setDaemon(true);
+			threads[i].start();
+		}
+		try {
+			int reported = 0;
+			for (Thread thread : threads) {
+				while (thread.isAlive()) {
+					thread.join(100);
+					if (progress.isCanceled())
+						stop.set(true);
+					int done = processed.get();
+					progress.worked(done - reported);
+					reported = done;
+				}
+			}
+		} catch (InterruptedException e) {
+			stop.set(true);
+			Thread.currentThread().interrupt();
+		} finally {
+			if (monitor != null)
+				monitor.done();
+		}
+	}
+
+	private static void runAnalysisThread(Queue<IFile> files, CheckerLaunchMode checkerLaunchMode,
+			AtomicInteger processed, IProgressMonitor monitor) {
+		CodanMarkerProblemReporter.beginBatch();
+		try {
+			int uncommitted = 0;
+			IFile file;
+			while (!monitor.isCanceled() && (file = files.poll()) != null) {
+				processResource(file, null, checkerLaunchMode, monitor);
+				processed.incrementAndGet();
+				if (++uncommitted == MARKER_BATCH_SIZE) {
+					CodanMarkerProblemReporter.commitBatch();
+					uncommitted = 0;
+				}
+			}
+		} finally {
+			CodanMarkerProblemReporter.endBatch();
+		}
+	}
+
+	/**
+	 * Runs a group of checkers sharing a single pass over the resource. The checkers are not
+	 * locked, such that the same checkers can process different resources on different threads
+	 * at the same time. When the pass completes, the keys of the results of the checkers are
+	 * recorded.
+	 *
+	 * @return {@code false} if the operation was canceled.
+	 */
+	private static boolean runSharedPass(ISharedPassRunner runner, List<ISharedPassChecker> checkers,
+			IResource resource, Object model, ICheckerInvocationContext context, Map<IChecker, String> resultKeys) {
+		int started = 0;
+		boolean completed = false;
+		try {
+			for (ISharedPassChecker checker : checkers) {
+				checker.before(resource);
+				started++;
+			}
+			runner.run(checkers, resource, model, context);
+			completed = true;
+		} catch (OperationCanceledException e) {
+			return false;
+		} catch (Throwable e) {
+			CodanCorePlugin.log(e);
+		} finally {
+			for (int i = 0; i < started; i++) {
+				checkers.get(i).after(resource);
+			}
+		}
+		if (completed) {
+			for (ISharedPassChecker checker : checkers) {
+				String resultKey = resultKeys.get(checker);
+				if (resultKey != null)
+					storeResultKey(resource, checker, resultKey);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Records the key of the results of a checker once its markers are written, which may be
+	 * deferred when the markers are committed in batches.
+	 */
+	private static void storeResultKey(IResource resource, IChecker checker, String resultKey) {
+		CodanMarkerProblemReporter.runAfterCommit(() -> CheckerResultCache.store(resource, checker, resultKey));
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 Alena Laskavaia
+ * Copyright (c) 2009, 2026 Alena Laskavaia
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.cdt.codan.internal.core.model;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.cdt.codan.core.CodanCorePlugin;
 import org.eclipse.cdt.codan.core.CodanRuntime;
@@ -27,6 +28,7 @@ import org.eclipse.cdt.codan.core.model.IProblem;
 import org.eclipse.cdt.codan.core.model.IProblemLocation;
 import org.eclipse.cdt.codan.core.model.IProblemReporterPersistent;
 import org.eclipse.cdt.codan.core.model.IProblemReporterSessionPersistent;
+import org.eclipse.cdt.codan.internal.core.CheckerResultCache;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspace;
@@ -43,6 +45,10 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 	private IResource resource;
 	private IChecker checker;
 	private ArrayList<ICodanProblemMarker> toAdd = new ArrayList<>();
+	/** Session reporters of the current thread waiting for their markers to be committed. */
+	private static final ThreadLocal<List<CodanMarkerProblemReporter>> batch = new ThreadLocal<>();
+	/** Actions of the current thread waiting for the markers of the batch to be committed. */
+	private static final ThreadLocal<List<Runnable>> afterCommit = new ThreadLocal<>();
 
 	/**
 	 * Create instance, which can be use as factory for
@@ -94,6 +100,7 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 
 	@Override
 	public void deleteProblems(IResource file) {
+		CheckerResultCache.invalidate(file);
 		try {
 			file.deleteMarkers(GENERIC_CODE_ANALYSIS_MARKER_TYPE, true, IResource.DEPTH_ZERO);
 		} catch (CoreException ce) {
@@ -103,6 +110,7 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 
 	@Override
 	public void deleteAllProblems() {
+		CheckerResultCache.invalidateAll();
 		try {
 			ResourcesPlugin.getWorkspace().getRoot().deleteMarkers(GENERIC_CODE_ANALYSIS_MARKER_TYPE, true,
 					IResource.DEPTH_INFINITE);
@@ -113,6 +121,11 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 
 	@Override
 	public void deleteProblems(final IResource file, final IChecker checker) {
+		CheckerResultCache.invalidate(file, checker);
+		deleteMarkers(file, checker);
+	}
+
+	private void deleteMarkers(final IResource file, final IChecker checker) {
 		try {
 			ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
 				@Override
@@ -172,6 +185,11 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 	@Override
 	public void done() {
 		if (checker != null) {
+			List<CodanMarkerProblemReporter> pending = batch.get();
+			if (pending != null) {
+				pending.add(this);
+				return;
+			}
 			if (toAdd.isEmpty()) {
 				deleteProblems(false);
 			} else {
@@ -181,24 +199,95 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 		}
 	}
 
+	/**
+	 * Defers the update of the markers of session reporters finished on the calling thread until
+	 * {@link #commitBatch()} is called, such that the markers of many resources and checkers are
+	 * updated in a single workspace operation. Has to be followed by {@link #endBatch()}.
+	 */
+	public static void beginBatch() {
+		batch.set(new ArrayList<>());
+		afterCommit.set(new ArrayList<>());
+	}
+
+	/**
+	 * Runs the given action once the markers of the session reporters finished on the calling
+	 * thread are updated, e.g. to record that the markers are up to date. The action is run
+	 * immediately if no batch is started, and is dropped if the markers of the batch cannot be
+	 * updated.
+	 */
+	public static void runAfterCommit(Runnable action) {
+		List<Runnable> pending = afterCommit.get();
+		if (pending != null) {
+			pending.add(action);
+		} else {
+			action.run();
+		}
+	}
+
+	/**
+	 * Updates the markers of the session reporters finished on the calling thread since the batch
+	 * was started or last committed.
+	 */
+	public static void commitBatch() {
+		final List<CodanMarkerProblemReporter> pending = batch.get();
+		final List<Runnable> actions = afterCommit.get();
+		if (pending == null)
+			return;
+		final boolean[] committed = { true };
+		try {
+			if (!pending.isEmpty()) {
+				ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
+					@Override
+					public void run(IProgressMonitor monitor) throws CoreException {
+						for (CodanMarkerProblemReporter reporter : pending) {
+							try {
+								reporter.updateMarkers();
+							} catch (CoreException e) {
+								committed[0] = false;
+								CodanCorePlugin.log(e);
+							}
+						}
+					}
+				}, null, IWorkspace.AVOID_UPDATE, null);
+			}
+		} catch (CoreException e) {
+			committed[0] = false;
+			CodanCorePlugin.log(e);
+		} finally {
+			for (CodanMarkerProblemReporter reporter : pending) {
+				reporter.toAdd.clear();
+			}
+			pending.clear();
+		}
+		try {
+			if (committed[0]) {
+				for (Runnable action : actions) {
+					action.run();
+				}
+			}
+		} finally {
+			actions.clear();
+		}
+	}
+
+	/**
+	 * Commits the pending markers and stops batching on the calling thread.
+	 */
+	public static void endBatch() {
+		try {
+			commitBatch();
+		} finally {
+			batch.remove();
+			afterCommit.remove();
+		}
+	}
+
 	protected void reconcileMarkers() {
 		try {
 			ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
 				@Override
 				public void run(IProgressMonitor monitor) throws CoreException {
-					Collection<IMarker> markers = findResourceMarkers(resource, checker);
-					for (IMarker m : markers) {
-						ICodanProblemMarker cm = similarMarker(m);
-						if (cm == null) {
-							m.delete();
-						} else {
-							updateMarker(m, cm);
-							toAdd.remove(cm);
-						}
-					}
-					for (ICodanProblemMarker cm : toAdd) {
-						cm.createMarker();
-					}
+					updateMarkers();
 				}
 			}, null, IWorkspace.AVOID_UPDATE, null);
 		} catch (CoreException e) {
@@ -206,6 +295,22 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 		}
 	}
 
+	private void updateMarkers() throws CoreException {
+		Collection<IMarker> markers = findResourceMarkers(resource, checker);
+		for (IMarker m : markers) {
+			ICodanProblemMarker cm = similarMarker(m);
+			if (cm == null) {
+				m.delete();
+			} else {
+				updateMarker(m, cm);
+				toAdd.remove(cm);
+			}
+		}
+		for (ICodanProblemMarker cm : toAdd) {
+			cm.createMarker();
+		}
+	}
+
 	/**
 	 * @param m
 	 * @param cm
@@ -274,6 +379,7 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 	public void deleteProblems(boolean all) {
 		if (all)
 			throw new UnsupportedOperationException();
-		deleteProblems(resource, checker);
+		// Removes the markers of a session without problems, the key of the results remains valid.
+		deleteMarkers(resource, checker);
 	}
 }
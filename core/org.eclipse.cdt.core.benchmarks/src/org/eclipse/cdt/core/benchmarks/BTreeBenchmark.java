@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.internal.core.pdom.db.BTree;
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.core.runtime.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures insertion into and lookup in a {@link BTree} of records holding random integers.
+ * The chunk cache is large enough to hold the entire database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BTreeBenchmark {
+	private static final int LOOKUPS = 10000;
+
+	@Param({ "8" })
+	public int degree;
+
+	@Param({ "100000" })
+	public int size;
+
+	private File fFile;
+	private Database fDatabase;
+	private IBTreeComparator fComparator;
+	private long[] fRecords;
+	private int[] fKeys;
+	private BTree fTree;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, CoreException {
+		fFile = File.createTempFile("btreebenchmark", "db");
+		fDatabase = new Database(fFile, new ChunkCache(256 * 1024 * 1024), 0, false);
+		fDatabase.setExclusiveLock();
+		fComparator = (record1, record2) -> Integer.compare(fDatabase.getInt(record1), fDatabase.getInt(record2));
+	}
+
+	@Setup(Level.Iteration)
+	public void createRecords() throws CoreException {
+		fDatabase.clear(0);
+		Random random = new Random(size);
+		fRecords = new long[size];
+		for (int i = 0; i < size; i++) {
+			fRecords[i] = fDatabase.malloc(Database.INT_SIZE);
+			fDatabase.putInt(fRecords[i], random.nextInt());
+		}
+		fTree = createTree();
+		for (long record : fRecords) {
+			fTree.insert(record);
+		}
+		fKeys = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			fKeys[i] = fDatabase.getInt(fRecords[random.nextInt(size)]);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws CoreException {
+		fDatabase.close();
+		fFile.delete();
+	}
+
+	private BTree createTree() throws CoreException {
+		return new BTree(fDatabase, fDatabase.malloc(Database.PTR_SIZE), degree, fComparator);
+	}
+
+	/**
+	 * Inserts all records into an empty tree, one at a time.
+	 */
+	@Benchmark
+	public BTree insert() throws CoreException {
+		BTree tree = createTree();
+		for (long record : fRecords) {
+			tree.insert(record);
+		}
+		return tree;
+	}
+
+	/**
+	 * Loads all records into an empty tree at once. Includes copying the records, because
+	 * {@link BTree#bulkLoad(long[])} sorts them in place.
+	 */
+	@Benchmark
+	public BTree bulkLoad() throws CoreException {
+		BTree tree = createTree();
+		tree.bulkLoad(fRecords.clone());
+		return tree;
+	}
+
+	/**
+	 * Looks up random keys that are present in the tree.
+	 */
+	@Benchmark
+	public long lookup() throws CoreException {
+		long found = 0;
+		for (final int key : fKeys) {
+			final long[] result = { 0 };
+			fTree.accept(new IBTreeVisitor() {
+				@Override
+				public int compare(long record) throws CoreException {
+					return Integer.compare(fDatabase.getInt(record), key);
+				}
+
+				@Override
+				public boolean visit(long record) {
+					result[0] = record;
+					return false;
+				}
+			});
+			found += result[0];
+		}
+		return found;
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible build output for the benchmarks. The output has the shape of a make
+ * build with GCC: directory changes, compiler command lines, and diagnostics with their notes,
+ * source excerpts and caret lines, such that logs of any size can be produced.
+ */
+public final class BuildLogs {
+	private static final long SEED = 20260401L;
+
+	private BuildLogs() {
+	}
+
+	/**
+	 * The output of a make build compiling one file per command line.
+	 *
+	 * @param lines the approximate number of lines to generate
+	 * @param diagnosticsPercent the percentage of compiled files with a diagnostic
+	 */
+	public static List<String> makeGcc(int lines, int diagnosticsPercent) {
+		Random random = new Random(SEED);
+		List<String> log = new ArrayList<>(lines + 10);
+		log.add("make all ");
+		log.add("make[1]: Entering directory '/home/user/project/build'");
+		int file = 0;
+		while (log.size() < lines) {
+			String name = "src/module" + random.nextInt(20) + "/file" + file++ + ".cpp";
+			log.add("g++ -std=c++17 -O2 -g -Wall -Wextra -I../include -I../third_party/include -DNDEBUG -c ../" + name
+					+ " -o " + name.replace(".cpp", ".o"));
+			if (random.nextInt(100) >= diagnosticsPercent) {
+				continue;
+			}
+			int line = 1 + random.nextInt(500);
+			int column = 1 + random.nextInt(40);
+			log.add("../" + name + ": In function 'int compute" + file + "(const Point&, int)':");
+			switch (random.nextInt(4)) {
+			case 0:
+				log.add("../" + name + ":" + line + ":" + column + ": warning: unused variable 'tmp" + file
+						+ "' [-Wunused-variable]");
+				log.add("  " + line + " |     int tmp" + file + " = count * 2;");
+				log.add("      |         ^~~~");
+				break;
+			case 1:
+				log.add("../" + name + ":" + line + ":" + column
+						+ ": warning: comparison of integer expressions of different signedness: 'int' and 'std::size_t' [-Wsign-compare]");
+				log.add("  " + line + " |     for (int i = 0; i < values.size(); ++i) {");
+				log.add("      |                     ~~^~~~~~~~~~~~~~~");
+				break;
+			case 2:
+				log.add("../" + name + ":" + line + ":" + column + ": error: 'value" + file
+						+ "' was not declared in this scope");
+				log.add("  " + line + " |     return value" + file + " + 1;");
+				log.add("      |            ^~~~~~~");
+				log.add("../" + name + ":" + (line - 1) + ":" + column + ": note: suggested alternative: 'values'");
+				break;
+			default:
+				log.add("In file included from ../include/util.h:" + line + ",");
+				log.add("                 from ../" + name + ":3:");
+				log.add("../include/util.h:" + line + ":" + column
+						+ ": warning: 'template<class> class std::auto_ptr' is deprecated [-Wdeprecated-declarations]");
+				log.add("  " + line + " | std::auto_ptr<Point> make_point();");
+				log.add("      |      ^~~~~~~~");
+				break;
+			}
+		}
+		log.add("g++ -o project src/module0/file0.o -lpthread");
+		log.add("make[1]: Leaving directory '/home/user/project/build'");
+		return log;
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.core.runtime.CoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures reading from random chunks of a {@link Database} as done by readers of the index.
+ * With a small cache most accesses miss the cache, with a large cache all chunks are present
+ * after warm-up. The contended variant reads from 16 threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatabaseBenchmark {
+	/** Number of chunks in the database, 32MB */
+	private static final int CHUNKS = 8 * 1024;
+
+	@Param({ "4", "64" })
+	public int cacheSizeMB;
+
+	@Param({ "false", "true" })
+	public boolean mappedIO;
+
+	private File fFile;
+	private Database fDatabase;
+	private long[] fRecords;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, CoreException {
+		fFile = File.createTempFile("databasebenchmark", "db");
+		Database db = new Database(fFile, new ChunkCache(), 0, false);
+		db.setExclusiveLock();
+		Random random = new Random(CHUNKS);
+		fRecords = new long[CHUNKS];
+		for (int i = 0; i < CHUNKS; i++) {
+			// Blocks of the maximum size are never shared by two records.
+			fRecords[i] = db.malloc(Database.MAX_MALLOC_SIZE);
+			db.putInt(fRecords[i], random.nextInt());
+		}
+		db.giveUpExclusiveLock(true);
+		db.close();
+
+		fDatabase = new Database(fFile, new ChunkCache((long) cacheSizeMB * 1024 * 1024), 0, true, mappedIO);
+		fDatabase.setLocked(true);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws CoreException {
+		fDatabase.close();
+		fFile.delete();
+	}
+
+	@State(Scope.Thread)
+	public static class Reader {
+		SplittableRandom fRandom = new SplittableRandom();
+	}
+
+	@Benchmark
+	public int read(Reader reader) throws CoreException {
+		return fDatabase.getInt(fRecords[reader.fRandom.nextInt(CHUNKS)]);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public int readContended(Reader reader) throws CoreException {
+		return fDatabase.getInt(fRecords[reader.fRandom.nextInt(CHUNKS)]);
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.internal.core.ItaniumDemangler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the {@link ItaniumDemangler} on the symbol names of a C++ binary. With few distinct
+ * names the results are served from its cache, with more names than the cache holds every name
+ * is parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DemanglerBenchmark {
+	private static final long SEED = 20260401L;
+	private static final String[] NAMESPACES = { "app", "core", "detail", "io", "util" };
+	private static final String[] CLASSES = { "Buffer", "Connection", "Parser", "Registry", "Session", "Widget" };
+	private static final String[] METHODS = { "get", "set", "update", "process", "visit", "toString" };
+	private static final String[] PARAMETERS = { "i", "j", "b", "d", "PKc", "Pv", "RKi", "m",
+			"RKNSt7__cxx1112basic_stringIcSt11char_traitsIcESaIcEEE", "St6vectorIiSaIiEE",
+			"RKSt10shared_ptrIvE", "St8functionIFvvEE" };
+
+	@Param({ "10000", "200000" })
+	public int symbols;
+
+	private List<String> fNames;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(SEED);
+		fNames = new ArrayList<>(symbols);
+		for (int i = 0; i < symbols; i++) {
+			StringBuilder name = new StringBuilder("_ZN");
+			if (random.nextBoolean()) {
+				name.append('K');
+			}
+			appendSourceName(name, NAMESPACES[random.nextInt(NAMESPACES.length)]);
+			appendSourceName(name, CLASSES[random.nextInt(CLASSES.length)] + i);
+			appendSourceName(name, METHODS[random.nextInt(METHODS.length)]);
+			boolean template = random.nextInt(4) == 0;
+			if (template) {
+				name.append("IiE");
+			}
+			name.append('E');
+			if (template) {
+				// The return type of a function template.
+				name.append(PARAMETERS[random.nextInt(PARAMETERS.length)]);
+			}
+			int parameters = random.nextInt(4);
+			if (parameters == 0) {
+				name.append('v');
+			}
+			for (int j = 0; j < parameters; j++) {
+				name.append(PARAMETERS[random.nextInt(PARAMETERS.length)]);
+			}
+			fNames.add(name.toString());
+		}
+	}
+
+	private static void appendSourceName(StringBuilder name, String identifier) {
+		name.append(identifier.length()).append(identifier);
+	}
+
+	@Benchmark
+	public int demangle() {
+		int length = 0;
+		for (String name : fNames) {
+			length += ItaniumDemangler.demangle(name).length();
+		}
+		return length;
+	}
+}
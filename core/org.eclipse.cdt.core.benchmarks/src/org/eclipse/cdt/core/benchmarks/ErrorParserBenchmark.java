@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.ErrorParserManager;
+import org.eclipse.cdt.core.IMarkerGenerator;
+import org.eclipse.cdt.core.ProblemMarkerInfo;
+import org.eclipse.core.resources.IResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the {@link ErrorParserManager} with the default error parsers on the output of a
+ * make build with GCC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorParserBenchmark {
+	private static final IMarkerGenerator NO_MARKERS = new IMarkerGenerator() {
+		@Override
+		public void addMarker(IResource file, int lineNumber, String errorDesc, int severity, String errorVar) {
+		}
+
+		@Override
+		public void addMarker(ProblemMarkerInfo problemMarkerInfo) {
+		}
+	};
+
+	@Param({ "10000" })
+	public int lines;
+
+	@Param({ "2", "20" })
+	public int diagnosticsPercent;
+
+	private List<String> fLog;
+
+	@Setup
+	public void setUp() {
+		fLog = BuildLogs.makeGcc(lines, diagnosticsPercent);
+	}
+
+	@Benchmark
+	public int processLines() {
+		ErrorParserManager epManager = new ErrorParserManager(null, NO_MARKERS, null);
+		for (String line : fLog) {
+			epManager.processLine(line);
+		}
+		return epManager.getErrorCount() + epManager.getWarningCount();
+	}
+}
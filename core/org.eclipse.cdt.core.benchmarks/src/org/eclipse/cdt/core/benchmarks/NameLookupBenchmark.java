@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTIdExpression;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.IScope;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTNamedTypeSpecifier;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVisitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures name lookup by {@link CPPSemantics} in template heavy code. The AST is parsed once,
+ * the benchmarks resolve the names referring to types and variables again and again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NameLookupBenchmark {
+	@Param({ "500" })
+	public int size;
+
+	private IASTTranslationUnit fAST;
+	private IASTName[] fNames;
+	private IScope[] fScopes;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fAST = ParserBenchmark.parse(SyntheticSources.templateHeavyCode(size).toCharArray());
+		final List<IASTName> names = new ArrayList<>();
+		fAST.accept(new ASTVisitor() {
+			{
+				shouldVisitNames = true;
+			}
+
+			@Override
+			public int visit(IASTName name) {
+				IASTNode parent = name.getParent();
+				if (parent instanceof IASTIdExpression || parent instanceof ICPPASTNamedTypeSpecifier) {
+					names.add(name);
+				}
+				return PROCESS_CONTINUE;
+			}
+		});
+		fNames = names.toArray(new IASTName[names.size()]);
+		fScopes = new IScope[fNames.length];
+		for (int i = 0; i < fNames.length; i++) {
+			fScopes[i] = CPPVisitor.getContainingScope(fNames[i]);
+		}
+	}
+
+	/**
+	 * Resolves the names including overload resolution and template instantiation.
+	 */
+	@Benchmark
+	public void resolveNames(Blackhole blackhole) {
+		for (IASTName name : fNames) {
+			blackhole.consume(CPPVisitor.createBinding(name));
+		}
+	}
+
+	/**
+	 * Unqualified lookup of the names in their containing scopes.
+	 */
+	@Benchmark
+	public void findBindings(Blackhole blackhole) {
+		for (int i = 0; i < fNames.length; i++) {
+			IBinding[] bindings = CPPSemantics.findBindings(fScopes[i], fNames[i].getLookupKey(), false);
+			blackhole.consume(bindings);
+		}
+	}
+}
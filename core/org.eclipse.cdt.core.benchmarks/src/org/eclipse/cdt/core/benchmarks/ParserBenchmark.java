@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.parser.cpp.GPPParserExtensionConfiguration;
+import org.eclipse.cdt.core.dom.parser.cpp.GPPScannerExtensionConfiguration;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+import org.eclipse.cdt.core.parser.ParserMode;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.GNUCPPSourceParser;
+import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the construction of ASTs by the {@link GNUCPPSourceParser}, without resolving
+ * any bindings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserBenchmark {
+	@Param({ "plain", "templates" })
+	public String kind;
+
+	@Param({ "1000" })
+	public int size;
+
+	private char[] fInput;
+
+	@Setup
+	public void setUp() {
+		String code = kind.equals("plain") ? SyntheticSources.plainCode(size) : SyntheticSources.templateHeavyCode(size);
+		fInput = code.toCharArray();
+	}
+
+	@Benchmark
+	public IASTTranslationUnit parse() {
+		return parse(fInput);
+	}
+
+	/**
+	 * Parses the given C++ code in complete parse mode.
+	 */
+	static IASTTranslationUnit parse(char[] code) {
+		IScannerInfo scannerInfo = new ScannerInfo();
+		NullLogService log = new NullLogService();
+		CPreprocessor preprocessor = new CPreprocessor(FileContent.create("test.cpp", code), scannerInfo,
+				ParserLanguage.CPP, log, GPPScannerExtensionConfiguration.getInstance(scannerInfo),
+				IncludeFileContentProvider.getEmptyFilesProvider());
+		GNUCPPSourceParser parser = new GNUCPPSourceParser(preprocessor, ParserMode.COMPLETE_PARSE, log,
+				GPPParserExtensionConfiguration.getInstance());
+		return parser.parse();
+	}
+}
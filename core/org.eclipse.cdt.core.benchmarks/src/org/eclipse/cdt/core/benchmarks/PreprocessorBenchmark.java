@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.parser.cpp.GPPScannerExtensionConfiguration;
+import org.eclipse.cdt.core.parser.EndOfFileException;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.IncludeFileContentProvider;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures macro expansion and conditional compilation in the {@link CPreprocessor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PreprocessorBenchmark {
+	@Param({ "1000" })
+	public int size;
+
+	private char[] fInput;
+	private IScannerInfo fScannerInfo;
+
+	@Setup
+	public void setUp() {
+		fInput = SyntheticSources.macroHeavyCode(size).toCharArray();
+		fScannerInfo = new ScannerInfo();
+	}
+
+	@Benchmark
+	public int preprocess() {
+		CPreprocessor preprocessor = new CPreprocessor(FileContent.create("macros.cpp", fInput), fScannerInfo,
+				ParserLanguage.CPP, new NullLogService(), GPPScannerExtensionConfiguration.getInstance(fScannerInfo),
+				IncludeFileContentProvider.getEmptyFilesProvider());
+		int tokens = 0;
+		try {
+			while (true) {
+				preprocessor.nextToken();
+				tokens++;
+			}
+		} catch (EndOfFileException e) {
+			// End of input.
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected by the system property {@value #INCLUDE} within the test
+ * runtime, see the <code>benchmarks</code> profile of the CDT build. The benchmarks run in the
+ * VM of the test runtime, JMH cannot fork a VM with the class path of an OSGi framework.
+ * The results are written to the file given by {@value #RESULT} in JSON format.
+ */
+public class RunBenchmarks {
+	private static final String INCLUDE = "org.eclipse.cdt.core.benchmarks.include";
+	private static final String RESULT = "org.eclipse.cdt.core.benchmarks.result";
+	private static final String WARMUP_ITERATIONS = "org.eclipse.cdt.core.benchmarks.warmupIterations";
+	private static final String ITERATIONS = "org.eclipse.cdt.core.benchmarks.iterations";
+
+	@Test
+	public void runBenchmarks() throws RunnerException {
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.include(System.getProperty(INCLUDE, ".*"));
+		builder.forks(0);
+		builder.warmupIterations(Integer.getInteger(WARMUP_ITERATIONS, 5));
+		builder.measurementIterations(Integer.getInteger(ITERATIONS, 5));
+		builder.shouldFailOnError(true);
+		String result = System.getProperty(RESULT);
+		if (result != null) {
+			builder.result(result);
+			builder.resultFormat(ResultFormatType.JSON);
+		}
+		Options options = builder.build();
+		new Runner(options).run();
+	}
+}
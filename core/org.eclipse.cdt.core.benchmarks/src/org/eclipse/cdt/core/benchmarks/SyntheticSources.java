@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates reproducible C++ sources for the benchmarks. The same size always results in the
+ * same source, such that results of different runs and releases can be compared.
+ */
+public final class SyntheticSources {
+	private static final long SEED = 20260401L;
+
+	private SyntheticSources() {
+	}
+
+	/**
+	 * Plain C++ code with functions, statements, literals and comments.
+	 *
+	 * @param functions the number of functions to generate
+	 */
+	public static String plainCode(int functions) {
+		Random random = new Random(SEED);
+		StringBuilder buf = new StringBuilder();
+		buf.append("struct Point { int x; int y; double weight; };\n\n");
+		for (int i = 0; i < functions; i++) {
+			buf.append("/* Computes the value number ").append(i).append(" */\n");
+			buf.append("static int function").append(i).append("(const Point& p, int count) {\n");
+			buf.append("\tint sum = ").append(random.nextInt(1000)).append(";\n");
+			buf.append("\tfor (int i = 0; i < count; ++i) {\n");
+			buf.append("\t\tsum += p.x * ").append(random.nextInt(100)).append(" - p.y / (i + 1); // accumulate\n");
+			buf.append("\t\tif (sum > 0x").append(Integer.toHexString(random.nextInt())).append(") {\n");
+			buf.append("\t\t\tsum ^= 'a' + i;\n");
+			buf.append("\t\t}\n");
+			buf.append("\t}\n");
+			buf.append("\tconst char* name = \"function").append(i).append("\";\n");
+			buf.append("\treturn sum + static_cast<int>(p.weight * ").append(random.nextDouble()).append(") + name[0];\n");
+			buf.append("}\n\n");
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Code that relies on nested expansions of object-like and function-like macros, including
+	 * stringification and token pasting.
+	 *
+	 * @param uses the number of macro uses to generate
+	 */
+	public static String macroHeavyCode(int uses) {
+		Random random = new Random(SEED);
+		StringBuilder buf = new StringBuilder();
+		buf.append("#define CONCAT_(a, b) a##b\n");
+		buf.append("#define CONCAT(a, b) CONCAT_(a, b)\n");
+		buf.append("#define STR_(x) #x\n");
+		buf.append("#define STR(x) STR_(x)\n");
+		buf.append("#define MAX(a, b) ((a) > (b) ? (a) : (b))\n");
+		buf.append("#define MIN(a, b) ((a) < (b) ? (a) : (b))\n");
+		buf.append("#define CLAMP(x, lo, hi) MIN(MAX(x, lo), hi)\n");
+		buf.append("#define SQUARE(x) ((x) * (x))\n");
+		buf.append("#define LOG(fmt, ...) log_message(__FILE__, __LINE__, fmt, __VA_ARGS__)\n");
+		buf.append("#define DECLARE(type, name) type CONCAT(name, _value) = CLAMP(SQUARE(name), 0, LIMIT)\n");
+		buf.append("#define LIMIT 1024\n");
+		buf.append("void log_message(const char*, int, const char*, ...);\n\n");
+		for (int i = 0; i < uses; i++) {
+			String name = "v" + i;
+			buf.append("int ").append(name).append(" = ").append(random.nextInt(2000)).append(";\n");
+			buf.append("DECLARE(int, ").append(name).append(");\n");
+			buf.append("const char* s").append(i).append(" = STR(CONCAT(").append(name).append(", _value));\n");
+			buf.append("#if defined(LIMIT) && LIMIT > ").append(random.nextInt(2048)).append('\n');
+			buf.append("void f").append(i).append("() { LOG(\"%d %d\", CONCAT(").append(name)
+					.append(", _value), MAX(").append(name).append(", LIMIT)); }\n");
+			buf.append("#else\n");
+			buf.append("void f").append(i).append("() {}\n");
+			buf.append("#endif\n");
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Template heavy code with class templates, partial specializations, variadic templates,
+	 * alias templates and nested instantiations.
+	 *
+	 * @param classes the number of class templates to generate
+	 */
+	public static String templateHeavyCode(int classes) {
+		Random random = new Random(SEED);
+		StringBuilder buf = new StringBuilder();
+		buf.append("template<typename T> struct remove_ref { typedef T type; };\n");
+		buf.append("template<typename T> struct remove_ref<T&> { typedef T type; };\n");
+		buf.append("template<bool B, typename T = void> struct enable_if {};\n");
+		buf.append("template<typename T> struct enable_if<true, T> { typedef T type; };\n");
+		buf.append("template<typename T, typename U> struct is_same { static const bool value = false; };\n");
+		buf.append("template<typename T> struct is_same<T, T> { static const bool value = true; };\n");
+		buf.append("template<typename... Ts> struct type_list { static const int size = sizeof...(Ts); };\n");
+		buf.append("template<typename T, int N> struct array { T data[N]; T& operator[](int i) { return data[i]; } };\n\n");
+		for (int i = 0; i < classes; i++) {
+			String namespace = "ns" + (i % 8);
+			String name = "Container" + i;
+			int size = 1 + random.nextInt(16);
+			buf.append("namespace ").append(namespace).append(" {\n");
+			buf.append("template<typename T, typename Alloc = array<T, ").append(size).append(">>\n");
+			buf.append("class ").append(name).append(" {\n");
+			buf.append("public:\n");
+			buf.append("\ttypedef typename remove_ref<T>::type value_type;\n");
+			buf.append("\ttemplate<typename U>\n");
+			buf.append("\ttypename enable_if<is_same<U, value_type>::value, U>::type get(int i) { return storage[i]; }\n");
+			buf.append("\ttemplate<typename... Args>\n");
+			buf.append("\tint count(Args... args) const { return type_list<Args...>::size; }\n");
+			buf.append("\tvalue_type first() { return storage[0]; }\n");
+			buf.append("private:\n");
+			buf.append("\tAlloc storage;\n");
+			buf.append("};\n");
+			buf.append("template<typename T>\n");
+			buf.append("class ").append(name).append("<T*> {\n");
+			buf.append("public:\n");
+			buf.append("\tT* first() { return 0; }\n");
+			buf.append("};\n");
+			buf.append("template<typename T> using Alias").append(i).append(" = ").append(name).append("<T>;\n");
+			buf.append("}\n");
+			buf.append("int use").append(i).append("() {\n");
+			buf.append('\t').append(namespace).append("::").append(name).append("<int> c;\n");
+			buf.append('\t').append(namespace).append("::Alias").append(i).append('<').append(namespace).append("::")
+					.append(name).append('<').append(namespace).append("::").append(name).append("<long>*>> nested;\n");
+			buf.append("\treturn c.get<int>(").append(random.nextInt(size)).append(") + c.count(1, 2.0, 'c') + c.first();\n");
+			buf.append("}\n\n");
+		}
+		return buf.toString();
+	}
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.internal.errorparsers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.cdt.core.ErrorParserManager;
+import org.eclipse.cdt.core.IErrorParser;
+import org.eclipse.cdt.core.IErrorParser2;
+import org.eclipse.cdt.core.IErrorParserNamed;
+import org.eclipse.cdt.core.IMarkerGenerator;
+import org.eclipse.cdt.core.ProblemMarkerInfo;
+import org.eclipse.cdt.core.errorparsers.ErrorParserNamedWrapper;
+import org.eclipse.cdt.core.errorparsers.RegexErrorParser;
+import org.eclipse.cdt.core.errorparsers.RegexErrorPattern;
+import org.eclipse.cdt.core.testplugin.CTestPlugin;
+import org.eclipse.cdt.core.testplugin.ResourceHelper;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase5;
+import org.eclipse.cdt.internal.errorparsers.ErrorParserExtensionManager;
+import org.eclipse.cdt.internal.errorparsers.RegexErrorPatternFilter;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the extraction of the literals required by regular expressions, which the
+ * {@link ErrorParserManager} uses to skip error patterns that cannot match a line.
+ */
+public class RegexErrorPatternFilterTest extends BaseTestCase5 {
+	private static final String[] SAMPLE_LINES = {
+			"main.c:10:5: error: 'x' undeclared (first use in this function)",
+			"main.c:10:5: note: each undeclared identifier is reported only once for each function it appears in",
+			"main.c:12: warning: unused variable 'y'",
+			"main.cpp:3:10: fatal error: foo.h: No such file or directory",
+			"In file included from main.c:1:", "                 from main.h:2,",
+			"main.c: In function 'main':", "main.c:20:1: warning: control reaches end of non-void function",
+			"main.cpp:7:12:   required from here", "main.c:5: parse error before 'int'",
+			"main.c:4: conflicting types for 'foo'", "main.c:3: warning: 'bar' defined but not used",
+			"gcc: error: unrecognized command-line option '-foo'", "cc1: all warnings being treated as errors",
+			"/usr/bin/ld: main.o: in function `main':", "main.c:(.text+0x15): undefined reference to `foo'",
+			"/usr/bin/ld: cannot find -lfoo", "collect2: error: ld returned 1 exit status",
+			"main.o(.text+0x8): warning: the use of `tmpnam' is dangerous, better use `mkstemp'",
+			"make: *** [Makefile:10: main.o] Error 1", "make[1]: *** [all] Error 2",
+			"make: *** No rule to make target 'foo'.  Stop.", "Makefile:5: *** missing separator.  Stop.",
+			"Makefile:3: warning: overriding recipe for target 'all'", "make: Target `all' not remade because of errors.",
+			"sh: foo: command not found", "make: Circular all <- all dependency dropped.",
+			"make[2]: [clean] Error 1 (ignored)", "Error: something failed", "Warning: something odd",
+			"gcc -c -O2 -Wall -o main.o main.c", "   10 |   int x = y;", "      |           ^", "" };
+
+	private final List<ProblemMarkerInfo> errorList = new ArrayList<>();
+
+	private final IMarkerGenerator markerGenerator = new IMarkerGenerator() {
+		// deprecated
+		@Override
+		public void addMarker(IResource file, int lineNumber, String errorDesc, int severity, String errorVar) {
+		}
+
+		@Override
+		public void addMarker(ProblemMarkerInfo problemMarkerInfo) {
+			errorList.add(problemMarkerInfo);
+		}
+	};
+
+	/**
+	 * Error parser which is given the untrimmed lines.
+	 */
+	public static class UntrimmedErrorParser extends RegexErrorParser implements IErrorParser2 {
+		public UntrimmedErrorParser(String id, String name) {
+			super(id, name);
+		}
+
+		@Override
+		public int getProcessLineBehaviour() {
+			return KEEP_UNTRIMMED;
+		}
+
+		@Override
+		public Object clone() throws CloneNotSupportedException {
+			UntrimmedErrorParser that = new UntrimmedErrorParser(getId(), getName());
+			for (RegexErrorPattern pattern : getPatterns()) {
+				that.addPattern((RegexErrorPattern) pattern.clone());
+			}
+			return that;
+		}
+	}
+
+	private static void assertLiterals(String regex, String... expected) {
+		assertEquals(List.of(expected), RegexErrorPatternFilter.getRequiredLiterals(regex), regex);
+	}
+
+	@Test
+	public void testLiterals() throws Exception {
+		assertLiterals("(.*): warning: (.*)", ": warning: ");
+		assertLiterals("(.*):(\\d+): (.*)", ":", ": ");
+		assertLiterals("[Ee]rror [-]?\\d*", "rror ");
+		assertLiterals("");
+	}
+
+	@Test
+	public void testAlternations() throws Exception {
+		assertLiterals("error|warning");
+		assertLiterals("(.*): (error|warning): (.*)", ": ", ": ");
+		assertLiterals("(.*): (?:fatal )?(error|fatal error): (.*)", ": ", ": ");
+		assertLiterals("make(\\[\\d+\\]|): \\*\\*\\* (.*)", "make", ": *** ");
+	}
+
+	@Test
+	public void testQuantifiers() throws Exception {
+		assertLiterals("ab?c", "a", "c");
+		assertLiterals("ab*c", "a", "c");
+		assertLiterals("ab+c", "ab", "c");
+		assertLiterals("ab{0,3}c", "a", "c");
+		assertLiterals("ab{2}c", "ab", "c");
+		assertLiterals("ab{1,}?c", "ab", "c");
+		assertLiterals("a(bc)?d", "a", "d");
+		assertLiterals("a(bc)*d", "a", "d");
+		assertLiterals("a(bc)+d", "a", "bc", "d");
+		assertLiterals("(In file included )?from (.*)", "from ");
+	}
+
+	@Test
+	public void testEscapes() throws Exception {
+		assertLiterals("\\.\\(foo\\)\\*", ".(foo)*");
+		assertLiterals("\\d+: \\w+\\s", ": ");
+		assertLiterals("a\\tb", "a\tb");
+		assertLiterals("\\p{Alpha}: \\x41\\u0041", ": ");
+		assertLiterals("(a)b\\1c", "a", "b", "c");
+		// quotation is not supported
+		assertLiterals("\\Qa.b\\E");
+		// non-ASCII literals are omitted
+		assertLiterals("(.*): \u00e9rreur: (.*)");
+	}
+
+	@Test
+	public void testLookarounds() throws Exception {
+		assertLiterals("(?=abc)x", "x");
+		assertLiterals("(?!abc)x", "x");
+		assertLiterals("(?<=ab)cd", "cd");
+		assertLiterals("(?<!ab)cd", "cd");
+		assertLiterals("(?<name>ab)c", "ab", "c");
+		assertLiterals("(?>ab)c", "ab", "c");
+	}
+
+	@Test
+	public void testInlineFlags() throws Exception {
+		// the flags may change how the literals match, e.g. (?i)
+		assertLiterals("(?i)error: (.*)");
+		assertLiterals("(?i:error): (.*)");
+		assertLiterals("(.*)(?x) error");
+	}
+
+	/**
+	 * Checks that the patterns of the contributed error parsers still match the lines they are
+	 * meant for, that is, that every line matching a pattern contains the literals it requires.
+	 */
+	@Test
+	public void testContributedPatterns() throws Exception {
+		List<String> lines = new ArrayList<>(List.of(SAMPLE_LINES));
+		File output = CTestPlugin.getDefault().getFileInPlugin(new Path("resources/errortests/output-1"));
+		lines.addAll(Files.readAllLines(output.toPath(), StandardCharsets.ISO_8859_1));
+
+		int matches = 0;
+		for (String id : ErrorParserManager.getErrorParserAvailableIds()) {
+			IErrorParser parser = ErrorParserManager.getErrorParserCopy(id);
+			if (parser instanceof ErrorParserNamedWrapper) {
+				parser = ((ErrorParserNamedWrapper) parser).getErrorParser();
+			}
+			if (!(parser instanceof RegexErrorParser)) {
+				continue;
+			}
+			for (RegexErrorPattern pattern : ((RegexErrorParser) parser).getPatterns()) {
+				Pattern regex = Pattern.compile(pattern.getPattern());
+				List<String> literals = RegexErrorPatternFilter.getRequiredLiterals(pattern.getPattern());
+				for (String line : lines) {
+					String trimmed = line.trim();
+					if (regex.matcher(trimmed).matches()) {
+						matches++;
+						for (String literal : literals) {
+							assertTrue(trimmed.contains(literal),
+									id + ": '" + trimmed + "' does not contain '" + literal + "'");
+						}
+					}
+				}
+			}
+		}
+		assertTrue(matches > 0);
+	}
+
+	/**
+	 * The parsers that ask for the untrimmed line must not be skipped based on the trimmed line.
+	 */
+	@Test
+	public void testUntrimmedLines() throws Exception {
+		IProject project = ResourceHelper.createCDTProject("RegexErrorPatternFilterTest");
+		assertNotNull(project);
+		String id = "org.eclipse.cdt.core.tests.UntrimmedErrorParserId";
+		UntrimmedErrorParser parser = new UntrimmedErrorParser(id, "Untrimmed");
+		parser.addPattern(new RegexErrorPattern("  indented: (.*)", null, null, "$1", null,
+				IMarkerGenerator.SEVERITY_WARNING, true));
+		ErrorParserExtensionManager.setUserDefinedErrorParsersInternal(new IErrorParserNamed[] { parser });
+		try {
+			ErrorParserManager epManager = new ErrorParserManager(project, markerGenerator, new String[] { id });
+			epManager.processLine("  indented: description");
+			epManager.processLine("indented: trimmed");
+			assertEquals(1, errorList.size());
+			assertEquals("description", errorList.get(0).description);
+		} finally {
+			ErrorParserExtensionManager.setUserDefinedErrorParsersInternal(null);
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.core.internal.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.cdt.internal.core.ItaniumDemangler;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the {@link ItaniumDemangler} with the output of c++filt from binutils 2.40.
+ */
+public class ItaniumDemanglerTest {
+	private static final String[][] CPPFILT_OUTPUT = {
+			{ "_Z1fv",
+					"f()" },
+			{ "_ZN3foo3barEv",
+					"foo::bar()" },
+			{ "_ZNK1A1fEv",
+					"A::f() const" },
+			{ "_ZNVKR1A1fEv",
+					"A::f() const volatile &" },
+			{ "_ZNKO1A1fEv",
+					"A::f() const &&" },
+			{ "_Z1fRKi",
+					"f(int const&)" },
+			{ "_Z1fPVKi",
+					"f(int const volatile*)" },
+			{ "_Z1fPFvvEPDxFvvE",
+					"f(void (*)(), void (*)() transaction_safe)" },
+			{ "_Z1fPDoFvvE",
+					"f(void (*)() noexcept)" },
+			{ "_Z1fRA10_i",
+					"f(int (&) [10])" },
+			{ "_Z1fPA10_i",
+					"f(int (*) [10])" },
+			{ "_Z1fA2_A3_i",
+					"f(int [2][3])" },
+			{ "_Z1fPFPFivEvE",
+					"f(int (*(*)())())" },
+			{ "_Z4arrsPA5_PiPKPKcPA2_A3_cM1OA4_i",
+					"arrs(int* (*) [5], char const* const*, char (*) [2][3], int (O::*) [4])" },
+			{ "_Z1fM1AKFvvE",
+					"f(void (A::*)() const)" },
+			{ "_Z1fM1AFvvOE",
+					"f(void (A::*)() &&)" },
+			{ "_Z1fDv4_f",
+					"f(float __vector(4))" },
+			{ "_Z1fCd",
+					"f(double _Complex)" },
+			{ "_Z1fDF16_",
+					"f(_Float16)" },
+			{ "_Z1fu6__bf16",
+					"f(__bf16)" },
+			{ "_ZN12_GLOBAL__N_11fEv",
+					"(anonymous namespace)::f()" },
+			{ "_ZN1AB5cxx111fB3tagEv",
+					"A[abi:cxx11]::f[abi:tag]()" },
+			{ "_ZNSt8ios_base7failureB5cxx11C1EPKcRKSt10error_code",
+					"std::ios_base::failure[abi:cxx11]::failure(char const*, std::error_code const&)" },
+			{ "_ZNSt6vectorIiSaIiEEC1Ev",
+					"std::vector<int, std::allocator<int> >::vector()" },
+			{ "_ZNSs4_Rep10_M_destroyERKSaIcE",
+					"std::basic_string<char, std::char_traits<char>, std::allocator<char> >::_Rep::_M_destroy(std::allocator<char> const&)" },
+			{ "_ZSt4endlIcSt11char_traitsIcEERSt13basic_ostreamIT_T0_ES6_",
+					"std::basic_ostream<char, std::char_traits<char> >& std::endl<char, std::char_traits<char> >(std::basic_ostream<char, std::char_traits<char> >&)" },
+			{ "_ZN9__gnu_cxx17__normal_iteratorIPcSsEC1ERKS1_",
+					"__gnu_cxx::__normal_iterator<char*, std::basic_string<char, std::char_traits<char>, std::allocator<char> > >::__normal_iterator(char* const&)" },
+			{ "_ZSt4moveIRiEONSt16remove_referenceIT_E4typeEOS2_",
+					"std::remove_reference<int&>::type&& std::move<int&>(int&)" },
+			{ "_Z1fIRiEvOT_",
+					"void f<int&>(int&)" },
+			{ "_Z1fIOiEvOT_",
+					"void f<int&&>(int&&)" },
+			{ "_Z5firstIiJcdEEvT_DpT0_",
+					"void first<int, char, double>(int, char, double)" },
+			{ "_ZNSt5tupleIJidEEC1IJRiRdEEEDpOT_",
+					"std::tuple<int, double>::tuple<int&, double&>(int&, double&)" },
+			{ "_Z1fIJEEvv",
+					"void f<>()" },
+			{ "_Z1fIiJEdEvv",
+					"void f<int, , double>()" },
+			{ "_Z3seqIJLi1ELi2ELi3EEEv3SeqIJXspT_EEE",
+					"void seq<1, 2, 3>(Seq<1, 2, 3>)" },
+			{ "_Z3arrIiLi3EEvRAT0__T_",
+					"void arr<int, 3>(int (&) [3])" },
+			{ "_Z1fILb2EEvv",
+					"void f<(bool)2>()" },
+			{ "_Z1fILc65EEvv",
+					"void f<(char)65>()" },
+			{ "_Z1fILsn5EEvv",
+					"void f<(short)-5>()" },
+			{ "_Z1fIL1E1EEvv",
+					"void f<(E)1>()" },
+			{ "_Z1fIL_Z1gvEEvv",
+					"void f<g()>()" },
+			{ "_ZN1AcviEv",
+					"A::operator int()" },
+			{ "_ZNK1AcvT_IPcEEv",
+					"A::operator char*<char*>() const" },
+			{ "_ZN1AaSERKS_",
+					"A::operator=(A const&)" },
+			{ "_ZN1AnwEm",
+					"A::operator new(unsigned long)" },
+			{ "_ZN1AssERKS_",
+					"A::operator<=>(A const&)" },
+			{ "_ZN1AUt_C1Ev",
+					"A::{unnamed type#1}::A()" },
+			{ "_ZN6icu_726number4impl10MicroPropsUt_D1Ev",
+					"icu_72::number::impl::MicroProps::{unnamed type#1}::~MicroProps()" },
+			{ "_ZDC1a1bE",
+					"[a, b]" },
+			{ "_ZZ4mainE1x_1",
+					"main::x" },
+			{ "_ZZ1fvENKUlvE0_clEv",
+					"f()::{lambda()#2}::operator()() const" },
+			{ "_ZZ3lamIiEDaT_ENKUlS0_iE_clIdEEDaS0_i",
+					"auto lam<int>(int)::{lambda(auto:1, int)#1}::operator()<double>(double, int) const" },
+			{ "_ZZ3usevENKUlDpT_E0_clIJiiiEEEDaS0_",
+					"auto use()::{lambda((auto:1)...)#2}::operator()<int, int, int>(int, int, int) const" },
+			{ "_ZZN10x265_10bit5Quant8rdoQuantILj2EEEjRKNS_6CUDataEPsNS_8TextTypeEjbE9table_cnt",
+					"x265_10bit::Quant::rdoQuant<2u>(x265_10bit::CUData const&, short*, x265_10bit::TextType, unsigned int, bool)::table_cnt" },
+			{ "_ZZNSt9once_flag18_Prepare_executionC4IZSt9call_onceIRFvvEJEEvRS_OT_DpOT0_EUlvE_EERS6_ENUlvE_4_FUNEv",
+					"std::once_flag::_Prepare_execution::_Prepare_execution<std::call_once<void (&)()>(std::once_flag&, void (&)())::{lambda()#1}>(void (&)())::{lambda()#1}::_FUN()" },
+			{ "_ZSt12__get_helperILm1ESt14default_deleteISt5arrayIiLm4EEEJEERT0_RSt11_Tuple_implIXT_EJS4_DpT1_EE",
+					"std::default_delete<std::array<int, 4ul> >& std::__get_helper<1ul, std::default_delete<std::array<int, 4ul> >>(std::_Tuple_impl<1ul, std::default_delete<std::array<int, 4ul> >>&)" },
+			{ "_ZTV1A",
+					"vtable for A" },
+			{ "_ZTT1A",
+					"VTT for A" },
+			{ "_ZTI1A",
+					"typeinfo for A" },
+			{ "_ZTS1A",
+					"typeinfo name for A" },
+			{ "_ZTCN1A1BE0_N1C1DE",
+					"construction vtable for C::D-in-A::B" },
+			{ "_ZThn8_N1A1fEv",
+					"non-virtual thunk to A::f()" },
+			{ "_ZTv0_n24_N1A1fEv",
+					"virtual thunk to A::f()" },
+			{ "_ZTch0_h16_N1A1fEv",
+					"covariant return thunk to A::f()" },
+			{ "_ZGVZ4mainE1x",
+					"guard variable for main::x" },
+			{ "_ZTWN1A1xE",
+					"TLS wrapper function for A::x" },
+			{ "_ZTHN1A1xE",
+					"TLS init function for A::x" },
+			{ "_ZGTtN1A1fEv",
+					"transaction clone for A::f()" },
+			{ "_ZN1A1fEv.isra.0.constprop.1",
+					"A::f() [clone .isra.0] [clone .constprop.1]" },
+			{ "_ZN1A1fEv.cold",
+					"A::f() [clone .cold]" },
+			{ "_GLOBAL__I__ZN1A1fEv",
+					"global constructors keyed to A::f()" },
+	};
+
+	@Test
+	public void testCPPFiltOutput() {
+		for (String[] pair : CPPFILT_OUTPUT) {
+			assertEquals(pair[1], ItaniumDemangler.demangle(pair[0]), pair[0]);
+		}
+	}
+
+	@Test
+	public void testNotMangled() {
+		assertNull(ItaniumDemangler.demangle("main"));
+		assertNull(ItaniumDemangler.demangle("_start"));
+		assertNull(ItaniumDemangler.demangle("_GLOBAL_OFFSET_TABLE_"));
+		assertNull(ItaniumDemangler.demangle("_GLOBAL__sub_I_a.cpp"));
+	}
+
+	@Test
+	public void testMalformed() {
+		assertNull(ItaniumDemangler.demangle("_Z"));
+		assertNull(ItaniumDemangler.demangle("_ZN"));
+		assertNull(ItaniumDemangler.demangle("_Zv"));
+		assertNull(ItaniumDemangler.demangle("_Z1fS_"));
+		assertNull(ItaniumDemangler.demangle("_Z1fIT_Evv"));
+		assertNull(ItaniumDemangler.demangle("_Z1fv_"));
+	}
+
+	@Test
+	public void testUnsupported() {
+		// Expressions are left to c++filt
+		String symbol = "_Z1fIXadL_Z1gvEEEvv";
+		assertNull(ItaniumDemangler.demangle(symbol));
+		assertTrue(ItaniumDemangler.isDemangledByCPPFilt(symbol));
+		assertTrue(ItaniumDemangler.isDemangledByCPPFilt("_RNvC6_123foo3bar"));
+		assertTrue(ItaniumDemangler.isDemangledByCPPFilt("__Z1fv"));
+		assertFalse(ItaniumDemangler.isDemangledByCPPFilt("main"));
+		assertFalse(ItaniumDemangler.isDemangledByCPPFilt("_start"));
+	}
+
+	@Test
+	public void testDeepNesting() {
+		StringBuilder symbol = new StringBuilder("_Z1f");
+		for (int i = 0; i < 100000; i++) {
+			symbol.append('P');
+		}
+		symbol.append('i');
+		assertNull(ItaniumDemangler.demangle(symbol.toString()));
+	}
+}
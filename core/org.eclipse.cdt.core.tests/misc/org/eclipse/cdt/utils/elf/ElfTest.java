@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Ericsson
+ * Copyright (c) 2020, 2026 Ericsson
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,9 +23,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.eclipse.cdt.core.ISymbolReader;
+import org.eclipse.cdt.utils.Addr64;
 import org.eclipse.cdt.utils.elf.Elf.Attribute;
 import org.eclipse.cdt.utils.elf.Elf.Section;
 import org.eclipse.cdt.utils.elf.Elf.Symbol;
+import org.eclipse.cdt.utils.elf.Elf.SymbolTable;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -63,21 +65,22 @@ public class ElfTest {
 	public static Collection<Object[]> elfArchitectures() {
 		return Arrays.asList(new Object[][] {
 				{ "BE32", "BE32", "ppc", "resources/elf/unit_test/simple-be32.elf", 35, "0x00000000", "0x100001a8", 75,
-						"0x10000518", Attribute.ELF_TYPE_EXE, functions1 },
+						"0x10000518", Attribute.ELF_TYPE_EXE, functions1, "0x100004ec" },
 				{ "BE64", "BE64", "ppc64", "resources/elf/unit_test/simple-be64.elf", 34, "0x0000000000000000",
-						"0x0000000010000240", 69, "0x000000001001fea0", Attribute.ELF_TYPE_EXE, functions1 },
+						"0x0000000010000240", 69, "0x000000001001fea0", Attribute.ELF_TYPE_EXE, functions1, "0x10000598" },
 				{ "LE32", "LE32", "x86", "resources/elf/unit_test/simple-le32.elf", 36, "0x00000000", "0x080481cc", 70,
-						"0x080483e5", Attribute.ELF_TYPE_EXE, functions1 },
+						"0x080483e5", Attribute.ELF_TYPE_EXE, functions1, "0x080483db" },
 				{ "LE64", "LE64", "x86_64", "resources/elf/unit_test/simple-le64.elf", 36, "0x0000000000000000",
-						"0x00000000004002b8", 68, "0x00000000004004e4", Attribute.ELF_TYPE_EXE, functions1 },
+						"0x00000000004002b8", 68, "0x00000000004004e4", Attribute.ELF_TYPE_EXE, functions1, "0x004004d6" },
 				{ "DWARF4", "LE64", "x86_64", "resources/elf/unit_test/simple-dwarf4.elf", 34, "0x0000000000000000",
-						"0x00000000000003d8", 34, "0x000000000000113b", Attribute.ELF_TYPE_SHLIB, functions2 },
+						"0x00000000000003d8", 34, "0x000000000000113b", Attribute.ELF_TYPE_SHLIB, functions2, "0x1129" },
 				{ "DWARF5", "LE64", "x86_64", "resources/elf/unit_test/simple-dwarf5.elf", 35, "0x0000000000000000",
-						"0x00000000000003d8", 34, "0x000000000000113b", Attribute.ELF_TYPE_SHLIB, functions2 }, });
+						"0x00000000000003d8", 34, "0x000000000000113b", Attribute.ELF_TYPE_SHLIB, functions2, "0x1129" }, });
 	}
 
 	private final String memoryArchitecture;
 	private final String arch;
+	private final String path;
 	private final Elf elf;
 	private final int nbSections;
 	private final String symtabBaseAddress;
@@ -86,12 +89,14 @@ public class ElfTest {
 	private final String mainAddress;
 	private final int elfType;
 	private final Collection<String> functions;
+	private final String functionCodeAddress;
 
 	public ElfTest(String testName, String mArch, String architecture, String path, int sections, String symBaseAddress,
-			String dynBaseAddress, int symbolCount, String mainAddr, int elfType, Collection<String> functions)
-			throws IOException {
+			String dynBaseAddress, int symbolCount, String mainAddr, int elfType, Collection<String> functions,
+			String functionCodeAddr) throws IOException {
 		memoryArchitecture = mArch;
 		nbSections = sections;
+		this.path = path;
 		elf = new Elf(path);
 		arch = architecture;
 		symtabBaseAddress = symBaseAddress;
@@ -100,6 +105,7 @@ public class ElfTest {
 		mainAddress = mainAddr;
 		this.elfType = elfType;
 		this.functions = functions;
+		functionCodeAddress = functionCodeAddr;
 	}
 
 	/**
@@ -148,6 +154,46 @@ public class ElfTest {
 		assertEquals(arch + ": " + "Main address", mainAddress, symbol.st_value.toHexAddressString());
 	}
 
+	/**
+	 * Test that the mapped mode reads the same sections and symbols as the default mode.
+	 * @throws IOException
+	 */
+	@Test
+	public void testMappedSymbols() throws IOException {
+		try (Elf mappedElf = new Elf(path, 0, true)) {
+			assertTrue(arch + ": " + "Mapped", mappedElf.isMapped());
+			assertEquals(arch + ": " + "Number of sections", nbSections, mappedElf.getSections().length);
+			Section sectionByName = mappedElf.getSectionByName(SYMTAB_NAME);
+			assertNotNull(sectionByName);
+			assertEquals(arch + ": " + "binary address", symtabBaseAddress, sectionByName.sh_addr.toHexAddressString());
+			assertNull(arch + ": " + "Null symbols", mappedElf.getSymbols());
+
+			elf.loadSymbols();
+			mappedElf.loadSymbols();
+			Symbol[] symbols = elf.getSymbols();
+			SymbolTable table = mappedElf.getSymtabSymbolTable();
+			Symbol[] mappedSymbols = mappedElf.getSymbols();
+			assertEquals(arch + ": " + "Number of symbols", nbSymbols, table.size());
+			assertEquals(arch + ": " + "Number of symbols", nbSymbols, mappedSymbols.length);
+			int mainIndex = -1;
+			for (int i = 0; i < symbols.length; i++) {
+				assertEquals(arch + ": " + "Symbol name", symbols[i].toString(), table.getName(i));
+				assertEquals(arch + ": " + "Symbol name", symbols[i].toString(), mappedSymbols[i].toString());
+				assertEquals(arch + ": " + "Symbol address", symbols[i].st_value, mappedSymbols[i].st_value);
+				assertEquals(arch + ": " + "Symbol size", symbols[i].st_size, mappedSymbols[i].st_size);
+				assertEquals(arch + ": " + "Symbol info", symbols[i].st_info, mappedSymbols[i].st_info);
+				assertEquals(arch + ": " + "Symbol section", symbols[i].st_shndx, mappedSymbols[i].st_shndx);
+				if (table.getName(i).equals("main")) {
+					mainIndex = i;
+				}
+			}
+			assertTrue(arch + ": " + "Main symbol", mainIndex >= 0);
+			Symbol main = table.getSymbol(mainIndex);
+			assertEquals(arch + ": " + "Main address", mainAddress, main.st_value.toHexAddressString());
+			assertEquals(arch + ": " + "Symbol at address", "main", mappedElf.getSymbol(main.st_value.add(1)).toString());
+		}
+	}
+
 	@Test
 	public void testGetAttributes() throws IOException {
 		Attribute attributes = elf.getAttributes();
@@ -180,4 +226,14 @@ public class ElfTest {
 		assertTrue(arch + ": " + "Source file name", sourceFiles[0].endsWith("simple.c"));
 	}
 
+	@Test
+	public void testSymbolReaderLineInformation() {
+		ISymbolReader symbolReader = elf.getSymbolReader();
+		Addr64 address = new Addr64(functionCodeAddress);
+		assertTrue(arch + ": " + "Source file of function", symbolReader.getFileName(address).endsWith("simple.c"));
+		assertEquals(arch + ": " + "Line of function", 2, symbolReader.getLineNumber(address));
+		assertNull(arch + ": " + "Source file outside of the code", symbolReader.getFileName(new Addr64(0)));
+		assertEquals(arch + ": " + "Line outside of the code", -1, symbolReader.getLineNumber(new Addr64(0)));
+	}
+
 }
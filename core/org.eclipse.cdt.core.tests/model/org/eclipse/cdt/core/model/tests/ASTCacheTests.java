@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2012 Wind River Systems, Inc. and others.
+ * Copyright (c) 2007, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.model.CoreModel;
 import org.eclipse.cdt.core.model.ICProject;
 import org.eclipse.cdt.core.model.ILanguage;
+import org.eclipse.cdt.core.model.IWorkingCopy;
 import org.eclipse.cdt.core.model.ITranslationUnit;
 import org.eclipse.cdt.core.testplugin.CProjectHelper;
 import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
@@ -148,6 +149,7 @@ public class ASTCacheTests extends BaseTestCase {
 		checkSingleThreadAccess();
 		checkAccessWithSequentialReconciler();
 		checkAccessWithConcurrentReconciler();
+		checkRecentASTs();
 	}
 
 	private void checkActiveElement() throws Exception {
@@ -318,6 +320,109 @@ public class ASTCacheTests extends BaseTestCase {
 		}
 	}
 
+	private void checkRecentASTs() throws Exception {
+		final ASTCache cache = new ASTCache(1024 * 1024);
+		final IASTTranslationUnit[] asts = new IASTTranslationUnit[2];
+		cache.setActiveElement(fTU1);
+		cache.runOnAST(fTU1, true, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNotNull(ast);
+				asts[0] = ast;
+				return Status.OK_STATUS;
+			}
+		});
+
+		// The AST of the previously active element remains available.
+		cache.setActiveElement(fTU2);
+		cache.runOnAST(fTU1, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertSame(asts[0], ast);
+				return Status.OK_STATUS;
+			}
+		});
+		cache.runOnAST(fTU2, true, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNotNull(ast);
+				asts[1] = ast;
+				return Status.OK_STATUS;
+			}
+		});
+
+		// Switching back does not require a new AST.
+		cache.setActiveElement(fTU1);
+		cache.runOnAST(fTU1, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertSame(asts[0], ast);
+				return Status.OK_STATUS;
+			}
+		});
+
+		cache.disposeRecentASTs();
+		cache.runOnAST(fTU2, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNull(ast);
+				return Status.OK_STATUS;
+			}
+		});
+
+		// Without a budget only the AST of the active element is cached.
+		final ASTCache singleCache = new ASTCache(0);
+		singleCache.setActiveElement(fTU1);
+		singleCache.runOnAST(fTU1, true, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNotNull(ast);
+				return Status.OK_STATUS;
+			}
+		});
+		singleCache.setActiveElement(fTU2);
+		singleCache.runOnAST(fTU1, false, null, new ASTRunnable() {
+			@Override
+			public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+				assertNull(ast);
+				return Status.OK_STATUS;
+			}
+		});
+
+		// The AST is not kept if the contents were changed after it was created.
+		IWorkingCopy wc = fTU1.getWorkingCopy();
+		try {
+			final ASTCache wcCache = new ASTCache(1024 * 1024);
+			wcCache.setActiveElement(wc);
+			wcCache.runOnAST(wc, true, null, new ASTRunnable() {
+				@Override
+				public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+					assertNotNull(ast);
+					return Status.OK_STATUS;
+				}
+			});
+			wc.getBuffer().append(" void foo3() {}"); //$NON-NLS-1$
+			wcCache.setActiveElement(fTU2);
+			wcCache.runOnAST(wc, false, null, new ASTRunnable() {
+				@Override
+				public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+					assertNull(ast);
+					return Status.OK_STATUS;
+				}
+			});
+			wcCache.setActiveElement(wc);
+			wcCache.runOnAST(wc, false, null, new ASTRunnable() {
+				@Override
+				public IStatus runOnAST(ILanguage lang, IASTTranslationUnit ast) throws CoreException {
+					assertNull(ast);
+					return Status.OK_STATUS;
+				}
+			});
+		} finally {
+			wc.destroy();
+		}
+	}
+
 	private void waitForAST(ASTCache cache, ITranslationUnit tUnit, ASTRunnable runnable) {
 		if (DEBUG)
 			System.out.println("waiting for " + tUnit.getElementName());
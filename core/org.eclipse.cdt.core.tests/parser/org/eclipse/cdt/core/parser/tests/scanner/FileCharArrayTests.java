@@ -21,8 +21,11 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.internal.core.parser.ExternalFileContentCache;
+import org.eclipse.cdt.internal.core.parser.InternalParserUtil;
 import org.eclipse.cdt.internal.core.parser.scanner.AbstractCharArray;
 import org.eclipse.cdt.internal.core.parser.scanner.FileCharArray;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
 import org.eclipse.cdt.internal.core.parser.scanner.LazyCharArray;
 
 import junit.framework.TestSuite;
@@ -72,7 +75,7 @@ public class FileCharArrayTests extends BaseTestCase {
 		AbstractCharArray charArray;
 		final FileInputStream inputStream = new FileInputStream(fFile);
 		try {
-			charArray = FileCharArray.create(fFile.getPath(), "utf-8", inputStream);
+			charArray = FileCharArray.create(fFile.getPath(), "utf-8", inputStream, false);
 		} finally {
 			inputStream.close();
 		}
@@ -87,6 +90,53 @@ public class FileCharArrayTests extends BaseTestCase {
 
 	}
 
+	public void testMappedASCIIFile() throws IOException {
+		final int charSize = LazyCharArray.CHUNK_SIZE * 3 + 1;
+		createFile(true, charSize);
+
+		AbstractCharArray mapped;
+		AbstractCharArray decoded;
+		try (FileInputStream inputStream = new FileInputStream(fFile)) {
+			mapped = FileCharArray.create(fFile.getPath(), "utf-8", inputStream, true);
+		}
+		try (FileInputStream inputStream = new FileInputStream(fFile)) {
+			decoded = FileCharArray.create(fFile.getPath(), "utf-8", inputStream, false);
+		}
+		assertFalse(mapped instanceof LazyCharArray);
+		checkContent(mapped, 1, charSize);
+		assertEquals(charSize, mapped.tryGetLength());
+		assertEquals(decoded.getContentsHash(), mapped.getContentsHash());
+
+		// Files with non-ASCII characters are decoded.
+		fFile.delete();
+		createFile(false, charSize);
+		try (FileInputStream inputStream = new FileInputStream(fFile)) {
+			decoded = FileCharArray.create(fFile.getPath(), "utf-8", inputStream, true);
+		}
+		assertTrue(decoded instanceof LazyCharArray);
+	}
+
+	public void testExternalFileContentIsShared() throws IOException {
+		createFile(true, 1000);
+		ExternalFileContentCache.clear();
+		InternalFileContent content1 = InternalParserUtil.createExternalFileContent(fFile.getPath(), "utf-8");
+		InternalFileContent content2 = InternalParserUtil.createExternalFileContent(fFile.getPath(), "utf-8");
+		assertNotNull(content1);
+		assertNotNull(content2);
+		assertSame(content1.getSource(), content2.getSource());
+		checkContent(content2.getSource(), 1, 1000);
+
+		// A different encoding or a modified file is not taken from the cache.
+		InternalFileContent content3 = InternalParserUtil.createExternalFileContent(fFile.getPath(), "iso-8859-1");
+		assertNotSame(content1.getSource(), content3.getSource());
+		try (OutputStream out = new FileOutputStream(fFile, true)) {
+			out.write(new byte[1000]);
+		}
+		InternalFileContent content4 = InternalParserUtil.createExternalFileContent(fFile.getPath(), "utf-8");
+		assertEquals(2000, content4.getSource().getLength());
+		ExternalFileContentCache.clear();
+	}
+
 	public void checkContent(AbstractCharArray charArray, int from, int to) {
 		for (int i = from; i < to; i++) {
 			assertEquals(i % 127, charArray.get(i));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2014 Wind River Systems, Inc. and others.
+ * Copyright (c) 2006, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -289,6 +289,61 @@ public class IndexIncludeTest extends IndexTestBase {
 		}
 	}
 
+	public void testParallelParsing() throws Exception {
+		IProject project = fProject.getProject();
+		TestSourceReader.createFile(project, "shared_parallel.h", "struct Shared_parallel { int field; };\n");
+		for (int i = 0; i < 12; i++) {
+			TestSourceReader.createFile(project, "source_parallel" + i + ".cpp", "#include \"shared_parallel.h\"\n"
+					+ "Shared_parallel var_parallel" + i + ";\n" + "int func_parallel" + i + "() { return 0; }\n");
+		}
+		waitForIndexer();
+		String parserThreads = IndexerPreferences.get(project, IndexerPreferences.KEY_PARSER_THREADS, "1");
+		IndexerPreferences.set(project, IndexerPreferences.KEY_PARSER_THREADS, "4");
+		try {
+			CCorePlugin.getIndexManager().reindex(fProject);
+			waitForIndexer();
+			checkParallelParsing("func_parallel");
+
+			// Updating the sources replaces their content in the index while other sources are parsed.
+			for (int i = 0; i < 12; i++) {
+				TestSourceReader.createFile(project, "source_parallel" + i + ".cpp", "#include \"shared_parallel.h\"\n"
+						+ "Shared_parallel var_parallel" + i + ";\n" + "int func2_parallel" + i + "() { return 0; }\n");
+			}
+			waitForIndexer();
+			checkParallelParsing("func2_parallel");
+			fIndex.acquireReadLock();
+			try {
+				assertEquals(0, fIndex.findBindings("func_parallel0".toCharArray(), IndexFilter.ALL_DECLARED,
+						npm()).length);
+			} finally {
+				fIndex.releaseReadLock();
+			}
+		} finally {
+			IndexerPreferences.set(project, IndexerPreferences.KEY_PARSER_THREADS, parserThreads);
+		}
+	}
+
+	private void checkParallelParsing(String funcPrefix) throws Exception {
+		fIndex.acquireReadLock();
+		try {
+			IIndexBinding[] bindings = fIndex.findBindings("Shared_parallel".toCharArray(), IndexFilter.ALL_DECLARED,
+					npm());
+			assertEquals(1, bindings.length);
+			IFile header = fProject.getProject().getFile("shared_parallel.h");
+			IIndexFile[] files = fIndex.getFiles(ILinkage.CPP_LINKAGE_ID, IndexLocationFactory.getWorkspaceIFL(header));
+			assertEquals(1, files.length);
+			assertEquals(12, fIndex.findIncludedBy(files[0]).length);
+			for (int i = 0; i < 12; i++) {
+				assertEquals(1, fIndex.findBindings(("var_parallel" + i).toCharArray(), IndexFilter.ALL_DECLARED,
+						npm()).length);
+				assertEquals(1, fIndex.findBindings((funcPrefix + i).toCharArray(), IndexFilter.ALL_DECLARED,
+						npm()).length);
+			}
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
 	// #define SOME_MACRO1 ok_1_220358
 	// #define SOME_MACRO2 ok_2_220358
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Wind River Systems, Inc. and others.
+ * Copyright (c) 2007, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateTypeParameter;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPVariable;
 import org.eclipse.cdt.core.index.IIndex;
 import org.eclipse.cdt.core.index.IIndexBinding;
+import org.eclipse.cdt.core.index.IIndexName;
 import org.eclipse.cdt.core.index.IndexFilter;
 import org.eclipse.cdt.core.model.ICProject;
 import org.eclipse.cdt.core.model.ITranslationUnit;
@@ -57,6 +58,7 @@ import org.eclipse.cdt.core.testplugin.CProjectHelper;
 import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
 import org.eclipse.cdt.internal.core.pdom.CModelListener;
 import org.eclipse.cdt.internal.core.pdom.dom.PDOMFile;
+import org.eclipse.cdt.internal.core.pdom.dom.PDOMName;
 import org.eclipse.cdt.internal.core.pdom.dom.PDOMNode;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -1285,6 +1287,87 @@ public class IndexUpdateTests extends IndexTestBase {
 		assertEquals(id1, id2);
 	}
 
+	// void f(int);
+
+	// #include "header.h"
+	// void g() { f(1); }
+
+	// void f(int);
+	// int unused;
+
+	// void f(char);
+	public void testUnaffectedContextIsNotRewritten() throws Exception {
+		setupHeader(4, true);
+		setupFile(4, true);
+		long ref1 = getReferenceRecord("f");
+
+		// The reparsed source file remains unchanged in the index.
+		updateHeader();
+		assertEquals(ref1, getReferenceRecord("f"));
+
+		// The reference in the source file binds to a different function.
+		updateHeader();
+		fIndex.acquireReadLock();
+		try {
+			IFunction f = (IFunction) findBinding("f");
+			assertEquals("char", ASTTypeUtil.getType(f.getType().getParameterTypes()[0]));
+			assertEquals(1, fIndex.findReferences(f).length);
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
+	// #define TYPE int
+	// #define DECLARE(name)
+
+	// #include "header.h"
+	// TYPE var;
+	// DECLARE(added)
+	// void g() { int local = var; }
+
+	// #define TYPE int
+	// #define DECLARE(name)
+	// int unused;
+
+	// #define TYPE int
+	// #define DECLARE(name) int name;
+
+	// #define TYPE short
+	// #define DECLARE(name) int name;
+	public void testContextWithBindingsChangedByHeader() throws Exception {
+		setupHeader(5, true);
+		setupFile(5, true);
+		long ref1 = getReferenceRecord("var");
+
+		// The local variable is not in the index, the source file remains unchanged nevertheless.
+		updateHeader();
+		assertEquals(ref1, getReferenceRecord("var"));
+
+		// The source file declares a variable that is not in the index, yet.
+		updateHeader();
+		fIndex.acquireReadLock();
+		try {
+			assertNotNull(findBinding("added"));
+		} finally {
+			fIndex.releaseReadLock();
+		}
+
+		// The names in the source file remain the same, the type of the variable changes.
+		updateHeader();
+		checkCppVariable("var", SHORT, new String[] {});
+	}
+
+	private long getReferenceRecord(String name) throws InterruptedException, CoreException {
+		fIndex.acquireReadLock();
+		try {
+			IIndexName[] refs = fIndex.findReferences(findBinding(name));
+			assertEquals(1, refs.length);
+			return ((PDOMName) refs[0]).getRecord();
+		} finally {
+			fIndex.releaseReadLock();
+		}
+	}
+
 	// namespace ns {
 	//    namespace m {}
 	// }
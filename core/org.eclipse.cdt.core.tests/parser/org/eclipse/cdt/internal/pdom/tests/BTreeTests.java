@@ -120,6 +120,65 @@ public class BTreeTests extends BaseTestCase5 {
 		}
 	}
 
+	/**
+	 * Test bulk loading of random (but reproducible via known seed) sets of records, including
+	 * duplicates, and use TreeSet as a reference implementation to check behaviour against.
+	 */
+	@Test
+	public void testBulkLoad() throws Exception {
+		Random random = new Random(4711);
+		int[] sizes = { 0, 1, 3, 15, 16, 17, 255, 256, 1000, 20000 };
+		for (int degree = 2; degree <= 8; degree += 3) {
+			for (int size : sizes) {
+				init(degree);
+				try {
+					final SortedSet<Integer> expected = new TreeSet<>();
+					long[] records = new long[size];
+					for (int i = 0; i < size; i++) {
+						int value = random.nextInt(size * 2 + 1);
+						expected.add(value);
+						records[i] = new BTMockRecord(db, value).getRecord();
+					}
+					btree.bulkLoad(records);
+					assertBTreeMatchesSortedSet("[degree " + degree + ", size " + size + "] ", btree, expected);
+					assertBTreeInvariantsHold("[degree " + degree + ", size " + size + "] ");
+
+					// The tree remains usable for insertions and deletions.
+					for (int i = 0; i < 100; i++) {
+						int value = random.nextInt(size * 2 + 1);
+						long record = new BTMockRecord(db, value).getRecord();
+						if (btree.insert(record) != record) {
+							btree.delete(record);
+							expected.remove(value);
+						} else {
+							expected.add(value);
+						}
+					}
+					assertBTreeMatchesSortedSet("[degree " + degree + ", size " + size + "] ", btree, expected);
+					assertBTreeInvariantsHold("[degree " + degree + ", size " + size + "] ");
+				} finally {
+					finish();
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testBulkLoadIntoNonEmptyTree() throws Exception {
+		init(8);
+		try {
+			btree.insert(new BTMockRecord(db, 1).getRecord());
+			try {
+				btree.bulkLoad(new long[] { new BTMockRecord(db, 2).getRecord() });
+				fail("Bulk load into a non-empty tree should fail");
+			} catch (IllegalStateException e) {
+				// Expected.
+			}
+		} finally {
+			finish();
+		}
+	}
+
 	/**
 	 * Insert/Delete a random number of records into/from the B-tree
 	 * @param seed the seed for obtaining the deterministic random testing
@@ -214,6 +214,137 @@ public class DatabaseTest extends BaseTestCase5 {
 		}
 	}
 
+	@Test
+	public void testConcurrentReaders() throws Exception {
+		final int recordCount = 512;
+		final long[] records = new long[recordCount];
+		for (int i = 0; i < recordCount; i++) {
+			records[i] = db.malloc(Database.MAX_MALLOC_SIZE);
+			db.putInt(records[i], i);
+		}
+		db.giveUpExclusiveLock(true);
+		// Make the cache smaller than the database to have chunks evicted while reading.
+		db.getChunkCache().setMaxSize(64 * Database.CHUNK_SIZE);
+		db.setLocked(true);
+		db.resetCacheCounters();
+
+		final int threadCount = 16;
+		final int readsPerThread = 20000;
+		final Throwable[] errors = new Throwable[threadCount];
+		Thread[] threads = new Thread[threadCount];
+		for (int t = 0; t < threadCount; t++) {
+			final int threadIndex = t;
+			threads[t] = new Thread(() -> {
+				Random random = new Random(threadIndex);
+				try {
+					for (int i = 0; i < readsPerThread; i++) {
+						int r = random.nextInt(recordCount);
+						assertEquals(r, db.getInt(records[r]));
+					}
+				} catch (Throwable e) {
+					errors[threadIndex] = e;
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		for (Throwable error : errors) {
+			if (error != null)
+				throw new AssertionError(error);
+		}
+		assertEquals((long) threadCount * readsPerThread, db.getCacheHits() + db.getCacheMisses());
+
+		db.setExclusiveLock();
+	}
+
+	@Test
+	public void testScanResistantCache() throws Exception {
+		final int cacheSize = 16;
+		final long hot = db.malloc(Database.MAX_MALLOC_SIZE);
+		final long[] cold = new long[4 * cacheSize];
+		for (int i = 0; i < cold.length; i++) {
+			cold[i] = db.malloc(Database.MAX_MALLOC_SIZE);
+			db.putInt(cold[i], i);
+		}
+		db.giveUpExclusiveLock(true);
+		db.getChunkCache().setMaxSize(cacheSize * Database.CHUNK_SIZE);
+		db.setLocked(true);
+
+		// Use the hot chunk over several sweeps of the cache.
+		for (int round = 0; round < 4; round++) {
+			for (int i = 0; i < 2 * cacheSize; i++) {
+				db.getInt(hot);
+				assertEquals(i, db.getInt(cold[i]));
+			}
+		}
+		// A scan twice the size of the cache must not evict the hot chunk.
+		for (int i = 2 * cacheSize; i < cold.length; i++) {
+			assertEquals(i, db.getInt(cold[i]));
+		}
+		db.resetCacheCounters();
+		db.getInt(hot);
+		assertEquals(0, db.getCacheMisses());
+		assertEquals(1, db.getCacheHits());
+
+		// Reading cold chunks not in the cache evicts other chunks.
+		db.getInt(cold[0]);
+		assertEquals(1, db.getCacheMisses());
+		assertEquals(1, db.getCacheEvictions());
+
+		db.setLocked(false);
+		db.setExclusiveLock();
+	}
+
+	@Test
+	public void testMappedIO() throws Exception {
+		File file = getTestDir().append(getName() + System.currentTimeMillis() + "-mapped.dat").toFile();
+		Database mapped = new Database(file, new ChunkCache(64 * Database.CHUNK_SIZE), 0, false, true);
+		try {
+			mapped.setExclusiveLock();
+			final int recordCount = 256;
+			final long[] records = new long[recordCount];
+			final long[] strings = new long[recordCount];
+			for (int i = 0; i < recordCount; i++) {
+				records[i] = mapped.malloc(Database.MAX_MALLOC_SIZE);
+				mapped.putInt(records[i], i);
+				mapped.putLong(records[i] + Database.INT_SIZE, -i);
+				strings[i] = mapped.newString("string" + i).getRecord();
+			}
+			mapped.giveUpExclusiveLock(true);
+
+			// Chunks are evicted while reading, so most of them are read through the mapping.
+			mapped.setLocked(true);
+			for (int i = 0; i < recordCount; i++) {
+				assertEquals(i, mapped.getInt(records[i]));
+				assertEquals(-i, mapped.getLong(records[i] + Database.INT_SIZE));
+				assertEquals("string" + i, mapped.getString(strings[i]).getString());
+			}
+			mapped.setLocked(false);
+
+			// Modifying a mapped chunk must not change the file before it is flushed.
+			mapped.setExclusiveLock();
+			mapped.putInt(records[0], 42);
+			assertEquals(42, mapped.getInt(records[0]));
+			assertEquals(0, mapped.getLong(records[0] + Database.INT_SIZE));
+			mapped.giveUpExclusiveLock(true);
+			mapped.setExclusiveLock();
+			mapped.close();
+
+			mapped = new Database(file, new ChunkCache(64 * Database.CHUNK_SIZE), 0, false, true);
+			mapped.setExclusiveLock();
+			assertEquals(42, mapped.getInt(records[0]));
+			assertEquals(recordCount - 1, mapped.getInt(records[recordCount - 1]));
+			assertEquals("string0", mapped.getString(strings[0]).getString());
+		} finally {
+			mapped.close();
+			if (!file.delete()) {
+				file.deleteOnExit();
+			}
+		}
+	}
+
 	private final int GT = 1, LT = -1, EQ = 0;
 
 	@Test
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Wind River Systems, Inc. and others.
+ * Copyright (c) 2007, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,9 @@
  ******************************************************************************/
 package org.eclipse.cdt.internal.core.model;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 import org.eclipse.cdt.core.index.IIndex;
@@ -23,6 +26,7 @@ import org.eclipse.cdt.core.model.ILanguage;
 import org.eclipse.cdt.core.model.ITranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.ASTTranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
+import org.eclipse.cdt.internal.core.parser.scanner.StreamHasher;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
@@ -33,7 +37,9 @@ import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 
 /**
- * Provides a shared AST of a single translation unit at a time.
+ * Provides a shared AST of the active translation unit. In addition the ASTs of translation units
+ * that were active recently are kept within a memory budget, such that switching back and forth
+ * between editors does not require reparsing.
  *
  * @since 4.0
  */
@@ -51,6 +57,18 @@ public class ASTCache {
 			| ITranslationUnit.AST_SKIP_TRIVIAL_EXPRESSIONS_IN_AGGREGATE_INITIALIZERS
 			| ITranslationUnit.AST_PARSE_INACTIVE_CODE;
 
+	/**
+	 * Preference for the memory budget in megabytes for the ASTs of recently active translation
+	 * units.
+	 */
+	public static final String RECENT_AST_BUDGET_MB = CCorePlugin.PLUGIN_ID + ".recentASTBudgetMB"; //$NON-NLS-1$
+	public static final int DEFAULT_RECENT_AST_BUDGET_MB = 64;
+	/**
+	 * Rough estimate of the memory used by an AST per character of the translation unit. Headers
+	 * are skipped in {@link #PARSE_MODE}, so the size of an AST is dominated by the size of the file.
+	 */
+	private static final int ESTIMATED_AST_BYTES_PER_CHAR = 100;
+
 	/**
 	 * Do something with an AST.
 	 *
@@ -80,14 +98,54 @@ public class ASTCache {
 	 * write access afterwards.
 	 */
 	private long fLastWriteOnIndex;
+	/**
+	 * The hash of the contents the cached AST was created from, or <code>null</code>
+	 * if it is not known.
+	 */
+	private Long fContentsHash;
 	/** Indicates whether the AST is currently being computed */
 	private boolean fIsReconciling;
+	/** The hash of the contents at the time the reconciling started */
+	private Long fReconcilingContentsHash;
+
+	/** An AST of a translation unit that is no longer active. */
+	private static class RecentAST {
+		final IASTTranslationUnit fAST;
+		final long fLastWriteOnIndex;
+		final long fContentsHash;
+		final long fEstimatedSize;
+
+		RecentAST(IASTTranslationUnit ast, long lastWriteOnIndex, long contentsHash, int contentsLength) {
+			fAST = ast;
+			fLastWriteOnIndex = lastWriteOnIndex;
+			fContentsHash = contentsHash;
+			fEstimatedSize = (long) contentsLength * ESTIMATED_AST_BYTES_PER_CHAR;
+		}
+	}
+
+	/** ASTs of recently active translation units, in access order. */
+	private final LinkedHashMap<ITranslationUnit, RecentAST> fRecentASTs = new LinkedHashMap<>(16, 0.75f, true);
+	private final long fRecentASTBudget;
+	private long fRecentASTSize;
 
 	/**
 	 * Create a new AST cache.
 	 */
 	public ASTCache() {
+		this((long) Platform.getPreferencesService().getInt(CCorePlugin.PLUGIN_ID, RECENT_AST_BUDGET_MB,
+				DEFAULT_RECENT_AST_BUDGET_MB, null) * 1024 * 1024);
+	}
+
+	/**
+	 * Create a new AST cache.
+	 *
+	 * @param recentASTBudget  the estimated memory in bytes that may be used for the ASTs of
+	 *                         recently active translation units, {@code 0} to cache the AST of
+	 *                         the active translation unit, only.
+	 */
+	public ASTCache(long recentASTBudget) {
 		fParseMode = PARSE_MODE;
+		fRecentASTBudget = recentASTBudget;
 	}
 
 	/**
@@ -139,6 +197,15 @@ public class ASTCache {
 						return null;
 					}
 				}
+				if (!isActiveElement) {
+					IASTTranslationUnit recent = getRecentAST(tUnit, index);
+					if (recent != null) {
+						if (DEBUG)
+							System.out.println(DEBUG_PREFIX + getThreadName() + "returning recent AST:" //$NON-NLS-1$
+									+ toString(recent) + " for: " + tUnit.getElementName()); //$NON-NLS-1$
+						return recent;
+					}
+				}
 				// no cached AST, but wait
 				if (isActiveElement && isReconciling(tUnit)) {
 					try {
@@ -296,8 +363,10 @@ public class ASTCache {
 	 *
 	 * @param ast    the AST
 	 * @param tUnit  the translation unit
+	 * @param contentsHash  the hash of the contents the AST was created from, or
+	 *                      <code>null</code> if it is not known
 	 */
-	private void cache(IASTTranslationUnit ast, ITranslationUnit tUnit) {
+	private void cache(IASTTranslationUnit ast, ITranslationUnit tUnit, Long contentsHash) {
 		assert Thread.holdsLock(fCacheMutex);
 		if (fActiveTU != null && !fActiveTU.equals(tUnit)) {
 			if (DEBUG && tUnit != null) // don't report call from disposeAST()
@@ -314,6 +383,7 @@ public class ASTCache {
 
 		fAST = ast;
 		fLastWriteOnIndex = fAST == null ? 0 : fAST.getIndex().getLastWriteAccess();
+		fContentsHash = fAST == null ? null : contentsHash;
 
 		// Signal AST change
 		fCacheMutex.notifyAll();
@@ -332,7 +402,7 @@ public class ASTCache {
 						+ toString(fActiveTU));
 
 			fAST = null;
-			cache(null, null);
+			cache(null, null, null);
 		}
 	}
 
@@ -386,14 +456,113 @@ public class ASTCache {
 			return;
 		}
 		synchronized (fCacheMutex) {
+			if (fAST != null && !fIsReconciling) {
+				addRecentAST(fActiveTU, fAST, fLastWriteOnIndex, fContentsHash);
+			}
 			fIsReconciling = false;
 			fActiveTU = tUnit;
-			cache(null, tUnit);
+			cache(null, tUnit, null);
+			if (tUnit != null) {
+				RecentAST recent = fRecentASTs.remove(tUnit);
+				if (recent != null) {
+					fRecentASTSize -= recent.fEstimatedSize;
+					if (hasContents(tUnit, recent.fContentsHash)) {
+						if (DEBUG)
+							System.out.println(DEBUG_PREFIX + getThreadName() + "reactivating AST: " //$NON-NLS-1$
+									+ toString(recent.fAST) + " for: " + toString(tUnit)); //$NON-NLS-1$
+						fAST = recent.fAST;
+						fLastWriteOnIndex = recent.fLastWriteOnIndex;
+						fContentsHash = recent.fContentsHash;
+					}
+				}
+			}
 		}
 		if (DEBUG)
 			System.out.println(DEBUG_PREFIX + getThreadName() + "active element is: " + toString(tUnit)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Keeps the AST of a translation unit that is no longer active, evicting the least recently
+	 * used ASTs to stay within the memory budget. The AST is not kept if the contents it was
+	 * created from are not known, or differ from the current contents of the translation unit.
+	 */
+	private void addRecentAST(ITranslationUnit tUnit, IASTTranslationUnit ast, long lastWriteOnIndex,
+			Long contentsHash) {
+		assert Thread.holdsLock(fCacheMutex);
+		if (fRecentASTBudget <= 0 || contentsHash == null)
+			return;
+
+		char[] contents = tUnit.getContents();
+		if (contents == null || contentsHash != computeHash(contents).longValue()) {
+			if (DEBUG)
+				System.out.println(DEBUG_PREFIX + getThreadName() + "not keeping out-dated AST: " //$NON-NLS-1$
+						+ toString(ast) + " for: " + toString(tUnit)); //$NON-NLS-1$
+			return;
+		}
+		RecentAST recent = new RecentAST(ast, lastWriteOnIndex, contentsHash, contents.length);
+		if (recent.fEstimatedSize > fRecentASTBudget)
+			return;
+
+		removeRecentAST(tUnit);
+		fRecentASTs.put(tUnit, recent);
+		fRecentASTSize += recent.fEstimatedSize;
+		for (Iterator<RecentAST> it = fRecentASTs.values().iterator(); fRecentASTSize > fRecentASTBudget;) {
+			RecentAST eldest = it.next();
+			it.remove();
+			fRecentASTSize -= eldest.fEstimatedSize;
+		}
+	}
+
+	/**
+	 * Returns the AST of a recently active translation unit, provided it is still valid.
+	 */
+	private IASTTranslationUnit getRecentAST(ITranslationUnit tUnit, IIndex index) {
+		assert Thread.holdsLock(fCacheMutex);
+		RecentAST recent = fRecentASTs.get(tUnit);
+		if (recent == null)
+			return null;
+
+		if (recent.fLastWriteOnIndex < index.getLastWriteAccess()
+				|| !hasContents(tUnit, recent.fContentsHash)) {
+			removeRecentAST(tUnit);
+			return null;
+		}
+		return recent.fAST;
+	}
+
+	private void removeRecentAST(ITranslationUnit tUnit) {
+		RecentAST removed = fRecentASTs.remove(tUnit);
+		if (removed != null) {
+			fRecentASTSize -= removed.fEstimatedSize;
+		}
+	}
+
+	/**
+	 * Disposes the ASTs of all translation units that are not active.
+	 */
+	public void disposeRecentASTs() {
+		synchronized (fCacheMutex) {
+			fRecentASTs.clear();
+			fRecentASTSize = 0;
+		}
+	}
+
+	/**
+	 * Checks whether the current contents of the given translation unit have the given hash.
+	 */
+	private static boolean hasContents(ITranslationUnit tUnit, long contentsHash) {
+		Long hash = computeHash(tUnit.getContents());
+		return hash != null && hash == contentsHash;
+	}
+
+	private static Long computeHash(char[] contents) {
+		if (contents == null)
+			return null;
+		StreamHasher hasher = new StreamHasher();
+		hasher.addChunk(contents);
+		return hasher.computeHash();
+	}
+
 	/**
 	 * Check whether the given translation unit is the active element of this cache.
 	 *
@@ -425,7 +594,8 @@ public class ASTCache {
 				System.out.println(DEBUG_PREFIX + getThreadName() + "about to reconcile: " + toString(tUnit)); //$NON-NLS-1$
 
 			fIsReconciling = true;
-			cache(null, tUnit);
+			fReconcilingContentsHash = computeHash(tUnit.getContents());
+			cache(null, tUnit, null);
 		}
 	}
 
@@ -446,8 +616,18 @@ public class ASTCache {
 				System.out.println(
 						DEBUG_PREFIX + getThreadName() + "reconciled: " + toString(tUnit) + ", AST: " + toString(ast)); //$NON-NLS-1$ //$NON-NLS-2$
 
+			// The AST was created from the contents at the time the reconciling started, provided
+			// they did not change in the meantime.
+			Long contentsHash = null;
+			if (ast != null && ast == fAST) {
+				contentsHash = fContentsHash;
+			} else if (ast != null && fIsReconciling && fReconcilingContentsHash != null
+					&& hasContents(tUnit, fReconcilingContentsHash)) {
+				contentsHash = fReconcilingContentsHash;
+			}
 			fIsReconciling = false;
-			cache(ast, tUnit);
+			fReconcilingContentsHash = null;
+			cache(ast, tUnit, contentsHash);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2014 Wind River Systems, Inc. and others.
+ * Copyright (c) 2006, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -119,6 +119,21 @@ public interface IWritableIndex extends IIndex {
 			IASTPreprocessorStatement[] macros, IASTName[][] names, ASTFilePathResolver resolver,
 			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException;
 
+	/**
+	 * Checks whether the given file would remain unchanged if its content was replaced with
+	 * the given includes, macros and names.
+	 */
+	boolean hasSameFileContent(IIndexFragmentFile file, int linkageID, IncludeInformation[] includes,
+			IASTPreprocessorStatement[] macros, IASTName[][] names, ASTFilePathResolver resolver,
+			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException;
+
+	/**
+	 * Updates the bindings declared by the given names, after {@link #hasSameFileContent} found
+	 * that the content of the given file can be kept.
+	 */
+	void updateFileBindings(IIndexFragmentFile file, IASTName[][] names, ASTFilePathResolver resolver,
+			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException;
+
 	/**
 	 * Clears the entire index.
 	 */
@@ -157,6 +172,11 @@ public interface IWritableIndex extends IIndex {
 	 */
 	long getCacheMisses();
 
+	/**
+	 * Returns the number of chunks evicted from the cache since last reset of counters.
+	 */
+	long getCacheEvictions();
+
 	/**
 	 * Returns the primary writable fragment, or <code>null</code> if there is
 	 * no writable fragment.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2014 Wind River Systems, Inc. and others.
+ * Copyright (c) 2006, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -87,6 +87,22 @@ public interface IWritableIndexFragment extends IIndexFragment {
 			IASTPreprocessorStatement[] macros, IASTName[][] names, ASTFilePathResolver resolver,
 			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException;
 
+	/**
+	 * Checks whether the given file would remain unchanged if its content was replaced with
+	 * the given includes, macros and names. Must be called while the file is being updated, i.e.
+	 * after a call to {@link #addUncommittedFile(int, IIndexFileLocation, ISignificantMacros)}.
+	 */
+	boolean hasSameFileContent(IIndexFragmentFile file, IncludeInformation[] includes,
+			IASTPreprocessorStatement[] macros, IASTName[][] names, ASTFilePathResolver resolver,
+			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException;
+
+	/**
+	 * Updates the bindings declared by the given names, after {@link #hasSameFileContent} found
+	 * that the content of the given file can be kept.
+	 */
+	void updateFileBindings(IIndexFragmentFile file, IASTName[][] names, ASTFilePathResolver resolver,
+			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException;
+
 	/**
 	 * Acquires a write lock, while giving up a certain amount of read locks.
 	 */
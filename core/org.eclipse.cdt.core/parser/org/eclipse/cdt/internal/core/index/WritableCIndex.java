@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2014 Wind River Systems, Inc. and others.
+ * Copyright (c) 2006, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,29 @@ public class WritableCIndex extends CIndex implements IWritableIndex {
 		getWritableFragment().addFileContent(file, includes, macros, names, resolver, lock);
 	}
 
+	@Override
+	public boolean hasSameFileContent(IIndexFragmentFile file, int linkageID, IncludeInformation[] includes,
+			IASTPreprocessorStatement[] macros, IASTName[][] names, ASTFilePathResolver resolver,
+			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException {
+		assert getWritableFragment() == file.getIndexFragment();
+
+		for (IncludeInformation include : includes) {
+			if (include.fLocation != null) {
+				include.fTargetFile = getWritableFile(linkageID, include.fLocation, include.fSignificantMacros);
+				if (include.fTargetFile == null)
+					return false;
+			}
+		}
+		return getWritableFragment().hasSameFileContent(file, includes, macros, names, resolver, lock);
+	}
+
+	@Override
+	public void updateFileBindings(IIndexFragmentFile file, IASTName[][] names, ASTFilePathResolver resolver,
+			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException {
+		assert getWritableFragment() == file.getIndexFragment();
+		getWritableFragment().updateFileBindings(file, names, resolver, lock);
+	}
+
 	@Override
 	public void clear() throws CoreException {
 		getWritableFragment().clear();
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.parser;
+
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.cdt.internal.core.parser.scanner.CharArray;
+import org.eclipse.cdt.internal.core.parser.util.LRUCache;
+
+/**
+ * Process wide, in-memory cache for the decoded content of files outside of the workspace, i.e.
+ * system and third-party headers that are included by many translation units. Only files that are
+ * decoded into a single {@link CharArray} are cached, such content is immutable and can be shared
+ * between parsers running in different threads. An entry is used only if the time stamp, the
+ * size and the encoding of the file are unchanged. The content is softly referenced.
+ * <p>
+ * The cache saves reading and decoding a header, not lexing it. Tokens are not cached, because
+ * the preprocessor drives the lexer: which parts of a header are lexed depends on the macros
+ * defined at the point of inclusion, and directives are handled while lexing. The cache is not
+ * persisted, because reusing the preprocessed content of a header across sessions is already done
+ * by the index: {@link org.eclipse.cdt.internal.core.index.IndexBasedFileContentProvider} skips
+ * headers whose significant macros match a version stored in the index.
+ */
+public final class ExternalFileContentCache {
+	private static final int MAX_ENTRIES = 1000;
+
+	private static final class Entry {
+		final long fTimestamp;
+		final long fFileSize;
+		final String fEncoding;
+		final SoftReference<CharArray> fContent;
+
+		Entry(long timestamp, long fileSize, String encoding, CharArray content) {
+			fTimestamp = timestamp;
+			fFileSize = fileSize;
+			fEncoding = encoding;
+			fContent = new SoftReference<>(content);
+		}
+	}
+
+	private static final Map<String, Entry> sCache = Collections.synchronizedMap(new LRUCache<>(MAX_ENTRIES));
+
+	private ExternalFileContentCache() {
+	}
+
+	/**
+	 * Returns the cached content of a file, or {@code null} if it is not cached or the file has
+	 * changed since it was cached.
+	 */
+	static CharArray get(String path, long timestamp, long fileSize, String encoding) {
+		Entry entry = sCache.get(path);
+		if (entry == null)
+			return null;
+
+		if (entry.fTimestamp == timestamp && entry.fFileSize == fileSize && entry.fEncoding.equals(encoding)) {
+			CharArray content = entry.fContent.get();
+			if (content != null)
+				return content;
+		}
+		sCache.remove(path);
+		return null;
+	}
+
+	static void put(String path, long timestamp, long fileSize, String encoding, CharArray content) {
+		sCache.put(path, new Entry(timestamp, fileSize, encoding, content));
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public static void clear() {
+		sCache.clear();
+	}
+}
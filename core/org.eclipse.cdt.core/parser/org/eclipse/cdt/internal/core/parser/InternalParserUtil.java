@@ -24,6 +24,7 @@ import org.eclipse.cdt.core.index.IIndexFileLocation;
 import org.eclipse.cdt.core.parser.FileContent;
 import org.eclipse.cdt.core.parser.ParserFactory;
 import org.eclipse.cdt.internal.core.parser.scanner.AbstractCharArray;
+import org.eclipse.cdt.internal.core.parser.scanner.CharArray;
 import org.eclipse.cdt.internal.core.parser.scanner.FileCharArray;
 import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
 import org.eclipse.cdt.internal.core.resources.PathCanonicalizationStrategy;
@@ -217,6 +218,11 @@ public class InternalParserUtil extends ParserFactory {
 		if (includeFile != null && includeFile.isFile()) {
 			long timestamp = includeFile.lastModified();
 			long fileSize = includeFile.length();
+			// Headers outside of the workspace are typically included by many translation units.
+			CharArray cached = ExternalFileContentCache.get(path, timestamp, fileSize, encoding);
+			if (cached != null) {
+				return new InternalFileContent(path, cached, timestamp, fileSize, fileReadTime);
+			}
 			FileInputStream in;
 			try {
 				in = new FileInputStream(includeFile);
@@ -225,7 +231,13 @@ public class InternalParserUtil extends ParserFactory {
 				return null;
 			}
 			try {
-				return createFileContent(path, localPath, encoding, in, timestamp, fileSize, fileReadTime);
+				InternalFileContent content = createFileContent(path, localPath, encoding, in, timestamp, fileSize,
+						fileReadTime);
+				if (content != null && content.getSource() instanceof CharArray) {
+					ExternalFileContentCache.put(path, timestamp, fileSize, encoding,
+							(CharArray) content.getSource());
+				}
+				return content;
 			} finally {
 				try {
 					in.close();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 Wind River Systems, Inc. and others.
+ * Copyright (c) 2010, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.cdt.core.CCorePlugin;
 
@@ -32,8 +33,26 @@ import org.eclipse.cdt.core.CCorePlugin;
  */
 public class FileCharArray extends LazyCharArray {
 	private static final String UTF8_CHARSET_NAME = "UTF-8"; //$NON-NLS-1$
+	/**
+	 * Whether large ASCII files are accessed via memory-mapped buffers, off by default. When a
+	 * mapped file is truncated while it is parsed, e.g. by a build regenerating it, accessing the
+	 * buffer crashes the JVM with SIGBUS. Not used on Windows, where mapped files cannot be modified
+	 * or deleted and the mapping is released only when the buffer is garbage collected.
+	 */
+	private static final boolean USE_MAPPED_FILES = Boolean.getBoolean("org.eclipse.cdt.core.parser.mmap") //$NON-NLS-1$
+			&& !System.getProperty("os.name", "").startsWith("Windows"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
 	public static AbstractCharArray create(String fileName, String charSet, InputStream in) throws IOException {
+		return create(fileName, charSet, in, USE_MAPPED_FILES);
+	}
+
+	/**
+	 * Creates the char array for a file.
+	 * @param allowMapping whether large ASCII files may be accessed via a memory-mapped buffer rather
+	 *     than being decoded in chunks.
+	 */
+	public static AbstractCharArray create(String fileName, String charSet, InputStream in, boolean allowMapping)
+			throws IOException {
 		// No support for non-local files.
 		if (!(in instanceof FileInputStream)) {
 			return null;
@@ -47,10 +66,35 @@ public class FileCharArray extends LazyCharArray {
 		if (lsize < CHUNK_SIZE) {
 			return decodeSmallFile(channel, (int) lsize, charSet);
 		}
+		if (allowMapping && lsize <= Integer.MAX_VALUE) {
+			AbstractCharArray mapped = mapLargeFile(channel, charSet);
+			if (mapped != null)
+				return mapped;
+		}
 
 		return new FileCharArray(fileName, charSet);
 	}
 
+	/**
+	 * Large files, e.g. generated tables, are often plain ASCII. For such files the lexer can
+	 * work directly on the mapped file, there is no need to decode the file into chunks of
+	 * characters. Returns {@code null} if the file needs to be decoded.
+	 */
+	private static AbstractCharArray mapLargeFile(FileChannel channel, String charSet) throws IOException {
+		final Charset charset = Charset.forName(charSet);
+		final boolean isLatin1 = charset.equals(StandardCharsets.ISO_8859_1);
+		if (!isLatin1 && !charset.equals(StandardCharsets.UTF_8) && !charset.equals(StandardCharsets.US_ASCII))
+			return null;
+
+		ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		skipUTF8ByteOrderMark(buffer, charset.name());
+		buffer = buffer.slice();
+		if (!isLatin1 && !MappedFileCharArray.isASCII(buffer))
+			return null;
+
+		return new MappedFileCharArray(buffer);
+	}
+
 	private static AbstractCharArray decodeSmallFile(FileChannel channel, int lsize, String charSet)
 			throws IOException {
 		ByteBuffer byteBuffer = ByteBuffer.allocate(lsize);
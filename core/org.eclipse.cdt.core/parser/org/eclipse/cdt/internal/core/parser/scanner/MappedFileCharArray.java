@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.parser.scanner;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of char array for a memory-mapped file with a single byte encoding for which
+ * every byte maps to the character with the same value, e.g. ISO-8859-1 or UTF-8 without any
+ * non-ASCII characters. The content is never copied to the heap.
+ */
+final class MappedFileCharArray extends AbstractCharArray {
+	private static final int HASH_BUFFER_SIZE = 4096;
+
+	private final ByteBuffer fBuffer;
+	private final int fLength;
+	private long fHash64;
+
+	/**
+	 * @param buffer the mapped content of the file, without a byte order mark.
+	 */
+	MappedFileCharArray(ByteBuffer buffer) {
+		fBuffer = buffer;
+		fLength = buffer.limit();
+	}
+
+	/**
+	 * Checks whether the buffer consists of ASCII characters, only.
+	 */
+	static boolean isASCII(ByteBuffer buffer) {
+		final int limit = buffer.limit();
+		int i = 0;
+		for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+			if ((buffer.getLong(i) & 0x8080808080808080L) != 0)
+				return false;
+		}
+		for (; i < limit; i++) {
+			if (buffer.get(i) < 0)
+				return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int tryGetLength() {
+		return fLength;
+	}
+
+	@Override
+	public int getLength() {
+		return fLength;
+	}
+
+	@Override
+	public boolean isValidOffset(int offset) {
+		return offset < fLength;
+	}
+
+	@Override
+	public long getContentsHash() {
+		if (fHash64 == 0 && fLength != 0) {
+			StreamHasher hasher = new StreamHasher();
+			char[] chunk = new char[HASH_BUFFER_SIZE];
+			for (int offset = 0; offset < fLength; offset += HASH_BUFFER_SIZE) {
+				int length = Math.min(HASH_BUFFER_SIZE, fLength - offset);
+				if (length < HASH_BUFFER_SIZE) {
+					chunk = new char[length];
+				}
+				arraycopy(offset, chunk, 0, length);
+				hasher.addChunk(chunk);
+			}
+			fHash64 = hasher.computeHash();
+		}
+		return fHash64;
+	}
+
+	@Override
+	public char get(int offset) {
+		return (char) (fBuffer.get(offset) & 0xff);
+	}
+
+	@Override
+	public void arraycopy(int offset, char[] destination, int destinationPos, int length) {
+		for (int i = 0; i < length; i++) {
+			destination[destinationPos + i] = (char) (fBuffer.get(offset + i) & 0xff);
+		}
+	}
+
+	@Override
+	public boolean hasError() {
+		return false;
+	}
+}
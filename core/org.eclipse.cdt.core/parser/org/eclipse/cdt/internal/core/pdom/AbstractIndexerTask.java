@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Wind River Systems, Inc. and others.
+ * Copyright (c) 2007, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,15 +32,23 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ILinkage;
 import org.eclipse.cdt.core.dom.IPDOMIndexerTask;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTComment;
 import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTName;
 import org.eclipse.cdt.core.dom.ast.IASTPreprocessorIncludeStatement;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit.IDependencyTree;
@@ -81,6 +89,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
@@ -251,6 +260,30 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		}
 	}
 
+	/**
+	 * A source file parsed by one of the parser threads. The AST is handed over to the task thread
+	 * that writes it to the index.
+	 */
+	private static class ParsedSource {
+		final Object fTu;
+		final IIndexFileLocation fLocation;
+		final AbstractLanguage fLanguage;
+		final IScannerInfo fScannerInfo;
+		FileContent fCodeReader;
+		IASTTranslationUnit fAST;
+		/** The number of files replaced in the index at the time the source was parsed */
+		int fReplacedFilesCount;
+		long fParsingTime;
+		Throwable fError;
+
+		ParsedSource(Object tu, IIndexFileLocation location, AbstractLanguage language, IScannerInfo scannerInfo) {
+			fTu = tu;
+			fLocation = location;
+			fLanguage = language;
+			fScannerInfo = scannerInfo;
+		}
+	}
+
 	public static class IndexFileContent {
 		private Object[] fPreprocessingDirectives;
 		private ICPPUsingDirective[] fDirectives;
@@ -323,8 +356,11 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private Set<String> fHeadersToIndexAllVersions = Collections.emptySet();
 	private Pattern fPragmaPrivatePattern;
 	private List<LinkageTask> fRequestsPerLinkage = new ArrayList<>();
-	private Map<IIndexFile, IndexFileContent> fIndexContentCache = new LRUCache<>(500);
-	private Map<IIndexFileLocation, IIndexFragmentFile[]> fIndexFilesCache = new LRUCache<>(5000);
+	// The caches are accessed by the parser threads when parsing in parallel.
+	private Map<IIndexFile, IndexFileContent> fIndexContentCache = Collections
+			.synchronizedMap(new LRUCache<IIndexFile, IndexFileContent>(500));
+	private Map<IIndexFileLocation, IIndexFragmentFile[]> fIndexFilesCache = Collections
+			.synchronizedMap(new LRUCache<IIndexFileLocation, IIndexFragmentFile[]>(5000));
 	private Map<IIndexFileLocation, LocationTask> fOneLinkageTasks = new HashMap<>();
 
 	private Object[] fFilesToUpdate;
@@ -339,6 +375,14 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private long fIncludedFileSizeLimit;
 	private InternalFileContentProvider fCodeReaderFactory;
 	private int fSwallowOutOfMemoryError = 5;
+	private int fParserThreadCount = 1;
+	/**
+	 * Parser threads hold its read lock while they hold a read lock on the index, the task thread holds
+	 * its write lock while it writes parsed sources to the index. The lock is fair, such that parser
+	 * threads do not start new parses while the task thread waits to write. Read locks on the index
+	 * otherwise take precedence over the write lock, parser threads would starve the task thread.
+	 */
+	private final ReentrantReadWriteLock fParserGate = new ReentrantReadWriteLock(true);
 	/**
 	 * A queue of urgent indexing tasks that contribute additional files to this task.
 	 * The files from the urgent tasks are indexed before all not yet processed files.
@@ -398,6 +442,14 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		fPragmaPrivatePattern = pattern;
 	}
 
+	/**
+	 * Sets the number of threads used for parsing source files. With more than one thread source files
+	 * are parsed concurrently while the results are written to the index by the thread running the task.
+	 */
+	public final void setParserThreadCount(int count) {
+		fParserThreadCount = Math.max(1, count);
+	}
+
 	/**
 	 * @see IPDOMIndexerTask#acceptUrgentTask(IPDOMIndexerTask)
 	 */
@@ -897,17 +949,22 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 				continue;
 
 			// First parse the required sources.
-			for (Iterator<IIndexFileLocation> it = filesAtPriority.iterator(); it.hasNext();) {
-				IIndexFileLocation ifl = it.next();
-				LocationTask locTask = map.find(ifl);
-				if (locTask == null || locTask.isCompleted()) {
-					it.remove();
-				} else if (locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
-					if (hasUrgentTasks())
-						return;
-					final Object tu = locTask.fTu;
-					final IScannerInfo scannerInfo = getScannerInfo(linkageID, tu);
-					parseFile(tu, getLanguage(tu, linkageID), ifl, scannerInfo, null, progress.split(1));
+			if (fParserThreadCount > 1) {
+				if (!parseSourcesInParallel(linkageID, map, filesAtPriority, progress))
+					return;
+			} else {
+				for (Iterator<IIndexFileLocation> it = filesAtPriority.iterator(); it.hasNext();) {
+					IIndexFileLocation ifl = it.next();
+					LocationTask locTask = map.find(ifl);
+					if (locTask == null || locTask.isCompleted()) {
+						it.remove();
+					} else if (locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
+						if (hasUrgentTasks())
+							return;
+						final Object tu = locTask.fTu;
+						final IScannerInfo scannerInfo = getScannerInfo(linkageID, tu);
+						parseFile(tu, getLanguage(tu, linkageID), ifl, scannerInfo, null, progress.split(1));
+					}
 				}
 			}
 
@@ -1086,21 +1143,42 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private DependsOnOutdatedFileException parseFile(Object tu, AbstractLanguage lang, IIndexFileLocation ifl,
 			IScannerInfo scanInfo, FileContext ctx, IProgressMonitor monitor)
 			throws CoreException, InterruptedException {
+		return parseFile(tu, lang, ifl, scanInfo, ctx, null, monitor);
+	}
+
+	/**
+	 * Parses a file and writes the result to the index. If {@code parsed} is not {@code null}, the file has
+	 * already been parsed by a parser thread and only the writing to the index is left to do.
+	 */
+	private DependsOnOutdatedFileException parseFile(Object tu, AbstractLanguage lang, IIndexFileLocation ifl,
+			IScannerInfo scanInfo, FileContext ctx, ParsedSource parsed, IProgressMonitor monitor)
+			throws CoreException, InterruptedException {
 		SubMonitor progress = SubMonitor.convert(monitor, 21);
 		boolean resultCacheCleared = false;
 		IPath path = getLabel(ifl);
 		Throwable th = null;
 		try {
-			if (fShowActivity) {
+			if (fShowActivity && parsed == null) {
 				trace("Indexer: parsing " + path.toOSString()); //$NON-NLS-1$
 			}
 			progress.subTask(
 					getMessage(MessageKind.parsingFileTask, path.lastSegment(), path.removeLastSegments(1).toString()));
-			FileContent codeReader = fResolver.getCodeReader(tu);
-
+			final FileContent codeReader;
+			final IASTTranslationUnit ast;
 			long start = System.currentTimeMillis();
-			IASTTranslationUnit ast = createAST(lang, codeReader, scanInfo, fASTOptions, ctx, progress.split(10));
-			fStatistics.fParsingTime += System.currentTimeMillis() - start;
+			if (parsed == null) {
+				codeReader = fResolver.getCodeReader(tu);
+				ast = createAST(lang, codeReader, scanInfo, fASTOptions, ctx, progress.split(10));
+				fStatistics.fParsingTime += System.currentTimeMillis() - start;
+			} else {
+				if (parsed.fError != null)
+					rethrow(parsed.fError);
+				codeReader = parsed.fCodeReader;
+				ast = parsed.fAST;
+				start -= parsed.fParsingTime;
+				fStatistics.fParsingTime += parsed.fParsingTime;
+				progress.split(10);
+			}
 			if (ast == null) {
 				++fStatistics.fTooManyTokensCount;
 			} else {
@@ -1213,35 +1291,28 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		if (codeReader == null) {
 			return null;
 		}
-		if (fTranslationUnitSizeLimit > 0
-				&& fResolver.getFileSize(codeReader.getFileLocation()) > fTranslationUnitSizeLimit) {
-			if (fShowActivity) {
-				trace("Indexer: Skipping large file " + codeReader.getFileLocation()); //$NON-NLS-1$
-			}
-			return null;
-		}
 		final IIndexFile[] ctx2header = ctx == null ? null : new IIndexFile[] { ctx.fContext, ctx.fOldFile };
 		if (fCodeReaderFactory == null) {
-			InternalFileContentProvider fileContentProvider = createInternalFileContentProvider();
-			if (fIsFastIndexer) {
-				IndexBasedFileContentProvider ibfcp = new IndexBasedFileContentProvider(fIndex, fResolver,
-						language.getLinkageID(), fileContentProvider, this);
-				ibfcp.setContextToHeaderGap(ctx2header);
-				ibfcp.setFileSizeLimit(fIncludedFileSizeLimit);
-				ibfcp.setHeadersToIndexAllVersions(fHeadersToIndexAllVersions);
-				ibfcp.setIndexAllHeaderVersions(fIndexAllHeaderVersions);
-				fCodeReaderFactory = ibfcp;
-			} else {
-				fCodeReaderFactory = fileContentProvider;
-			}
-			fCodeReaderFactory.setIncludeResolutionHeuristics(createIncludeHeuristics());
+			fCodeReaderFactory = createFileContentProvider(fIndex, language.getLinkageID(), ctx2header);
 		} else if (fIsFastIndexer) {
 			final IndexBasedFileContentProvider ibfcp = (IndexBasedFileContentProvider) fCodeReaderFactory;
 			ibfcp.setContextToHeaderGap(ctx2header);
 			ibfcp.setLinkage(language.getLinkageID());
 		}
+		return createAST(language, codeReader, scanInfo, options, fCodeReaderFactory, fIndex, monitor);
+	}
 
-		IASTTranslationUnit ast = language.getASTTranslationUnit(codeReader, scanInfo, fCodeReaderFactory, fIndex,
+	private IASTTranslationUnit createAST(AbstractLanguage language, FileContent codeReader, IScannerInfo scanInfo,
+			int options, InternalFileContentProvider fileContentProvider, IWritableIndex index,
+			IProgressMonitor monitor) throws CoreException {
+		if (fTranslationUnitSizeLimit > 0
+				&& fResolver.getFileSize(codeReader.getFileLocation()) > fTranslationUnitSizeLimit) {
+			if (fShowActivity) {
+				trace("Indexer: Skipping large file " + codeReader.getFileLocation()); //$NON-NLS-1$
+			}
+			return null;
+		}
+		IASTTranslationUnit ast = language.getASTTranslationUnit(codeReader, scanInfo, fileContentProvider, index,
 				options, getLogService());
 		if (monitor.isCanceled()) {
 			throw new OperationCanceledException();
@@ -1249,6 +1320,202 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		return ast;
 	}
 
+	private InternalFileContentProvider createFileContentProvider(IWritableIndex index, int linkageID,
+			IIndexFile[] ctx2header) {
+		InternalFileContentProvider fileContentProvider = createInternalFileContentProvider();
+		InternalFileContentProvider result;
+		if (fIsFastIndexer) {
+			IndexBasedFileContentProvider ibfcp = new IndexBasedFileContentProvider(index, fResolver, linkageID,
+					fileContentProvider, this);
+			ibfcp.setContextToHeaderGap(ctx2header);
+			ibfcp.setFileSizeLimit(fIncludedFileSizeLimit);
+			ibfcp.setHeadersToIndexAllVersions(fHeadersToIndexAllVersions);
+			ibfcp.setIndexAllHeaderVersions(fIndexAllHeaderVersions);
+			result = ibfcp;
+		} else {
+			result = fileContentProvider;
+		}
+		result.setIncludeResolutionHeuristics(createIncludeHeuristics());
+		return result;
+	}
+
+	/**
+	 * Parses the required sources of the given linkage on multiple parser threads. Each parser thread uses
+	 * its own index object, so that read locks held while parsing do not count as locks of this task. The
+	 * read locks are held for a single parse only. The calling thread writes the parsed ASTs to the index
+	 * in batches, parser threads don't start new parses while a batch is written.
+	 * <p>
+	 * Writing a source that only adds files to the index leaves the ASTs parsed in the meantime valid. When
+	 * the content of a file is replaced, the bindings it declared may be deleted, so the ASTs parsed before
+	 * can refer to bindings that no longer exist. Such sources are parsed again by the calling thread, which
+	 * then writes them while still holding its read lock, like the sequential indexer does.
+	 *
+	 * @return {@code false} if parsing was interrupted in favor of an urgent task
+	 */
+	private boolean parseSourcesInParallel(int linkageID, LinkageTask map, List<IIndexFileLocation> files,
+			SubMonitor progress) throws CoreException, InterruptedException {
+		final Queue<ParsedSource> sources = new ConcurrentLinkedQueue<>();
+		for (IIndexFileLocation ifl : files) {
+			LocationTask locTask = map.find(ifl);
+			if (locTask != null && !locTask.isCompleted() && locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
+				final Object tu = locTask.fTu;
+				sources.add(
+						new ParsedSource(tu, ifl, getLanguage(tu, linkageID), getScannerInfo(linkageID, tu)));
+			}
+		}
+		final int count = sources.size();
+		if (count == 0)
+			return true;
+
+		final int threadCount = Math.min(fParserThreadCount, count);
+		final IWritableIndex[] indexes = new IWritableIndex[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			indexes[i] = createIndex();
+			if (indexes[i] == null)
+				return parseSourcesSequentially(sources, progress);
+		}
+
+		final BlockingQueue<ParsedSource> parsed = new ArrayBlockingQueue<>(threadCount);
+		final AtomicBoolean stop = new AtomicBoolean();
+		final Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			final IWritableIndex index = indexes[i];
+			threads[i] = new Thread(() -> runParserThread(index, linkageID, sources, parsed, stop),
+					"CDT Indexer Parser " + (i + 1)); //$NON-NLS-1$
+			threads[i].setDaemon(true);
+			threads[i].start();
+		}
+		try {
+			for (int i = 0; i < count;) {
+				ParsedSource source = parsed.take();
+				fParserGate.writeLock().lockInterruptibly();
+				try {
+					do {
+						i++;
+						if (hasUrgentTasks())
+							return false;
+						LocationTask locTask = map.find(source.fLocation);
+						if (locTask != null && !locTask.isCompleted()) {
+							if (source.fReplacedFilesCount == fStatistics.fReplacedFilesCount) {
+								parseFile(source.fTu, source.fLanguage, source.fLocation, source.fScannerInfo, null,
+										source, progress.split(1));
+								fStatistics.fParallelParsedCount++;
+							} else {
+								// The AST may refer to bindings of a file replaced after it was parsed.
+								parseFile(source.fTu, source.fLanguage, source.fLocation, source.fScannerInfo, null,
+										progress.split(1));
+								fStatistics.fReparsedCount++;
+							}
+						}
+					} while (i < count && (source = parsed.poll()) != null);
+				} finally {
+					fParserGate.writeLock().unlock();
+				}
+			}
+		} finally {
+			stop.set(true);
+			for (Thread thread : threads) {
+				while (thread.isAlive()) {
+					// Unblock parser threads waiting for space in the queue.
+					parsed.clear();
+					thread.join(100);
+				}
+			}
+		}
+		return true;
+	}
+
+	private boolean parseSourcesSequentially(Queue<ParsedSource> sources, SubMonitor progress)
+			throws CoreException, InterruptedException {
+		ParsedSource source;
+		while ((source = sources.poll()) != null) {
+			if (hasUrgentTasks())
+				return false;
+			parseFile(source.fTu, source.fLanguage, source.fLocation, source.fScannerInfo, null, progress.split(1));
+		}
+		return true;
+	}
+
+	private void runParserThread(IWritableIndex index, int linkageID, Queue<ParsedSource> sources,
+			BlockingQueue<ParsedSource> parsed, AtomicBoolean stop) {
+		final IProgressMonitor monitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return stop.get();
+			}
+		};
+		InternalFileContentProvider fileContentProvider = null;
+		ParsedSource source;
+		while (!stop.get() && (source = sources.poll()) != null) {
+			long start = System.currentTimeMillis();
+			try {
+				fParserGate.readLock().lockInterruptibly();
+				try {
+					index.acquireReadLock();
+					try {
+						// Files are replaced by the task thread while it holds the gate, only.
+						source.fReplacedFilesCount = fStatistics.fReplacedFilesCount;
+						if (fileContentProvider == null)
+							fileContentProvider = createFileContentProvider(index, linkageID, null);
+						source.fCodeReader = fResolver.getCodeReader(source.fTu);
+						if (source.fCodeReader != null) {
+							source.fAST = createAST(source.fLanguage, source.fCodeReader, source.fScannerInfo,
+									fASTOptions, fileContentProvider, index, monitor);
+							if (source.fAST != null)
+								resolveNames(source.fAST);
+						}
+					} finally {
+						index.releaseReadLock();
+					}
+				} finally {
+					fParserGate.readLock().unlock();
+				}
+			} catch (InterruptedException e) {
+				source.fError = new OperationCanceledException();
+			} catch (Throwable e) {
+				source.fError = e;
+			}
+			source.fParsingTime = System.currentTimeMillis() - start;
+			try {
+				parsed.put(source);
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Resolves the names of the AST while the parser thread still holds a read lock on the index. The bindings
+	 * are cached by the names, which saves the writing thread most of the name resolution work.
+	 */
+	private static void resolveNames(IASTTranslationUnit ast) {
+		ast.accept(new ASTVisitor() {
+			{
+				shouldVisitNames = true;
+			}
+
+			@Override
+			public int visit(IASTName name) {
+				try {
+					name.resolveBinding();
+				} catch (RuntimeException | StackOverflowError e) {
+					// The error is reported when the name is resolved again by the writing thread.
+				}
+				return PROCESS_CONTINUE;
+			}
+		});
+	}
+
+	private static void rethrow(Throwable e) throws CoreException {
+		if (e instanceof CoreException)
+			throw (CoreException) e;
+		if (e instanceof RuntimeException)
+			throw (RuntimeException) e;
+		if (e instanceof Error)
+			throw (Error) e;
+		throw new RuntimeException(e);
+	}
+
 	private InternalFileContentProvider createInternalFileContentProvider() {
 		final IncludeFileContentProvider fileContentProvider = createReaderFactory();
 		if (fileContentProvider instanceof InternalFileContentProvider)
@@ -1550,6 +1550,11 @@ public class PDOM extends PlatformObject implements IPDOM {
 		return db.getCacheMisses();
 	}
 
+	@Override
+	public long getCacheEvictions() {
+		return db.getCacheEvictions();
+	}
+
 	@Override
 	public void resetCacheCounters() {
 		db.resetCacheCounters();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Wind River Systems, Inc. and others.
+ * Copyright (c) 2007, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -689,6 +690,18 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 				}
 				IncludeInformation[] includeInfoArray = includeInfos
 						.toArray(new IncludeInformation[includeInfos.size()]);
+				// A file with unchanged text is reparsed when it serves as the context of a modified
+				// header. Unless a change in the header affected the file, e.g. by changing the binding
+				// of a name, there is no need to replace its content.
+				if (canKeepContent(oldFile, file, astFile) && index.hasSameFileContent(oldFile, storageLinkageID,
+						includeInfoArray, macros, names, fResolver, lock)) {
+					index.updateFileBindings(oldFile, names, fResolver, lock);
+					oldFile.setTimestamp(astFile.timestamp);
+					oldFile.setSourceReadTime(astFile.sourceReadTime);
+					oldFile.setSizeAndEncodingHashcode(computeFileSizeAndEncodingHashcode(astFile.fileSize, location));
+					fStatistics.fUnchangedFilesCount++;
+					return oldFile;
+				}
 				index.setFileContent(file, storageLinkageID, includeInfoArray, macros, names, fResolver, lock);
 			}
 			file.setTimestamp(astFile.hasError ? 0 : astFile.timestamp);
@@ -696,6 +709,8 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 			file.setSizeAndEncodingHashcode(computeFileSizeAndEncodingHashcode(astFile.fileSize, location));
 			file.setContentsHash(astFile.contentsHash);
 			file = index.commitUncommittedFile();
+			if (oldFile != null)
+				fStatistics.fReplacedFilesCount++;
 		} catch (FailedToReAcquireLockException e) {
 			hasLock = false;
 			throw e;
@@ -715,6 +730,14 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 		return file;
 	}
 
+	private static boolean canKeepContent(IIndexFragmentFile oldFile, IIndexFragmentFile newFile, FileInAST astFile)
+			throws CoreException {
+		return oldFile != null && !astFile.hasError && oldFile.getTimestamp() > 0 && oldFile.hasContent()
+				&& oldFile.getContentsHash() == astFile.contentsHash
+				&& oldFile.hasPragmaOnceSemantics() == newFile.hasPragmaOnceSemantics()
+				&& Objects.equals(oldFile.getReplacementHeader(), newFile.getReplacementHeader());
+	}
+
 	protected int computeFileSizeAndEncodingHashcode(IIndexFileLocation location) {
 		return computeFileSizeAndEncodingHashcode((int) fResolver.getFileSize(location), location);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 Wind River Systems, Inc. and others.
+ * Copyright (c) 2006, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.cdt.internal.core.pdom;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -169,6 +170,37 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 		}
 	}
 
+	@Override
+	public boolean hasSameFileContent(IIndexFragmentFile file, IncludeInformation[] includes,
+			IASTPreprocessorStatement[] macros, IASTName[][] names, ASTFilePathResolver pathResolver,
+			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException {
+		assert file.getIndexFragment() == this;
+		assert file.equals(fileBeingUpdated);
+
+		final ASTFilePathResolver origResolver = fPathResolver;
+		fPathResolver = pathResolver;
+		try {
+			return ((PDOMFile) file).hasSameContent(includes, macros, names, lock);
+		} finally {
+			fPathResolver = origResolver;
+		}
+	}
+
+	@Override
+	public void updateFileBindings(IIndexFragmentFile file, IASTName[][] names, ASTFilePathResolver pathResolver,
+			YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException {
+		assert file.getIndexFragment() == this;
+		assert file.equals(fileBeingUpdated);
+
+		final ASTFilePathResolver origResolver = fPathResolver;
+		fPathResolver = pathResolver;
+		try {
+			((PDOMFile) file).updateBindings(names, lock);
+		} finally {
+			fPathResolver = origResolver;
+		}
+	}
+
 	@Override
 	public void clearFile(IIndexFragmentFile file) throws CoreException {
 		assert file.getIndexFragment() == this;
@@ -232,15 +264,19 @@ public class WritablePDOM extends PDOM implements IWritableIndexFragment {
 
 		clearFileIndex();
 		final List<PDOMFile> notConverted = new ArrayList<>();
+		final long[] converted = new long[pdomfiles.size()];
+		int convertedCount = 0;
 		for (PDOMFile file : pdomfiles) {
 			String internalFormat = newConverter.toInternalFormat(file.getLocation());
 			if (internalFormat != null) {
 				file.setInternalLocation(internalFormat);
-				getFileIndex().insert(file.getRecord());
+				converted[convertedCount++] = file.getRecord();
 			} else {
 				notConverted.add(file);
 			}
 		}
+		// All files are known up front, build the new file index in one pass.
+		getFileIndex().bulkLoad(Arrays.copyOf(converted, convertedCount));
 
 		// remove content where converter returns null
 		for (PDOMFile file : notConverted) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 QNX Software Systems and others.
+ * Copyright (c) 2005, 2026 QNX Software Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -189,6 +189,7 @@ public class BTree {
 		long child = getChild(chunk, node, i);
 		if (child != 0) {
 			// Visit the children.
+			chunk.markFrequentlyUsed();
 			return insert(chunk, node, i, child, record);
 		} else {
 			// We are at the leaf, add us in.
@@ -203,6 +204,116 @@ public class BTree {
 		}
 	}
 
+	/**
+	 * Builds the b-tree from the given records bottom-up. Compared to inserting the records one
+	 * by one this never splits a node and writes every node exactly once, with all nodes filled
+	 * evenly. The b-tree must be empty. As with {@link #insert(long)} a record is not added if an
+	 * equal record precedes it.
+	 * <p>
+	 * This only helps where all records are known before the b-tree is built, like when the file
+	 * index of an exported index is rewritten. The indexer cannot use it, not even when the index
+	 * is rebuilt from scratch: it looks up bindings, files and macros in the b-trees while adding
+	 * them and relies on {@link #insert(long)} returning the record that is already there.
+	 *
+	 * @param records the records to add, the array is sorted in place.
+	 */
+	public void bulkLoad(long[] records) throws CoreException {
+		if (getRoot() != 0)
+			throw new IllegalStateException(Messages.getString("BTree.BulkLoadIntoNonEmptyTree")); //$NON-NLS-1$
+
+		sort(records, new long[records.length], 0, records.length);
+		int count = 0;
+		for (int i = 0; i < records.length; i++) {
+			if (count == 0 || cmp.compare(records[count - 1], records[i]) != 0) {
+				records[count++] = records[i];
+			}
+		}
+		if (count == 0)
+			return;
+
+		int height = 0;
+		while (getMaxSubtreeSize(height) < count) {
+			height++;
+		}
+		long root = buildSubtree(records, 0, count, height, true);
+		db.putRecPtr(rootPointer, root);
+	}
+
+	/**
+	 * Returns the maximum number of records in a subtree of the given height, saturated at
+	 * {@link Integer#MAX_VALUE}.
+	 */
+	private long getMaxSubtreeSize(int height) {
+		long size = MAX_RECORDS;
+		for (int i = 0; i < height && size < Integer.MAX_VALUE; i++) {
+			size = size * MAX_CHILDREN + MAX_RECORDS;
+		}
+		return Math.min(size, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a subtree of the given height for {@code count} records starting at {@code from}.
+	 * The records are distributed evenly among the children, each child subtree receives at
+	 * least the minimum number of records for its height.
+	 */
+	private long buildSubtree(long[] records, int from, int count, int height, boolean isRoot)
+			throws CoreException {
+		final long node = allocateNode();
+		if (height == 0) {
+			Chunk chunk = db.getChunk(node);
+			for (int i = 0; i < count; i++) {
+				putRecord(chunk, node, i, records[from + i]);
+			}
+			return node;
+		}
+
+		// Use the least number of children that can hold the records, but not less than the
+		// minimum number of children for nodes other than the root.
+		final long maxChildSize = getMaxSubtreeSize(height - 1);
+		int childCount = (int) ((count + 1 + maxChildSize) / (maxChildSize + 1));
+		if (!isRoot) {
+			childCount = Math.max(childCount, DEGREE);
+		}
+		final int childRecords = count - (childCount - 1);
+		final int childSize = childRecords / childCount;
+		final int remainder = childRecords % childCount;
+		int pos = from;
+		for (int i = 0; i < childCount; i++) {
+			final int size = childSize + (i < remainder ? 1 : 0);
+			final long child = buildSubtree(records, pos, size, height - 1, false);
+			pos += size;
+			// The chunk of the node may have been evicted while building the child.
+			Chunk chunk = db.getChunk(node);
+			putChild(chunk, node, i, child);
+			if (i < childCount - 1) {
+				putRecord(chunk, node, i, records[pos++]);
+			}
+		}
+		return node;
+	}
+
+	private void sort(long[] records, long[] buffer, int from, int to) throws CoreException {
+		if (to - from < 2)
+			return;
+
+		final int middle = (from + to) >>> 1;
+		sort(records, buffer, from, middle);
+		sort(records, buffer, middle, to);
+		if (cmp.compare(records[middle - 1], records[middle]) <= 0)
+			return;
+
+		System.arraycopy(records, from, buffer, from, to - from);
+		int i = from;
+		int j = middle;
+		for (int k = from; k < to; k++) {
+			if (j >= to || (i < middle && cmp.compare(buffer[i], buffer[j]) <= 0)) {
+				records[k] = buffer[i++];
+			} else {
+				records[k] = buffer[j++];
+			}
+		}
+	}
+
 	private void firstInsert(long record) throws CoreException {
 		// Create the node and save it as root.
 		long root = allocateNode();
@@ -553,6 +664,10 @@ public class BTree {
 
 		try {
 			Chunk chunk = db.getChunk(node);
+			if (getChild(chunk, node, 0) != 0) {
+				// Interior nodes are traversed by most lookups in the tree.
+				chunk.markFrequentlyUsed();
+			}
 
 			// Binary search to find first record greater or equal.
 			int lower = 0;
@@ -25,12 +25,20 @@ import org.eclipse.core.runtime.CoreException;
  * Caches the content of a piece of the database.
  */
 final class Chunk {
-	final private byte[] fBuffer = new byte[Database.CHUNK_SIZE];
+	/**
+	 * The content of the chunk on the heap, or {@code null} while the chunk is backed by a read-only
+	 * view of the memory-mapped database file.
+	 */
+	private byte[] fBuffer;
+	private ByteBuffer fMapped;
 
 	final Database fDatabase;
 	final int fSequenceNumber;
 
+	// Read without holding the cache lock by readers looking up chunks in Database.getChunk().
 	boolean fCacheHitFlag;
+	// Number of sweeps of the cache's clock hand the chunk survives without being referenced.
+	int fCacheFrequency;
 	boolean fDirty;
 	boolean fLocked; // locked chunks must not be released from cache.
 	int fCacheIndex = -1;
@@ -38,6 +46,17 @@ final class Chunk {
 	Chunk(Database db, int sequenceNumber) {
 		fDatabase = db;
 		fSequenceNumber = sequenceNumber;
+		fBuffer = new byte[Database.CHUNK_SIZE];
+	}
+
+	/**
+	 * Creates a chunk backed by a read-only view of the mapped database file. The content is copied
+	 * to the heap when the chunk is modified for the first time.
+	 */
+	Chunk(Database db, int sequenceNumber, ByteBuffer mapped) {
+		fDatabase = db;
+		fSequenceNumber = sequenceNumber;
+		fMapped = mapped;
 	}
 
 	void read() throws CoreException {
@@ -50,6 +69,7 @@ final class Chunk {
 	}
 
 	void flush() throws CoreException {
+		makeWritable();
 		try {
 			final ByteBuffer buf = ByteBuffer.wrap(fBuffer);
 			fDatabase.write(buf, (long) fSequenceNumber * Database.CHUNK_SIZE);
@@ -59,34 +79,62 @@ final class Chunk {
 		fDirty = false;
 	}
 
+	/**
+	 * Marks the chunk as holding data that is needed by most lookups, e.g. an interior node of a
+	 * B-tree, such that the cache prefers to keep it.
+	 */
+	void markFrequentlyUsed() {
+		fCacheFrequency = ChunkCache.MAX_FREQUENCY;
+	}
+
 	private static int recPtrToIndex(final long offset) {
 		return (int) (offset & Database.OFFSET_IN_CHUNK_MASK);
 	}
 
+	/**
+	 * Replaces the mapped view of the file by a copy on the heap. Must be called before the
+	 * content of the chunk is changed.
+	 */
+	private void makeWritable() {
+		if (fBuffer == null) {
+			final byte[] buffer = new byte[Database.CHUNK_SIZE];
+			fMapped.get(0, buffer);
+			fBuffer = buffer;
+			fMapped = null;
+		}
+	}
+
 	public void putByte(final long offset, final byte value) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		fBuffer[recPtrToIndex(offset)] = value;
 	}
 
 	public byte getByte(final long offset) {
-		return fBuffer[recPtrToIndex(offset)];
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			return fMapped.get(recPtrToIndex(offset));
+		}
+		return buffer[recPtrToIndex(offset)];
 	}
 
 	public byte[] getBytes(final long offset, final int length) {
 		final byte[] bytes = new byte[length];
-		System.arraycopy(fBuffer, recPtrToIndex(offset), bytes, 0, length);
+		get(offset, bytes, 0, length);
 		return bytes;
 	}
 
 	public void putBytes(final long offset, final byte[] bytes) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		System.arraycopy(bytes, 0, fBuffer, recPtrToIndex(offset), bytes.length);
 	}
 
 	public void putInt(final long offset, final int value) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 		putInt(value, fBuffer, idx);
@@ -100,7 +148,11 @@ final class Chunk {
 	}
 
 	public int getInt(final long offset) {
-		return getInt(fBuffer, recPtrToIndex(offset));
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			return fMapped.getInt(recPtrToIndex(offset));
+		}
+		return getInt(buffer, recPtrToIndex(offset));
 	}
 
 	static final int getInt(final byte[] buffer, int idx) {
@@ -141,6 +193,7 @@ final class Chunk {
 	 */
 	public void putRecPtr(final long offset, final long value) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 		Database.putRecPtr(value, fBuffer, idx);
@@ -152,24 +205,28 @@ final class Chunk {
 	 */
 	public void putFreeRecPtr(final long offset, final long value) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 		putInt(compressFreeRecPtr(value), fBuffer, idx);
 	}
 
 	public long getRecPtr(final long offset) {
-		final int idx = recPtrToIndex(offset);
-		return Database.getRecPtr(fBuffer, idx);
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			long address = expandToFreeRecPtr(fMapped.getInt(recPtrToIndex(offset)));
+			return address != 0 ? (address + Database.BLOCK_HEADER_SIZE) : address;
+		}
+		return Database.getRecPtr(buffer, recPtrToIndex(offset));
 	}
 
 	public long getFreeRecPtr(final long offset) {
-		final int idx = recPtrToIndex(offset);
-		int value = getInt(fBuffer, idx);
-		return expandToFreeRecPtr(value);
+		return expandToFreeRecPtr(getInt(offset));
 	}
 
 	public void put3ByteUnsignedInt(final long offset, final int value) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 		fBuffer[idx] = (byte) (value >> 16);
@@ -179,11 +236,18 @@ final class Chunk {
 
 	public int get3ByteUnsignedInt(final long offset) {
 		int idx = recPtrToIndex(offset);
-		return ((fBuffer[idx] & 0xff) << 16) | ((fBuffer[++idx] & 0xff) << 8) | ((fBuffer[++idx] & 0xff) << 0);
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			final ByteBuffer mapped = fMapped;
+			return ((mapped.get(idx) & 0xff) << 16) | ((mapped.get(++idx) & 0xff) << 8)
+					| ((mapped.get(++idx) & 0xff) << 0);
+		}
+		return ((buffer[idx] & 0xff) << 16) | ((buffer[++idx] & 0xff) << 8) | ((buffer[++idx] & 0xff) << 0);
 	}
 
 	public void putShort(final long offset, final short value) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 		fBuffer[idx] = (byte) (value >> 8);
@@ -192,19 +256,28 @@ final class Chunk {
 
 	public short getShort(final long offset) {
 		int idx = recPtrToIndex(offset);
-		return (short) (((fBuffer[idx] << 8) | (fBuffer[++idx] & 0xff)));
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			return fMapped.getShort(idx);
+		}
+		return (short) (((buffer[idx] << 8) | (buffer[++idx] & 0xff)));
 	}
 
 	public long getLong(final long offset) {
 		int idx = recPtrToIndex(offset);
-		return ((((long) fBuffer[idx] & 0xff) << 56) | (((long) fBuffer[++idx] & 0xff) << 48)
-				| (((long) fBuffer[++idx] & 0xff) << 40) | (((long) fBuffer[++idx] & 0xff) << 32)
-				| (((long) fBuffer[++idx] & 0xff) << 24) | (((long) fBuffer[++idx] & 0xff) << 16)
-				| (((long) fBuffer[++idx] & 0xff) << 8) | (((long) fBuffer[++idx] & 0xff) << 0));
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			return fMapped.getLong(idx);
+		}
+		return ((((long) buffer[idx] & 0xff) << 56) | (((long) buffer[++idx] & 0xff) << 48)
+				| (((long) buffer[++idx] & 0xff) << 40) | (((long) buffer[++idx] & 0xff) << 32)
+				| (((long) buffer[++idx] & 0xff) << 24) | (((long) buffer[++idx] & 0xff) << 16)
+				| (((long) buffer[++idx] & 0xff) << 8) | (((long) buffer[++idx] & 0xff) << 0));
 	}
 
 	public void putLong(final long offset, final long value) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 
@@ -220,6 +293,7 @@ final class Chunk {
 
 	public void putChar(final long offset, final char value) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 		fBuffer[idx] = (byte) (value >> 8);
@@ -228,6 +302,7 @@ final class Chunk {
 
 	public void putChars(final long offset, char[] chars, int start, int len) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset) - 1;
 		final int end = start + len;
@@ -240,6 +315,7 @@ final class Chunk {
 
 	public void putCharsAsBytes(final long offset, char[] chars, int start, int len) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset) - 1;
 		final int end = start + len;
@@ -251,24 +327,43 @@ final class Chunk {
 
 	public char getChar(final long offset) {
 		int idx = recPtrToIndex(offset);
-		return (char) (((fBuffer[idx] << 8) | (fBuffer[++idx] & 0xff)));
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			return fMapped.getChar(idx);
+		}
+		return (char) (((buffer[idx] << 8) | (buffer[++idx] & 0xff)));
 	}
 
 	public void getChars(final long offset, final char[] result, int start, int len) {
-		final ByteBuffer buf = ByteBuffer.wrap(fBuffer);
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			// Readers share the mapped view, a slice provides a private position.
+			fMapped.slice(recPtrToIndex(offset), 2 * len).asCharBuffer().get(result, start, len);
+			return;
+		}
+		final ByteBuffer buf = ByteBuffer.wrap(buffer);
 		buf.position(recPtrToIndex(offset));
 		buf.asCharBuffer().get(result, start, len);
 	}
 
 	public void getCharsFromBytes(final long offset, final char[] result, int start, int len) {
 		final int pos = recPtrToIndex(offset);
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			final ByteBuffer mapped = fMapped;
+			for (int i = 0; i < len; i++) {
+				result[start + i] = (char) (mapped.get(pos + i) & 0xff);
+			}
+			return;
+		}
 		for (int i = 0; i < len; i++) {
-			result[start + i] = (char) (fBuffer[pos + i] & 0xff);
+			result[start + i] = (char) (buffer[pos + i] & 0xff);
 		}
 	}
 
 	void clear(final long offset, final int length) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 		final int end = idx + length;
@@ -283,6 +378,7 @@ final class Chunk {
 
 	void put(final long offset, final byte[] data, int dataPos, final int len) {
 		assert fLocked;
+		makeWritable();
 		fDirty = true;
 		int idx = recPtrToIndex(offset);
 		System.arraycopy(data, dataPos, fBuffer, idx, len);
@@ -294,6 +390,11 @@ final class Chunk {
 
 	public void get(final long offset, byte[] data, int dataPos, int len) {
 		int idx = recPtrToIndex(offset);
-		System.arraycopy(fBuffer, idx, data, dataPos, len);
+		final byte[] buffer = fBuffer;
+		if (buffer == null) {
+			fMapped.get(idx, data, dataPos, len);
+			return;
+		}
+		System.arraycopy(buffer, idx, data, dataPos, len);
 	}
 }
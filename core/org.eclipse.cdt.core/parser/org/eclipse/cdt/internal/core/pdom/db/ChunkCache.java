@@ -14,6 +14,11 @@
 package org.eclipse.cdt.internal.core.pdom.db;
 
 public final class ChunkCache {
+	/**
+	 * Maximum number of sweeps of the clock hand a chunk survives without being referenced.
+	 */
+	static final int MAX_FREQUENCY = 3;
+
 	private static ChunkCache sSharedInstance = new ChunkCache();
 
 	private Chunk[] fPageTable;
@@ -40,6 +45,7 @@ public final class ChunkCache {
 			chunk.fCacheHitFlag = true;
 			return;
 		}
+		chunk.fCacheFrequency = 0;
 		if (fTableIsFull) {
 			evictChunk();
 			chunk.fCacheIndex = fPointer;
@@ -63,16 +69,27 @@ public final class ChunkCache {
 	 */
 	private void evictChunk() {
 		/*
-		 * Use the CLOCK algorithm to determine which chunk to evict.
-		 * i.e., if the chunk in the current slot of the page table has been
-		 * recently referenced (i.e. the reference flag is set), unset the
-		 * reference flag and move to the next slot.  Otherwise, evict the
-		 * chunk in the current slot.
+		 * Use a variant of the CLOCK algorithm that counts references to determine which
+		 * chunk to evict. If the chunk in the current slot of the page table has been
+		 * referenced since the last sweep (i.e. the reference flag is set), unset the
+		 * reference flag, increase the frequency of the chunk and move to the next slot.
+		 * If the chunk has not been referenced but its frequency is positive, decrease
+		 * the frequency and move to the next slot. Otherwise evict the chunk in the current
+		 * slot.
+		 * Any number of references between two sweeps count only once, such that chunks
+		 * touched by a single scan, e.g. while indexing a large file, are evicted before
+		 * chunks that are used over and over again, like the interior nodes of B-trees.
 		 */
 		while (true) {
 			Chunk chunk = fPageTable[fPointer];
 			if (chunk.fCacheHitFlag) {
 				chunk.fCacheHitFlag = false;
+				if (chunk.fCacheFrequency < MAX_FREQUENCY) {
+					chunk.fCacheFrequency++;
+				}
+				fPointer = (fPointer + 1) % fPageTable.length;
+			} else if (chunk.fCacheFrequency > 0) {
+				chunk.fCacheFrequency--;
 				fPointer = (fPointer + 1) % fPageTable.length;
 			} else {
 				chunk.fDatabase.releaseChunk(chunk);
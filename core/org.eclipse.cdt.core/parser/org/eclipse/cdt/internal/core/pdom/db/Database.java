@@ -22,10 +22,13 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
@@ -33,6 +36,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -99,6 +103,17 @@ public class Database {
 	private static final int BLOCK_PREV_OFFSET = BLOCK_HEADER_SIZE;
 	private static final int BLOCK_NEXT_OFFSET = BLOCK_HEADER_SIZE + INT_SIZE;
 
+	// Used for publishing chunks to readers that look them up without holding the cache lock.
+	private static final VarHandle CHUNKS = MethodHandles.arrayElementVarHandle(Chunk[].class);
+
+	/**
+	 * Whether databases read their chunks through a memory-mapped view of the file by default.
+	 */
+	private static final boolean MAPPED_IO = Boolean.getBoolean("org.eclipse.cdt.core.parser.pdom.mmap"); //$NON-NLS-1$
+	/** Number of chunks covered by one mapped segment of the file (64MB). */
+	private static final int CHUNKS_PER_SEGMENT = 16 * 1024;
+	private static final long SEGMENT_SIZE = (long) CHUNKS_PER_SEGMENT * CHUNK_SIZE;
+
 	private final File fLocation;
 	private final boolean fReadOnly;
 	private RandomAccessFile fFile;
@@ -108,15 +123,18 @@ public class Database {
 
 	private int fVersion;
 	private final Chunk fHeaderChunk;
-	private Chunk[] fChunks;
+	private volatile Chunk[] fChunks;
 	private int fChunksUsed;
 	private int fChunksAllocated;
 	private ChunkCache fCache;
+	private final boolean fMappedIO;
+	private MappedByteBuffer[] fSegments = new MappedByteBuffer[0]; // Protected by fCache.
 
 	private long malloced;
 	private long freed;
-	private long cacheHits;
-	private long cacheMisses;
+	private final LongAdder cacheHits = new LongAdder();
+	private final LongAdder cacheMisses = new LongAdder();
+	private final LongAdder cacheEvictions = new LongAdder();
 
 	/** Soft reference wrapper to keep track of the record for disposed strings. */
 	private static class SoftStringRef extends SoftReference<IString> {
@@ -145,10 +163,26 @@ public class Database {
 	 * @throws CoreException
 	 */
 	public Database(File location, ChunkCache cache, int version, boolean openReadOnly) throws CoreException {
+		this(location, cache, version, openReadOnly, MAPPED_IO);
+	}
+
+	/**
+	 * Construct a new Database object, creating a backing file if necessary.
+	 * @param location the local file path for the database
+	 * @param cache the cache to be used optimization
+	 * @param version the version number to store in the database (only applicable for new databases)
+	 * @param openReadOnly whether this Database object will ever need writing to
+	 * @param mappedIO whether chunks are read through a memory-mapped view of the file rather than
+	 *     copied into the heap. Modified chunks are always copied to the heap.
+	 * @throws CoreException
+	 */
+	public Database(File location, ChunkCache cache, int version, boolean openReadOnly, boolean mappedIO)
+			throws CoreException {
 		try {
 			fLocation = location;
 			fReadOnly = openReadOnly;
 			fCache = cache;
+			fMappedIO = mappedIO;
 			openFile();
 
 			int nChunksOnDisk = (int) (fFile.length() / CHUNK_SIZE);
@@ -246,6 +280,7 @@ public class Database {
 		fHeaderChunk.clear(0, CHUNK_SIZE);
 		// Chunks have been removed from the cache, so we may just reset the array of chunks.
 		fChunks = new Chunk[] { null };
+		unmapSegments();
 		fChunksUsed = fChunksAllocated = fChunks.length;
 		try {
 			fHeaderChunk.flush(); // Zero out header chunk.
@@ -295,28 +330,94 @@ public class Database {
 		}
 		long long_index = offset / CHUNK_SIZE;
 		assert long_index < Integer.MAX_VALUE;
+		final int index = (int) long_index;
+
+		if (!fExclusiveLock) {
+			// Fast path for readers. While only read locks are held, chunks are neither modified nor
+			// locked, so a chunk that is present in the cache can be used without taking the cache lock.
+			// A chunk evicted concurrently remains valid for reading.
+			assert fLocked;
+			final Chunk[] chunks = fChunks;
+			if (index > 0 && index < chunks.length) {
+				final Chunk chunk = (Chunk) CHUNKS.getAcquire(chunks, index);
+				if (chunk != null && chunk.fCacheIndex >= 0) {
+					chunk.fCacheHitFlag = true;
+					cacheHits.increment();
+					return chunk;
+				}
+			}
+		}
 
 		synchronized (fCache) {
 			assert fLocked;
-			final int index = (int) long_index;
 			if (index < 0 || index >= fChunks.length) {
 				databaseCorruptionDetected();
 			}
 			Chunk chunk = fChunks[index];
 			if (chunk == null) {
-				cacheMisses++;
-				chunk = new Chunk(this, index);
-				chunk.read();
-				// Put the chunk in fChunks after it was read successfully.
-				fChunks[index] = chunk;
+				cacheMisses.increment();
+				final ByteBuffer mapped = fMappedIO ? mapChunk(index) : null;
+				if (mapped != null) {
+					chunk = new Chunk(this, index, mapped);
+				} else {
+					chunk = new Chunk(this, index);
+					chunk.read();
+				}
+				// Put the chunk in fChunks after it was read successfully. The release semantics make
+				// the content of the chunk visible to readers using the fast path.
+				CHUNKS.setRelease(fChunks, index, chunk);
 			} else {
-				cacheHits++;
+				cacheHits.increment();
 			}
 			fCache.add(chunk, fExclusiveLock);
 			return chunk;
 		}
 	}
 
+	/**
+	 * Returns a read-only view of the given chunk in the mapped file, or {@code null} if the
+	 * chunk is not (yet) stored in the file. Called while holding the lock on {@link #fCache}.
+	 */
+	private ByteBuffer mapChunk(int index) throws CoreException {
+		final int segmentIndex = index / CHUNKS_PER_SEGMENT;
+		final int position = (index % CHUNKS_PER_SEGMENT) * CHUNK_SIZE;
+		MappedByteBuffer segment = segmentIndex < fSegments.length ? fSegments[segmentIndex] : null;
+		if (segment == null || segment.capacity() < position + CHUNK_SIZE) {
+			// The file may have grown since the segment was mapped, map it again.
+			try {
+				final FileChannel channel = fFile.getChannel();
+				final long start = segmentIndex * SEGMENT_SIZE;
+				final long size = Math.min(SEGMENT_SIZE, channel.size() - start);
+				if (size < position + CHUNK_SIZE) {
+					return null;
+				}
+				segment = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+			} catch (ClosedChannelException e) {
+				// The channel was closed by an interrupt, fall back to reading the chunk.
+				return null;
+			} catch (IOException e) {
+				throw new CoreException(new DBStatus(e));
+			}
+			if (segmentIndex >= fSegments.length) {
+				MappedByteBuffer[] segments = new MappedByteBuffer[segmentIndex + 1];
+				System.arraycopy(fSegments, 0, segments, 0, fSegments.length);
+				fSegments = segments;
+			}
+			fSegments[segmentIndex] = segment;
+		}
+		return segment.slice(position, CHUNK_SIZE);
+	}
+
+	/**
+	 * Drops the mapped views of the file. The mappings are released once the chunks referring
+	 * to them have been garbage collected.
+	 */
+	private void unmapSegments() {
+		synchronized (fCache) {
+			fSegments = new MappedByteBuffer[0];
+		}
+	}
+
 	private void databaseCorruptionDetected() throws CoreException {
 		String msg = MessageFormat.format(Messages.getString("Database.CorruptedDatabase"), //$NON-NLS-1$
 				new Object[] { fLocation.getName() });
@@ -673,6 +774,7 @@ public class Database {
 		fHeaderChunk.clear(0, CHUNK_SIZE);
 		fHeaderChunk.fDirty = false;
 		fChunks = new Chunk[] { null };
+		unmapSegments();
 		fChunksUsed = fChunksAllocated = fChunks.length;
 		try {
 			fFile.close();
@@ -693,6 +795,7 @@ public class Database {
 	 * Called from any thread via the cache, protected by {@link #fCache}.
 	 */
 	void releaseChunk(final Chunk chunk) {
+		cacheEvictions.increment();
 		if (!chunk.fLocked) {
 			fChunks[chunk.fSequenceNumber] = null;
 		}
@@ -841,15 +944,25 @@ public class Database {
 	}
 
 	public void resetCacheCounters() {
-		cacheHits = cacheMisses = 0;
+		cacheHits.reset();
+		cacheMisses.reset();
+		cacheEvictions.reset();
 	}
 
 	public long getCacheHits() {
-		return cacheHits;
+		return cacheHits.sum();
 	}
 
 	public long getCacheMisses() {
-		return cacheMisses;
+		return cacheMisses.sum();
+	}
+
+	/**
+	 * Returns the number of chunks of this database evicted from the cache since the last reset
+	 * of the cache counters.
+	 */
+	public long getCacheEvictions() {
+		return cacheEvictions.sum();
 	}
 
 	public long getSizeBytes() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 QNX Software Systems and others.
+ * Copyright (c) 2005, 2026 QNX Software Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.cdt.core.dom.ast.IBinding;
 import org.eclipse.cdt.core.dom.ast.IMacroBinding;
 import org.eclipse.cdt.core.dom.ast.IParameter;
 import org.eclipse.cdt.core.dom.ast.IProblemBinding;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTQualifiedName;
 import org.eclipse.cdt.core.dom.ast.cpp.ICPPUsingDirective;
 import org.eclipse.cdt.core.index.IIndexFileLocation;
 import org.eclipse.cdt.core.index.IIndexInclude;
@@ -40,6 +41,7 @@ import org.eclipse.cdt.core.index.IIndexLocationConverter;
 import org.eclipse.cdt.core.index.IIndexMacro;
 import org.eclipse.cdt.core.index.IIndexName;
 import org.eclipse.cdt.core.parser.ISignificantMacros;
+import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.internal.core.index.IIndexFragment;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentName;
@@ -556,6 +558,113 @@ public class PDOMFile implements IIndexFragmentFile {
 		return null;
 	}
 
+	/**
+	 * Checks whether the includes, macros and names of this file would be stored unchanged by
+	 * {@link #addIncludesTo(IncludeInformation[])}, {@link #addMacros(IASTPreprocessorStatement[])} and
+	 * {@link #addNames(IASTName[][], YieldableIndexLock)}. Bindings are only looked up, a binding that
+	 * is not in the index yet counts as a change.
+	 */
+	public boolean hasSameContent(IncludeInformation[] includeInfos, IASTPreprocessorStatement[] macros,
+			IASTName[][] names, YieldableIndexLock lock) throws CoreException, FailedToReAcquireLockException {
+		PDOMInclude include = getFirstInclude();
+		for (IncludeInformation info : includeInfos) {
+			if (include == null || !include.isStoredFor(info))
+				return false;
+			include = include.getNextInIncludes();
+		}
+		if (include != null)
+			return false;
+
+		PDOMMacro macro = getFirstMacro();
+		for (IASTPreprocessorStatement stmt : macros) {
+			IASTName name;
+			if (stmt instanceof IASTPreprocessorMacroDefinition) {
+				name = ((IASTPreprocessorMacroDefinition) stmt).getName();
+			} else if (stmt instanceof IASTPreprocessorUndefStatement) {
+				name = ((IASTPreprocessorUndefStatement) stmt).getMacroName();
+			} else {
+				continue;
+			}
+			if (macro == null || macro.isMacroDefinition() != stmt instanceof IASTPreprocessorMacroDefinition
+					|| macro.getNodeOffset() != name.getFileLocation().getNodeOffset()
+					|| macro.getNodeLength() != name.getFileLocation().getNodeLength()
+					|| !CharArrayUtils.equals(macro.getNameCharArray(), name.getSimpleID())) {
+				return false;
+			}
+			macro = macro.getNextMacro();
+		}
+		if (macro != null)
+			return false;
+
+		final PDOMLinkage linkage = getLinkage();
+		HashMap<IASTName, PDOMName> nameCache = new HashMap<>();
+		PDOMName pdomName = getFirstName();
+		PDOMMacroReferenceName macroName = getFirstMacroReference();
+		for (IASTName[] name : names) {
+			if (name[0] == null)
+				continue;
+			if (lock != null) {
+				lock.yield();
+			}
+			PDOMName caller = nameCache.get(name[1]);
+			final IBinding binding = name[0].getBinding();
+			if (binding instanceof IParameter)
+				continue;
+			if (binding instanceof IMacroBinding
+					|| (binding == null && name[0].getPropertyInParent() == IASTPreprocessorStatement.MACRO_NAME)) {
+				if (macroName == null || !macroName.isStoredFor(name[0], caller))
+					return false;
+				macroName = macroName.getNextInFile();
+				continue;
+			}
+			if (name[0] instanceof ICPPASTQualifiedName)
+				continue;
+			final IBinding resolved = name[0].resolveBinding();
+			PDOMBinding pdomBinding;
+			try {
+				pdomBinding = linkage.adaptBinding(resolved);
+			} catch (CoreException e) {
+				// Let the regular update deal with the problem.
+				return false;
+			}
+			if (pdomBinding == null) {
+				// Potential matches are not compared. Other bindings are added by the update, unless
+				// they are local to a function.
+				if (resolved instanceof IProblemBinding || (resolved != null && !linkage.isLocalToFunction(resolved)))
+					return false;
+				continue;
+			}
+			if (pdomName == null || !pdomName.isStoredFor(name[0], pdomBinding, caller))
+				return false;
+			nameCache.put(name[0], pdomName);
+			pdomName = pdomName.getNextInFile();
+		}
+		return pdomName == null && macroName == null;
+	}
+
+	/**
+	 * Updates the bindings declared by the given names the same way
+	 * {@link #addNames(IASTName[][], YieldableIndexLock)} does. To be called when the names of this file
+	 * are kept because {@link #hasSameContent} found them unchanged, such that the bindings already exist.
+	 */
+	public void updateBindings(IASTName[][] names, YieldableIndexLock lock)
+			throws CoreException, FailedToReAcquireLockException {
+		final PDOMLinkage linkage = getLinkage();
+		for (IASTName[] name : names) {
+			if (name[0] == null || name[0].isReference())
+				continue;
+			if (lock != null) {
+				lock.yield();
+			}
+			final IBinding binding = name[0].getBinding();
+			if (binding instanceof IMacroBinding
+					|| (binding == null && name[0].getPropertyInParent() == IASTPreprocessorStatement.MACRO_NAME)) {
+				continue;
+			}
+			linkage.addBinding(name[0]);
+		}
+	}
+
 	private IIndexFragmentName createPDOMMacroReferenceName(PDOMLinkage linkage, IASTName name, PDOMName caller)
 			throws CoreException {
 		PDOMMacroContainer cont = linkage.getMacroContainer(name.getSimpleID());
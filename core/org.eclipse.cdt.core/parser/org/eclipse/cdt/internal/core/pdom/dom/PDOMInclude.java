@@ -20,9 +20,11 @@ import org.eclipse.cdt.core.dom.ast.IASTName;
 import org.eclipse.cdt.core.dom.ast.IASTPreprocessorIncludeStatement;
 import org.eclipse.cdt.core.index.IIndexFile;
 import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.internal.core.index.IIndexFragment;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentFile;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentInclude;
+import org.eclipse.cdt.internal.core.index.IWritableIndex.IncludeInformation;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
 import org.eclipse.core.runtime.CoreException;
 
@@ -91,6 +93,35 @@ public class PDOMInclude implements IIndexFragmentInclude {
 		setIncludedBy(containerFile);
 	}
 
+	/**
+	 * Checks whether this include would be stored unchanged for the given include information.
+	 */
+	boolean isStoredFor(IncludeInformation info) throws CoreException {
+		final Database db = linkage.getDB();
+		final PDOMFile targetFile = (PDOMFile) info.fTargetFile;
+		if (db.getRecPtr(record + INCLUDED_FILE) != (targetFile != null ? targetFile.getRecord() : 0))
+			return false;
+		if (targetFile != null) {
+			// The context of the included file is the first include in its list of includers.
+			PDOMInclude context = targetFile.getFirstIncludedBy();
+			if (context == null || (context.getRecord() == record) != info.fIsContext)
+				return false;
+		}
+
+		IASTName name = info.fStatement.getName();
+		IASTFileLocation loc = name.getFileLocation();
+		if (loc != null && (getNameOffset() != loc.getNodeOffset() || getNameLength() != loc.getNodeLength()))
+			return false;
+
+		char[] nameChars = name.getSimpleID();
+		boolean deducible_name = isDeducibleName(targetFile, nameChars);
+		if (getFlag() != encodeFlags(info.fStatement, deducible_name))
+			return false;
+		if (deducible_name)
+			return db.getInt(record + INCLUDE_NAME_OR_LENGTH) == nameChars.length;
+		return CharArrayUtils.equals(nameChars, getFullName().toCharArray());
+	}
+
 	private byte encodeFlags(IASTPreprocessorIncludeStatement include, boolean deducible_name) {
 		byte flags = 0;
 		if (include.isSystemInclude()) {
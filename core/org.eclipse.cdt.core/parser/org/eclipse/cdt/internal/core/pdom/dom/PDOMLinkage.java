@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 QNX Software Systems and others.
+ * Copyright (c) 2005, 2026 QNX Software Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -221,6 +221,26 @@ public abstract class PDOMLinkage extends PDOMNamedNode implements IIndexLinkage
 		return false;
 	}
 
+	/**
+	 * Returns whether the given binding or one of its owners is local to a function, such that
+	 * {@link #addBinding(IASTName)} does not store it in this linkage.
+	 */
+	public final boolean isLocalToFunction(IBinding binding) {
+		for (IBinding owner = binding.getOwner(); owner != null; owner = owner.getOwner()) {
+			if (owner instanceof IFunction && !storesLocalBinding((IFunction) owner, binding))
+				return true;
+			binding = owner;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the given binding owned by a function is stored in this linkage.
+	 */
+	protected boolean storesLocalBinding(IFunction owner, IBinding binding) {
+		return false;
+	}
+
 	protected final PDOMBinding attemptFastAdaptBinding(final IBinding binding) throws CoreException {
 		PDOMBinding pdomBinding = binding.getAdapter(PDOMBinding.class);
 		// There is no guarantee, that the binding is from the same PDOM object.
@@ -77,6 +77,22 @@ public final class PDOMMacroReferenceName implements IIndexFragmentName {
 		return record;
 	}
 
+	/**
+	 * Checks whether this reference would be stored unchanged for the given AST name and caller.
+	 */
+	boolean isStoredFor(IASTName name, PDOMName caller) throws CoreException {
+		final Database db = linkage.getDB();
+		if (db.getRecPtr(record + CALLER_REC_OFFSET) != (caller != null ? caller.getRecord() : 0))
+			return false;
+
+		IASTFileLocation fileloc = name.getFileLocation();
+		int offset = fileloc != null ? fileloc.getNodeOffset() : 0;
+		int length = fileloc != null ? fileloc.getNodeLength() : 0;
+		if (getNodeOffset() != offset || getNodeLength() != length)
+			return false;
+		return CharArrayUtils.equals(getContainer().getNameCharArray(), name.getSimpleID());
+	}
+
 	public PDOM getPDOM() {
 		return linkage.getPDOM();
 	}
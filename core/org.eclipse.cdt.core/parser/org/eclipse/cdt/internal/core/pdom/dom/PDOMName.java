@@ -110,6 +110,26 @@ public final class PDOMName implements IIndexFragmentName {
 		db.putShort(record + NODE_LENGTH_OFFSET, (short) fileloc.getNodeLength());
 	}
 
+	/**
+	 * Checks whether this name would be stored unchanged for the given AST name, binding and caller.
+	 */
+	boolean isStoredFor(IASTName name, PDOMBinding binding, PDOMName caller) throws CoreException {
+		final Database db = linkage.getDB();
+		if (db.getRecPtr(record + BINDING_REC_OFFSET) != binding.getRecord())
+			return false;
+		if (db.getRecPtr(record + CALLER_REC_OFFSET) != (caller != null ? caller.getRecord() : 0))
+			return false;
+
+		IASTFileLocation fileloc = name.getFileLocation();
+		if (getNodeOffset() != fileloc.getNodeOffset() || getNodeLength() != fileloc.getNodeLength())
+			return false;
+
+		int flags = getRoleOfName(name);
+		flags |= binding.getAdditionalNameFlags(flags, name);
+		// The flags for base, friend and inline namespace specifiers are set after the name is created.
+		return ((db.getByte(record + FLAGS) ^ flags) & ~INHERIT_FRIEND_INLINE_MASK & 0xff) == 0;
+	}
+
 	private int getRoleOfName(IASTName name) {
 		if (name.isDefinition()) {
 			return IS_DEFINITION;
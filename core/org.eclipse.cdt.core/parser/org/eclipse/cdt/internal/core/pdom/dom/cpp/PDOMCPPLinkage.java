@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016, 2025 QNX Software Systems and others.
+ * Copyright (c) 2005, 2016, 2026 QNX Software Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1287,13 +1287,8 @@ class PDOMCPPLinkage extends PDOMLinkage implements IIndexCPPBindingConstants {
 	 */
 	private final PDOMNode adaptOrAddParent(boolean add, IBinding binding) throws CoreException {
 		IBinding owner = binding.getOwner();
-		if (owner instanceof IFunction) {
-			boolean isTemplateParameter = binding instanceof ICPPTemplateParameter;
-			boolean ownerIsConstexprFunc = owner instanceof ICPPFunction && ((ICPPFunction) owner).isConstexpr();
-			boolean isVariableOrType = binding instanceof ICPPVariable || binding instanceof IType;
-			if (!isTemplateParameter && !(ownerIsConstexprFunc && isVariableOrType)) {
-				return null;
-			}
+		if (owner instanceof IFunction && !storesLocalBinding((IFunction) owner, binding)) {
+			return null;
 		}
 
 		if (binding instanceof IIndexBinding) {
@@ -1313,6 +1308,14 @@ class PDOMCPPLinkage extends PDOMLinkage implements IIndexCPPBindingConstants {
 		return adaptOrAddBinding(add, owner);
 	}
 
+	@Override
+	protected boolean storesLocalBinding(IFunction owner, IBinding binding) {
+		boolean isTemplateParameter = binding instanceof ICPPTemplateParameter;
+		boolean ownerIsConstexprFunc = owner instanceof ICPPFunction && ((ICPPFunction) owner).isConstexpr();
+		boolean isVariableOrType = binding instanceof ICPPVariable || binding instanceof IType;
+		return isTemplateParameter || (ownerIsConstexprFunc && isVariableOrType);
+	}
+
 	private PDOMBinding adaptOrAddBinding(boolean add, IBinding binding) throws CoreException {
 		if (add) {
 			return addBinding(binding, null);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2017 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ import org.eclipse.cdt.internal.core.IErrorMarkeredOutputStream;
 import org.eclipse.cdt.internal.core.ProblemMarkerFilterManager;
 import org.eclipse.cdt.internal.core.resources.ResourceLookup;
 import org.eclipse.cdt.internal.errorparsers.ErrorParserExtensionManager;
+import org.eclipse.cdt.internal.errorparsers.RegexErrorPatternFilter;
 import org.eclipse.cdt.utils.EFSExtensionManager;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -90,6 +91,8 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 	private final IMarkerGenerator fMarkerGenerator;
 
 	private Map<String, IErrorParser[]> fErrorParsers;
+	/** Skips the regex error parsers and patterns that cannot match a line, may be {@code null} */
+	private RegexErrorPatternFilter fPatternFilter;
 	private final List<ProblemMarkerInfo> fErrors;
 
 	private final Vector<URI> fDirectoryStack;
@@ -194,6 +197,7 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 				fErrorParsers.put(parsersID, new IErrorParser[] { errorParser });
 			}
 		}
+		fPatternFilter = RegexErrorPatternFilter.create(fErrorParsers.values());
 	}
 
 	/**
@@ -338,6 +342,12 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 
 		ProblemMarkerInfo marker = null;
 
+		RegexErrorPatternFilter filter = fPatternFilter;
+		if (filter != null) {
+			// Find the literals required by the patterns in a single pass over the line
+			filter.scan(lineTrimmed);
+		}
+
 		outer: for (IErrorParser[] parsers : fErrorParsers.values()) {
 			for (IErrorParser parser : parsers) {
 				IErrorParser curr = parser;
@@ -360,13 +370,23 @@ public class ErrorParserManager extends OutputStream implements IConsoleParser,
 					// untrimmed lines
 					lineToParse = line;
 				}
+				// the filter has scanned the trimmed line only
+				boolean filtered = filter != null && lineToParse == lineTrimmed && filter.isFiltered(curr);
+				if (filtered && !filter.isCandidate(curr)) {
+					// none of the patterns of the parser can match the line
+					continue;
+				}
 
 				boolean consume = false;
 				// Protect against rough parsers who may accidentally
 				// throw an exception on a line they can't handle.
 				// It should not stop parsing of the rest of output.
 				try {
-					consume = curr.processLine(lineToParse, this);
+					if (filtered) {
+						consume = filter.processLine(curr, lineToParse, this);
+					} else {
+						consume = curr.processLine(lineToParse, this);
+					}
 				} catch (Exception e) {
 					String id = ""; //$NON-NLS-1$
 					if (parser instanceof IErrorParserNamed) {
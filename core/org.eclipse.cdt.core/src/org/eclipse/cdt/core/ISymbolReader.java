@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2010 Nokia and others.
+ * Copyright (c) 2006, 2026 Nokia and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,31 @@ public interface ISymbolReader extends AutoCloseable {
 	 */
 	String[] getSourceFiles(IProgressMonitor monitor);
 
+	/**
+	 * Gets the source file of the instruction at the given address from the line information
+	 * of the debug symbols.
+	 *
+	 * @param address an address in the binary
+	 * @return the path name of the source file, or {@code null} if there is no line information
+	 *         for the address
+	 * @since 9.4
+	 */
+	default String getFileName(IAddress address) {
+		return null;
+	}
+
+	/**
+	 * Gets the source line of the instruction at the given address from the line information
+	 * of the debug symbols.
+	 *
+	 * @param address an address in the binary
+	 * @return the line number, or {@code -1} if there is no line information for the address
+	 * @since 9.4
+	 */
+	default int getLineNumber(IAddress address) {
+		return -1;
+	}
+
 	@Override
 	void close();
 }
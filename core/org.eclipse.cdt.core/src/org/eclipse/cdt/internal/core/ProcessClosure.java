@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -105,6 +106,33 @@ public class ProcessClosure {
 		}
 	}
 
+	/**
+	 * Reader thread running a callback when it is the last of a group of threads
+	 * to finish.
+	 */
+	private static class NotifyingReaderThread extends ReaderThread {
+		private final AtomicInteger fRunning;
+		private final Runnable fOnCompletion;
+
+		public NotifyingReaderThread(ThreadGroup group, String name, InputStream in, OutputStream out,
+				AtomicInteger running, Runnable onCompletion) {
+			super(group, name, in, out);
+			fRunning = running;
+			fOnCompletion = onCompletion;
+		}
+
+		@Override
+		public void run() {
+			try {
+				super.run();
+			} finally {
+				if (fRunning.decrementAndGet() == 0) {
+					fOnCompletion.run();
+				}
+			}
+		}
+	}
+
 	protected static int fCounter = 0;
 
 	protected Process fProcess;
@@ -135,13 +163,33 @@ public class ProcessClosure {
 	 * reader threads.
 	 */
 	public void runNonBlocking() {
+		runNonBlocking(null);
+	}
+
+	/**
+	 * Live links the launched process with the configured in/out streams using
+	 * reader threads, and notifies the given callback once both streams have been
+	 * read to their end, i.e. once the process has completed. The callback is run
+	 * by one of the reader threads.
+	 *
+	 * @param onCompletion the callback, may be <code>null</code>.
+	 */
+	public void runNonBlocking(Runnable onCompletion) {
 		ThreadGroup group = new ThreadGroup("CBuilder" + fCounter++); //$NON-NLS-1$
 
 		InputStream stdin = fProcess.getInputStream();
 		InputStream stderr = fProcess.getErrorStream();
 
-		fOutputReader = new ReaderThread(group, "OutputReader", stdin, fOutput); //$NON-NLS-1$
-		fErrorReader = new ReaderThread(group, "ErrorReader", stderr, fError); //$NON-NLS-1$
+		if (onCompletion == null) {
+			fOutputReader = new ReaderThread(group, "OutputReader", stdin, fOutput); //$NON-NLS-1$
+			fErrorReader = new ReaderThread(group, "ErrorReader", stderr, fError); //$NON-NLS-1$
+		} else {
+			AtomicInteger running = new AtomicInteger(2);
+			fOutputReader = new NotifyingReaderThread(group, "OutputReader", stdin, fOutput, running, //$NON-NLS-1$
+					onCompletion);
+			fErrorReader = new NotifyingReaderThread(group, "ErrorReader", stderr, fError, running, //$NON-NLS-1$
+					onCompletion);
+		}
 
 		fOutputReader.start();
 		fErrorReader.start();
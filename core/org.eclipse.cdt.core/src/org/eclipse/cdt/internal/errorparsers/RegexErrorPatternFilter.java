@@ -0,0 +1,521 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.errorparsers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.ErrorParserManager;
+import org.eclipse.cdt.core.IErrorParser;
+import org.eclipse.cdt.core.errorparsers.ErrorParserNamedWrapper;
+import org.eclipse.cdt.core.errorparsers.RegexErrorParser;
+import org.eclipse.cdt.core.errorparsers.RegexErrorPattern;
+
+/**
+ * Prefilters the lines of build output offered to the {@link RegexErrorParser}s of an
+ * {@link ErrorParserManager}.
+ * <p>
+ * For each pattern, the literal strings that any line matching the regular expression has to
+ * contain are extracted, e.g. <code>" warning: "</code>. The literals of all patterns of all
+ * parsers are compiled into a single Aho-Corasick automaton, which finds the literals contained
+ * in a line in one pass over its characters. Patterns whose literals are not all contained in
+ * the line are not run, and parsers none of whose patterns can match are skipped altogether.
+ * Most lines of build output, such as command lines and source excerpts, are rejected without
+ * running any regular expression.
+ * <p>
+ * Only parsers and patterns that do not override <code>processLine</code> are filtered, since
+ * for those a line can only be consumed if the regular expression matches.
+ */
+public class RegexErrorPatternFilter {
+	private static final int ALPHABET_SIZE = 128;
+	private static final Map<Class<?>, Boolean> filterableClasses = new HashMap<>();
+
+	/**
+	 * The filtered patterns of a parser and the indices of the literals each of them requires.
+	 */
+	private static class FilteredParser {
+		final RegexErrorPattern[] patterns;
+		final int[][] literals;
+
+		FilteredParser(RegexErrorPattern[] patterns, int[][] literals) {
+			this.patterns = patterns;
+			this.literals = literals;
+		}
+	}
+
+	private final Map<IErrorParser, FilteredParser> fParsers = new IdentityHashMap<>();
+	/** The character class of each ASCII character, 0 for characters not in any literal */
+	private final byte[] fCharClasses = new byte[ALPHABET_SIZE];
+	/** The transitions of the automaton, by state and character class */
+	private int[][] fTransitions;
+	/** The literals found on reaching each state, {@code null} for none */
+	private long[][] fOutputs;
+	/** The literals contained in the current line */
+	private final long[] fFound;
+
+	/**
+	 * Creates the filter for the given parsers of an {@link ErrorParserManager}.
+	 *
+	 * @return the filter or {@code null} if none of the parsers can be filtered.
+	 */
+	public static RegexErrorPatternFilter create(Collection<IErrorParser[]> parsers) {
+		Map<String, Integer> literalIds = new LinkedHashMap<>();
+		Map<IErrorParser, FilteredParser> filtered = new IdentityHashMap<>();
+		for (IErrorParser[] array : parsers) {
+			for (IErrorParser parser : array) {
+				IErrorParser curr = parser;
+				if (parser instanceof ErrorParserNamedWrapper) {
+					curr = ((ErrorParserNamedWrapper) parser).getErrorParser();
+				}
+				if (!(curr instanceof RegexErrorParser)
+						|| !isFilterable(curr.getClass(), RegexErrorParser.class, String.class)) {
+					continue;
+				}
+				RegexErrorPattern[] patterns = ((RegexErrorParser) curr).getPatterns();
+				int[][] literals = new int[patterns.length][];
+				for (int i = 0; i < patterns.length; i++) {
+					List<String> required = isFilterable(patterns[i].getClass(), RegexErrorPattern.class,
+							String.class) ? getRequiredLiterals(patterns[i].getPattern()) : List.of();
+					literals[i] = required.stream()
+							.mapToInt(literal -> literalIds.computeIfAbsent(literal, l -> literalIds.size())).distinct()
+							.toArray();
+				}
+				filtered.put(curr, new FilteredParser(patterns, literals));
+			}
+		}
+		if (literalIds.isEmpty()) {
+			return null;
+		}
+		RegexErrorPatternFilter filter = new RegexErrorPatternFilter(literalIds.keySet());
+		filter.fParsers.putAll(filtered);
+		return filter;
+	}
+
+	private RegexErrorPatternFilter(Collection<String> literals) {
+		fFound = new long[(literals.size() + 63) / 64];
+		buildAutomaton(literals);
+	}
+
+	/**
+	 * Finds the literals contained in the given line, which is checked by the following calls
+	 * of {@link #isCandidate(IErrorParser)} and {@link #processLine(IErrorParser, String, ErrorParserManager)}.
+	 * Those must only be called for parsers that are given exactly the scanned line, e.g. not for
+	 * parsers which ask for the untrimmed line.
+	 */
+	public void scan(String line) {
+		Arrays.fill(fFound, 0);
+		int[][] transitions = fTransitions;
+		long[][] outputs = fOutputs;
+		byte[] charClasses = fCharClasses;
+		int state = 0;
+		for (int i = 0, n = line.length(); i < n; i++) {
+			char c = line.charAt(i);
+			state = transitions[state][c < ALPHABET_SIZE ? charClasses[c] : 0];
+			long[] output = outputs[state];
+			if (output != null) {
+				for (int w = 0; w < output.length; w++) {
+					fFound[w] |= output[w];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given parser is filtered, i.e. whether the scanned line has to be
+	 * passed to {@link #processLine(IErrorParser, String, ErrorParserManager)} instead of the
+	 * parser.
+	 */
+	public boolean isFiltered(IErrorParser parser) {
+		return fParsers.containsKey(parser);
+	}
+
+	/**
+	 * Returns whether the scanned line may be consumed by the given filtered parser.
+	 */
+	public boolean isCandidate(IErrorParser parser) {
+		for (int[] literals : fParsers.get(parser).literals) {
+			if (containsAll(literals)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Processes the scanned line like {@link RegexErrorParser#processLine(String, ErrorParserManager)},
+	 * running only the patterns that may match it.
+	 */
+	public boolean processLine(IErrorParser parser, String line, ErrorParserManager epManager) {
+		FilteredParser filtered = fParsers.get(parser);
+		for (int i = 0; i < filtered.patterns.length; i++) {
+			if (!containsAll(filtered.literals[i])) {
+				continue;
+			}
+			try {
+				if (filtered.patterns[i].processLine(line, epManager))
+					return true;
+			} catch (Exception e) {
+				String message = "Error parsing line [" + line + "]"; //$NON-NLS-1$//$NON-NLS-2$
+				CCorePlugin.log(message, e);
+			}
+		}
+		return false;
+	}
+
+	private boolean containsAll(int[] literals) {
+		for (int literal : literals) {
+			if ((fFound[literal >>> 6] & (1L << literal)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void buildAutomaton(Collection<String> literals) {
+		int classes = 1;
+		for (String literal : literals) {
+			for (int i = 0; i < literal.length(); i++) {
+				char c = literal.charAt(i);
+				if (fCharClasses[c] == 0) {
+					fCharClasses[c] = (byte) classes++;
+				}
+			}
+		}
+
+		// The trie of the literals
+		List<int[]> transitions = new ArrayList<>();
+		List<long[]> outputs = new ArrayList<>();
+		transitions.add(newState(classes));
+		outputs.add(null);
+		int id = 0;
+		for (String literal : literals) {
+			int state = 0;
+			for (int i = 0; i < literal.length(); i++) {
+				int c = fCharClasses[literal.charAt(i)];
+				if (transitions.get(state)[c] < 0) {
+					transitions.get(state)[c] = transitions.size();
+					transitions.add(newState(classes));
+					outputs.add(null);
+				}
+				state = transitions.get(state)[c];
+			}
+			long[] output = outputs.get(state);
+			if (output == null) {
+				output = new long[fFound.length];
+				outputs.set(state, output);
+			}
+			output[id >>> 6] |= 1L << id;
+			id++;
+		}
+
+		// Resolve the failure transitions in breadth first order, turning the trie into a DFA
+		int[] fail = new int[transitions.size()];
+		int[] queue = new int[transitions.size()];
+		int head = 0, tail = 0;
+		int[] root = transitions.get(0);
+		for (int c = 0; c < classes; c++) {
+			if (root[c] < 0) {
+				root[c] = 0;
+			} else {
+				fail[root[c]] = 0;
+				queue[tail++] = root[c];
+			}
+		}
+		while (head < tail) {
+			int state = queue[head++];
+			int[] next = transitions.get(state);
+			long[] inherited = outputs.get(fail[state]);
+			if (inherited != null) {
+				long[] output = outputs.get(state);
+				if (output == null) {
+					output = new long[fFound.length];
+					outputs.set(state, output);
+				}
+				for (int w = 0; w < output.length; w++) {
+					output[w] |= inherited[w];
+				}
+			}
+			for (int c = 0; c < classes; c++) {
+				if (next[c] < 0) {
+					next[c] = transitions.get(fail[state])[c];
+				} else {
+					fail[next[c]] = transitions.get(fail[state])[c];
+					queue[tail++] = next[c];
+				}
+			}
+		}
+		fTransitions = transitions.toArray(new int[0][]);
+		fOutputs = outputs.toArray(new long[0][]);
+	}
+
+	private static int[] newState(int classes) {
+		int[] state = new int[classes];
+		Arrays.fill(state, -1);
+		return state;
+	}
+
+	/**
+	 * Returns whether the given class inherits <code>processLine</code> from the given base class.
+	 */
+	private static boolean isFilterable(Class<?> clazz, Class<?> base, Class<?> lineType) {
+		if (clazz == base) {
+			return true;
+		}
+		synchronized (filterableClasses) {
+			return filterableClasses.computeIfAbsent(clazz, c -> {
+				try {
+					return c.getMethod("processLine", lineType, ErrorParserManager.class) //$NON-NLS-1$
+							.getDeclaringClass() == base;
+				} catch (NoSuchMethodException | SecurityException e) {
+					return false;
+				}
+			});
+		}
+	}
+
+	/**
+	 * Returns literal strings that every string matching the given regular expression contains.
+	 * The literals are extracted conservatively: constructs which are not understood make their
+	 * part of the expression contribute no literal. Literals with characters other than ASCII
+	 * are omitted.
+	 *
+	 * @param regex a regular expression as accepted by {@link java.util.regex.Pattern}
+	 * @return the literals, empty if none could be determined
+	 */
+	public static List<String> getRequiredLiterals(String regex) {
+		try {
+			LiteralExtractor extractor = new LiteralExtractor(regex);
+			List<String> literals = extractor.parseAlternation();
+			if (extractor.pos != regex.length()) {
+				return List.of();
+			}
+			literals.removeIf(literal -> !literal.chars().allMatch(c -> c < ALPHABET_SIZE));
+			return literals;
+		} catch (RuntimeException e) {
+			// Unsupported construct, such as embedded flags or quotation
+			return List.of();
+		}
+	}
+
+	/**
+	 * Parses a regular expression to find the literals it requires.
+	 */
+	private static class LiteralExtractor {
+		private final String re;
+		int pos;
+
+		LiteralExtractor(String re) {
+			this.re = re;
+		}
+
+		/**
+		 * Parses alternatives up to the end of the enclosing group and returns the literals
+		 * required by all of them. Only the literals of a single alternative are known.
+		 */
+		List<String> parseAlternation() {
+			List<String> literals = parseSequence();
+			if (pos < re.length() && re.charAt(pos) == '|') {
+				while (pos < re.length() && re.charAt(pos) == '|') {
+					pos++;
+					parseSequence();
+				}
+				return new ArrayList<>();
+			}
+			return literals;
+		}
+
+		private List<String> parseSequence() {
+			List<String> literals = new ArrayList<>();
+			StringBuilder run = new StringBuilder();
+			while (pos < re.length()) {
+				char c = re.charAt(pos);
+				if (c == '|' || c == ')') {
+					break;
+				}
+				int literal = -1;
+				List<String> inner = null;
+				switch (c) {
+				case '(':
+					inner = parseGroup();
+					break;
+				case '[':
+					skipCharacterClass();
+					break;
+				case '\\':
+					literal = parseEscape();
+					break;
+				case '.':
+				case '^':
+				case '$':
+					pos++;
+					break;
+				default:
+					literal = c;
+					pos++;
+					break;
+				}
+
+				// The quantifier of the atom
+				int min = 1;
+				boolean repeated = false;
+				boolean quantified = false;
+				if (pos < re.length()) {
+					char q = re.charAt(pos);
+					if (q == '*' || q == '?' || q == '+') {
+						min = q == '+' ? 1 : 0;
+						repeated = q != '?';
+						quantified = true;
+						pos++;
+					} else if (q == '{') {
+						int end = re.indexOf('}', pos);
+						String[] bounds = re.substring(pos + 1, end).split(",", -1); //$NON-NLS-1$
+						min = Integer.parseInt(bounds[0].trim());
+						repeated = bounds.length > 1 || min > 1;
+						quantified = true;
+						pos = end + 1;
+					}
+				}
+				if (quantified && pos < re.length() && (re.charAt(pos) == '?' || re.charAt(pos) == '+')) {
+					// Reluctant or possessive quantifier
+					pos++;
+				}
+
+				if (literal >= 0 && min > 0) {
+					run.append((char) literal);
+					if (repeated) {
+						flush(run, literals);
+					}
+				} else {
+					flush(run, literals);
+					if (inner != null && min > 0) {
+						literals.addAll(inner);
+					}
+				}
+			}
+			flush(run, literals);
+			return literals;
+		}
+
+		private static void flush(StringBuilder run, List<String> literals) {
+			if (run.length() > 0) {
+				literals.add(run.toString());
+				run.setLength(0);
+			}
+		}
+
+		/**
+		 * Parses a group and returns the literals it requires.
+		 */
+		private List<String> parseGroup() {
+			pos++;
+			boolean lookaround = false;
+			if (re.startsWith("?:", pos) || re.startsWith("?>", pos)) { //$NON-NLS-1$ //$NON-NLS-2$
+				pos += 2;
+			} else if (re.startsWith("?=", pos) || re.startsWith("?!", pos)) { //$NON-NLS-1$ //$NON-NLS-2$
+				pos += 2;
+				lookaround = true;
+			} else if (re.startsWith("?<=", pos) || re.startsWith("?<!", pos)) { //$NON-NLS-1$ //$NON-NLS-2$
+				pos += 3;
+				lookaround = true;
+			} else if (re.startsWith("?<", pos)) { //$NON-NLS-1$
+				// Named group
+				pos = re.indexOf('>', pos) + 1;
+			} else if (re.startsWith("?", pos)) { //$NON-NLS-1$
+				// Embedded flags may change how the literals match
+				throw new IllegalArgumentException(re);
+			}
+			List<String> literals = parseAlternation();
+			if (re.charAt(pos) != ')') {
+				throw new IllegalArgumentException(re);
+			}
+			pos++;
+			return lookaround ? new ArrayList<>() : literals;
+		}
+
+		private void skipCharacterClass() {
+			pos++;
+			if (pos < re.length() && re.charAt(pos) == '^') {
+				pos++;
+			}
+			if (pos < re.length() && re.charAt(pos) == ']') {
+				pos++;
+			}
+			int depth = 1;
+			while (depth > 0) {
+				char c = re.charAt(pos++);
+				if (c == '\\') {
+					pos++;
+				} else if (c == '[') {
+					depth++;
+				} else if (c == ']') {
+					depth--;
+				}
+			}
+		}
+
+		/**
+		 * Parses an escape sequence and returns the character it matches, or -1 if it matches
+		 * something else than a single character.
+		 */
+		private int parseEscape() {
+			char c = re.charAt(pos + 1);
+			pos += 2;
+			if (!Character.isLetterOrDigit(c)) {
+				return c;
+			}
+			switch (c) {
+			case 'Q':
+				throw new IllegalArgumentException(re);
+			case 't':
+				return '\t';
+			case 'p':
+			case 'P':
+			case 'x':
+			case 'N':
+				if (pos < re.length() && re.charAt(pos) == '{') {
+					pos = re.indexOf('}', pos) + 1;
+				} else if (c == 'x') {
+					pos += 2;
+				} else if (c != 'N') {
+					pos++;
+				}
+				return -1;
+			case 'u':
+				pos += 4;
+				return -1;
+			case 'c':
+				pos++;
+				return -1;
+			case 'k':
+				pos = re.indexOf('>', pos) + 1;
+				return -1;
+			case '0':
+				while (pos < re.length() && re.charAt(pos) >= '0' && re.charAt(pos) <= '7') {
+					pos++;
+				}
+				return -1;
+			default:
+				// Character classes, boundaries and back references
+				while (c >= '1' && c <= '9' && pos < re.length() && Character.isDigit(re.charAt(pos))) {
+					pos++;
+				}
+				return -1;
+			}
+		}
+	}
+}
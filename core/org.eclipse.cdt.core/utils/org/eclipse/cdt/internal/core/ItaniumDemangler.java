@@ -0,0 +1,2169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Demangles symbol names mangled according to the Itanium C++ ABI, which is used by GCC and
+ * Clang on all platforms but Windows with the Microsoft ABI. The output is that of GNU c++filt.
+ * <p>
+ * The mangled name is parsed into a tree of nodes, which is then printed. Substitutions and
+ * template parameters refer to nodes created earlier, such that they are not parsed again.
+ * Constructs that are rare in symbol tables, like expressions in template arguments, are not
+ * supported; names using them are not demangled, see {@link #demangle(String)}.
+ * <p>
+ * The results are kept in a cache of limited size, since the same symbols tend to be
+ * demangled repeatedly, e.g. when the symbols of a binary are reloaded.
+ */
+public final class ItaniumDemangler {
+	private static final int MAX_CACHED = 50000;
+	private static final int MAX_DEPTH = 256;
+	private static final int MAX_LENGTH = 1 << 16;
+	/** The cached result for names that cannot be demangled, never the result of demangling */
+	private static final String FAILED = "\0"; //$NON-NLS-1$
+
+	private static final Map<String, String> cache = Collections.synchronizedMap(new LRUCache<>(MAX_CACHED));
+
+	/**
+	 * Signals a mangled name which is malformed or uses constructs which are not supported.
+	 */
+	private static final class DemangleException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
+	private static final DemangleException FAILURE = new DemangleException();
+
+	private static final int CV_CONST = 1;
+	private static final int CV_VOLATILE = 2;
+	private static final int CV_RESTRICT = 4;
+	private static final int REF_NONE = 0;
+	private static final int REF_LVALUE = 1;
+	private static final int REF_RVALUE = 2;
+
+	private static final Node[] NO_NODES = {};
+
+	private static final Name VOID = new Name("void"); //$NON-NLS-1$
+	private static final Name BOOL = new Name("bool"); //$NON-NLS-1$
+	private static final Name INT = new Name("int"); //$NON-NLS-1$
+	private static final Name UNSIGNED_INT = new Name("unsigned int"); //$NON-NLS-1$
+	private static final Name LONG = new Name("long"); //$NON-NLS-1$
+	private static final Name UNSIGNED_LONG = new Name("unsigned long"); //$NON-NLS-1$
+	private static final Name LONG_LONG = new Name("long long"); //$NON-NLS-1$
+	private static final Name UNSIGNED_LONG_LONG = new Name("unsigned long long"); //$NON-NLS-1$
+	private static final Name FLOAT = new Name("float"); //$NON-NLS-1$
+	private static final Name DOUBLE = new Name("double"); //$NON-NLS-1$
+	private static final Name LONG_DOUBLE = new Name("long double"); //$NON-NLS-1$
+	private static final Name FLOAT128 = new Name("__float128"); //$NON-NLS-1$
+	private static final Name NULLPTR = new Name("decltype(nullptr)"); //$NON-NLS-1$
+	private static final Name[] BUILTIN_TYPES = new Name[128];
+	private static final Name[] BUILTIN_D_TYPES = new Name[128];
+
+	private static final Name STD = new Name("std"); //$NON-NLS-1$
+	private static final Name ANONYMOUS_NAMESPACE = new Name("(anonymous namespace)"); //$NON-NLS-1$
+	private static final Name STRING_LITERAL = new Name("string literal"); //$NON-NLS-1$
+	private static final Name SUB_ALLOCATOR = new Name("std::allocator", "allocator"); //$NON-NLS-1$ //$NON-NLS-2$
+	private static final Name SUB_BASIC_STRING = new Name("std::basic_string", "basic_string"); //$NON-NLS-1$ //$NON-NLS-2$
+	private static final Name SUB_STRING = new Name(
+			"std::basic_string<char, std::char_traits<char>, std::allocator<char> >", "basic_string"); //$NON-NLS-1$ //$NON-NLS-2$
+	private static final Name SUB_ISTREAM = new Name("std::basic_istream<char, std::char_traits<char> >", //$NON-NLS-1$
+			"basic_istream"); //$NON-NLS-1$
+	private static final Name SUB_OSTREAM = new Name("std::basic_ostream<char, std::char_traits<char> >", //$NON-NLS-1$
+			"basic_ostream"); //$NON-NLS-1$
+	private static final Name SUB_IOSTREAM = new Name("std::basic_iostream<char, std::char_traits<char> >", //$NON-NLS-1$
+			"basic_iostream"); //$NON-NLS-1$
+
+	/** The operator names by their two letter code */
+	private static final Map<String, Name> OPERATORS = new HashMap<>();
+
+	static {
+		String[] builtins = { "v", "void", "w", "wchar_t", "b", "bool", "c", "char", "a", "signed char", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+				"h", "unsigned char", "s", "short", "t", "unsigned short", "i", "int", "j", "unsigned int", "l", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$
+				"long", "m", "unsigned long", "x", "long long", "y", "unsigned long long", "n", "__int128", "o", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+				"unsigned __int128", "f", "float", "d", "double", "e", "long double", "g", "__float128", "z", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+				"..." }; //$NON-NLS-1$
+		Name[] shared = { VOID, BOOL, INT, UNSIGNED_INT, LONG, UNSIGNED_LONG, LONG_LONG, UNSIGNED_LONG_LONG, FLOAT,
+				DOUBLE, LONG_DOUBLE, FLOAT128 };
+		for (int i = 0; i < builtins.length; i += 2) {
+			Name name = new Name(builtins[i + 1]);
+			for (Name s : shared) {
+				if (s.text.equals(name.text)) {
+					name = s;
+				}
+			}
+			BUILTIN_TYPES[builtins[i].charAt(0)] = name;
+		}
+		String[] dBuiltins = { "d", "decimal64", "e", "decimal128", "f", "decimal32", "h", "half", "i", "char32_t", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+				"s", "char16_t", "u", "char8_t", "a", "auto", "c", "decltype(auto)" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+		for (int i = 0; i < dBuiltins.length; i += 2) {
+			BUILTIN_D_TYPES[dBuiltins[i].charAt(0)] = new Name(dBuiltins[i + 1]);
+		}
+		BUILTIN_D_TYPES['n'] = NULLPTR;
+
+		String[] operators = { "aN", "&=", "aS", "=", "aa", "&&", "ad", "&", "an", "&", "at", "alignof ", "aw", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$
+				"co_await", "az", "alignof ", "cc", "const_cast", "cl", "()", "cm", ",", "co", "~", "dV", "/=", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$
+				"da", "delete[]", "dc", "dynamic_cast", "de", "*", "dl", "delete", "ds", ".*", "dt", ".", "dv", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$
+				"/", "eO", "^=", "eo", "^", "eq", "==", "ge", ">=", "gs", "::", "gt", ">", "ix", "[]", "lS", "<<=", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$ //$NON-NLS-17$
+				"le", "<=", "ls", "<<", "lt", "<", "mI", "-=", "mL", "*=", "mi", "-", "ml", "*", "mm", "--", "na", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$ //$NON-NLS-17$
+				"new[]", "ne", "!=", "ng", "-", "nt", "!", "nw", "new", "oR", "|=", "oo", "||", "or", "|", "pL", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$
+				"+=", "pl", "+", "pm", "->*", "pp", "++", "ps", "+", "pt", "->", "qu", "?", "rM", "%=", "rS", ">>=", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$ //$NON-NLS-17$
+				"rc", "reinterpret_cast", "rm", "%", "rs", ">>", "sc", "static_cast", "ss", "<=>", "st", "sizeof ", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$
+				"sz", "sizeof ", "tr", "throw", "tw", "throw " }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		for (int i = 0; i < operators.length; i += 2) {
+			String op = operators[i + 1];
+			// Operators that are words are separated from the keyword
+			String name = Character.isLowerCase(op.charAt(0)) ? "operator " + op : "operator" + op; //$NON-NLS-1$ //$NON-NLS-2$
+			OPERATORS.put(operators[i], new Name(name));
+		}
+	}
+
+	private ItaniumDemangler() {
+	}
+
+	/**
+	 * Demangles the given symbol name.
+	 *
+	 * @param symbol the symbol name, e.g. <code>_ZN3foo3barEv</code>
+	 * @return the demangled name, e.g. <code>foo::bar()</code>, or {@code null} if the name is
+	 *         not mangled according to the Itanium C++ ABI or cannot be demangled.
+	 */
+	public static String demangle(String symbol) {
+		if (!symbol.startsWith("_Z") && !symbol.startsWith("_GLOBAL_")) { //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		String result = cache.get(symbol);
+		if (result == null) {
+			result = new ItaniumDemangler.Parser(symbol).demangle();
+			cache.put(symbol, result == null ? FAILED : result);
+		}
+		return result == FAILED ? null : result;
+	}
+
+	/**
+	 * Returns whether the given symbol may be demangled by c++filt although it is not demangled
+	 * by {@link #demangle(String)}. This is the case for the names this demangler does not
+	 * support and for names of other languages, which c++filt recognizes as well.
+	 */
+	public static boolean isDemangledByCPPFilt(String symbol) {
+		if (symbol.length() < 3 || symbol.charAt(0) != '_') {
+			return false;
+		}
+		switch (symbol.charAt(1)) {
+		case 'Z': // C++ or legacy Rust
+		case 'R': // Rust
+			return true;
+		case '_': // C++ on targets prefixing symbols with an underscore
+			return symbol.charAt(2) == 'Z';
+		case 'D': // D
+			return Character.isDigit(symbol.charAt(2));
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * The state recorded while parsing the name of an encoding, which determines how the
+	 * encoding continues.
+	 */
+	private static final class NameState {
+		int cvQualifiers;
+		int refQualifier;
+		boolean ctorDtorConversion;
+		boolean endsWithTemplateArgs;
+	}
+
+	private static final class Parser {
+		private final String s;
+		private final int length;
+		private int pos;
+		private int depth;
+		private final List<Node> subs = new ArrayList<>();
+		/** The arguments of the last template whose parameters may be referenced */
+		private List<Node> templateArgs;
+		/** The name of the last class or namespace, which is the name of constructors */
+		private String lastName;
+		private boolean tryToParseTemplateArgs = true;
+
+		Parser(String s) {
+			this.s = s;
+			this.length = s.length();
+		}
+
+		String demangle() {
+			try {
+				Node node;
+				if (s.startsWith("_Z")) { //$NON-NLS-1$
+					pos = 2;
+					node = parseEncoding();
+					while (look() == '.' && (isLower(look(1)) || look(1) == '_' || isDigit(look(1)))) {
+						node = parseCloneSuffix(node);
+					}
+				} else if (s.length() > 11 && ".$_".indexOf(s.charAt(8)) >= 0 //$NON-NLS-1$
+						&& (s.charAt(9) == 'I' || s.charAt(9) == 'D') && s.charAt(10) == '_') {
+					String prefix = s.charAt(9) == 'I' ? "global constructors keyed to " //$NON-NLS-1$
+							: "global destructors keyed to "; //$NON-NLS-1$
+					String keyed = s.substring(11);
+					String demangled = keyed.startsWith("_Z") ? new Parser(keyed).demangle() : keyed; //$NON-NLS-1$
+					return demangled == null ? null : prefix + demangled;
+				} else {
+					return null;
+				}
+				if (pos != length) {
+					return null;
+				}
+				Printer p = new Printer(length * 2);
+				node.print(p);
+				return p.toString();
+			} catch (DemangleException | StackOverflowError e) {
+				return null;
+			}
+		}
+
+		private char look() {
+			return pos < length ? s.charAt(pos) : 0;
+		}
+
+		private char look(int offset) {
+			return pos + offset < length ? s.charAt(pos + offset) : 0;
+		}
+
+		private boolean consume(char c) {
+			if (look() == c) {
+				pos++;
+				return true;
+			}
+			return false;
+		}
+
+		private boolean consume(String prefix) {
+			if (s.startsWith(prefix, pos)) {
+				pos += prefix.length();
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char c) {
+			if (!consume(c)) {
+				throw FAILURE;
+			}
+		}
+
+		private void enter() {
+			if (++depth > MAX_DEPTH) {
+				throw FAILURE;
+			}
+		}
+
+		private static boolean isDigit(char c) {
+			return c >= '0' && c <= '9';
+		}
+
+		private static boolean isLower(char c) {
+			return c >= 'a' && c <= 'z';
+		}
+
+		/**
+		 * Parses a non-negative decimal number.
+		 */
+		private String parseDigits() {
+			int start = pos;
+			while (isDigit(look())) {
+				pos++;
+			}
+			if (pos == start) {
+				throw FAILURE;
+			}
+			return s.substring(start, pos);
+		}
+
+		private int parseInt() {
+			int start = pos;
+			int value = 0;
+			while (isDigit(look())) {
+				value = value * 10 + look() - '0';
+				if (++pos - start > 8) {
+					throw FAILURE;
+				}
+			}
+			if (pos == start) {
+				throw FAILURE;
+			}
+			return value;
+		}
+
+		/**
+		 * <pre>
+		 * &lt;encoding> ::= &lt;function name> &lt;bare-function-type>
+		 *            ::= &lt;data name>
+		 *            ::= &lt;special-name>
+		 * </pre>
+		 */
+		private Node parseEncoding() {
+			enter();
+			char c = look();
+			if (c == 'G' || c == 'T') {
+				Node special = parseSpecialName();
+				depth--;
+				return special;
+			}
+			NameState state = new NameState();
+			Node name = parseName(state);
+			if (isEndOfEncoding()) {
+				depth--;
+				return name;
+			}
+			List<Node> args = state.endsWithTemplateArgs ? templateArgs : null;
+			Node ret = null;
+			if (!state.ctorDtorConversion && state.endsWithTemplateArgs) {
+				ret = parseType();
+			}
+			Node[] params = NO_NODES;
+			if (!consume('v')) {
+				List<Node> list = new ArrayList<>();
+				do {
+					list.add(parseType());
+				} while (!isEndOfEncoding());
+				params = list.toArray(NO_NODES);
+			}
+			depth--;
+			return new FunctionEncoding(ret, name, params, args, state.cvQualifiers, state.refQualifier);
+		}
+
+		private boolean isEndOfEncoding() {
+			char c = look();
+			return c == 0 || c == 'E' || c == '.';
+		}
+
+		/**
+		 * Parses a suffix GCC appends to the names of specialized copies of functions, like
+		 * <code>.constprop.0</code> or <code>.cold</code>.
+		 */
+		private Node parseCloneSuffix(Node encoding) {
+			int start = pos;
+			pos += 2;
+			while (isLower(look()) || isDigit(look()) || look() == '_') {
+				pos++;
+			}
+			while (look() == '.' && isDigit(look(1))) {
+				pos += 2;
+				while (isDigit(look())) {
+					pos++;
+				}
+			}
+			return new ClonedEncoding(encoding, s.substring(start, pos));
+		}
+
+		private Node parseSpecialName() {
+			if (consume('T')) {
+				switch (look()) {
+				case 'V':
+					pos++;
+					return new SpecialName("vtable for ", parseType()); //$NON-NLS-1$
+				case 'T':
+					pos++;
+					return new SpecialName("VTT for ", parseType()); //$NON-NLS-1$
+				case 'I':
+					pos++;
+					return new SpecialName("typeinfo for ", parseType()); //$NON-NLS-1$
+				case 'S':
+					pos++;
+					return new SpecialName("typeinfo name for ", parseType()); //$NON-NLS-1$
+				case 'c':
+					pos++;
+					parseCallOffset();
+					parseCallOffset();
+					return new SpecialName("covariant return thunk to ", parseEncoding()); //$NON-NLS-1$
+				case 'C': {
+					pos++;
+					Node derived = parseType();
+					parseDigits();
+					expect('_');
+					Node base = parseType();
+					return new CtorVtableName(base, derived);
+				}
+				case 'W':
+					pos++;
+					return new SpecialName("TLS wrapper function for ", parseName(null)); //$NON-NLS-1$
+				case 'H':
+					pos++;
+					return new SpecialName("TLS init function for ", parseName(null)); //$NON-NLS-1$
+				case 'h':
+				case 'v': {
+					boolean virtual = look() == 'v';
+					parseCallOffset();
+					return new SpecialName(virtual ? "virtual thunk to " : "non-virtual thunk to ", parseEncoding()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				default:
+					throw FAILURE;
+				}
+			}
+			expect('G');
+			if (consume('V')) {
+				return new SpecialName("guard variable for ", parseName(null)); //$NON-NLS-1$
+			}
+			if (consume("Tt")) { //$NON-NLS-1$
+				return new SpecialName("transaction clone for ", parseEncoding()); //$NON-NLS-1$
+			}
+			if (consume("Tn")) { //$NON-NLS-1$
+				return new SpecialName("non-transaction clone for ", parseEncoding()); //$NON-NLS-1$
+			}
+			throw FAILURE;
+		}
+
+		/**
+		 * <pre>
+		 * &lt;call-offset> ::= h &lt;nv-offset> _
+		 *               ::= v &lt;v-offset> _
+		 * </pre>
+		 */
+		private void parseCallOffset() {
+			if (consume('h')) {
+				parseOffset();
+			} else {
+				expect('v');
+				parseOffset();
+				parseOffset();
+			}
+		}
+
+		private void parseOffset() {
+			consume('n');
+			parseDigits();
+			expect('_');
+		}
+
+		/**
+		 * <pre>
+		 * &lt;name> ::= &lt;nested-name>
+		 *        ::= &lt;local-name>
+		 *        ::= &lt;unscoped-template-name> &lt;template-args>
+		 *        ::= &lt;unscoped-name>
+		 * </pre>
+		 */
+		private Node parseName(NameState state) {
+			enter();
+			Node result;
+			char c = look();
+			if (c == 'N') {
+				result = parseNestedName(state);
+			} else if (c == 'Z') {
+				result = parseLocalName(state);
+			} else {
+				boolean isSubst = c == 'S' && look(1) != 't';
+				result = isSubst ? parseSubstitution() : parseUnscopedName(state);
+				if (look() == 'I') {
+					if (!isSubst) {
+						subs.add(result);
+					}
+					Node args = parseTemplateArgs(state != null);
+					if (state != null) {
+						state.endsWithTemplateArgs = true;
+					}
+					result = new NameWithTemplateArgs(result, args);
+				} else if (isSubst) {
+					throw FAILURE;
+				}
+			}
+			depth--;
+			return result;
+		}
+
+		private Node parseUnscopedName(NameState state) {
+			boolean std = consume("St"); //$NON-NLS-1$
+			consume('L');
+			Node name = parseUnqualifiedName(state);
+			return std ? new NestedName(STD, name) : name;
+		}
+
+		/**
+		 * <pre>
+		 * &lt;nested-name> ::= N [&lt;CV-qualifiers>] [&lt;ref-qualifier>] &lt;prefix> &lt;unqualified-name> E
+		 *               ::= N [&lt;CV-qualifiers>] [&lt;ref-qualifier>] &lt;template-prefix> &lt;template-args> E
+		 * </pre>
+		 */
+		private Node parseNestedName(NameState state) {
+			expect('N');
+			int cv = parseCVQualifiers();
+			int ref = REF_NONE;
+			if (consume('O')) {
+				ref = REF_RVALUE;
+			} else if (consume('R')) {
+				ref = REF_LVALUE;
+			}
+			if (state != null) {
+				state.cvQualifiers = cv;
+				state.refQualifier = ref;
+			}
+			Node soFar = null;
+			if (consume("St")) { //$NON-NLS-1$
+				soFar = STD;
+			}
+			while (!consume('E')) {
+				consume('L');
+				char c = look();
+				if (c == 'M') {
+					// Closure type of a lambda in a data member initializer
+					pos++;
+					if (soFar == null) {
+						throw FAILURE;
+					}
+					continue;
+				}
+				if (c == 'T') {
+					soFar = pushComponent(soFar, parseTemplateParam(), state);
+					subs.add(soFar);
+				} else if (c == 'I') {
+					if (soFar == null) {
+						throw FAILURE;
+					}
+					soFar = new NameWithTemplateArgs(soFar, parseTemplateArgs(state != null));
+					if (state != null) {
+						state.endsWithTemplateArgs = true;
+					}
+					subs.add(soFar);
+				} else if (c == 'S' && look(1) != 't') {
+					Node sub = parseSubstitution();
+					soFar = pushComponent(soFar, sub, state);
+					if (soFar != sub) {
+						subs.add(soFar);
+					}
+				} else if (c == 'C' || (c == 'D' && look(1) != 'C')) {
+					if (soFar == null) {
+						throw FAILURE;
+					}
+					soFar = pushComponent(soFar, parseCtorDtorName(state), state);
+					soFar = parseAbiTags(soFar);
+					subs.add(soFar);
+				} else {
+					soFar = pushComponent(soFar, parseUnqualifiedName(state), state);
+					subs.add(soFar);
+				}
+			}
+			if (soFar == null || subs.isEmpty()) {
+				throw FAILURE;
+			}
+			// The name itself is not a candidate for substitution
+			subs.remove(subs.size() - 1);
+			return soFar;
+		}
+
+		private static Node pushComponent(Node soFar, Node component, NameState state) {
+			if (state != null) {
+				state.endsWithTemplateArgs = false;
+			}
+			return soFar == null ? component : new NestedName(soFar, component);
+		}
+
+		/**
+		 * <pre>
+		 * &lt;local-name> ::= Z &lt;function encoding> E &lt;entity name> [&lt;discriminator>]
+		 *              ::= Z &lt;function encoding> E s [&lt;discriminator>]
+		 * </pre>
+		 */
+		private Node parseLocalName(NameState state) {
+			expect('Z');
+			Node encoding = parseEncoding();
+			expect('E');
+			if (encoding instanceof FunctionEncoding) {
+				// The return type of the enclosing function is not printed
+				encoding = ((FunctionEncoding) encoding).withoutReturnType();
+			}
+			if (consume('s')) {
+				parseDiscriminator();
+				return new LocalName(encoding, STRING_LITERAL);
+			}
+			if (look() == 'd') {
+				// Entity in a default argument
+				throw FAILURE;
+			}
+			Node entity = parseName(state);
+			parseDiscriminator();
+			return new LocalName(encoding, entity);
+		}
+
+		/**
+		 * <pre>
+		 * &lt;discriminator> ::= _ &lt;digit>
+		 *                 ::= __ &lt;number> _
+		 * </pre>
+		 */
+		private void parseDiscriminator() {
+			if (look() == '_') {
+				if (isDigit(look(1))) {
+					pos += 2;
+				} else if (look(1) == '_') {
+					int end = pos + 2;
+					while (end < length && isDigit(s.charAt(end))) {
+						end++;
+					}
+					if (end < length && s.charAt(end) == '_') {
+						pos = end + 1;
+					}
+				}
+			} else if (isDigit(look())) {
+				// Extension: digits at the end of the name
+				int end = pos + 1;
+				while (end < length && isDigit(s.charAt(end))) {
+					end++;
+				}
+				if (end == length) {
+					pos = end;
+				}
+			}
+		}
+
+		/**
+		 * <pre>
+		 * &lt;unqualified-name> ::= &lt;operator-name> [&lt;abi-tags>]
+		 *                    ::= &lt;source-name> [&lt;abi-tags>]
+		 *                    ::= &lt;unnamed-type-name>
+		 *                    ::= DC &lt;source-name>+ E
+		 * </pre>
+		 */
+		private Node parseUnqualifiedName(NameState state) {
+			Node result;
+			char c = look();
+			if (c == 'U') {
+				result = parseUnnamedTypeName();
+			} else if (c >= '1' && c <= '9') {
+				result = parseSourceName();
+			} else if (c == 'D' && look(1) == 'C') {
+				// Structured binding declaration
+				pos += 2;
+				StringBuilder names = new StringBuilder("["); //$NON-NLS-1$
+				do {
+					if (names.length() > 1) {
+						names.append(", "); //$NON-NLS-1$
+					}
+					names.append(parseSourceName().text);
+				} while (!consume('E'));
+				result = new Name(names.append(']').toString());
+			} else {
+				result = parseOperatorName(state);
+			}
+			return parseAbiTags(result);
+		}
+
+		private Node parseAbiTags(Node node) {
+			String savedLastName = lastName;
+			while (consume('B')) {
+				node = new AbiTaggedName(node, parseSourceName().text);
+			}
+			lastName = savedLastName;
+			return node;
+		}
+
+		/**
+		 * <pre>
+		 * &lt;source-name> ::= &lt;positive length number> &lt;identifier>
+		 * </pre>
+		 */
+		private Name parseSourceName() {
+			int len = parseInt();
+			if (len == 0 || len > length - pos) {
+				throw FAILURE;
+			}
+			int start = pos;
+			pos += len;
+			if (len > 9 && s.startsWith("_GLOBAL_", start) && ".$_".indexOf(s.charAt(start + 8)) >= 0 //$NON-NLS-1$ //$NON-NLS-2$
+					&& s.charAt(start + 9) == 'N') {
+				lastName = ANONYMOUS_NAMESPACE.text;
+				return ANONYMOUS_NAMESPACE;
+			}
+			Name name = new Name(s.substring(start, pos));
+			lastName = name.text;
+			return name;
+		}
+
+		/**
+		 * <pre>
+		 * &lt;unnamed-type-name> ::= Ut [&lt;nonnegative number>] _
+		 *                     ::= Ul &lt;lambda-sig> E [&lt;nonnegative number>] _
+		 * </pre>
+		 */
+		private Node parseUnnamedTypeName() {
+			if (consume("Ut")) { //$NON-NLS-1$
+				int count = parseUnnamedCount();
+				return new Name("{unnamed type#" + count + "}"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			if (!consume("Ul")) { //$NON-NLS-1$
+				throw FAILURE;
+			}
+			Node[] params = NO_NODES;
+			if (!consume("vE")) { //$NON-NLS-1$
+				List<Node> list = new ArrayList<>();
+				do {
+					list.add(parseType());
+				} while (!consume('E'));
+				params = list.toArray(NO_NODES);
+			}
+			return new LambdaName(params, parseUnnamedCount());
+		}
+
+		private int parseUnnamedCount() {
+			int count = 1;
+			if (isDigit(look())) {
+				count = parseInt() + 2;
+			}
+			expect('_');
+			return count;
+		}
+
+		private Node parseOperatorName(NameState state) {
+			char c = look();
+			char c1 = look(1);
+			if (c == 'c' && c1 == 'v') {
+				pos += 2;
+				// The template arguments following the type are those of the operator
+				boolean savedTry = tryToParseTemplateArgs;
+				tryToParseTemplateArgs = false;
+				Node type = parseType();
+				tryToParseTemplateArgs = savedTry;
+				if (state != null) {
+					state.ctorDtorConversion = true;
+				}
+				return new ConversionOperator(type);
+			}
+			if (c == 'l' && c1 == 'i') {
+				pos += 2;
+				return new Name("operator\"\" " + parseSourceName().text); //$NON-NLS-1$
+			}
+			if (c == 'v' && isDigit(c1)) {
+				pos += 2;
+				return new Name("operator " + parseSourceName().text); //$NON-NLS-1$
+			}
+			Name op = OPERATORS.get(s.substring(pos, Math.min(pos + 2, length)));
+			if (op == null) {
+				throw FAILURE;
+			}
+			pos += 2;
+			return op;
+		}
+
+		/**
+		 * <pre>
+		 * &lt;ctor-dtor-name> ::= C1 | C2 | C3 | CI1 &lt;base class type> | CI2 &lt;base class type>
+		 *                  ::= D0 | D1 | D2
+		 * </pre>
+		 */
+		private Node parseCtorDtorName(NameState state) {
+			boolean dtor = look() == 'D';
+			pos++;
+			boolean inheriting = !dtor && consume('I');
+			char c = look();
+			if (c < '0' || c > '5' || (!dtor && c == '0')) {
+				throw FAILURE;
+			}
+			pos++;
+			if (inheriting) {
+				// Named after the base class
+				parseType();
+			}
+			if (lastName == null) {
+				throw FAILURE;
+			}
+			if (state != null) {
+				state.ctorDtorConversion = true;
+			}
+			return new Name(dtor ? '~' + lastName : lastName);
+		}
+
+		/**
+		 * <pre>
+		 * &lt;substitution> ::= S_ | S &lt;seq-id> _
+		 *                ::= Sa | Sb | Ss | Si | So | Sd
+		 * </pre>
+		 */
+		private Node parseSubstitution() {
+			expect('S');
+			char c = look();
+			if (isLower(c)) {
+				pos++;
+				Name sub;
+				switch (c) {
+				case 'a':
+					sub = SUB_ALLOCATOR;
+					break;
+				case 'b':
+					sub = SUB_BASIC_STRING;
+					break;
+				case 's':
+					sub = SUB_STRING;
+					break;
+				case 'i':
+					sub = SUB_ISTREAM;
+					break;
+				case 'o':
+					sub = SUB_OSTREAM;
+					break;
+				case 'd':
+					sub = SUB_IOSTREAM;
+					break;
+				default:
+					throw FAILURE;
+				}
+				lastName = sub.baseName;
+				return sub;
+			}
+			int index = 0;
+			if (!consume('_')) {
+				int start = pos;
+				while (!consume('_')) {
+					c = look();
+					if (isDigit(c)) {
+						index = index * 36 + c - '0';
+					} else if (c >= 'A' && c <= 'Z') {
+						index = index * 36 + c - 'A' + 10;
+					} else {
+						throw FAILURE;
+					}
+					if (++pos - start > 5) {
+						throw FAILURE;
+					}
+				}
+				index++;
+			}
+			if (index >= subs.size()) {
+				throw FAILURE;
+			}
+			return subs.get(index);
+		}
+
+		/**
+		 * <pre>
+		 * &lt;template-param> ::= T_ | T &lt;parameter-2 non-negative number> _
+		 * </pre>
+		 */
+		private Node parseTemplateParam() {
+			expect('T');
+			int index = 0;
+			if (!consume('_')) {
+				index = parseInt() + 1;
+				expect('_');
+			}
+			return new TemplateParamRef(index);
+		}
+
+		/**
+		 * <pre>
+		 * &lt;template-args> ::= I &lt;template-arg>+ E
+		 * </pre>
+		 *
+		 * @param tag whether the arguments are those referenced by template parameters
+		 */
+		private TemplateArgs parseTemplateArgs(boolean tag) {
+			expect('I');
+			boolean savedTry = tryToParseTemplateArgs;
+			String savedLastName = lastName;
+			tryToParseTemplateArgs = true;
+			List<Node> args = new ArrayList<>();
+			while (!consume('E')) {
+				args.add(parseTemplateArg());
+			}
+			tryToParseTemplateArgs = savedTry;
+			lastName = savedLastName;
+			if (tag) {
+				templateArgs = new ArrayList<>(args.size());
+				for (Node arg : args) {
+					templateArgs.add(
+							arg instanceof TemplateArgPack ? new ParameterPack(((TemplateArgPack) arg).elements) : arg);
+				}
+			}
+			return new TemplateArgs(args.toArray(NO_NODES));
+		}
+
+		/**
+		 * <pre>
+		 * &lt;template-arg> ::= &lt;type>
+		 *                ::= X &lt;expression> E
+		 *                ::= &lt;expr-primary>
+		 *                ::= J &lt;template-arg>* E
+		 * </pre>
+		 */
+		private Node parseTemplateArg() {
+			switch (look()) {
+			case 'X': {
+				// Of the expressions only template parameters, their expansions and literals are
+				// supported
+				pos++;
+				Node arg;
+				if (look() == 'L') {
+					arg = parseExprPrimary();
+				} else if (consume("sp")) { //$NON-NLS-1$
+					arg = new PackExpansion(parseTemplateParam());
+				} else {
+					arg = parseTemplateParam();
+				}
+				expect('E');
+				return arg;
+			}
+			case 'J': {
+				pos++;
+				List<Node> elements = new ArrayList<>();
+				while (!consume('E')) {
+					elements.add(parseTemplateArg());
+				}
+				return new TemplateArgPack(elements.toArray(NO_NODES));
+			}
+			case 'L':
+				return parseExprPrimary();
+			default:
+				return parseType();
+			}
+		}
+
+		/**
+		 * <pre>
+		 * &lt;expr-primary> ::= L &lt;type> &lt;value number> E
+		 *                ::= L &lt;mangled-name> E
+		 * </pre>
+		 */
+		private Node parseExprPrimary() {
+			expect('L');
+			if (consume("_Z") || consume('Z')) { //$NON-NLS-1$
+				Node encoding = parseEncoding();
+				expect('E');
+				return encoding;
+			}
+			if (consume("DnE")) { //$NON-NLS-1$
+				return NULLPTR;
+			}
+			Node type = parseType();
+			if (type == FLOAT || type == DOUBLE || type == LONG_DOUBLE || type == FLOAT128 || type == NULLPTR) {
+				throw FAILURE;
+			}
+			boolean negative = consume('n');
+			String value = parseDigits();
+			expect('E');
+			String sign = negative ? "-" : ""; //$NON-NLS-1$ //$NON-NLS-2$
+			if (type == INT) {
+				return new Name(sign + value);
+			} else if (type == UNSIGNED_INT) {
+				return new Name(sign + value + 'u');
+			} else if (type == LONG) {
+				return new Name(sign + value + 'l');
+			} else if (type == UNSIGNED_LONG) {
+				return new Name(sign + value + "ul"); //$NON-NLS-1$
+			} else if (type == LONG_LONG) {
+				return new Name(sign + value + "ll"); //$NON-NLS-1$
+			} else if (type == UNSIGNED_LONG_LONG) {
+				return new Name(sign + value + "ull"); //$NON-NLS-1$
+			} else if (type == BOOL && !negative && value.length() == 1 && value.charAt(0) <= '1') {
+				return new Name(value.charAt(0) == '1' ? "true" : "false"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return new CastLiteral(type, sign + value);
+		}
+
+		private int parseCVQualifiers() {
+			int cv = 0;
+			if (consume('r')) {
+				cv |= CV_RESTRICT;
+			}
+			if (consume('V')) {
+				cv |= CV_VOLATILE;
+			}
+			if (consume('K')) {
+				cv |= CV_CONST;
+			}
+			return cv;
+		}
+
+		/**
+		 * Parses a type. All types except builtin types and substitutions are candidates for
+		 * substitutions.
+		 */
+		private Node parseType() {
+			enter();
+			Node result;
+			char c = look();
+			switch (c) {
+			case 'r':
+			case 'V':
+			case 'K': {
+				int after = pos;
+				while (after < length && after - pos < 3 && "rVK".indexOf(s.charAt(after)) >= 0) { //$NON-NLS-1$
+					after++;
+				}
+				char next = after < length ? s.charAt(after) : 0;
+				char next1 = after + 1 < length ? s.charAt(after + 1) : 0;
+				if (next == 'F' || (next == 'D' && "oOwx".indexOf(next1) >= 0)) { //$NON-NLS-1$
+					result = parseFunctionType();
+				} else {
+					int cv = parseCVQualifiers();
+					result = new QualifiedType(parseType(), cv);
+				}
+				break;
+			}
+			case 'F':
+				result = parseFunctionType();
+				break;
+			case 'A':
+				result = parseArrayType();
+				break;
+			case 'M': {
+				pos++;
+				Node classType = parseType();
+				result = new PointerToMemberType(classType, parseType());
+				break;
+			}
+			case 'T':
+				if ("sue".indexOf(look(1)) >= 0) { //$NON-NLS-1$
+					// Elaborated type specifiers are not supported
+					throw FAILURE;
+				}
+				result = parseTemplateParam();
+				if (tryToParseTemplateArgs && look() == 'I') {
+					// Template template parameter
+					subs.add(result);
+					result = new NameWithTemplateArgs(result, parseTemplateArgs(false));
+				}
+				break;
+			case 'P':
+				pos++;
+				result = new PointerType(parseType());
+				break;
+			case 'R':
+				pos++;
+				result = new ReferenceType(parseType(), REF_LVALUE);
+				break;
+			case 'O':
+				pos++;
+				result = new ReferenceType(parseType(), REF_RVALUE);
+				break;
+			case 'C':
+				pos++;
+				result = new PostfixType(parseType(), " _Complex"); //$NON-NLS-1$
+				break;
+			case 'G':
+				pos++;
+				result = new PostfixType(parseType(), " _Imaginary"); //$NON-NLS-1$
+				break;
+			case 'S':
+				if (look(1) != 't') {
+					Node sub = parseSubstitution();
+					if (look() == 'I' && tryToParseTemplateArgs) {
+						result = new NameWithTemplateArgs(sub, parseTemplateArgs(false));
+						break;
+					}
+					depth--;
+					return sub;
+				}
+				result = parseName(null);
+				break;
+			case 'D':
+				switch (look(1)) {
+				case 'p':
+					pos += 2;
+					result = new PackExpansion(parseType());
+					break;
+				case 'v': {
+					pos += 2;
+					String dim = parseDigits();
+					expect('_');
+					result = new VectorType(parseType(), dim);
+					break;
+				}
+				case 'o':
+				case 'O':
+				case 'w':
+				case 'x':
+					result = parseFunctionType();
+					break;
+				case 'F': {
+					pos += 2;
+					String bits = parseDigits();
+					String suffix = consume('x') ? "x" : ""; //$NON-NLS-1$ //$NON-NLS-2$
+					if (!suffix.isEmpty() || consume('_')) {
+						depth--;
+						return new Name("_Float" + bits + suffix); //$NON-NLS-1$
+					}
+					throw FAILURE;
+				}
+				default: {
+					char c1 = look(1);
+					Name builtin = c1 < 128 ? BUILTIN_D_TYPES[c1] : null;
+					if (builtin == null) {
+						// Decltype and other types are not supported
+						throw FAILURE;
+					}
+					pos += 2;
+					depth--;
+					return builtin;
+				}
+				}
+				break;
+			case 'u':
+				// Vendor extended type
+				pos++;
+				result = parseSourceName();
+				break;
+			default: {
+				Name builtin = c < 128 ? BUILTIN_TYPES[c] : null;
+				if (builtin != null) {
+					pos++;
+					depth--;
+					return builtin;
+				}
+				if (!isDigit(c) && c != 'N' && c != 'Z') {
+					throw FAILURE;
+				}
+				result = parseName(null);
+				break;
+			}
+			}
+			subs.add(result);
+			depth--;
+			return result;
+		}
+
+		/**
+		 * <pre>
+		 * &lt;function-type> ::= [&lt;CV-qualifiers>] [&lt;exception-spec>] [Dx] F [Y] &lt;bare-function-type> [&lt;ref-qualifier>] E
+		 * </pre>
+		 */
+		private Node parseFunctionType() {
+			int cv = parseCVQualifiers();
+			String exceptionSpec = ""; //$NON-NLS-1$
+			if (consume("Do")) { //$NON-NLS-1$
+				exceptionSpec = " noexcept"; //$NON-NLS-1$
+			} else if (look() == 'D' && (look(1) == 'O' || look(1) == 'w')) {
+				throw FAILURE;
+			}
+			if (consume("Dx")) { //$NON-NLS-1$
+				exceptionSpec += " transaction_safe"; //$NON-NLS-1$
+			}
+			expect('F');
+			consume('Y');
+			Node ret = parseType();
+			int ref = REF_NONE;
+			List<Node> params = new ArrayList<>();
+			while (true) {
+				if (consume('E')) {
+					break;
+				}
+				if (consume('v')) {
+					continue;
+				}
+				if (consume("RE")) { //$NON-NLS-1$
+					ref = REF_LVALUE;
+					break;
+				}
+				if (consume("OE")) { //$NON-NLS-1$
+					ref = REF_RVALUE;
+					break;
+				}
+				params.add(parseType());
+			}
+			return new FunctionType(ret, params.toArray(NO_NODES), cv, ref, exceptionSpec);
+		}
+
+		/**
+		 * <pre>
+		 * &lt;array-type> ::= A &lt;positive dimension number> _ &lt;element type>
+		 *              ::= A _ &lt;element type>
+		 * </pre>
+		 */
+		private Node parseArrayType() {
+			expect('A');
+			Node dim = null;
+			if (isDigit(look())) {
+				dim = new Name(parseDigits());
+			} else if (look() == 'T') {
+				dim = parseTemplateParam();
+			}
+			expect('_');
+			return new ArrayType(parseType(), dim);
+		}
+	}
+
+	/**
+	 * The arguments of a template function that is being printed, which are referenced by
+	 * template parameters.
+	 */
+	private static final class TemplateScope {
+		final List<Node> args;
+		final TemplateScope outer;
+
+		TemplateScope(List<Node> args, TemplateScope outer) {
+			this.args = args;
+			this.outer = outer;
+		}
+	}
+
+	/**
+	 * Collects the output and the state of the expansion of parameter packs.
+	 */
+	private static final class Printer {
+		static final int NO_PACK = Integer.MAX_VALUE;
+
+		final StringBuilder buf;
+		int packIndex = NO_PACK;
+		int packMax = NO_PACK;
+		TemplateScope templates;
+		/** The scopes in which references to template parameters were first printed */
+		Map<Node, TemplateScope> referenceScopes;
+		boolean inLambdaSig;
+		/** Whether a separator was removed last, which c++filt still takes as the last character */
+		boolean removedSeparator;
+		int depth;
+
+		Printer(int capacity) {
+			buf = new StringBuilder(capacity);
+		}
+
+		void append(String str) {
+			buf.append(str);
+			removedSeparator = false;
+			if (buf.length() > MAX_LENGTH) {
+				throw FAILURE;
+			}
+		}
+
+		void append(char c) {
+			buf.append(c);
+			removedSeparator = false;
+		}
+
+		char last() {
+			if (removedSeparator) {
+				return ' ';
+			}
+			return buf.length() == 0 ? 0 : buf.charAt(buf.length() - 1);
+		}
+
+		int position() {
+			return buf.length();
+		}
+
+		void reset(int position) {
+			buf.setLength(position);
+		}
+
+		void printQualifiers(int cv) {
+			if ((cv & CV_CONST) != 0) {
+				append(" const"); //$NON-NLS-1$
+			}
+			if ((cv & CV_VOLATILE) != 0) {
+				append(" volatile"); //$NON-NLS-1$
+			}
+			if ((cv & CV_RESTRICT) != 0) {
+				append(" restrict"); //$NON-NLS-1$
+			}
+		}
+
+		void printRefQualifier(int ref) {
+			if (ref == REF_LVALUE) {
+				append(" &"); //$NON-NLS-1$
+			} else if (ref == REF_RVALUE) {
+				append(" &&"); //$NON-NLS-1$
+			}
+		}
+
+		/**
+		 * Prints the nodes separated by commas. Like c++filt, the separators are omitted after
+		 * the last node that is not empty, which is the case for empty pack expansions.
+		 */
+		void printWithComma(Node[] nodes) {
+			int end = position();
+			for (int i = 0; i < nodes.length; i++) {
+				if (i > 0) {
+					append(", "); //$NON-NLS-1$
+				}
+				int start = position();
+				nodes[i].print(this);
+				if (i == 0 || position() != start) {
+					end = position();
+				}
+			}
+			if (end != position()) {
+				reset(end);
+				removedSeparator = true;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return buf.toString();
+		}
+	}
+
+	/**
+	 * A node of a demangled name. Types are printed in two parts, the part left of the declarator
+	 * and the part right of it, e.g. <code>void (*</code> and <code>)(int)</code> for a pointer to
+	 * a function.
+	 */
+	private abstract static class Node {
+		/** Whether the node has a part right of the declarator */
+		boolean hasRHSComponent(Printer p) {
+			return false;
+		}
+
+		boolean hasArray(Printer p) {
+			return false;
+		}
+
+		boolean hasFunction(Printer p) {
+			return false;
+		}
+
+		/** The node that determines the syntax of this node, for references and packs */
+		Node getSyntaxNode(Printer p) {
+			return this;
+		}
+
+		abstract void printLeft(Printer p);
+
+		void printRight(Printer p) {
+		}
+
+		final void print(Printer p) {
+			if (++p.depth > MAX_DEPTH) {
+				throw FAILURE;
+			}
+			printLeft(p);
+			if (hasRHSComponent(p)) {
+				printRight(p);
+			}
+			p.depth--;
+		}
+	}
+
+	private static final class Name extends Node {
+		final String text;
+		/** The name of the constructors, for the names of classes */
+		final String baseName;
+
+		Name(String text) {
+			this(text, text);
+		}
+
+		Name(String text, String baseName) {
+			this.text = text;
+			this.baseName = baseName;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			p.append(text);
+		}
+	}
+
+	private static final class NestedName extends Node {
+		private final Node qualifier;
+		private final Node name;
+
+		NestedName(Node qualifier, Node name) {
+			this.qualifier = qualifier;
+			this.name = name;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			qualifier.print(p);
+			p.append("::"); //$NON-NLS-1$
+			name.print(p);
+		}
+	}
+
+	private static final class LocalName extends Node {
+		private final Node encoding;
+		private final Node entity;
+
+		LocalName(Node encoding, Node entity) {
+			this.encoding = encoding;
+			this.entity = entity;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			encoding.print(p);
+			p.append("::"); //$NON-NLS-1$
+			entity.print(p);
+		}
+	}
+
+	private static final class NameWithTemplateArgs extends Node {
+		private final Node name;
+		private final Node args;
+
+		NameWithTemplateArgs(Node name, Node args) {
+			this.name = name;
+			this.args = args;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			name.print(p);
+			args.print(p);
+		}
+	}
+
+	private static final class TemplateArgs extends Node {
+		private final Node[] args;
+
+		TemplateArgs(Node[] args) {
+			this.args = args;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			// Separate the brackets from those of operator names and of nested arguments
+			if (p.last() == '<') {
+				p.append(' ');
+			}
+			p.append('<');
+			p.printWithComma(args);
+			if (p.last() == '>') {
+				p.append(' ');
+			}
+			p.append('>');
+		}
+	}
+
+	private static final class AbiTaggedName extends Node {
+		private final Node base;
+		private final String tag;
+
+		AbiTaggedName(Node base, String tag) {
+			this.base = base;
+			this.tag = tag;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			base.print(p);
+			p.append("[abi:"); //$NON-NLS-1$
+			p.append(tag);
+			p.append(']');
+		}
+	}
+
+	private static final class ConversionOperator extends Node {
+		private final Node type;
+
+		ConversionOperator(Node type) {
+			this.type = type;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			p.append("operator "); //$NON-NLS-1$
+			type.print(p);
+		}
+	}
+
+	private static final class LambdaName extends Node {
+		private final Node[] params;
+		private final int count;
+
+		LambdaName(Node[] params, int count) {
+			this.params = params;
+			this.count = count;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			p.append("{lambda("); //$NON-NLS-1$
+			boolean saved = p.inLambdaSig;
+			p.inLambdaSig = true;
+			p.printWithComma(params);
+			p.inLambdaSig = saved;
+			p.append(")#"); //$NON-NLS-1$
+			p.append(Integer.toString(count));
+			p.append('}');
+		}
+	}
+
+	private static final class SpecialName extends Node {
+		private final String prefix;
+		private final Node child;
+
+		SpecialName(String prefix, Node child) {
+			this.prefix = prefix;
+			this.child = child;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			p.append(prefix);
+			child.print(p);
+		}
+	}
+
+	private static final class CtorVtableName extends Node {
+		private final Node first;
+		private final Node second;
+
+		CtorVtableName(Node first, Node second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			p.append("construction vtable for "); //$NON-NLS-1$
+			first.print(p);
+			p.append("-in-"); //$NON-NLS-1$
+			second.print(p);
+		}
+	}
+
+	private static final class ClonedEncoding extends Node {
+		private final Node encoding;
+		private final String suffix;
+
+		ClonedEncoding(Node encoding, String suffix) {
+			this.encoding = encoding;
+			this.suffix = suffix;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			encoding.print(p);
+			p.append(" [clone "); //$NON-NLS-1$
+			p.append(suffix);
+			p.append(']');
+		}
+	}
+
+	private static final class CastLiteral extends Node {
+		private final Node type;
+		private final String value;
+
+		CastLiteral(Node type, String value) {
+			this.type = type;
+			this.value = value;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			p.append('(');
+			type.print(p);
+			p.append(')');
+			p.append(value);
+		}
+	}
+
+	private static final class QualifiedType extends Node {
+		private final Node child;
+		private final int cv;
+
+		QualifiedType(Node child, int cv) {
+			this.child = child;
+			this.cv = cv;
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			return child.hasRHSComponent(p);
+		}
+
+		@Override
+		boolean hasArray(Printer p) {
+			return child.hasArray(p);
+		}
+
+		@Override
+		boolean hasFunction(Printer p) {
+			return child.hasFunction(p);
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			child.printLeft(p);
+			p.printQualifiers(cv);
+		}
+
+		@Override
+		void printRight(Printer p) {
+			child.printRight(p);
+		}
+	}
+
+	private static final class PostfixType extends Node {
+		private final Node child;
+		private final String postfix;
+
+		PostfixType(Node child, String postfix) {
+			this.child = child;
+			this.postfix = postfix;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			child.print(p);
+			p.append(postfix);
+		}
+	}
+
+	private static final class VectorType extends Node {
+		private final Node element;
+		private final String dimension;
+
+		VectorType(Node element, String dimension) {
+			this.element = element;
+			this.dimension = dimension;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			element.print(p);
+			p.append(" __vector("); //$NON-NLS-1$
+			p.append(dimension);
+			p.append(')');
+		}
+	}
+
+	private static final class PointerType extends Node {
+		private final Node pointee;
+
+		PointerType(Node pointee) {
+			this.pointee = pointee;
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			return pointee.hasRHSComponent(p);
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			pointee.printLeft(p);
+			boolean array = pointee.hasArray(p);
+			if (array) {
+				p.append(' ');
+			}
+			if (array || pointee.hasFunction(p)) {
+				p.append('(');
+			}
+			p.append('*');
+		}
+
+		@Override
+		void printRight(Printer p) {
+			if (pointee.hasArray(p) || pointee.hasFunction(p)) {
+				p.append(')');
+			}
+			pointee.printRight(p);
+		}
+	}
+
+	private static final class ReferenceType extends Node {
+		private final Node pointee;
+		private final int kind;
+		private boolean printing;
+
+		ReferenceType(Node pointee, int kind) {
+			this.pointee = pointee;
+			this.kind = kind;
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			TemplateScope scope = enterScope(p);
+			boolean result = pointee.hasRHSComponent(p);
+			p.templates = scope;
+			return result;
+		}
+
+		/**
+		 * Applies reference collapsing, a reference to a reference is a reference, and an
+		 * lvalue reference if any of them is.
+		 */
+		private Node collapse(Printer p, int[] collapsedKind) {
+			Node node = pointee;
+			int k = kind;
+			for (int i = 0;; i++) {
+				Node syntax = node.getSyntaxNode(p);
+				if (!(syntax instanceof ReferenceType)) {
+					break;
+				}
+				if (i > MAX_DEPTH) {
+					throw FAILURE;
+				}
+				ReferenceType ref = (ReferenceType) syntax;
+				node = ref.pointee;
+				k = Math.min(k, ref.kind);
+			}
+			collapsedKind[0] = k;
+			return node;
+		}
+
+		/**
+		 * Like c++filt, resolves a referenced template parameter in the scope in which it was
+		 * printed first, when the reference is printed again as a substitution.
+		 */
+		private TemplateScope enterScope(Printer p) {
+			TemplateScope scope = p.templates;
+			if (pointee instanceof TemplateParamRef && !p.inLambdaSig) {
+				if (p.referenceScopes == null) {
+					p.referenceScopes = new IdentityHashMap<>();
+				}
+				if (p.referenceScopes.containsKey(pointee)) {
+					p.templates = p.referenceScopes.get(pointee);
+				} else {
+					p.referenceScopes.put(pointee, scope);
+				}
+			}
+			return scope;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			if (printing) {
+				throw FAILURE;
+			}
+			printing = true;
+			TemplateScope scope = enterScope(p);
+			int[] collapsedKind = new int[1];
+			Node collapsed = collapse(p, collapsedKind);
+			collapsed.printLeft(p);
+			boolean array = collapsed.hasArray(p);
+			if (array) {
+				p.append(' ');
+			}
+			if (array || collapsed.hasFunction(p)) {
+				p.append('(');
+			}
+			p.append(collapsedKind[0] == REF_LVALUE ? "&" : "&&"); //$NON-NLS-1$ //$NON-NLS-2$
+			p.templates = scope;
+			printing = false;
+		}
+
+		@Override
+		void printRight(Printer p) {
+			if (printing) {
+				throw FAILURE;
+			}
+			printing = true;
+			TemplateScope scope = enterScope(p);
+			Node collapsed = collapse(p, new int[1]);
+			if (collapsed.hasArray(p) || collapsed.hasFunction(p)) {
+				p.append(')');
+			}
+			collapsed.printRight(p);
+			p.templates = scope;
+			printing = false;
+		}
+	}
+
+	private static final class PointerToMemberType extends Node {
+		private final Node classType;
+		private final Node memberType;
+
+		PointerToMemberType(Node classType, Node memberType) {
+			this.classType = classType;
+			this.memberType = memberType;
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			return memberType.hasRHSComponent(p);
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			memberType.printLeft(p);
+			if (memberType.hasArray(p)) {
+				p.append(" ("); //$NON-NLS-1$
+			} else if (memberType.hasFunction(p)) {
+				p.append('(');
+			} else {
+				p.append(' ');
+			}
+			classType.print(p);
+			p.append("::*"); //$NON-NLS-1$
+		}
+
+		@Override
+		void printRight(Printer p) {
+			if (memberType.hasArray(p) || memberType.hasFunction(p)) {
+				p.append(')');
+			}
+			memberType.printRight(p);
+		}
+	}
+
+	private static final class ArrayType extends Node {
+		private final Node element;
+		private final Node dimension;
+
+		ArrayType(Node element, Node dimension) {
+			this.element = element;
+			this.dimension = dimension;
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			return true;
+		}
+
+		@Override
+		boolean hasArray(Printer p) {
+			return true;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			element.printLeft(p);
+		}
+
+		@Override
+		void printRight(Printer p) {
+			if (p.last() != ']') {
+				p.append(' ');
+			}
+			p.append('[');
+			if (dimension != null) {
+				dimension.print(p);
+			}
+			p.append(']');
+			element.printRight(p);
+		}
+	}
+
+	private static final class FunctionType extends Node {
+		private final Node ret;
+		private final Node[] params;
+		private final int cv;
+		private final int ref;
+		private final String exceptionSpec;
+
+		FunctionType(Node ret, Node[] params, int cv, int ref, String exceptionSpec) {
+			this.ret = ret;
+			this.params = params;
+			this.cv = cv;
+			this.ref = ref;
+			this.exceptionSpec = exceptionSpec;
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			return true;
+		}
+
+		@Override
+		boolean hasFunction(Printer p) {
+			return true;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			ret.printLeft(p);
+			if (!ret.hasRHSComponent(p)) {
+				p.append(' ');
+			}
+		}
+
+		@Override
+		void printRight(Printer p) {
+			p.append('(');
+			p.printWithComma(params);
+			p.append(')');
+			ret.printRight(p);
+			p.printQualifiers(cv);
+			p.printRefQualifier(ref);
+			p.append(exceptionSpec);
+		}
+	}
+
+	private static final class FunctionEncoding extends Node {
+		private final Node ret;
+		private final Node name;
+		private final Node[] params;
+		/** The template arguments of a template function, {@code null} otherwise */
+		private final List<Node> templateArgs;
+		private final int cv;
+		private final int ref;
+
+		FunctionEncoding(Node ret, Node name, Node[] params, List<Node> templateArgs, int cv, int ref) {
+			this.ret = ret;
+			this.name = name;
+			this.params = params;
+			this.templateArgs = templateArgs;
+			this.cv = cv;
+			this.ref = ref;
+		}
+
+		FunctionEncoding withoutReturnType() {
+			return ret == null ? this : new FunctionEncoding(null, name, params, templateArgs, cv, ref);
+		}
+
+		private TemplateScope enterTemplate(Printer p) {
+			TemplateScope scope = p.templates;
+			if (templateArgs != null) {
+				p.templates = new TemplateScope(templateArgs, scope);
+			}
+			return scope;
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			return true;
+		}
+
+		@Override
+		boolean hasFunction(Printer p) {
+			return true;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			TemplateScope scope = enterTemplate(p);
+			if (ret != null) {
+				ret.printLeft(p);
+				if (!ret.hasRHSComponent(p)) {
+					p.append(' ');
+				}
+			}
+			name.print(p);
+			p.templates = scope;
+		}
+
+		@Override
+		void printRight(Printer p) {
+			TemplateScope scope = enterTemplate(p);
+			p.append('(');
+			p.printWithComma(params);
+			p.append(')');
+			if (ret != null) {
+				ret.printRight(p);
+			}
+			p.printQualifiers(cv);
+			p.printRefQualifier(ref);
+			p.templates = scope;
+		}
+	}
+
+	/**
+	 * A template parameter. Like c++filt, it is resolved when printing, to the argument of the
+	 * innermost template function being printed. In the signature of a generic lambda it is
+	 * printed as <code>auto</code>.
+	 */
+	private static final class TemplateParamRef extends Node {
+		private final int index;
+
+		TemplateParamRef(int index) {
+			this.index = index;
+		}
+
+		/**
+		 * Returns the argument and leaves the scope of its template, since the argument may
+		 * refer to parameters of outer templates. The caller restores the scope.
+		 */
+		private Node enter(Printer p) {
+			TemplateScope scope = p.templates;
+			if (scope == null || index >= scope.args.size()) {
+				throw FAILURE;
+			}
+			p.templates = scope.outer;
+			return scope.args.get(index);
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			if (p.inLambdaSig) {
+				return false;
+			}
+			TemplateScope scope = p.templates;
+			boolean result = enter(p).hasRHSComponent(p);
+			p.templates = scope;
+			return result;
+		}
+
+		@Override
+		boolean hasArray(Printer p) {
+			if (p.inLambdaSig) {
+				return false;
+			}
+			TemplateScope scope = p.templates;
+			boolean result = enter(p).hasArray(p);
+			p.templates = scope;
+			return result;
+		}
+
+		@Override
+		boolean hasFunction(Printer p) {
+			if (p.inLambdaSig) {
+				return false;
+			}
+			TemplateScope scope = p.templates;
+			boolean result = enter(p).hasFunction(p);
+			p.templates = scope;
+			return result;
+		}
+
+		@Override
+		Node getSyntaxNode(Printer p) {
+			if (p.inLambdaSig) {
+				return this;
+			}
+			TemplateScope scope = p.templates;
+			Node result = enter(p).getSyntaxNode(p);
+			p.templates = scope;
+			return result;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			if (p.inLambdaSig) {
+				p.append("auto:"); //$NON-NLS-1$
+				p.append(Integer.toString(index + 1));
+				return;
+			}
+			TemplateScope scope = p.templates;
+			enter(p).printLeft(p);
+			p.templates = scope;
+		}
+
+		@Override
+		void printRight(Printer p) {
+			if (p.inLambdaSig) {
+				return;
+			}
+			TemplateScope scope = p.templates;
+			enter(p).printRight(p);
+			p.templates = scope;
+		}
+	}
+
+	/**
+	 * The template arguments of a template parameter pack, printed one at a time by the
+	 * enclosing {@link PackExpansion}.
+	 */
+	private static final class ParameterPack extends Node {
+		private final Node[] elements;
+
+		ParameterPack(Node[] elements) {
+			this.elements = elements;
+		}
+
+		private Node current(Printer p) {
+			if (p.packMax == Printer.NO_PACK) {
+				p.packMax = elements.length;
+				p.packIndex = 0;
+			}
+			return p.packIndex < elements.length ? elements[p.packIndex] : null;
+		}
+
+		@Override
+		boolean hasRHSComponent(Printer p) {
+			Node node = current(p);
+			return node != null && node.hasRHSComponent(p);
+		}
+
+		@Override
+		boolean hasArray(Printer p) {
+			Node node = current(p);
+			return node != null && node.hasArray(p);
+		}
+
+		@Override
+		boolean hasFunction(Printer p) {
+			Node node = current(p);
+			return node != null && node.hasFunction(p);
+		}
+
+		@Override
+		Node getSyntaxNode(Printer p) {
+			Node node = current(p);
+			return node != null ? node.getSyntaxNode(p) : this;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			Node node = current(p);
+			if (node != null) {
+				node.printLeft(p);
+			}
+		}
+
+		@Override
+		void printRight(Printer p) {
+			Node node = current(p);
+			if (node != null) {
+				node.printRight(p);
+			}
+		}
+	}
+
+	/**
+	 * A template argument pack in a template argument list.
+	 */
+	private static final class TemplateArgPack extends Node {
+		final Node[] elements;
+
+		TemplateArgPack(Node[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			p.printWithComma(elements);
+		}
+	}
+
+	/**
+	 * A pattern containing a parameter pack, printed once for each element of the pack.
+	 */
+	private static final class PackExpansion extends Node {
+		private final Node child;
+
+		PackExpansion(Node child) {
+			this.child = child;
+		}
+
+		@Override
+		void printLeft(Printer p) {
+			int savedIndex = p.packIndex;
+			int savedMax = p.packMax;
+			p.packIndex = Printer.NO_PACK;
+			p.packMax = Printer.NO_PACK;
+			int start = p.position();
+			// Printing the pattern determines the size of the pack and prints the first element
+			child.print(p);
+			if (p.packMax == Printer.NO_PACK) {
+				// Not a pack of template arguments, e.g. the parameters of a generic lambda
+				p.reset(start);
+				boolean simple = child instanceof Name || child instanceof NestedName;
+				if (!simple) {
+					p.append('(');
+				}
+				child.print(p);
+				if (!simple) {
+					p.append(')');
+				}
+				p.append("..."); //$NON-NLS-1$
+			} else if (p.packMax == 0) {
+				p.reset(start);
+			} else {
+				for (int i = 1, max = p.packMax; i < max; i++) {
+					p.append(", "); //$NON-NLS-1$
+					p.packIndex = i;
+					child.print(p);
+				}
+			}
+			p.packIndex = savedIndex;
+			p.packMax = savedMax;
+		}
+	}
+}
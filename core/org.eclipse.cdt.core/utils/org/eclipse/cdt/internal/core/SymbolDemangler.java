@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.eclipse.cdt.utils.CPPFilt;
+
+/**
+ * Demangles the symbol names of a binary while its symbols are loaded. The names are demangled
+ * by the {@link ItaniumDemangler}, c++filt is only started for the names it does not support,
+ * which are rare, such that usually no process is started at all.
+ */
+public class SymbolDemangler {
+	private final Supplier<CPPFilt> cppFiltFactory;
+	private CPPFilt cppFilt;
+	private boolean cppFiltFailed;
+
+	/**
+	 * @param cppFiltFactory creates the c++filt process, may return {@code null}.
+	 */
+	public SymbolDemangler(Supplier<CPPFilt> cppFiltFactory) {
+		this.cppFiltFactory = cppFiltFactory;
+	}
+
+	/**
+	 * Returns the demangled name of the given symbol, or the name itself if it is not mangled.
+	 */
+	public String demangle(String name) {
+		String demangled = ItaniumDemangler.demangle(name);
+		if (demangled != null) {
+			return demangled;
+		}
+		if (cppFiltFailed || !ItaniumDemangler.isDemangledByCPPFilt(name)) {
+			return name;
+		}
+		if (cppFilt == null) {
+			cppFilt = cppFiltFactory.get();
+			if (cppFilt == null) {
+				cppFiltFailed = true;
+				return name;
+			}
+		}
+		try {
+			return cppFilt.getFunction(name);
+		} catch (IOException e) {
+			dispose();
+			cppFiltFailed = true;
+			return name;
+		}
+	}
+
+	/**
+	 * Stops c++filt if it was started.
+	 */
+	public void dispose() {
+		if (cppFilt != null) {
+			cppFilt.dispose();
+			cppFilt = null;
+		}
+	}
+}
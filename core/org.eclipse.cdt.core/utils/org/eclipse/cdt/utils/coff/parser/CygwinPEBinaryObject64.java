@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 Space Codesign Systems and others.
+ * Copyright (c) 2000, 2026 Space Codesign Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import org.eclipse.cdt.core.CConventions;
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.core.IBinaryParser;
 import org.eclipse.cdt.core.IBinaryParser.ISymbol;
+import org.eclipse.cdt.internal.core.SymbolDemangler;
 import org.eclipse.cdt.utils.AR.ARHeader;
 import org.eclipse.cdt.utils.Addr2line;
 import org.eclipse.cdt.utils.Addr32;
@@ -47,7 +48,7 @@ public class CygwinPEBinaryObject64 extends PEBinaryObject64 {
 	private Addr2line autoDisposeAddr2line;
 	private Addr2line symbolLoadingAddr2line;
 	private CygPath symbolLoadingCygPath;
-	private CPPFilt symbolLoadingCPPFilt;
+	private SymbolDemangler symbolLoadingDemangler;
 	long starttime;
 
 	/**
@@ -166,7 +167,7 @@ public class CygwinPEBinaryObject64 extends PEBinaryObject64 {
 	@Override
 	protected void loadSymbols(PE64 pe) throws IOException {
 		symbolLoadingAddr2line = getAddr2line(false);
-		symbolLoadingCPPFilt = getCPPFilt();
+		symbolLoadingDemangler = new SymbolDemangler(this::getCPPFilt);
 		symbolLoadingCygPath = getCygPath();
 
 		ArrayList<Symbol> list = new ArrayList<>();
@@ -196,9 +197,9 @@ public class CygwinPEBinaryObject64 extends PEBinaryObject64 {
 			symbolLoadingAddr2line.dispose();
 			symbolLoadingAddr2line = null;
 		}
-		if (symbolLoadingCPPFilt != null) {
-			symbolLoadingCPPFilt.dispose();
-			symbolLoadingCPPFilt = null;
+		if (symbolLoadingDemangler != null) {
+			symbolLoadingDemangler.dispose();
+			symbolLoadingDemangler = null;
 		}
 		if (symbolLoadingCygPath != null) {
 			symbolLoadingCygPath.dispose();
@@ -211,14 +212,7 @@ public class CygwinPEBinaryObject64 extends PEBinaryObject64 {
 		if (name != null && name.length() > 0 && CConventions.isValidIdentifier(name)) {
 			IAddress addr = new Addr32(p.address);
 			int size = 4;
-			if (symbolLoadingCPPFilt != null) {
-				try {
-					name = symbolLoadingCPPFilt.getFunction(name);
-				} catch (IOException e1) {
-					symbolLoadingCPPFilt.dispose();
-					symbolLoadingCPPFilt = null;
-				}
-			}
+			name = symbolLoadingDemangler.demangle(name);
 			if (symbolLoadingAddr2line != null) {
 				try {
 					String filename = symbolLoadingAddr2line.getFileName(addr);
@@ -260,14 +254,7 @@ public class CygwinPEBinaryObject64 extends PEBinaryObject64 {
 				int type = peSym.isFunction() ? ISymbol.FUNCTION : ISymbol.VARIABLE;
 				IAddress addr = new Addr32(peSym.n_value);
 				int size = 4;
-				if (symbolLoadingCPPFilt != null) {
-					try {
-						name = symbolLoadingCPPFilt.getFunction(name);
-					} catch (IOException e1) {
-						symbolLoadingCPPFilt.dispose();
-						symbolLoadingCPPFilt = null;
-					}
-				}
+				name = symbolLoadingDemangler.demangle(name);
 				if (symbolLoadingAddr2line != null) {
 					try {
 						String filename = symbolLoadingAddr2line.getFileName(addr);
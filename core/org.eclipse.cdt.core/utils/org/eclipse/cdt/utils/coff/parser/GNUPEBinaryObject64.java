@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 Space Codesign Systems and others.
+ * Copyright (c) 2000, 2026 Space Codesign Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.List;
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.core.IBinaryParser;
 import org.eclipse.cdt.core.IBinaryParser.ISymbol;
+import org.eclipse.cdt.internal.core.SymbolDemangler;
 import org.eclipse.cdt.utils.AR.ARHeader;
 import org.eclipse.cdt.utils.Addr2line;
 import org.eclipse.cdt.utils.Addr32;
@@ -41,7 +42,7 @@ public class GNUPEBinaryObject64 extends PEBinaryObject64 {
 
 	private Addr2line autoDisposeAddr2line;
 	private Addr2line symbolLoadingAddr2line;
-	private CPPFilt symbolLoadingCPPFilt;
+	private SymbolDemangler symbolLoadingDemangler;
 	long starttime;
 
 	public GNUPEBinaryObject64(IBinaryParser parser, IPath path, ARHeader header) {
@@ -135,7 +136,7 @@ public class GNUPEBinaryObject64 extends PEBinaryObject64 {
 	@Override
 	protected void loadSymbols(PE64 pe) throws IOException {
 		symbolLoadingAddr2line = getAddr2line(false);
-		symbolLoadingCPPFilt = getCPPFilt();
+		symbolLoadingDemangler = new SymbolDemangler(this::getCPPFilt);
 		try {
 			super.loadSymbols(pe);
 		} finally {
@@ -143,10 +144,8 @@ public class GNUPEBinaryObject64 extends PEBinaryObject64 {
 				symbolLoadingAddr2line.dispose();
 				symbolLoadingAddr2line = null;
 			}
-			if (symbolLoadingCPPFilt != null) {
-				symbolLoadingCPPFilt.dispose();
-				symbolLoadingCPPFilt = null;
-			}
+			symbolLoadingDemangler.dispose();
+			symbolLoadingDemangler = null;
 		}
 	}
 
@@ -157,14 +156,7 @@ public class GNUPEBinaryObject64 extends PEBinaryObject64 {
 				continue; // ignore non-external symbol
 			}
 			String name = element.toString();
-			if (symbolLoadingCPPFilt != null) {
-				try {
-					name = symbolLoadingCPPFilt.getFunction(name);
-				} catch (IOException e1) {
-					symbolLoadingCPPFilt.dispose();
-					symbolLoadingCPPFilt = null;
-				}
-			}
+			name = symbolLoadingDemangler.demangle(name);
 			IAddress addr = new Addr32(element.n_value);
 			long size = element.getSize();
 			int type = element.isFunction() ? ISymbol.FUNCTION : ISymbol.VARIABLE;
@@ -0,0 +1,544 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.utils.debug.dwarf;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+/**
+ * Address to source line index of the line number programs in the .debug_line section.
+ *
+ * The rows of all sequences are kept sorted by address in primitive arrays, a lookup is a binary
+ * search. Consecutive rows for the same source line are merged and rows without source
+ * information, such as the ends of sequences, are kept as gaps, such that an address is only
+ * found if it is covered by a sequence.
+ */
+final class DwarfLineTable {
+	private static final int NO_FILE = -1;
+
+	private final long[] addresses;
+	private final int[] files;
+	private final int[] lines;
+	private final String[] fileNames;
+
+	private DwarfLineTable(long[] addresses, int[] files, int[] lines, String[] fileNames) {
+		this.addresses = addresses;
+		this.files = files;
+		this.lines = lines;
+		this.fileNames = fileNames;
+	}
+
+	/**
+	 * Returns the source file containing the given address, or {@code null}.
+	 */
+	String getFileName(long address) {
+		int row = findRow(address);
+		return row < 0 ? null : fileNames[files[row]];
+	}
+
+	/**
+	 * Returns the source line of the given address, or {@code -1}.
+	 */
+	int getLineNumber(long address) {
+		int row = findRow(address);
+		return row < 0 || lines[row] == 0 ? -1 : lines[row];
+	}
+
+	int size() {
+		return addresses.length;
+	}
+
+	// The last row with an address less or equal to the given one, addresses are unsigned.
+	private int findRow(long address) {
+		long key = address ^ Long.MIN_VALUE;
+		int low = 0;
+		int high = addresses.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if ((addresses[mid] ^ Long.MIN_VALUE) <= key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		int row = low - 1;
+		return row < 0 || files[row] == NO_FILE ? -1 : row;
+	}
+
+	/**
+	 * Builds the index of the line tables at the given offsets of the .debug_line section.
+	 *
+	 * @param compDirs the compilation directory of the unit of each line table, by offset
+	 * @param allocatedRanges start and end address of the loaded sections, sequences starting
+	 *        elsewhere are dropped; or {@code null} to keep all sequences
+	 */
+	static DwarfLineTable build(ByteBuffer debugLine, ByteBuffer debugLineStr, ByteBuffer debugStr,
+			boolean isLE, Map<Long, String> compDirs, long[] allocatedRanges) {
+		Builder builder = new Builder(debugLine, debugLineStr, debugStr, isLE);
+		compDirs.entrySet().stream().sorted(Map.Entry.comparingByKey())
+				.forEach(e -> builder.parseUnit(e.getKey().longValue(), e.getValue()));
+		return builder.build(allocatedRanges);
+	}
+
+	private static class Builder {
+		private final ByteBuffer data;
+		private final ByteBuffer lineStrings;
+		private final ByteBuffer strings;
+		private final Map<String, Integer> fileIds = new HashMap<>();
+		private final List<String> fileNames = new ArrayList<>();
+
+		// Rows of all complete sequences, in the order of the line programs.
+		private long[] rowAddresses = new long[1024];
+		private int[] rowFiles = new int[1024];
+		private int[] rowLines = new int[1024];
+		private int rowCount;
+
+		// First row, row count and end address of each sequence.
+		private int[] seqFirstRows = new int[64];
+		private int[] seqRowCounts = new int[64];
+		private long[] seqEnds = new long[64];
+		private int seqCount;
+
+		Builder(ByteBuffer debugLine, ByteBuffer debugLineStr, ByteBuffer debugStr, boolean isLE) {
+			data = debugLine.duplicate().order(isLE ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+			lineStrings = debugLineStr != null ? debugLineStr.duplicate() : null;
+			strings = debugStr != null ? debugStr.duplicate() : null;
+		}
+
+		void parseUnit(long offset, String compDir) {
+			if (offset < 0 || offset >= data.capacity()) {
+				return;
+			}
+			int seqStart = rowCount;
+			try {
+				data.limit(data.capacity());
+				data.position((int) offset);
+				long length = data.getInt() & 0xffffffffL;
+				int offsetSize = 4;
+				if (length == 0xffffffffL) {
+					length = data.getLong();
+					offsetSize = 8;
+				}
+				long end = data.position() + length;
+				if (length < 0 || end > data.capacity()) {
+					return;
+				}
+				data.limit((int) end);
+
+				int version = data.getShort() & 0xffff;
+				if (version < 2 || version > 5) {
+					return;
+				}
+				if (version >= 5) {
+					data.get(); // address_size
+					data.get(); // segment_selector_size
+				}
+				long headerLength = offsetSize == 8 ? data.getLong() : data.getInt() & 0xffffffffL;
+				long programStart = data.position() + headerLength;
+				int minInstLength = data.get() & 0xff;
+				if (version >= 4) {
+					data.get(); // maximum_operations_per_instruction, VLIW is not supported
+				}
+				data.get(); // default_is_stmt
+				int lineBase = data.get();
+				int lineRange = data.get() & 0xff;
+				int opcodeBase = data.get() & 0xff;
+				if (lineRange == 0 || opcodeBase == 0 || programStart > end) {
+					return;
+				}
+				int[] opcodeLengths = new int[opcodeBase];
+				for (int i = 1; i < opcodeBase; i++) {
+					opcodeLengths[i] = data.get() & 0xff;
+				}
+
+				List<Integer> unitFiles = version >= 5 ? readEntries5(compDir, offsetSize)
+						: readEntries(compDir);
+				// Before DWARF 5 the file register counts the entries from 1.
+				int fileBase = version >= 5 ? 0 : 1;
+				data.position((int) programStart);
+
+				long address = 0;
+				int file = 1;
+				int line = 1;
+				while (data.hasRemaining()) {
+					int opcode = data.get() & 0xff;
+					if (opcode >= opcodeBase) {
+						int adjusted = opcode - opcodeBase;
+						address += (long) (adjusted / lineRange) * minInstLength;
+						line += lineBase + adjusted % lineRange;
+						addRow(address, fileId(unitFiles, file - fileBase), line, seqStart);
+						continue;
+					}
+					switch (opcode) {
+					case 0: {
+						long extLength = readULEB128();
+						int extEnd = data.position() + (int) extLength;
+						int extOpcode = extLength > 0 ? data.get() & 0xff : 0;
+						switch (extOpcode) {
+						case DwarfConstants.DW_LNE_end_sequence:
+							endSequence(seqStart, address);
+							seqStart = rowCount;
+							address = 0;
+							file = 1;
+							line = 1;
+							break;
+						case DwarfConstants.DW_LNE_set_address:
+							switch (extEnd - data.position()) {
+							case 8:
+								address = data.getLong();
+								break;
+							case 4:
+								address = data.getInt() & 0xffffffffL;
+								break;
+							case 2:
+								address = data.getShort() & 0xffffL;
+								break;
+							default:
+								break;
+							}
+							break;
+						case DwarfConstants.DW_LNE_define_file:
+							String name = readString(data);
+							int dir = (int) readULEB128();
+							unitFiles.add(internFile(dir == 0 ? compDir : null, name));
+							break;
+						default:
+							break;
+						}
+						data.position(extEnd);
+						break;
+					}
+					case DwarfConstants.DW_LNS_copy:
+						addRow(address, fileId(unitFiles, file - fileBase), line, seqStart);
+						break;
+					case DwarfConstants.DW_LNS_advance_pc:
+						address += readULEB128() * minInstLength;
+						break;
+					case DwarfConstants.DW_LNS_advance_line:
+						line += (int) readSLEB128();
+						break;
+					case DwarfConstants.DW_LNS_set_file:
+						file = (int) readULEB128();
+						break;
+					case DwarfConstants.DW_LNS_const_add_pc:
+						address += (long) ((255 - opcodeBase) / lineRange) * minInstLength;
+						break;
+					case DwarfConstants.DW_LNS_fixed_advance_pc:
+						address += data.getShort() & 0xffff;
+						break;
+					default:
+						// Other standard opcodes only change registers that are not indexed.
+						for (int i = 0; i < opcodeLengths[opcode]; i++) {
+							readULEB128();
+						}
+						break;
+					}
+				}
+			} catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+				// A truncated or malformed line program, drop its incomplete sequence.
+			}
+			rowCount = seqStart;
+		}
+
+		// Directories and files before DWARF 5, directory 0 is the compilation directory.
+		private List<Integer> readEntries(String compDir) {
+			List<String> dirs = new ArrayList<>();
+			dirs.add(compDir);
+			while (true) {
+				String dir = readString(data);
+				if (dir.isEmpty()) {
+					break;
+				}
+				dirs.add(resolve(compDir, dir));
+			}
+			List<Integer> unitFiles = new ArrayList<>();
+			while (true) {
+				String name = readString(data);
+				if (name.isEmpty()) {
+					break;
+				}
+				int dir = (int) readULEB128();
+				readULEB128(); // modification time
+				readULEB128(); // file length
+				unitFiles.add(internFile(dir < dirs.size() ? dirs.get(dir) : null, name));
+			}
+			return unitFiles;
+		}
+
+		// Directories and files of DWARF 5, described by entry formats.
+		private List<Integer> readEntries5(String compDir, int offsetSize) {
+			long[] dirFormats = readEntryFormats();
+			long dirCount = readULEB128();
+			List<String> dirs = new ArrayList<>();
+			for (long i = 0; i < dirCount; i++) {
+				String dir = null;
+				for (int f = 0; f < dirFormats.length; f += 2) {
+					Object value = readForm((int) dirFormats[f + 1], offsetSize);
+					if (dirFormats[f] == DwarfConstants.DW_LNCT_path && value instanceof String) {
+						dir = (String) value;
+					}
+				}
+				dirs.add(dir != null ? resolve(compDir, dir) : compDir);
+			}
+			long[] fileFormats = readEntryFormats();
+			long fileCount = readULEB128();
+			List<Integer> unitFiles = new ArrayList<>();
+			for (long i = 0; i < fileCount; i++) {
+				String name = null;
+				int dir = 0;
+				for (int f = 0; f < fileFormats.length; f += 2) {
+					Object value = readForm((int) fileFormats[f + 1], offsetSize);
+					if (fileFormats[f] == DwarfConstants.DW_LNCT_path && value instanceof String) {
+						name = (String) value;
+					} else if (fileFormats[f] == DwarfConstants.DW_LNCT_directory_index && value instanceof Long) {
+						dir = ((Long) value).intValue();
+					}
+				}
+				unitFiles.add(name != null ? internFile(dir >= 0 && dir < dirs.size() ? dirs.get(dir) : null, name)
+						: Integer.valueOf(NO_FILE));
+			}
+			return unitFiles;
+		}
+
+		private long[] readEntryFormats() {
+			int count = data.get() & 0xff;
+			long[] formats = new long[count * 2];
+			for (int i = 0; i < formats.length; i++) {
+				formats[i] = readULEB128();
+			}
+			return formats;
+		}
+
+		// Returns the value of a form used in a directory or file entry, strings and constants only.
+		private Object readForm(int form, int offsetSize) {
+			switch (form) {
+			case DwarfConstants.DW_FORM_string:
+				return readString(data);
+			case DwarfConstants.DW_FORM_line_strp:
+				return readString(lineStrings, readOffset(offsetSize));
+			case DwarfConstants.DW_FORM_strp:
+				return readString(strings, readOffset(offsetSize));
+			case DwarfConstants.DW_FORM_udata:
+				return Long.valueOf(readULEB128());
+			case DwarfConstants.DW_FORM_data1:
+				return Long.valueOf(data.get() & 0xff);
+			case DwarfConstants.DW_FORM_data2:
+				return Long.valueOf(data.getShort() & 0xffff);
+			case DwarfConstants.DW_FORM_data4:
+				return Long.valueOf(data.getInt() & 0xffffffffL);
+			case DwarfConstants.DW_FORM_data8:
+				return Long.valueOf(data.getLong());
+			case DwarfConstants.DW_FORM_data16:
+				data.position(data.position() + 16);
+				return null;
+			case DwarfConstants.DW_FORM_block:
+				data.position(data.position() + (int) readULEB128());
+				return null;
+			default:
+				throw new IllegalArgumentException("DWARF line table form 0x" + Integer.toHexString(form)); //$NON-NLS-1$
+			}
+		}
+
+		private long readOffset(int offsetSize) {
+			return offsetSize == 8 ? data.getLong() : data.getInt() & 0xffffffffL;
+		}
+
+		private long readULEB128() {
+			long result = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = data.get();
+				if (shift < 64) {
+					result |= (long) (b & 0x7f) << shift;
+				}
+				shift += 7;
+			} while (b < 0);
+			return result;
+		}
+
+		private long readSLEB128() {
+			long result = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = data.get();
+				if (shift < 64) {
+					result |= (long) (b & 0x7f) << shift;
+				}
+				shift += 7;
+			} while (b < 0);
+			if (shift < 64 && (b & 0x40) != 0) {
+				result |= -1L << shift;
+			}
+			return result;
+		}
+
+		private static String readString(ByteBuffer buffer) {
+			int start = buffer.position();
+			int end = start;
+			while (buffer.get(end) != 0) {
+				end++;
+			}
+			buffer.position(end + 1);
+			return decode(buffer, start, end);
+		}
+
+		private static String readString(ByteBuffer buffer, long offset) {
+			if (buffer == null || offset < 0 || offset >= buffer.limit()) {
+				return null;
+			}
+			int end = (int) offset;
+			while (end < buffer.limit() && buffer.get(end) != 0) {
+				end++;
+			}
+			return decode(buffer, (int) offset, end);
+		}
+
+		private static String decode(ByteBuffer buffer, int start, int end) {
+			byte[] bytes = new byte[end - start];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = buffer.get(start + i);
+			}
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private static String resolve(String compDir, String dir) {
+			IPath path = new Path(dir);
+			if (!path.isAbsolute() && compDir != null && !compDir.isEmpty()) {
+				path = new Path(compDir).append(path);
+			}
+			return path.toString();
+		}
+
+		private Integer internFile(String dir, String name) {
+			IPath path = new Path(name);
+			if (!path.isAbsolute() && dir != null && !dir.isEmpty()) {
+				path = new Path(dir).append(path);
+			}
+			String fileName = path.toOSString();
+			return fileIds.computeIfAbsent(fileName, n -> {
+				fileNames.add(n);
+				return Integer.valueOf(fileNames.size() - 1);
+			});
+		}
+
+		private static int fileId(List<Integer> unitFiles, int index) {
+			return index >= 0 && index < unitFiles.size() ? unitFiles.get(index).intValue() : NO_FILE;
+		}
+
+		private void addRow(long address, int file, int line, int seqStart) {
+			if (rowCount > seqStart) {
+				int last = rowCount - 1;
+				long lastAddress = rowAddresses[last];
+				if (address == lastAddress) {
+					// The last row for an address is the one in effect.
+					rowFiles[last] = file;
+					rowLines[last] = line;
+					return;
+				}
+				if (Long.compareUnsigned(address, lastAddress) < 0) {
+					// Addresses only increase within a sequence.
+					return;
+				}
+				if (rowFiles[last] == file && rowLines[last] == line) {
+					return;
+				}
+			}
+			if (rowCount == rowAddresses.length) {
+				int capacity = rowCount * 2;
+				rowAddresses = Arrays.copyOf(rowAddresses, capacity);
+				rowFiles = Arrays.copyOf(rowFiles, capacity);
+				rowLines = Arrays.copyOf(rowLines, capacity);
+			}
+			rowAddresses[rowCount] = address;
+			rowFiles[rowCount] = file;
+			rowLines[rowCount] = line;
+			rowCount++;
+		}
+
+		private void endSequence(int seqStart, long endAddress) {
+			if (rowCount == seqStart) {
+				return;
+			}
+			if (seqCount == seqFirstRows.length) {
+				int capacity = seqCount * 2;
+				seqFirstRows = Arrays.copyOf(seqFirstRows, capacity);
+				seqRowCounts = Arrays.copyOf(seqRowCounts, capacity);
+				seqEnds = Arrays.copyOf(seqEnds, capacity);
+			}
+			seqFirstRows[seqCount] = seqStart;
+			seqRowCounts[seqCount] = rowCount - seqStart;
+			seqEnds[seqCount] = endAddress;
+			seqCount++;
+		}
+
+		private static boolean contains(long[] ranges, long address) {
+			for (int i = 0; i < ranges.length; i += 2) {
+				if (Long.compareUnsigned(address, ranges[i]) >= 0 && Long.compareUnsigned(address, ranges[i + 1]) < 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		DwarfLineTable build(long[] allocatedRanges) {
+			Integer[] sorted = new Integer[seqCount];
+			for (int i = 0; i < seqCount; i++) {
+				sorted[i] = Integer.valueOf(i);
+			}
+			Arrays.sort(sorted, (a, b) -> Long.compareUnsigned(rowAddresses[seqFirstRows[a.intValue()]],
+					rowAddresses[seqFirstRows[b.intValue()]]));
+
+			long[] addresses = new long[rowCount + seqCount];
+			int[] files = new int[addresses.length];
+			int[] lines = new int[addresses.length];
+			int count = 0;
+			long lastEnd = 0;
+			for (Integer seq : sorted) {
+				int first = seqFirstRows[seq.intValue()];
+				int rows = seqRowCounts[seq.intValue()];
+				long start = rowAddresses[first];
+				if (allocatedRanges != null && !contains(allocatedRanges, start)) {
+					continue;
+				}
+				if (count > 0 && Long.compareUnsigned(start, lastEnd) < 0) {
+					// Overlapping sequences, keep the first one.
+					continue;
+				}
+				if (count > 0 && start == lastEnd) {
+					// The sequence continues where the previous one ended, drop the gap.
+					count--;
+				}
+				System.arraycopy(rowAddresses, first, addresses, count, rows);
+				System.arraycopy(rowFiles, first, files, count, rows);
+				System.arraycopy(rowLines, first, lines, count, rows);
+				count += rows;
+				lastEnd = seqEnds[seq.intValue()];
+				addresses[count] = lastEnd;
+				files[count] = NO_FILE;
+				count++;
+			}
+			return new DwarfLineTable(Arrays.copyOf(addresses, count), Arrays.copyOf(files, count),
+					Arrays.copyOf(lines, count), fileNames.toArray(new String[fileNames.size()]));
+		}
+	}
+}
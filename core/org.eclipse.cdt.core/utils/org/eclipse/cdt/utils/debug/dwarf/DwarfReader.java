@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2025 Nokia and others.
+ * Copyright (c) 2007, 2026 Nokia and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.core.ICompileOptionsFinder;
 import org.eclipse.cdt.core.ISymbolReader;
 import org.eclipse.cdt.utils.coff.Coff64.SectionHeader;
@@ -57,12 +58,15 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 
 	private final Collection<String> m_fileCollection = new HashSet<>();
 	private final Map<Long, String> m_stmtFileMap = new HashMap<>();
+	private final Map<Long, String> m_stmtCompDirMap = new HashMap<>();
 	private final Map<String, ArrayList<String>> m_compileOptionsMap = new HashMap<>();
 	private String[] m_fileNames = null;
 	private boolean m_parsed = false;
 	private boolean m_macros_parsed = false;
 	private final ArrayList<Integer> m_parsedLineTableOffsets = new ArrayList<>();
 	private long m_parsedLineTableSize = 0;
+	private DwarfLineTable m_lineTable = null;
+	private long[] m_allocatedRanges; // set by init(), before the field initializers run
 
 	private class ContentForm {
 		long lnct; // content type code DW_LNCT_*
@@ -94,6 +98,16 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 		IPath debugInfoPath = new Path(exe.getFilename());
 		Elf.Section[] sections = exe.getSections();
 
+		// Remember where the executable is loaded, the line tables of functions discarded by the
+		// linker are left at address zero.
+		m_allocatedRanges = new long[sections.length * 2];
+		for (int i = 0; i < sections.length; i++) {
+			if ((sections[i].sh_flags & Elf.Section.SHF_ALLOC) != 0) {
+				m_allocatedRanges[2 * i] = sections[i].sh_addr.getValue().longValue();
+				m_allocatedRanges[2 * i + 1] = m_allocatedRanges[2 * i] + sections[i].sh_size;
+			}
+		}
+
 		boolean have_build_id = false;
 
 		// Look for a special GNU build-id note which means the debug data resides in a separate
@@ -781,8 +795,10 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 		}
 
 		addSourceFileWithStmt(cuCompDir, cuName, stmtList);
-		if (stmtList > -1) // this CU has "stmt_list" attribute
+		if (stmtList > -1) { // this CU has "stmt_list" attribute
+			m_stmtCompDirMap.putIfAbsent(Long.valueOf(stmtList), cuCompDir);
 			parseSourceInCULineInfo(cuCompDir, stmtList);
+		}
 	}
 
 	/**
@@ -793,6 +809,40 @@ public class DwarfReader extends Dwarf implements ISymbolReader, ICompileOptions
 		return getSourceFiles();
 	}
 
+	/**
+	 * @since 9.4
+	 */
+	@Override
+	public String getFileName(IAddress address) {
+		return getLineTable().getFileName(address.getValue().longValue());
+	}
+
+	/**
+	 * @since 9.4
+	 */
+	@Override
+	public int getLineNumber(IAddress address) {
+		return getLineTable().getLineNumber(address.getValue().longValue());
+	}
+
+	/*
+	 * The line tables of all compile units are decoded into an address index on the first lookup.
+	 * The compilation directories of the units are needed for relative paths, hence the
+	 * .debug_info section is parsed first.
+	 */
+	private synchronized DwarfLineTable getLineTable() {
+		if (m_lineTable == null) {
+			getSourceFiles();
+			ByteBuffer data = dwarfSections.get(DWARF_DEBUG_LINE);
+			if (data == null) {
+				data = ByteBuffer.allocate(0);
+			}
+			m_lineTable = DwarfLineTable.build(data, dwarfSections.get(DWARF_DEBUG_LINE_STR),
+					dwarfSections.get(DWARF_DEBUG_STR), isLE, m_stmtCompDirMap, m_allocatedRanges);
+		}
+		return m_lineTable;
+	}
+
 	private class OpcodeInfo {
 		private int numArgs;
 		private final boolean offset_size_8;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 QNX Software Systems and others.
+ * Copyright (c) 2000, 2026 QNX Software Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,7 +28,9 @@ import java.nio.channels.FileChannel.MapMode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -48,6 +50,11 @@ public class Elf implements AutoCloseable {
 	public static final int ELF64_ADDR_SIZE = 8;
 	public static final int ELF64_OFF_SIZE = 8;
 
+	/**
+	 * Whether ELF files are read through memory-mapped views by default, see {@link #Elf(String, long, boolean)}.
+	 */
+	private static final boolean MAPPED_IO = Boolean.getBoolean("org.eclipse.cdt.core.elf.mmap"); //$NON-NLS-1$
+
 	protected ERandomAccessFile efile;
 
 	protected ELFhdr ehdr;
@@ -60,9 +67,18 @@ public class Elf implements AutoCloseable {
 	private Symbol[] symbolsTable;
 	/** .dynSym section */
 	private Symbol[] dynamicSymbols;
+	/** .symtab section decoded into a {@link SymbolTable} */
+	private SymbolTable symtabTable;
+	/** .dynSym section decoded into a {@link SymbolTable} */
+	private SymbolTable dynamicTable;
+	/** Whether {@link #loadSymbols()} was called in mapped mode */
+	private boolean symbolTablesLoaded;
+	/** String tables mapped for looking up symbol names in mapped mode */
+	private Map<Section, ByteBuffer> mappedStringTables;
 
 	protected String EMPTY_STRING = ""; //$NON-NLS-1$
 	private long elfOffset;
+	private boolean mapped;
 
 	public class ELFhdr {
 
@@ -359,6 +375,17 @@ public class Elf implements AutoCloseable {
 			return efile.getChannel().map(MapMode.READ_ONLY, sh_offset + objOffset, sh_size).load().asReadOnlyBuffer();
 		}
 
+		/**
+		 * Maps the section data without loading it, the pages are read when they are accessed.
+		 */
+		private ByteBuffer mapSectionDataLazily() throws IOException {
+			makeSureNotCompressed();
+			if (sh_size > Integer.MAX_VALUE) {
+				throw new IOException("Section is too large to be mapped: " + toString()); //$NON-NLS-1$
+			}
+			return efile.getChannel().map(MapMode.READ_ONLY, sh_offset + objOffset, sh_size).order(efile.order());
+		}
+
 		public byte[] loadSectionData() throws IOException {
 			makeSureNotCompressed();
 			byte[] data = new byte[(int) sh_size];
@@ -429,6 +456,40 @@ public class Elf implements AutoCloseable {
 		return str.toString();
 	}
 
+	/**
+	 * Returns the string at the given index of a string table. In mapped mode the string table is
+	 * mapped once and the strings are decoded from the mapping, otherwise they are read from the file.
+	 */
+	private String stringFromStringTable(Elf.Section section, int index) throws IOException {
+		if (!mapped || section.sh_size > Integer.MAX_VALUE) {
+			return string_from_elf_section(section, index);
+		}
+		ByteBuffer strings;
+		synchronized (this) {
+			if (mappedStringTables == null) {
+				mappedStringTables = new HashMap<>();
+			}
+			strings = mappedStringTables.get(section);
+			if (strings == null) {
+				strings = section.mapSectionDataLazily();
+				mappedStringTables.put(section, strings);
+			}
+		}
+		if (index < 0 || index >= strings.limit()) {
+			return EMPTY_STRING;
+		}
+		int end = index;
+		while (end < strings.limit() && strings.get(end) != 0) {
+			end++;
+		}
+		// Same conversion as string_from_elf_section() such that both modes yield the same names
+		char[] chars = new char[end - index];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = (char) strings.get(index + i);
+		}
+		return new String(chars);
+	}
+
 	public class Symbol implements Comparable<Object> {
 
 		/* Symbol bindings */
@@ -496,7 +557,7 @@ public class Elf implements AutoCloseable {
 				try {
 					Section sections[] = getSections();
 					Section symstr = sections[(int) sym_section.sh_link];
-					name = string_from_elf_section(symstr, (int) st_name);
+					name = stringFromStringTable(symstr, (int) st_name);
 				} catch (IOException e) {
 					return EMPTY_STRING;
 				}
@@ -539,6 +600,256 @@ public class Elf implements AutoCloseable {
 		}
 	}
 
+	/**
+	 * The symbols of a symbol table section stored in primitive arrays rather than as {@link Symbol}
+	 * objects, sorted by their address like the arrays returned by {@link Elf#getSymbols()}. Symbols
+	 * with an {@code st_info} of zero are omitted. Names are looked up on demand and {@link Symbol}
+	 * objects are only created by {@link #getSymbol(int)}, such that tables of millions of symbols
+	 * can be searched cheaply.
+	 *
+	 * @since 9.4
+	 */
+	public class SymbolTable {
+		private final Section section;
+		private final long[] values;
+		private final long[] sizes;
+		private final int[] names;
+		private final byte[] infos;
+		private final byte[] others;
+		private final short[] sectionIndexes;
+
+		private SymbolTable(Section section, ByteBuffer data) throws IOException {
+			this.section = section;
+			if (section == null) {
+				values = sizes = new long[0];
+				names = new int[0];
+				infos = others = new byte[0];
+				sectionIndexes = new short[0];
+				return;
+			}
+			final boolean is64 = ehdr.e_ident[ELFhdr.EI_CLASS] == ELFhdr.ELFCLASS64;
+			if (!is64 && ehdr.e_ident[ELFhdr.EI_CLASS] != ELFhdr.ELFCLASS32) {
+				throw new IOException("Unknown ELF class " + ehdr.e_ident[ELFhdr.EI_CLASS]); //$NON-NLS-1$
+			}
+			final int entrySize = is64 ? 24 : 16;
+			final long stride = section.sh_entsize;
+			long numSyms = 1;
+			if (stride != 0) {
+				numSyms = section.sh_size / stride;
+			}
+			long fitting = 0;
+			if (data.limit() >= entrySize) {
+				fitting = stride == 0 ? 1 : (data.limit() - entrySize) / stride + 1;
+			}
+			final int capacity = (int) Math.max(0, Math.min(numSyms, fitting));
+
+			// Decode in file order, skipping the symbols without info
+			int count = 0;
+			long[] fileValues = new long[capacity];
+			long[] fileSizes = new long[fileValues.length];
+			int[] fileNames = new int[fileValues.length];
+			byte[] fileInfos = new byte[fileValues.length];
+			byte[] fileOthers = new byte[fileValues.length];
+			short[] fileSectionIndexes = new short[fileValues.length];
+			for (int i = 0; i < capacity; i++) {
+				int pos = (int) (i * stride);
+				byte info = data.get(pos + (is64 ? 4 : 12));
+				if (info == 0) {
+					continue;
+				}
+				fileNames[count] = data.getInt(pos);
+				fileInfos[count] = info;
+				if (is64) {
+					fileOthers[count] = data.get(pos + 5);
+					fileSectionIndexes[count] = data.getShort(pos + 6);
+					fileValues[count] = data.getLong(pos + 8);
+					fileSizes[count] = data.getLong(pos + 16);
+					if (fileSizes[count] < 0) {
+						throw new IOException("Maximal file offset is " + Long.toHexString(Long.MAX_VALUE) + //$NON-NLS-1$
+								" given offset is " + Long.toHexString(fileSizes[count])); //$NON-NLS-1$
+					}
+				} else {
+					fileValues[count] = data.getInt(pos + 4) & 0xffffffffL;
+					fileSizes[count] = data.getInt(pos + 8) & 0xffffffffL;
+					fileOthers[count] = data.get(pos + 13);
+					fileSectionIndexes[count] = data.getShort(pos + 14);
+				}
+				count++;
+			}
+
+			int[] order = sortByValue(fileValues, count);
+			values = new long[count];
+			sizes = new long[count];
+			names = new int[count];
+			infos = new byte[count];
+			others = new byte[count];
+			sectionIndexes = new short[count];
+			for (int i = 0; i < count; i++) {
+				int j = order[i];
+				values[i] = fileValues[j];
+				sizes[i] = fileSizes[j];
+				names[i] = fileNames[j];
+				infos[i] = fileInfos[j];
+				others[i] = fileOthers[j];
+				sectionIndexes[i] = fileSectionIndexes[j];
+			}
+		}
+
+		/**
+		 * Returns the indexes of the first {@code count} values in the order of their unsigned value,
+		 * keeping the file order of equal values like {@link Arrays#sort(Object[])}.
+		 */
+		private int[] sortByValue(long[] unsortedValues, int count) {
+			int[] order = new int[count];
+			long[] keys = new long[count];
+			boolean sorted = true;
+			for (int i = 0; i < count; i++) {
+				order[i] = i;
+				keys[i] = unsortedValues[i];
+				if (i > 0 && Long.compareUnsigned(keys[i - 1], keys[i]) > 0) {
+					sorted = false;
+				}
+			}
+			if (sorted) {
+				return order;
+			}
+			// Bottom-up merge sort of the keys together with their indexes
+			int[] orderBuffer = new int[count];
+			long[] keyBuffer = new long[count];
+			for (int width = 1; width < count; width *= 2) {
+				for (int lo = 0; lo < count; lo += 2 * width) {
+					int mid = Math.min(lo + width, count);
+					int hi = Math.min(lo + 2 * width, count);
+					int i = lo, j = mid, k = lo;
+					while (i < mid && j < hi) {
+						if (Long.compareUnsigned(keys[j], keys[i]) < 0) {
+							keyBuffer[k] = keys[j];
+							orderBuffer[k++] = order[j++];
+						} else {
+							keyBuffer[k] = keys[i];
+							orderBuffer[k++] = order[i++];
+						}
+					}
+					while (i < mid) {
+						keyBuffer[k] = keys[i];
+						orderBuffer[k++] = order[i++];
+					}
+					while (j < hi) {
+						keyBuffer[k] = keys[j];
+						orderBuffer[k++] = order[j++];
+					}
+				}
+				long[] keyTmp = keys;
+				keys = keyBuffer;
+				keyBuffer = keyTmp;
+				int[] orderTmp = order;
+				order = orderBuffer;
+				orderBuffer = orderTmp;
+			}
+			return order;
+		}
+
+		/**
+		 * The symbol table section, or {@code null} if the file has no such section.
+		 */
+		public Section getSection() {
+			return section;
+		}
+
+		/**
+		 * The number of symbols in the table.
+		 */
+		public int size() {
+			return values.length;
+		}
+
+		/**
+		 * The address of the symbol, {@code st_value}, as an unsigned value.
+		 */
+		public long getValue(int index) {
+			return values[index];
+		}
+
+		public long getSize(int index) {
+			return sizes[index];
+		}
+
+		public int getType(int index) {
+			return infos[index] & 0xf;
+		}
+
+		public int getBind(int index) {
+			return (infos[index] >> 4) & 0xf;
+		}
+
+		/**
+		 * The section index of the symbol, {@code st_shndx}, sign extended like {@link Symbol#st_shndx}
+		 * such that it can be compared with the special indexes such as {@link Symbol#SHN_COMMON}.
+		 */
+		public int getSectionIndex(int index) {
+			return sectionIndexes[index];
+		}
+
+		/**
+		 * The name of the symbol, the same as {@link Symbol#toString()} of {@link #getSymbol(int)}.
+		 */
+		public String getName(int index) {
+			try {
+				Section symstr = getSections()[(int) section.sh_link];
+				return stringFromStringTable(symstr, names[index]);
+			} catch (IOException e) {
+				return EMPTY_STRING;
+			}
+		}
+
+		/**
+		 * Creates the {@link Symbol} object for the symbol at the given index.
+		 */
+		public Symbol getSymbol(int index) {
+			Symbol symbol = new Symbol(section);
+			symbol.st_name = names[index] & 0xffffffffL;
+			if (ehdr.e_ident[ELFhdr.EI_CLASS] == ELFhdr.ELFCLASS64) {
+				symbol.st_value = new Addr64(values[index]);
+			} else {
+				symbol.st_value = new Addr32(values[index]);
+			}
+			symbol.st_size = sizes[index];
+			symbol.st_info = infos[index];
+			symbol.st_other = others[index];
+			symbol.st_shndx = sectionIndexes[index];
+			return symbol;
+		}
+
+		/**
+		 * Returns the index of the last symbol whose address is lower than or equal to the given
+		 * address, or -1 if there is no such symbol.
+		 */
+		public int findSymbol(long address) {
+			int low = 0;
+			int high = values.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (Long.compareUnsigned(values[mid], address) <= 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low - 1;
+		}
+
+		/**
+		 * Creates the {@link Symbol} objects of all symbols in the table.
+		 */
+		public Symbol[] getSymbols() {
+			Symbol[] result = new Symbol[values.length];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = getSymbol(i);
+			}
+			return result;
+		}
+	}
+
 	public class PHdr {
 
 		public static final int PT_NULL = 0;
@@ -719,12 +1030,41 @@ public class Elf implements AutoCloseable {
 	}
 
 	public Elf(String file, long offset) throws IOException {
+		this(file, offset, MAPPED_IO);
+	}
+
+	public Elf(String file) throws IOException {
+		this(file, 0);
+	}
+
+	/**
+	 * Opens an ELF file, optionally in mapped mode. In mapped mode the section headers, symbol
+	 * tables and string tables are read from memory-mapped views of the file on demand, and
+	 * {@link #loadSymbols()} decodes the symbol tables into {@link SymbolTable}s rather than into
+	 * {@link Symbol} objects, which are then only created when requested.
+	 * <p>
+	 * The mode is off by default and can be enabled for all files with the system property
+	 * {@code org.eclipse.cdt.core.elf.mmap}. The JDK releases mappings only when they are garbage
+	 * collected, which on Windows can keep the file from being deleted after {@link #dispose()}.
+	 *
+	 * @param file the path of the file
+	 * @param offset the offset of the ELF object within the file, e.g. in an archive
+	 * @param mapped whether to read the file through memory-mapped views
+	 * @since 9.4
+	 */
+	public Elf(String file, long offset, boolean mapped) throws IOException {
 		commonSetup(file, offset);
 		elfOffset = offset;
+		this.mapped = mapped;
 	}
 
-	public Elf(String file) throws IOException {
-		commonSetup(file, 0);
+	/**
+	 * Whether this file is read in mapped mode, see {@link #Elf(String, long, boolean)}.
+	 *
+	 * @since 9.4
+	 */
+	public boolean isMapped() {
+		return mapped;
 	}
 
 	public ELFhdr getELFhdr() throws IOException {
@@ -1059,6 +1399,10 @@ public class Elf implements AutoCloseable {
 				return sections;
 			}
 			final int length = ehdr.e_shnum & 0xffff; // unsigned short
+			if (mapped) {
+				sections = mapSectionHeaders(length);
+				return sections;
+			}
 			sections = new Section[length];
 			for (int i = 0; i < length; i++) {
 				efile.seek(ehdr.e_shoff + i * (ehdr.e_shentsize & 0xffff)); // unsigned short
@@ -1111,6 +1455,63 @@ public class Elf implements AutoCloseable {
 		return sections;
 	}
 
+	/**
+	 * Decodes the section headers from a mapped view of the section header table.
+	 */
+	private Section[] mapSectionHeaders(int length) throws IOException {
+		final int entrySize = ehdr.e_shentsize & 0xffff; // unsigned short
+		final boolean is64;
+		switch (ehdr.e_ident[ELFhdr.EI_CLASS]) {
+		case ELFhdr.ELFCLASS32:
+			is64 = false;
+			break;
+		case ELFhdr.ELFCLASS64:
+			is64 = true;
+			break;
+		case ELFhdr.ELFCLASSNONE:
+		default:
+			throw new ElfClassNoneException("Unknown ELF class " + ehdr.e_ident[ELFhdr.EI_CLASS]); //$NON-NLS-1$
+		}
+		final int headerSize = is64 ? 64 : 40;
+		if (length == 0) {
+			return new Section[0];
+		}
+		long tableSize = (long) (length - 1) * entrySize + headerSize;
+		if (ehdr.e_shoff + tableSize > efile.length() - elfOffset) {
+			throw new EOFException();
+		}
+		ByteBuffer table = efile.getChannel().map(MapMode.READ_ONLY, elfOffset + ehdr.e_shoff, tableSize)
+				.order(efile.order());
+		Section[] result = new Section[length];
+		for (int i = 0; i < length; i++) {
+			int pos = i * entrySize;
+			Section section = new Section(elfOffset);
+			section.sh_name = table.getInt(pos) & 0xffffffffL;
+			section.sh_type = table.getInt(pos + 4) & 0xffffffffL;
+			if (is64) {
+				section.sh_flags = table.getLong(pos + 8);
+				section.sh_addr = new Addr64(table.getLong(pos + 16));
+				section.sh_offset = checkUnsignedLong(table.getLong(pos + 24));
+				section.sh_size = checkUnsignedLong(table.getLong(pos + 32));
+				section.sh_link = table.getInt(pos + 40) & 0xffffffffL;
+				section.sh_info = table.getInt(pos + 44) & 0xffffffffL;
+				section.sh_addralign = table.getLong(pos + 48);
+				section.sh_entsize = checkUnsignedLong(table.getLong(pos + 56));
+			} else {
+				section.sh_flags = table.getInt(pos + 8) & 0xffffffffL;
+				section.sh_addr = new Addr32(table.getInt(pos + 12) & 0xffffffffL);
+				section.sh_offset = table.getInt(pos + 16) & 0xffffffffL;
+				section.sh_size = table.getInt(pos + 20) & 0xffffffffL;
+				section.sh_link = table.getInt(pos + 24) & 0xffffffffL;
+				section.sh_info = table.getInt(pos + 28) & 0xffffffffL;
+				section.sh_addralign = table.getInt(pos + 32) & 0xffffffffL;
+				section.sh_entsize = table.getInt(pos + 36) & 0xffffffffL;
+			}
+			result[i] = section;
+		}
+		return result;
+	}
+
 	/**
 	 * Symbol iterator, iterates over an elf file. Note: the iterator must be closed at the end in order to avoid resource leaks.
 	 *
@@ -1230,6 +1631,13 @@ public class Elf implements AutoCloseable {
 	}
 
 	public void loadSymbols() throws IOException {
+		if (mapped) {
+			// The Symbol objects are created on demand from the tables
+			getSymtabSymbolTable();
+			getDynamicSymbolTable();
+			symbolTablesLoaded = true;
+			return;
+		}
 		Section symbolsTableSection = null;
 		Section dynamicSymbolSection = null;
 		if (symbols == null) {
@@ -1258,19 +1666,98 @@ public class Elf implements AutoCloseable {
 	}
 
 	public Symbol[] getSymbols() {
+		if (symbols == null) {
+			SymbolTable table = getLoadedSymbolTable();
+			if (table == symtabTable && table != null) {
+				symbols = getSymtabSymbols();
+			} else if (table == dynamicTable && table != null) {
+				symbols = getDynamicSymbols();
+			}
+		}
 		return symbols;
 	}
 
 	public Symbol[] getDynamicSymbols() {
+		if (dynamicSymbols == null && symbolTablesLoaded) {
+			dynamicSymbols = dynamicTable.getSymbols();
+		}
 		return dynamicSymbols;
 	}
 
 	public Symbol[] getSymtabSymbols() {
+		if (symbolsTable == null && symbolTablesLoaded) {
+			symbolsTable = symtabTable.getSymbols();
+		}
 		return symbolsTable;
 	}
 
+	/**
+	 * Returns the symbols of the .symtab section in primitive form, decoding the section if
+	 * necessary. The table is empty if the file has no .symtab section.
+	 *
+	 * @since 9.4
+	 */
+	public synchronized SymbolTable getSymtabSymbolTable() throws IOException {
+		if (symtabTable == null) {
+			symtabTable = createSymbolTable(Section.SHT_SYMTAB);
+		}
+		return symtabTable;
+	}
+
+	/**
+	 * Returns the symbols of the .dynsym section in primitive form, decoding the section if
+	 * necessary. The table is empty if the file has no .dynsym section.
+	 *
+	 * @since 9.4
+	 */
+	public synchronized SymbolTable getDynamicSymbolTable() throws IOException {
+		if (dynamicTable == null) {
+			dynamicTable = createSymbolTable(Section.SHT_DYNSYM);
+		}
+		return dynamicTable;
+	}
+
+	private SymbolTable createSymbolTable(int type) throws IOException {
+		Section section[] = getSections(type);
+		if (section.length == 0) {
+			return new SymbolTable(null, null);
+		}
+		ByteBuffer data;
+		if (mapped) {
+			data = section[0].mapSectionDataLazily();
+		} else {
+			data = ByteBuffer.wrap(section[0].loadSectionData()).order(efile.order());
+		}
+		return new SymbolTable(section[0], data);
+	}
+
+	/**
+	 * The table of {@link #getSymbols()} after {@link #loadSymbols()} in mapped mode, otherwise
+	 * {@code null}.
+	 */
+	private SymbolTable getLoadedSymbolTable() {
+		if (!symbolTablesLoaded) {
+			return null;
+		}
+		if (symtabTable.getSection() != null) {
+			return symtabTable;
+		}
+		if (dynamicTable.getSection() != null) {
+			return dynamicTable;
+		}
+		return null;
+	}
+
 	/* return the address of the function that address is in */
 	public Symbol getSymbol(IAddress vma) {
+		if (mapped) {
+			SymbolTable table = getLoadedSymbolTable();
+			if (table == null) {
+				return null;
+			}
+			int index = table.findSymbol(vma.getValue().longValue());
+			return index < 0 ? null : table.getSymbol(index);
+		}
 		if (symbols == null) {
 			return null;
 		}
@@ -1305,7 +1792,10 @@ public class Elf implements AutoCloseable {
 	}
 
 	protected long readUnsignedLong(ERandomAccessFile file) throws IOException {
-		long result = file.readLongE();
+		return checkUnsignedLong(file.readLongE());
+	}
+
+	private static long checkUnsignedLong(long result) throws IOException {
 		if (result < 0) {
 			throw new IOException("Maximal file offset is " + Long.toHexString(Long.MAX_VALUE) + //$NON-NLS-1$
 					" given offset is " + Long.toHexString(result)); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 QNX Software Systems and others.
+ * Copyright (c) 2000, 2026 QNX Software Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,8 +29,8 @@ import org.eclipse.cdt.utils.elf.Elf.Symbol;
 public class ElfHelper implements AutoCloseable {
 
 	private Elf elf;
-	private Elf.Symbol[] dynsyms;
-	private Elf.Symbol[] symbols;
+	private Elf.SymbolTable dynsyms;
+	private Elf.SymbolTable symbols;
 	private Elf.Section[] sections;
 	private Elf.Dynamic[] dynamics;
 
@@ -63,13 +63,13 @@ public class ElfHelper implements AutoCloseable {
 
 	private void loadSymbols() throws IOException {
 		if (symbols == null) {
-			elf.loadSymbols();
-			symbols = elf.getSymtabSymbols();
-			dynsyms = elf.getDynamicSymbols();
+			// Only the selected symbols are created as Symbol objects
+			symbols = elf.getSymtabSymbolTable();
+			dynsyms = elf.getDynamicSymbolTable();
 
-			if (symbols.length <= 0)
+			if (symbols.size() <= 0)
 				symbols = dynsyms;
-			if (dynsyms.length <= 0)
+			if (dynsyms.size() <= 0)
 				dynsyms = symbols;
 		}
 	}
@@ -140,15 +140,15 @@ public class ElfHelper implements AutoCloseable {
 		loadSymbols();
 		loadSections();
 
-		for (int i = 0; i < dynsyms.length; i++) {
-			if (dynsyms[i].st_bind() == Elf.Symbol.STB_GLOBAL && dynsyms[i].st_type() == Elf.Symbol.STT_FUNC) {
-				int idx = dynsyms[i].st_shndx;
+		for (int i = 0; i < dynsyms.size(); i++) {
+			if (dynsyms.getBind(i) == Elf.Symbol.STB_GLOBAL && dynsyms.getType(i) == Elf.Symbol.STT_FUNC) {
+				int idx = dynsyms.getSectionIndex(i);
 				if (idx < Elf.Symbol.SHN_HIPROC && idx > Elf.Symbol.SHN_LOPROC) {
-					String name = dynsyms[i].toString();
+					String name = dynsyms.getName(i);
 					if (name != null && name.trim().length() > 0)
-						v.add(dynsyms[i]);
+						v.add(dynsyms.getSymbol(i));
 				} else if (idx >= 0 && sections[idx].sh_type == Elf.Section.SHT_NULL) {
-					v.add(dynsyms[i]);
+					v.add(dynsyms.getSymbol(i));
 				}
 			}
 		}
@@ -163,15 +163,15 @@ public class ElfHelper implements AutoCloseable {
 		loadSymbols();
 		loadSections();
 
-		for (int i = 0; i < dynsyms.length; i++) {
-			if (dynsyms[i].st_bind() == Elf.Symbol.STB_GLOBAL && dynsyms[i].st_type() == Elf.Symbol.STT_OBJECT) {
-				int idx = dynsyms[i].st_shndx;
+		for (int i = 0; i < dynsyms.size(); i++) {
+			if (dynsyms.getBind(i) == Elf.Symbol.STB_GLOBAL && dynsyms.getType(i) == Elf.Symbol.STT_OBJECT) {
+				int idx = dynsyms.getSectionIndex(i);
 				if (idx < Elf.Symbol.SHN_HIPROC && idx > Elf.Symbol.SHN_LOPROC) {
-					String name = dynsyms[i].toString();
+					String name = dynsyms.getName(i);
 					if (name != null && name.trim().length() > 0)
-						v.add(dynsyms[i]);
+						v.add(dynsyms.getSymbol(i));
 				} else if (idx >= 0 && sections[idx].sh_type == Elf.Section.SHT_NULL) {
-					v.add(dynsyms[i]);
+					v.add(dynsyms.getSymbol(i));
 				}
 			}
 		}
@@ -185,9 +185,9 @@ public class ElfHelper implements AutoCloseable {
 
 		loadSymbols();
 
-		for (int i = 0; i < dynsyms.length; i++) {
-			if (dynsyms[i].st_shndx == Elf.Symbol.SHN_UNDEF)
-				v.add(dynsyms[i]);
+		for (int i = 0; i < dynsyms.size(); i++) {
+			if (dynsyms.getSectionIndex(i) == Elf.Symbol.SHN_UNDEF)
+				v.add(dynsyms.getSymbol(i));
 		}
 
 		Elf.Symbol[] ret = v.toArray(new Elf.Symbol[v.size()]);
@@ -200,15 +200,15 @@ public class ElfHelper implements AutoCloseable {
 		loadSymbols();
 		loadSections();
 
-		for (int i = 0; i < symbols.length; i++) {
-			if (symbols[i].st_type() == Elf.Symbol.STT_FUNC) {
-				int idx = symbols[i].st_shndx;
+		for (int i = 0; i < symbols.size(); i++) {
+			if (symbols.getType(i) == Elf.Symbol.STT_FUNC) {
+				int idx = symbols.getSectionIndex(i);
 				if (idx < Elf.Symbol.SHN_HIPROC && idx > Elf.Symbol.SHN_LOPROC) {
-					String name = symbols[i].toString();
+					String name = symbols.getName(i);
 					if (name != null && name.trim().length() > 0)
-						v.add(symbols[i]);
+						v.add(symbols.getSymbol(i));
 				} else if (idx >= 0 && sections[idx].sh_type != Elf.Section.SHT_NULL) {
-					v.add(symbols[i]);
+					v.add(symbols.getSymbol(i));
 				}
 			}
 		}
@@ -223,15 +223,15 @@ public class ElfHelper implements AutoCloseable {
 		loadSymbols();
 		loadSections();
 
-		for (int i = 0; i < symbols.length; i++) {
-			if (symbols[i].st_type() == Elf.Symbol.STT_OBJECT) {
-				int idx = symbols[i].st_shndx;
+		for (int i = 0; i < symbols.size(); i++) {
+			if (symbols.getType(i) == Elf.Symbol.STT_OBJECT) {
+				int idx = symbols.getSectionIndex(i);
 				if (idx < Elf.Symbol.SHN_HIPROC && idx > Elf.Symbol.SHN_LOPROC) {
-					String name = symbols[i].toString();
+					String name = symbols.getName(i);
 					if (name != null && name.trim().length() > 0)
-						v.add(symbols[i]);
+						v.add(symbols.getSymbol(i));
 				} else if (idx >= 0 && sections[idx].sh_type != Elf.Section.SHT_NULL) {
-					v.add(symbols[i]);
+					v.add(symbols.getSymbol(i));
 				}
 			}
 		}
@@ -246,11 +246,11 @@ public class ElfHelper implements AutoCloseable {
 		loadSymbols();
 		loadSections();
 
-		for (int i = 0; i < symbols.length; i++) {
-			if (symbols[i].st_bind() == Elf.Symbol.STB_GLOBAL && symbols[i].st_type() == Elf.Symbol.STT_OBJECT) {
-				int idx = symbols[i].st_shndx;
+		for (int i = 0; i < symbols.size(); i++) {
+			if (symbols.getBind(i) == Elf.Symbol.STB_GLOBAL && symbols.getType(i) == Elf.Symbol.STT_OBJECT) {
+				int idx = symbols.getSectionIndex(i);
 				if (idx == Elf.Symbol.SHN_COMMON) {
-					v.add(symbols[i]);
+					v.add(symbols.getSymbol(i));
 				}
 			}
 		}
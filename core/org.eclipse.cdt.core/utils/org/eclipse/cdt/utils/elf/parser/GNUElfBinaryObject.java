@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 QNX Software Systems and others.
+ * Copyright (c) 2000, 2026 QNX Software Systems and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,9 @@ import java.util.List;
 
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.core.IBinaryParser;
+import org.eclipse.cdt.core.IBinaryParser.IBinaryFile;
+import org.eclipse.cdt.core.ISymbolReader;
+import org.eclipse.cdt.internal.core.SymbolDemangler;
 import org.eclipse.cdt.utils.AR.ARHeader;
 import org.eclipse.cdt.utils.Addr2line;
 import org.eclipse.cdt.utils.CPPFilt;
@@ -38,7 +41,8 @@ public class GNUElfBinaryObject extends ElfBinaryObject {
 
 	private Addr2line autoDisposeAddr2line;
 	private Addr2line symbolLoadingAddr2line;
-	private CPPFilt symbolLoadingCPPFilt;
+	private ISymbolReader symbolLoadingReader;
+	private SymbolDemangler symbolLoadingDemangler;
 	long starttime;
 
 	/**
@@ -144,19 +148,28 @@ public class GNUElfBinaryObject extends ElfBinaryObject {
 
 	@Override
 	protected void loadSymbols(ElfHelper helper) throws IOException {
-		symbolLoadingAddr2line = getAddr2line(false);
-		symbolLoadingCPPFilt = getCPPFilt();
+		// The line information is read from the debug symbols, addr2line is only needed for object
+		// files whose debug symbols are not relocated.
+		if (getType() != IBinaryFile.OBJECT) {
+			symbolLoadingReader = getAdapter(ISymbolReader.class);
+		}
+		if (symbolLoadingReader == null) {
+			symbolLoadingAddr2line = getAddr2line(false);
+		}
+		symbolLoadingDemangler = new SymbolDemangler(this::getCPPFilt);
 		try {
 			super.loadSymbols(helper);
 		} finally {
+			if (symbolLoadingReader != null) {
+				symbolLoadingReader.close();
+				symbolLoadingReader = null;
+			}
 			if (symbolLoadingAddr2line != null) {
 				symbolLoadingAddr2line.dispose();
 				symbolLoadingAddr2line = null;
 			}
-			if (symbolLoadingCPPFilt != null) {
-				symbolLoadingCPPFilt.dispose();
-				symbolLoadingCPPFilt = null;
-			}
+			symbolLoadingDemangler.dispose();
+			symbolLoadingDemangler = null;
 		}
 	}
 
@@ -164,17 +177,16 @@ public class GNUElfBinaryObject extends ElfBinaryObject {
 	protected void addSymbols(Elf.Symbol[] array, int type, List<Symbol> list) {
 		for (org.eclipse.cdt.utils.elf.Elf.Symbol element : array) {
 			String name = element.toString();
-			if (symbolLoadingCPPFilt != null) {
-				try {
-					name = symbolLoadingCPPFilt.getFunction(name);
-				} catch (IOException e1) {
-					symbolLoadingCPPFilt.dispose();
-					symbolLoadingCPPFilt = null;
-				}
-			}
+			name = symbolLoadingDemangler.demangle(name);
 			IAddress addr = element.st_value;
 			long size = element.st_size;
-			if (symbolLoadingAddr2line != null) {
+			if (symbolLoadingReader != null) {
+				String filename = symbolLoadingReader.getFileName(addr);
+				IPath file = filename != null ? new Path(filename) : Path.EMPTY;
+				int startLine = symbolLoadingReader.getLineNumber(addr);
+				int endLine = symbolLoadingReader.getLineNumber(addr.add(size - 1));
+				list.add(new GNUSymbol(this, name, type, addr, size, file, startLine, endLine));
+			} else if (symbolLoadingAddr2line != null) {
 				try {
 					String filename = symbolLoadingAddr2line.getFileName(addr);
 					// Addr2line returns the funny "??" when it can not find
@@ -306,6 +306,7 @@ public final class ASTProvider {
 			fActivationListener = null;
 		}
 		fCache.setActiveElement(null);
+		fCache.disposeRecentASTs();
 	}
 
 	/**
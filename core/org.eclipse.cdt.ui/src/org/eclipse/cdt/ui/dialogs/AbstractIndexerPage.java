@@ -53,6 +53,7 @@ public abstract class AbstractIndexerPage extends AbstractCOptionPage {
 	private Button fIncludeHeuristics;
 	private IntegerFieldEditor fFileSizeLimit;
 	private IntegerFieldEditor fIncludedFileSizeLimit;
+	private IntegerFieldEditor fParserThreads;
 	private Button fSkipReferences;
 	private Button fSkipImplicitReferences;
 	private Button fSkipMacroAndTypeReferences;
@@ -139,6 +140,7 @@ public abstract class AbstractIndexerPage extends AbstractCOptionPage {
 				DialogsMessages.AbstractIndexerPage_fileSizeLimit);
 		fIncludedFileSizeLimit = createFileSizeLimit(group, IndexerPreferences.KEY_SKIP_INCLUDED_FILES_LARGER_THAN_MB,
 				DialogsMessages.AbstractIndexerPage_includedFileSizeLimit);
+		fParserThreads = createParserThreads(group);
 		group.setLayout(gl = new GridLayout(3, false));
 		gl.marginHeight = 0;
 		gl.marginWidth = 0;
@@ -221,6 +223,20 @@ public abstract class AbstractIndexerPage extends AbstractCOptionPage {
 			}
 			fIncludedFileSizeLimit.setStringValue(String.valueOf(size));
 		}
+		if (fParserThreads != null) {
+			Object prop = properties.get(IndexerPreferences.KEY_PARSER_THREADS);
+			int threads = 0;
+			if (prop != null) {
+				try {
+					threads = Integer.parseInt(prop.toString());
+				} catch (NumberFormatException e) {
+				}
+			}
+			if (threads <= 0) {
+				threads = IndexerPreferences.DEFAULT_PARSER_THREADS;
+			}
+			fParserThreads.setStringValue(String.valueOf(threads));
+		}
 		if (fSkipReferences != null) {
 			boolean skipReferences = TRUE.equals(properties.get(IndexerPreferences.KEY_SKIP_ALL_REFERENCES));
 			fSkipReferences.setSelection(skipReferences);
@@ -278,6 +294,9 @@ public abstract class AbstractIndexerPage extends AbstractCOptionPage {
 			props.put(IndexerPreferences.KEY_SKIP_INCLUDED_FILES_LARGER_THAN_MB,
 					String.valueOf(fIncludedFileSizeLimit.getIntValue()));
 		}
+		if (fParserThreads != null) {
+			props.put(IndexerPreferences.KEY_PARSER_THREADS, String.valueOf(fParserThreads.getIntValue()));
+		}
 		if (fSkipReferences != null) {
 			props.put(IndexerPreferences.KEY_SKIP_ALL_REFERENCES, String.valueOf(fSkipReferences.getSelection()));
 		}
@@ -352,6 +371,9 @@ public abstract class AbstractIndexerPage extends AbstractCOptionPage {
 		} else if (!fIncludedFileSizeLimit.isValid()) {
 			setErrorMessage(fIncludedFileSizeLimit.getErrorMessage());
 			setValid(false);
+		} else if (!fParserThreads.isValid()) {
+			setErrorMessage(fParserThreads.getErrorMessage());
+			setValid(false);
 		} else {
 			setValid(true);
 		}
@@ -409,6 +431,19 @@ public abstract class AbstractIndexerPage extends AbstractCOptionPage {
 		return result;
 	}
 
+	private IntegerFieldEditor createParserThreads(Composite group) {
+		IntegerFieldEditor result = new IntegerFieldEditor(IndexerPreferences.KEY_PARSER_THREADS,
+				DialogsMessages.AbstractIndexerPage_parserThreads, group, 3);
+		result.setValidRange(1, 64);
+		ControlFactory.createLabel(group, ""); //$NON-NLS-1$
+		Text control = result.getTextControl(group);
+		LayoutUtil.setWidthHint(control, pixelConverter.convertWidthInCharsToPixels(10));
+		LayoutUtil.setHorizontalGrabbing(control, false);
+
+		result.setPropertyChangeListener(validityChangeListener);
+		return result;
+	}
+
 	private Button createSkipReferencesButton(Composite page) {
 		return ControlFactory.createCheckBox(page, DialogsMessages.AbstractIndexerPage_skipAllReferences);
 	}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataReadMemoryBytesInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResultRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the {@link MIParser} on the output received after a step and on the result of
+ * reading a block of memory. Run with <code>-prof gc</code> to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MIParserBenchmark {
+	private static final MIOOBRecord[] NO_OOB_RECORDS = new MIOOBRecord[0];
+
+	@Param({ "20", "200" })
+	public int depth;
+
+	@Param({ "65536" })
+	public int memorySize;
+
+	private final MIParser fParser = new MIParser();
+	private List<String> fStep;
+	private String fMemory;
+
+	@Setup
+	public void setUp() {
+		fStep = MITranscripts.step(depth);
+		fMemory = MITranscripts.readMemoryBytes(memorySize);
+	}
+
+	@Benchmark
+	public int parseStep() {
+		int records = 0;
+		for (String line : fStep) {
+			switch (fParser.getRecordType(line)) {
+			case ResultRecord:
+				records += fParser.parseMIResultRecord(line).getMIResults().length;
+				break;
+			case OOBRecord:
+				fParser.parseMIOOBRecord(line);
+				records++;
+				break;
+			case PrimaryPrompt:
+				break;
+			}
+		}
+		return records;
+	}
+
+	@Benchmark
+	public int readMemoryBytes() {
+		MIResultRecord rr = fParser.parseMIResultRecord(fMemory);
+		return new MIDataReadMemoryBytesInfo(new MIOutput(rr, NO_OOB_RECORDS), memorySize).getMIMemoryBlock().length;
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible GDB/MI output for the benchmarks. The records have the shape of the
+ * output of GDB 12 for the commands the debugger views send, with the values replaced by
+ * generated ones, such that transcripts of any size can be produced.
+ */
+public final class MITranscripts {
+	private static final long SEED = 20260401L;
+
+	private MITranscripts() {
+	}
+
+	/**
+	 * The output received after a single step with the debug and variables views open: the
+	 * stop event, console output, the frames of the stack and the local variables of the top
+	 * frame.
+	 *
+	 * @param depth the number of frames on the stack and of local variables
+	 */
+	public static List<String> step(int depth) {
+		Random random = new Random(SEED);
+		List<String> lines = new ArrayList<>();
+		lines.add("12^running");
+		lines.add("*running,thread-id=\"all\"");
+		lines.add("(gdb) ");
+		lines.add("~\"Stepping over \\\"compute(int, char const*)\\\"\\n\"");
+		StringBuilder buf = new StringBuilder();
+		buf.append("*stopped,reason=\"end-stepping-range\",");
+		appendFrame(buf, random, 0);
+		buf.append(",thread-id=\"1\",stopped-threads=\"all\",core=\"3\"");
+		lines.add(buf.toString());
+		lines.add("=library-loaded,id=\"/lib/x86_64-linux-gnu/libm.so.6\",target-name=\"/lib/x86_64-linux-gnu/libm.so.6\",host-name=\"/lib/x86_64-linux-gnu/libm.so.6\",symbols-loaded=\"0\",thread-group=\"i1\",ranges=[{from=\"0x00007ffff7e1c3a0\",to=\"0x00007ffff7e9a1c8\"}]");
+
+		buf.setLength(0);
+		buf.append("13^done,stack=[");
+		for (int i = 0; i < depth; i++) {
+			if (i > 0)
+				buf.append(',');
+			appendFrame(buf, random, i);
+		}
+		buf.append(']');
+		lines.add(buf.toString());
+
+		buf.setLength(0);
+		buf.append("14^done,variables=[");
+		for (int i = 0; i < depth; i++) {
+			if (i > 0)
+				buf.append(',');
+			buf.append("{name=\"local").append(i).append("\",");
+			switch (random.nextInt(3)) {
+			case 0:
+				buf.append("type=\"int\",value=\"").append(random.nextInt()).append("\"}");
+				break;
+			case 1:
+				buf.append("type=\"const char *\",value=\"0x").append(Long.toHexString(random.nextLong() >>> 16))
+						.append(" \\\"line ").append(i).append("\\\\n\\\"\"}");
+				break;
+			default:
+				buf.append("type=\"std::vector<int, std::allocator<int> >\"}");
+			}
+		}
+		buf.append(']');
+		lines.add(buf.toString());
+		lines.add("(gdb) ");
+		return lines;
+	}
+
+	/**
+	 * The result of <code>-data-read-memory-bytes</code> for a block of the given size.
+	 */
+	public static String readMemoryBytes(int size) {
+		Random random = new Random(SEED);
+		byte[] bytes = new byte[size];
+		random.nextBytes(bytes);
+		StringBuilder buf = new StringBuilder(size * 2 + 100);
+		buf.append("15^done,memory=[{begin=\"0x00007fffffffd000\",offset=\"0x0000000000000000\",end=\"0x")
+				.append(Long.toHexString(0x00007fffffffd000L + size)).append("\",contents=\"");
+		for (byte b : bytes) {
+			buf.append(Character.forDigit(b >> 4 & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		buf.append("\"}]");
+		return buf.toString();
+	}
+
+	private static void appendFrame(StringBuilder buf, Random random, int level) {
+		buf.append("frame={level=\"").append(level).append("\",addr=\"0x0000")
+				.append(Long.toHexString(0x555555555000L + random.nextInt(0x10000))).append("\",func=\"ns::Worker<")
+				.append(random.nextInt(8)).append(">::process\",file=\"../src/worker.cpp\",")
+				.append("fullname=\"/home/user/project/src/worker.cpp\",line=\"").append(1 + random.nextInt(2000))
+				.append("\",arch=\"i386:x86-64\"}");
+	}
+}
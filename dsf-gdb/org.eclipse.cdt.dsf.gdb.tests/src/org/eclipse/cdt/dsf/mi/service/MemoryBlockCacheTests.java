@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.cdt.dsf.mi.service.MemoryBlockCache.MemoryBlock;
+import org.eclipse.cdt.utils.Addr64;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Test;
+
+public class MemoryBlockCacheTests {
+	private static MemoryBlock block(long address, int length, int value) {
+		MemoryByte[] bytes = new MemoryByte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = new MemoryByte((byte) (value + i));
+		}
+		return new MemoryBlock(new Addr64(address), length, length, bytes);
+	}
+
+	private static void assertHole(MemoryBlock hole, long address, long length) {
+		assertEquals(address, hole.fAddress.getValue().longValue());
+		assertEquals(length, hole.fLengthInAddressableUnits);
+	}
+
+	@Test
+	public void testMissingBlocks() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, Long.MAX_VALUE);
+		List<MemoryBlock> holes = cache.getMissingBlocks(new Addr64(0x100), 16, 1);
+		assertEquals(1, holes.size());
+		assertHole(holes.get(0), 0x100, 16);
+
+		cache.add(block(0x104, 4, 0));
+		cache.add(block(0x10c, 2, 0));
+		holes = cache.getMissingBlocks(new Addr64(0x100), 16, 1);
+		assertEquals(3, holes.size());
+		assertHole(holes.get(0), 0x100, 4);
+		assertHole(holes.get(1), 0x108, 4);
+		assertHole(holes.get(2), 0x10e, 2);
+
+		// Requests starting in a cached block
+		holes = cache.getMissingBlocks(new Addr64(0x106), 2, 1);
+		assertTrue(holes.isEmpty());
+		holes = cache.getMissingBlocks(new Addr64(0x106), 4, 1);
+		assertEquals(1, holes.size());
+		assertHole(holes.get(0), 0x108, 2);
+	}
+
+	@Test
+	public void testContiguousBlocksAreMerged() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, Long.MAX_VALUE);
+		cache.add(block(0x100, 4, 0));
+		cache.add(block(0x108, 4, 8));
+		cache.add(block(0x104, 4, 4));
+		assertEquals(1, cache.getBlockCount());
+		assertEquals(12, cache.getSizeInOctets());
+		MemoryByte[] bytes = cache.getMemory(new Addr64(0x102), 8, 1);
+		for (int i = 0; i < bytes.length; i++) {
+			assertEquals(2 + i, bytes[i].getValue());
+		}
+	}
+
+	@Test
+	public void testOverlappingBlockReplacesCachedContent() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, Long.MAX_VALUE);
+		cache.add(block(0x100, 8, 0));
+		cache.add(block(0x102, 2, 50));
+		assertEquals(1, cache.getBlockCount());
+		assertEquals(8, cache.getSizeInOctets());
+		MemoryByte[] bytes = cache.getMemory(new Addr64(0x100), 8, 1);
+		assertEquals(1, bytes[1].getValue());
+		assertEquals(50, bytes[2].getValue());
+		assertEquals(51, bytes[3].getValue());
+		assertEquals(4, bytes[4].getValue());
+	}
+
+	@Test
+	public void testMemoryNotCached() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, Long.MAX_VALUE);
+		cache.add(block(0x104, 4, 0));
+		MemoryByte[] bytes = cache.getMemory(new Addr64(0x100), 12, 1);
+		assertNull(bytes[3]);
+		assertEquals(0, bytes[4].getValue());
+		assertNull(bytes[8]);
+	}
+
+	@Test
+	public void testUpdateOnlyChangesCachedMemory() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, Long.MAX_VALUE);
+		cache.add(block(0x104, 4, 0));
+		cache.update(new Addr64(0x102), 4, block(0x102, 4, 100).fBlock, 1);
+		assertEquals(1, cache.getBlockCount());
+		assertEquals(4, cache.getSizeInOctets());
+		MemoryByte[] bytes = cache.getMemory(new Addr64(0x104), 4, 1);
+		assertEquals(102, bytes[0].getValue());
+		assertEquals(103, bytes[1].getValue());
+		assertEquals(2, bytes[2].getValue());
+	}
+
+	@Test
+	public void testWordSize() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, Long.MAX_VALUE);
+		MemoryByte[] bytes = new MemoryByte[8];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = new MemoryByte((byte) i);
+		}
+		cache.add(new MemoryBlock(new Addr64(0x100), 8, 4, bytes));
+		List<MemoryBlock> holes = cache.getMissingBlocks(new Addr64(0x102), 4, 2);
+		assertEquals(1, holes.size());
+		assertHole(holes.get(0), 0x104, 2);
+		assertEquals(4, holes.get(0).fLengthInOctets);
+		MemoryByte[] result = cache.getMemory(new Addr64(0x101), 2, 2);
+		assertEquals(2, result[0].getValue());
+		assertEquals(5, result[3].getValue());
+	}
+
+	@Test
+	public void testReadsAreAlignedToPages() {
+		MemoryBlockCache cache = new MemoryBlockCache(0x40, Long.MAX_VALUE);
+		List<MemoryBlock> blocks = cache.getBlocksToRead(new Addr64(0x110), 8, 1);
+		assertEquals(1, blocks.size());
+		assertHole(blocks.get(0), 0x100, 0x40);
+
+		// Cached memory is not read again
+		cache.add(block(0x120, 0x10, 0));
+		blocks = cache.getBlocksToRead(new Addr64(0x110), 0x40, 1);
+		assertEquals(2, blocks.size());
+		assertHole(blocks.get(0), 0x100, 0x20);
+		assertHole(blocks.get(1), 0x130, 0x50);
+
+		// The exact missing memory is used to decide whether memory is cached
+		assertEquals(1, cache.getMissingBlocks(new Addr64(0x118), 8, 1).size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedBlocksAreEvicted() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, 8);
+		cache.add(block(0x100, 4, 0));
+		cache.add(block(0x200, 4, 0));
+		cache.getCachedBlocks(new Addr64(0x100), 4);
+		cache.add(block(0x300, 4, 0));
+		cache.trim();
+		assertEquals(2, cache.getBlockCount());
+		assertEquals(1, cache.getEvictions());
+		assertTrue(cache.getMissingBlocks(new Addr64(0x100), 4, 1).isEmpty());
+		assertEquals(1, cache.getMissingBlocks(new Addr64(0x200), 4, 1).size());
+		assertTrue(cache.getMissingBlocks(new Addr64(0x300), 4, 1).isEmpty());
+	}
+
+	@Test
+	public void testEvictionOrder() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, 12);
+		cache.add(block(0x100, 4, 0));
+		cache.add(block(0x200, 4, 0));
+		cache.add(block(0x300, 4, 0));
+		cache.getCachedBlocks(new Addr64(0x100), 4);
+		cache.add(block(0x400, 4, 0));
+		cache.trim();
+		assertEquals(1, cache.getMissingBlocks(new Addr64(0x200), 4, 1).size());
+
+		cache.getCachedBlocks(new Addr64(0x300), 4);
+		cache.add(block(0x500, 4, 0));
+		cache.trim();
+		assertEquals(1, cache.getMissingBlocks(new Addr64(0x100), 4, 1).size());
+
+		// The remains of a block partially overwritten are as recent as the new block
+		cache.add(block(0x402, 4, 0));
+		cache.trim();
+		assertEquals(2, cache.getBlockCount());
+		assertEquals(1, cache.getMissingBlocks(new Addr64(0x300), 4, 1).size());
+		assertTrue(cache.getMissingBlocks(new Addr64(0x400), 6, 1).isEmpty());
+		assertEquals(3, cache.getEvictions());
+	}
+
+	@Test
+	public void testBlocksLargerThanTheCacheAreNotCached() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, 8);
+		cache.add(block(0x100, 4, 0));
+		cache.add(block(0x200, 12, 0));
+		cache.trim();
+		assertEquals(1, cache.getBlockCount());
+		assertEquals(0, cache.getEvictions());
+		assertEquals(1, cache.getBypassed());
+		assertTrue(cache.getMissingBlocks(new Addr64(0x100), 4, 1).isEmpty());
+		assertEquals(1, cache.getMissingBlocks(new Addr64(0x200), 12, 1).size());
+
+		// Contiguous blocks are not merged beyond the maximum size either
+		cache.add(block(0x104, 4, 0));
+		cache.add(block(0x108, 4, 0));
+		cache.trim();
+		assertEquals(1, cache.getBlockCount());
+		assertEquals(1, cache.getEvictions());
+		assertEquals(1, cache.getMissingBlocks(new Addr64(0x100), 8, 1).size());
+		assertTrue(cache.getMissingBlocks(new Addr64(0x108), 4, 1).isEmpty());
+	}
+
+	@Test
+	public void testStatistics() {
+		MemoryBlockCache cache = new MemoryBlockCache(1, Long.MAX_VALUE);
+		cache.recordRequest(false);
+		cache.recordRequest(true);
+		cache.recordRequest(true);
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+}
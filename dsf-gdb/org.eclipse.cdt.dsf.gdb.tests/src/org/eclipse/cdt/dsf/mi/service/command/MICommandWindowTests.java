@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIStackListFrames;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIVarUpdate;
+import org.junit.Test;
+
+public class MICommandWindowTests {
+	private static final long FAST = 1000;
+	private static final long SLOW = MICommandWindow.SLOW_RESULT_NANOS + 1;
+
+	@Test
+	public void testGrowsWithBacklog() {
+		MICommandWindow window = new MICommandWindow(3, 16);
+		assertEquals(3, window.getSize());
+		for (int i = 0; i < 5; i++) {
+			window.commandCompleted(FAST, true);
+		}
+		assertEquals(8, window.getSize());
+		for (int i = 0; i < 20; i++) {
+			window.commandCompleted(FAST, true);
+		}
+		assertEquals(16, window.getSize());
+	}
+
+	@Test
+	public void testShrinksOnSlowResult() {
+		MICommandWindow window = new MICommandWindow(3, 16);
+		for (int i = 0; i < 13; i++) {
+			window.commandCompleted(FAST, true);
+		}
+		window.commandCompleted(SLOW, true);
+		assertEquals(8, window.getSize());
+		window.commandCompleted(SLOW, true);
+		window.commandCompleted(SLOW, true);
+		assertEquals(3, window.getSize());
+	}
+
+	@Test
+	public void testResetsWithoutBacklog() {
+		MICommandWindow window = new MICommandWindow(3, 16);
+		window.commandCompleted(FAST, true);
+		window.commandCompleted(FAST, true);
+		window.commandCompleted(FAST, false);
+		assertEquals(3, window.getSize());
+	}
+
+	@Test
+	public void testSingleCommand() {
+		MICommandWindow window = new MICommandWindow(1, 1);
+		window.commandCompleted(FAST, true);
+		assertEquals(1, window.getSize());
+	}
+
+	@Test
+	public void testLatencies() {
+		MICommandLatencies latencies = new MICommandLatencies();
+		latencies.record(MIVarUpdate.class, 100);
+		latencies.record(MIVarUpdate.class, 300);
+		latencies.record(MIStackListFrames.class, 50);
+		MICommandLatencies.Latency latency = latencies.get(MIVarUpdate.class);
+		assertEquals(2, latency.getCount());
+		assertEquals(200, latency.getAverageNanos());
+		assertEquals(300, latency.getMaxNanos());
+		assertEquals(1, latencies.get(MIStackListFrames.class).getCount());
+		assertNull(latencies.get(MIStackListFrames.class.getSuperclass()));
+		String text = latencies.toString();
+		assertTrue(text.indexOf("MIVarUpdate") < text.indexOf("MIStackListFrames"));
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Test;
+
+public class MIParserTests {
+	private final MIParser parser = new MIParser();
+
+	@Test
+	public void testResultRecord() {
+		MIResultRecord rr = parser.parseMIResultRecord(
+				"42^done,stack=[frame={level=\"0\",addr=\"0x0000555555555131\",func=\"main\"},frame={level=\"1\",func=\"start\"}]");
+		assertEquals(42, rr.getToken());
+		assertEquals(MIResultRecord.DONE, rr.getResultClass());
+		MIList stack = (MIList) rr.getField("stack");
+		assertEquals(2, stack.getMIResults().length);
+		assertEquals(0, stack.getMIValues().length);
+		MITuple frame = (MITuple) stack.getMIResults()[0].getMIValue();
+		assertEquals("main", ((MIConst) frame.getField("func")).getCString());
+		assertEquals("0x0000555555555131", ((MIConst) frame.getField("addr")).getCString());
+		assertEquals("{level=\"1\",func=\"start\"}", stack.getMIResults()[1].getMIValue().toString());
+	}
+
+	@Test
+	public void testResultRecordWithoutResults() {
+		MIResultRecord rr = parser.parseMIResultRecord("^running");
+		assertEquals(-1, rr.getToken());
+		assertEquals(MIResultRecord.RUNNING, rr.getResultClass());
+		assertEquals(0, rr.getMIResults().length);
+	}
+
+	@Test
+	public void testEmptyTupleAndList() {
+		MIResultRecord rr = parser.parseMIResultRecord("1^done,a={},b=[],c=\"\"");
+		assertEquals(3, rr.getMIResults().length);
+		assertEquals(0, ((MITuple) rr.getField("a")).getMIResults().length);
+		assertEquals(0, ((MIList) rr.getField("b")).getMIValues().length);
+		assertEquals("", ((MIConst) rr.getField("c")).getCString());
+	}
+
+	@Test
+	public void testListOfValues() {
+		MIResultRecord rr = parser.parseMIResultRecord("^done,groups=[\"i1\",\"i2\"]");
+		MIValue[] values = ((MIList) rr.getField("groups")).getMIValues();
+		assertEquals(2, values.length);
+		assertEquals("i2", ((MIConst) values[1]).getCString());
+	}
+
+	@Test
+	public void testEscapesInResults() {
+		MIResultRecord rr = parser
+				.parseMIResultRecord("^error,msg=\"No symbol \\\"x\\\" in \\\\path\\n\",code=\"undefined-command\"");
+		assertEquals(MIResultRecord.ERROR, rr.getResultClass());
+		// Escaped quotes and backslashes are unescaped, other escape sequences are kept.
+		assertEquals("No symbol \"x\" in \\path\\n", ((MIConst) rr.getField("msg")).getCString());
+		assertEquals("undefined-command", ((MIConst) rr.getField("code")).getCString());
+	}
+
+	@Test
+	public void testAsyncRecord() {
+		MIOOBRecord oob = parser.parseMIOOBRecord(
+				"*stopped,reason=\"end-stepping-range\",frame={addr=\"0x1\",args=[{name=\"argc\",value=\"1\"}]},thread-id=\"1\"");
+		assertTrue(oob instanceof MIExecAsyncOutput);
+		MIAsyncRecord async = (MIAsyncRecord) oob;
+		assertEquals("stopped", async.getAsyncClass());
+		assertEquals(3, async.getMIResults().length);
+		assertEquals("thread-id", async.getMIResults()[2].getVariable());
+
+		async = (MIAsyncRecord) parser.parseMIOOBRecord("=thread-group-added,id=\"i1\"");
+		assertTrue(async instanceof MINotifyAsyncOutput);
+		assertEquals("thread-group-added", async.getAsyncClass());
+		assertEquals("i1", ((MIConst) async.getMIResults()[0].getMIValue()).getCString());
+	}
+
+	@Test
+	public void testStreamRecords() {
+		MIStreamRecord stream = (MIStreamRecord) parser.parseMIOOBRecord("~\"Breakpoint 1 at \\\"main\\\"\\n\"");
+		assertTrue(stream instanceof MIConsoleStreamOutput);
+		// Backslashes of stream records are not parsed.
+		assertEquals("Breakpoint 1 at \"main\"\\n", stream.getCString());
+
+		stream = (MIStreamRecord) parser.parseMIOOBRecord("&\"C:\\\\temp\"");
+		assertTrue(stream instanceof MILogStreamOutput);
+		assertEquals("C:\\\\temp", stream.getCString());
+	}
+
+	@Test
+	public void testBadlyFormattedLine() {
+		MIStreamRecord stream = (MIStreamRecord) parser.parseMIOOBRecord("hello");
+		assertTrue(stream instanceof MITargetStreamOutput);
+		assertEquals("hello\n", stream.getCString());
+	}
+
+	@Test
+	public void testReadMemoryBytes() {
+		MIResultRecord rr = parser.parseMIResultRecord(
+				"7^done,memory=[{begin=\"0x1000\",offset=\"0x2\",end=\"0x1004\",contents=\"00fF7f\"}]");
+		MIDataReadMemoryBytesInfo info = new MIDataReadMemoryBytesInfo(new MIOutput(rr, new MIOOBRecord[0]), 6);
+		MemoryByte[] block = info.getMIMemoryBlock();
+		assertEquals(6, block.length);
+		assertFalse(block[0].isReadable());
+		assertFalse(block[1].isReadable());
+		assertTrue(block[2].isReadable());
+		assertEquals(0x00, block[2].getValue());
+		assertEquals((byte) 0xff, block[3].getValue());
+		assertEquals(0x7f, block[4].getValue());
+		assertFalse(block[5].isReadable());
+	}
+
+	@Test
+	public void testReadMemoryBytesStopsAtInvalidContents() {
+		MIResultRecord rr = parser
+				.parseMIResultRecord("^done,memory=[{begin=\"0x1000\",offset=\"0x0\",end=\"0x1003\",contents=\"01zz03\"}]");
+		MemoryByte[] block = new MIDataReadMemoryBytesInfo(new MIOutput(rr, new MIOOBRecord[0]), 3)
+				.getMIMemoryBlock();
+		assertTrue(block[0].isReadable());
+		assertEquals(1, block[0].getValue());
+		assertFalse(block[1].isReadable());
+		assertFalse(block[2].isReadable());
+	}
+}
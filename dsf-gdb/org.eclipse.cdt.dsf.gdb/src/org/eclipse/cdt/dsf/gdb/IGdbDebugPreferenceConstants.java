@@ -261,4 +261,35 @@ public interface IGdbDebugPreferenceConstants {
 	 * @since 6.5
 	 */
 	public static final int SUSPEND_TIMEOUT_VALUE_DEFAULT = 10;
+
+	/**
+	 * The number of addressable units reads of the memory cache are aligned to. Memory next to
+	 * the requested memory is read along with it, up to the page boundaries. A value of 1 reads
+	 * exactly the memory that is not cached. Default is {@value #MEMORY_CACHE_PAGE_SIZE_DEFAULT}.
+	 *
+	 * @since 7.4
+	 */
+	public static final String PREF_MEMORY_CACHE_PAGE_SIZE = "memoryCachePageSize"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MEMORY_CACHE_PAGE_SIZE}
+	 *
+	 * @since 7.4
+	 */
+	public static final int MEMORY_CACHE_PAGE_SIZE_DEFAULT = 1;
+
+	/**
+	 * The number of octets the memory cache of a memory context holds before the least recently
+	 * used memory is evicted. Default is {@value #MEMORY_CACHE_MAX_SIZE_DEFAULT}.
+	 *
+	 * @since 7.4
+	 */
+	public static final String PREF_MEMORY_CACHE_MAX_SIZE = "memoryCacheMaxSize"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MEMORY_CACHE_MAX_SIZE}
+	 *
+	 * @since 7.4
+	 */
+	public static final long MEMORY_CACHE_MAX_SIZE_DEFAULT = 4 * 1024 * 1024;
 }
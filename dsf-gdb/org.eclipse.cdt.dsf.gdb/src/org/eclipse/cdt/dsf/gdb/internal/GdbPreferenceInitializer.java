@@ -73,5 +73,9 @@ public class GdbPreferenceInitializer extends AbstractPreferenceInitializer {
 				IGDBLaunchConfigurationConstants.DEBUGGER_REMOTE_TIMEOUT_VALUE_DEFAULT);
 		node.putInt(IGdbDebugPreferenceConstants.PREF_SUSPEND_TIMEOUT_VALUE,
 				IGdbDebugPreferenceConstants.SUSPEND_TIMEOUT_VALUE_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_PAGE_SIZE,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_PAGE_SIZE_DEFAULT);
+		node.putLong(IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_MAX_SIZE,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_MAX_SIZE_DEFAULT);
 	}
 }
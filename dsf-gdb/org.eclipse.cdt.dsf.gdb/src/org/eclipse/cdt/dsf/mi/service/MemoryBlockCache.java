@@ -0,0 +1,357 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * The cached memory of one memory context: non-overlapping blocks indexed by their start address,
+ * such that the blocks overlapping a range are found in logarithmic time. Contiguous blocks are
+ * merged. When the cache holds more than its maximum size, the least recently used blocks are
+ * evicted, in constant time per block as the blocks are also kept in the order they were used.
+ * Blocks larger than the maximum size are not cached.
+ * <p>
+ * Not thread-safe, used on the DSF executor.
+ */
+final class MemoryBlockCache {
+	/** Contiguous blocks are not merged beyond this size, to avoid copying ever larger blocks. */
+	static final int MAX_MERGED_OCTETS = 1 << 20;
+
+	// This class is really the equivalent of a C struct (old habits die hard...)
+	static final class MemoryBlock {
+		final IAddress fAddress;
+		final long fLengthInAddressableUnits;
+		final long fLengthInOctets;
+		final MemoryByte[] fBlock;
+		final BigInteger fStart;
+		final BigInteger fEnd;
+
+		MemoryBlock(IAddress address, long lengthInOctets, long lengthInAddressableUnits, MemoryByte[] block) {
+			// A memory block is expected to be populated with the contents of a defined range of addresses
+			// therefore the number of octets shall be divisible by the number of addresses
+			assert (lengthInOctets % lengthInAddressableUnits == 0);
+			fAddress = address;
+			fLengthInAddressableUnits = lengthInAddressableUnits;
+			fLengthInOctets = lengthInOctets;
+			fBlock = block;
+			fStart = address.getValue();
+			fEnd = fStart.add(BigInteger.valueOf(lengthInAddressableUnits));
+		}
+
+		int getWordSize() {
+			return (int) (fLengthInOctets / fLengthInAddressableUnits);
+		}
+	}
+
+	private final TreeMap<BigInteger, MemoryBlock> fBlocks = new TreeMap<>();
+	/** The same blocks by their start address, least recently used first */
+	private final LinkedHashMap<BigInteger, MemoryBlock> fRecency = new LinkedHashMap<>(16, 0.75f, true);
+	private final int fPageSize;
+	private final long fMaxSizeInOctets;
+	private long fSizeInOctets;
+
+	private long fHits;
+	private long fMisses;
+	private long fOctetsRead;
+	private long fEvictions;
+	private long fBypassed;
+
+	/**
+	 * @param pageSize the number of addressable units reads are aligned to, 1 to read exactly
+	 *        the missing memory.
+	 * @param maxSizeInOctets the number of octets above which blocks are evicted.
+	 */
+	MemoryBlockCache(int pageSize, long maxSizeInOctets) {
+		fPageSize = Math.max(1, pageSize);
+		fMaxSizeInOctets = maxSizeInOctets;
+	}
+
+	void clear() {
+		fBlocks.clear();
+		fRecency.clear();
+		fSizeInOctets = 0;
+	}
+
+	long getSizeInOctets() {
+		return fSizeInOctets;
+	}
+
+	int getBlockCount() {
+		return fBlocks.size();
+	}
+
+	/**
+	 * Returns the cached blocks that overlap the given range, in address order, and marks them
+	 * as used.
+	 */
+	List<MemoryBlock> getCachedBlocks(IAddress start, int wordCount) {
+		BigInteger startValue = start.getValue();
+		List<MemoryBlock> blocks = new ArrayList<>(
+				getOverlappingBlocks(startValue, startValue.add(BigInteger.valueOf(wordCount))));
+		for (MemoryBlock block : blocks) {
+			// Moves the block to the end of the access order
+			fRecency.get(block.fStart);
+		}
+		return blocks;
+	}
+
+	/**
+	 * Returns the ranges in the given range that are not cached (i.e. the holes), in address
+	 * order. The returned blocks have no content.
+	 */
+	List<MemoryBlock> getMissingBlocks(IAddress start, long wordCount, int wordSize) {
+		BigInteger startValue = start.getValue();
+		BigInteger endValue = startValue.add(BigInteger.valueOf(wordCount));
+		List<MemoryBlock> holes = new ArrayList<>();
+		BigInteger cursor = startValue;
+		for (MemoryBlock block : getOverlappingBlocks(startValue, endValue)) {
+			if (block.fStart.compareTo(cursor) > 0) {
+				holes.add(createHole(start, startValue, cursor, block.fStart, wordSize));
+			}
+			if (block.fEnd.compareTo(cursor) > 0) {
+				cursor = block.fEnd;
+			}
+		}
+		if (endValue.compareTo(cursor) > 0) {
+			holes.add(createHole(start, startValue, cursor, endValue, wordSize));
+		}
+		return holes;
+	}
+
+	/**
+	 * Returns the ranges that have to be read from the target to service a request for the
+	 * given range: the holes of the range extended to the page boundaries.
+	 */
+	List<MemoryBlock> getBlocksToRead(IAddress start, int wordCount, int wordSize) {
+		if (fPageSize == 1) {
+			return getMissingBlocks(start, wordCount, wordSize);
+		}
+		BigInteger page = BigInteger.valueOf(fPageSize);
+		BigInteger startValue = start.getValue();
+		BigInteger endValue = startValue.add(BigInteger.valueOf(wordCount));
+		BigInteger alignedStart = startValue.subtract(startValue.mod(page));
+		BigInteger alignedEnd = endValue;
+		BigInteger remainder = endValue.mod(page);
+		if (remainder.signum() != 0) {
+			alignedEnd = endValue.add(page).subtract(remainder);
+		}
+		// Don't extend the range beyond the end of the address space.
+		if (alignedEnd.subtract(BigInteger.ONE).compareTo(start.getMaxOffset()) > 0) {
+			alignedEnd = endValue;
+		}
+		return getMissingBlocks(start.add(alignedStart.subtract(startValue)),
+				alignedEnd.subtract(alignedStart).longValue(), wordSize);
+	}
+
+	/**
+	 * Returns the cached content of the given range. The entries of bytes that are not cached
+	 * are {@code null}.
+	 */
+	MemoryByte[] getMemory(IAddress start, int wordCount, int wordSize) {
+		return copy(getCachedBlocks(start, wordCount), start, wordCount, wordSize);
+	}
+
+	/**
+	 * Copies the content of the given blocks that lies in the given range. The entries of bytes
+	 * that are not in any of the blocks are {@code null}.
+	 */
+	static MemoryByte[] copy(Collection<MemoryBlock> blocks, IAddress start, int wordCount, int wordSize) {
+		BigInteger startValue = start.getValue();
+		BigInteger endValue = startValue.add(BigInteger.valueOf(wordCount));
+		MemoryByte[] result = new MemoryByte[wordCount * wordSize];
+		for (MemoryBlock block : blocks) {
+			BigInteger from = block.fStart.max(startValue);
+			BigInteger to = block.fEnd.min(endValue);
+			if (from.compareTo(to) >= 0)
+				continue;
+			int srcPos = (int) from.subtract(block.fStart).longValue() * wordSize;
+			int destPos = (int) from.subtract(startValue).longValue() * wordSize;
+			int length = (int) to.subtract(from).longValue() * wordSize;
+			System.arraycopy(block.fBlock, srcPos, result, destPos, length);
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a block read from the target. Cached content overlapping the block is replaced, and
+	 * the block is merged with contiguous blocks. The block and the remains of the blocks it
+	 * partially replaces become the most recently used. A block larger than the maximum size of
+	 * the cache is not added, as it would evict all other blocks and then itself.
+	 */
+	void add(MemoryBlock block) {
+		fOctetsRead += block.fLengthInOctets;
+		if (block.fLengthInOctets > fMaxSizeInOctets) {
+			fBypassed++;
+			return;
+		}
+		removeOverlap(block.fStart, block.fEnd);
+		put(block);
+		compact(block);
+	}
+
+	/**
+	 * Updates the cached content of the given range. Memory that is not cached is not added.
+	 */
+	void update(IAddress start, int wordCount, MemoryByte[] content, int wordSize) {
+		BigInteger startValue = start.getValue();
+		BigInteger endValue = startValue.add(BigInteger.valueOf(wordCount));
+		for (MemoryBlock block : getOverlappingBlocks(startValue, endValue)) {
+			BigInteger from = block.fStart.max(startValue);
+			BigInteger to = block.fEnd.min(endValue);
+			int srcPos = (int) from.subtract(startValue).longValue() * wordSize;
+			int destPos = (int) from.subtract(block.fStart).longValue() * wordSize;
+			int length = (int) to.subtract(from).longValue() * wordSize;
+			System.arraycopy(content, srcPos, block.fBlock, destPos, length);
+		}
+	}
+
+	/**
+	 * Evicts the least recently used blocks until the cache holds at most its maximum size.
+	 */
+	void trim() {
+		while (fSizeInOctets > fMaxSizeInOctets && !fRecency.isEmpty()) {
+			remove(fRecency.values().iterator().next());
+			fEvictions++;
+		}
+	}
+
+	/**
+	 * Records whether a request was serviced from the cache only.
+	 */
+	void recordRequest(boolean hit) {
+		if (hit) {
+			fHits++;
+		} else {
+			fMisses++;
+		}
+	}
+
+	long getHits() {
+		return fHits;
+	}
+
+	long getMisses() {
+		return fMisses;
+	}
+
+	long getEvictions() {
+		return fEvictions;
+	}
+
+	long getBypassed() {
+		return fBypassed;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"hits=%d misses=%d octetsRead=%d evictions=%d bypassed=%d blocks=%d octets=%d", //$NON-NLS-1$
+				fHits, fMisses, fOctetsRead, fEvictions, fBypassed, fBlocks.size(), fSizeInOctets);
+	}
+
+	private Collection<MemoryBlock> getOverlappingBlocks(BigInteger start, BigInteger end) {
+		if (start.compareTo(end) >= 0)
+			return List.of();
+		// The blocks don't overlap, so only the block before the start can reach into the range.
+		BigInteger from = start;
+		Map.Entry<BigInteger, MemoryBlock> floor = fBlocks.floorEntry(start);
+		if (floor != null && floor.getValue().fEnd.compareTo(start) > 0) {
+			from = floor.getKey();
+		}
+		return fBlocks.subMap(from, true, end, false).values();
+	}
+
+	private static MemoryBlock createHole(IAddress start, BigInteger startValue, BigInteger from, BigInteger to,
+			int wordSize) {
+		long lengthInAddressableUnits = to.subtract(from).longValue();
+		return new MemoryBlock(start.add(from.subtract(startValue)), lengthInAddressableUnits * wordSize,
+				lengthInAddressableUnits, new MemoryByte[0]);
+	}
+
+	/**
+	 * Removes the cached content of the given range, keeping the parts of partially overlapping
+	 * blocks outside of the range.
+	 */
+	private void removeOverlap(BigInteger start, BigInteger end) {
+		List<MemoryBlock> overlapping = new ArrayList<>(getOverlappingBlocks(start, end));
+		for (MemoryBlock block : overlapping) {
+			remove(block);
+			if (block.fStart.compareTo(start) < 0) {
+				put(slice(block, block.fStart, start));
+			}
+			if (block.fEnd.compareTo(end) > 0) {
+				put(slice(block, end, block.fEnd));
+			}
+		}
+	}
+
+	private static MemoryBlock slice(MemoryBlock block, BigInteger from, BigInteger to) {
+		int wordSize = block.getWordSize();
+		long lengthInAddressableUnits = to.subtract(from).longValue();
+		int lengthInOctets = (int) lengthInAddressableUnits * wordSize;
+		MemoryByte[] bytes = new MemoryByte[lengthInOctets];
+		System.arraycopy(block.fBlock, (int) from.subtract(block.fStart).longValue() * wordSize, bytes, 0,
+				lengthInOctets);
+		return new MemoryBlock(block.fAddress.add(from.subtract(block.fStart)), lengthInOctets,
+				lengthInAddressableUnits, bytes);
+	}
+
+	// Merge this block with its contiguous neighbors (if any)
+	private void compact(MemoryBlock block) {
+		Map.Entry<BigInteger, MemoryBlock> lower = fBlocks.lowerEntry(block.fStart);
+		if (lower != null && lower.getValue().fEnd.equals(block.fStart)) {
+			block = merge(lower.getValue(), block);
+		}
+		MemoryBlock next = fBlocks.get(block.fEnd);
+		if (next != null) {
+			merge(block, next);
+		}
+	}
+
+	private MemoryBlock merge(MemoryBlock first, MemoryBlock second) {
+		long lengthInOctets = first.fLengthInOctets + second.fLengthInOctets;
+		if (lengthInOctets > Math.min(MAX_MERGED_OCTETS, fMaxSizeInOctets)
+				|| first.getWordSize() != second.getWordSize()) {
+			return second;
+		}
+		MemoryByte[] bytes = new MemoryByte[(int) lengthInOctets];
+		System.arraycopy(first.fBlock, 0, bytes, 0, (int) first.fLengthInOctets);
+		System.arraycopy(second.fBlock, 0, bytes, (int) first.fLengthInOctets, (int) second.fLengthInOctets);
+		MemoryBlock merged = new MemoryBlock(first.fAddress, lengthInOctets,
+				first.fLengthInAddressableUnits + second.fLengthInAddressableUnits, bytes);
+		remove(first);
+		remove(second);
+		put(merged);
+		return merged;
+	}
+
+	private void put(MemoryBlock block) {
+		MemoryBlock previous = fBlocks.put(block.fStart, block);
+		assert previous == null;
+		fRecency.put(block.fStart, block);
+		fSizeInOctets += block.fLengthInOctets;
+	}
+
+	private void remove(MemoryBlock block) {
+		fBlocks.remove(block.fStart);
+		fRecency.remove(block.fStart);
+		fSizeInOctets -= block.fLengthInOctets;
+	}
+}
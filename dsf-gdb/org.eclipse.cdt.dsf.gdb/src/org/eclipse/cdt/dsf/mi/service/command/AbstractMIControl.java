@@ -26,9 +26,11 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -98,6 +100,7 @@ import org.eclipse.osgi.util.NLS;
 public abstract class AbstractMIControl extends AbstractDsfService implements IMICommandControl {
 	private static final String MI_TRACE_IDENTIFIER = "[MI]"; //$NON-NLS-1$
 	private static final int NUMBER_CONCURRENT_COMMANDS = 3;
+	private static final int MAX_CONCURRENT_COMMANDS = 16;
 	private static final int DEVELOPMENT_TRACE_LIMIT_CHARS = 5000;
 
 	/*
@@ -108,6 +111,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	private RxThread fRxThread;
 	private ErrorThread fErrorThread;
 	private final int fNumberOfConcurrentCommands;
+	private final MICommandWindow fCommandWindow;
+	private final MICommandLatencies fCommandLatencies = new MICommandLatencies();
 
 	// MI did not always support the --thread/--frame options
 	// This boolean is used to know if we should use -thread-select and -stack-select-frame instead
@@ -143,7 +148,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	 *   Current command which have not been handed off to the backend yet.
 	 */
 
-	private final List<CommandHandle> fCommandQueue = new ArrayList<>();
+	private final Deque<CommandHandle> fCommandQueue = new ArrayDeque<>();
 
 	/**
 	 * Flag indicating that the command control has stopped processing commands.
@@ -203,6 +208,9 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		} else {
 			fNumberOfConcurrentCommands = 1;
 		}
+		// Back ends that cannot handle concurrent commands get them one at a time.
+		fCommandWindow = new MICommandWindow(fNumberOfConcurrentCommands,
+				fNumberOfConcurrentCommands > 1 ? MAX_CONCURRENT_COMMANDS : 1);
 	}
 
 	/**
@@ -308,6 +316,11 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			return;
 		fStoppedCommandProcessing = true;
 
+		if (GdbDebugOptions.DEBUG) {
+			GdbDebugOptions.trace(String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, //$NON-NLS-1$
+					fCommandLatencies));
+		}
+
 		/*
 		 *  First go through the commands which have been queueud and not yet sent to the backend.
 		 */
@@ -326,11 +339,12 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		/*
 		 *  Now handle any requests which have not been transmitted, but weconsider them handed off.
+		 *  Except for raw commands they are waiting for a result, so they have been handled above.
 		 */
 		List<CommandHandle> txCommands = new ArrayList<>();
 		fTxCommands.drainTo(txCommands);
 		for (CommandHandle commandHandle : txCommands) {
-			if (commandHandle.getRequestMonitor() == null)
+			if (commandHandle.getRequestMonitor() == null || !(commandHandle.getCommand() instanceof RawCommand))
 				continue;
 			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
 			commandHandle.getRequestMonitor().done();
@@ -386,7 +400,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			rm.done();
 		} else {
 			/*
-			 *  We only allow three outstanding commands to be on the wire to the backend
+			 *  We only allow a few outstanding commands to be on the wire to the backend
 			 *  at any one time. This allows for coalescing as well as canceling
 			 *  existing commands on a state change. So we add it to the waiting list and let
 			 *  the user know they can now work with this item if need be.
@@ -408,8 +422,10 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	}
 
 	private void processNextQueuedCommand() {
-		if (!fCommandQueue.isEmpty() && fRxCommands.size() < fNumberOfConcurrentCommands) {
-			final CommandHandle handle = fCommandQueue.remove(0);
+		// Send as many commands as the window allows, the TX thread writes them together.
+		while (!fStoppedCommandProcessing && !fCommandQueue.isEmpty()
+				&& fRxCommands.size() < fCommandWindow.getSize()) {
+			final CommandHandle handle = fCommandQueue.pollFirst();
 			if (handle != null) {
 				processCommandSent(handle);
 
@@ -438,7 +454,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIThreadSelect(targetContext, targetThread), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							transmitCommand(cmdHandle);
 						}
 
 						// Before the command is sent, Check the Stack level and send it to
@@ -448,7 +464,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIStackSelectFrame(targetContext, targetFrame), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							transmitCommand(cmdHandle);
 						}
 					}
 				}
@@ -459,11 +475,33 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					// need a token id.  In fact, GDB will fail if we send one in this case.
 					handle.generateTokenId();
 				}
-				fTxCommands.add(handle);
+				transmitCommand(handle);
 			}
 		}
 	}
 
+	/**
+	 * Hands the command off to the TX thread. A command expecting a result is registered as
+	 * outstanding before it is written, such that its result can always be matched.
+	 */
+	private void transmitCommand(CommandHandle handle) {
+		handle.fSentTime = System.nanoTime();
+		if (!(handle.getCommand() instanceof RawCommand)) {
+			// RawCommands will not get an answer, so we cannot put them in the receive queue.
+			fRxCommands.put(handle.getTokenId(), handle);
+		}
+		fTxCommands.add(handle);
+	}
+
+	/**
+	 * Records the latency of a command that received its result and adjusts the number of
+	 * commands sent ahead accordingly.
+	 */
+	private void commandCompleted(CommandHandle handle, long latencyNanos) {
+		fCommandLatencies.record(handle.getCommand().getClass(), latencyNanos);
+		fCommandWindow.commandCompleted(latencyNanos, !fCommandQueue.isEmpty());
+	}
+
 	/*
 	 *   This is the command which allows the user to retract a previously issued command. The
 	 *   state of the command  is that it is in the waiting queue  and has not yet been handed
@@ -656,6 +694,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		private MICommand<MIInfo> fCommand;
 		private DataRequestMonitor<MIInfo> fRequestMonitor;
 		private int fTokenId;
+		private long fSentTime;
 
 		CommandHandle(MICommand<MIInfo> c, DataRequestMonitor<MIInfo> d) {
 			fCommand = c;
@@ -731,68 +770,74 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		@Override
 		public void run() {
-			while (true) {
-				CommandHandle commandHandle = null;
-
+			List<CommandHandle> commandHandles = new ArrayList<>();
+			StringBuilder buf = new StringBuilder();
+			boolean shutdown = false;
+			while (!shutdown) {
+				commandHandles.clear();
 				try {
-					commandHandle = fTxCommands.take();
+					commandHandles.add(fTxCommands.take());
 				} catch (InterruptedException e) {
 					break; // Shutting down.
 				}
+				// Write all commands that are ready at once.
+				fTxCommands.drainTo(commandHandles);
+
+				buf.setLength(0);
+				for (CommandHandle commandHandle : commandHandles) {
+					if (commandHandle == fTerminatorHandle) {
+						shutdown = true;
+						break;
+					}
 
-				if (commandHandle == fTerminatorHandle) {
-					// There is a small possibility that a new command was inserted
-					// in the fRxCommands map after we cleared that map.
-					// Just to be safe, clear it again.
-					// We do this to avoid synchronizing the handling of fRxCommands
-					// because this is more efficient, as it happens only once at shutdown.
-					cancelRxCommands();
-					break; // Null command is an indicator that we're shutting down.
-				}
-
-				/*
-				 *  We note that this is an outstanding request at this point.
-				 */
-				if (!(commandHandle.getCommand() instanceof RawCommand)) {
-					// RawCommands will not get an answer, so we cannot put them in the receive queue.
-					fRxCommands.put(commandHandle.getTokenId(), commandHandle);
-				}
-
-				/*
-				 *   Construct the new command and push this command out the pipeline.
-				 */
+					/*
+					 *   Construct the new command and push this command out the pipeline.
+					 */
 
-				final String str;
-				if (commandHandle.getCommand() instanceof RawCommand) {
-					// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
-					str = commandHandle.getCommand().constructCommand();
-				} else if (fUseThreadGroupOption) {
-					// Implies that fUseThreadAndFrameOptions == true
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
-							commandHandle.getGroupId(), commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else if (fUseThreadAndFrameOptions) {
-					str = commandHandle.getTokenId() + commandHandle.getCommand()
-							.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else {
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
-				}
+					final String str;
+					if (commandHandle.getCommand() instanceof RawCommand) {
+						// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
+						str = commandHandle.getCommand().constructCommand();
+					} else if (fUseThreadGroupOption) {
+						// Implies that fUseThreadAndFrameOptions == true
+						str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
+								commandHandle.getGroupId(), commandHandle.getThreadId(),
+								commandHandle.getStackFrameId());
+					} else if (fUseThreadAndFrameOptions) {
+						str = commandHandle.getTokenId() + commandHandle.getCommand()
+								.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
+					} else {
+						str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+					}
 
-				try {
 					if (fOutputStream != null) {
-
 						if (GdbDebugOptions.DEBUG) {
 							GdbDebugOptions.trace(
 									String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
 						}
 						writeToTracingStream(true, str);
+					}
+					buf.append(str);
+				}
 
-						fOutputStream.write(str.getBytes());
+				try {
+					if (fOutputStream != null && buf.length() > 0) {
+						fOutputStream.write(buf.toString().getBytes());
 						fOutputStream.flush();
 					}
 				} catch (IOException e) {
 					// Shutdown thread in case of IO error.
 					break;
 				}
+
+				if (shutdown) {
+					// There is a small possibility that a new command was inserted
+					// in the fRxCommands map after we cleared that map.
+					// Just to be safe, clear it again.
+					// We do this to avoid synchronizing the handling of fRxCommands
+					// because this is more efficient, as it happens only once at shutdown.
+					cancelRxCommands();
+				}
 			}
 			// Must close the stream here to avoid leaking
 			// Bug 345164 and Bug 339379
@@ -998,6 +1043,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				final CommandHandle commandHandle = fRxCommands.remove(id);
 
 				if (commandHandle != null) {
+					final long latency = System.nanoTime() - commandHandle.fSentTime;
 					final MIOutput response = new MIOutput(rr,
 							fAccumulatedOOBRecords.toArray(new MIOOBRecord[fAccumulatedOOBRecords.size()]));
 					fAccumulatedOOBRecords.clear();
@@ -1033,6 +1079,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 						getExecutor().execute(new DsfRunnable() {
 							@Override
 							public void run() {
+								commandCompleted(commandHandle, latency);
+
 								/*
 								 *  Complete the specific command.
 								 */
@@ -1062,6 +1110,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 						getExecutor().execute(new DsfRunnable() {
 							@Override
 							public void run() {
+								commandCompleted(commandHandle, latency);
 								processCommandDone(commandHandle, finalResult);
 							}
 
@@ -1232,6 +1281,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		if (h == null)
 			// Command has already been processed by RxThread.
 			return;
+		commandCompleted(commandHandle, System.nanoTime() - commandHandle.fSentTime);
 
 		MIConst value = new MIConst();
 		value.setCString(errorMessage);
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of MI commands per command class, from sending a command to receiving its result.
+ * <p>
+ * Not thread-safe, used on the DSF executor.
+ */
+final class MICommandLatencies {
+	static final class Latency {
+		private int fCount;
+		private long fTotalNanos;
+		private long fMaxNanos;
+
+		int getCount() {
+			return fCount;
+		}
+
+		long getAverageNanos() {
+			return fCount == 0 ? 0 : fTotalNanos / fCount;
+		}
+
+		long getMaxNanos() {
+			return fMaxNanos;
+		}
+
+		long getTotalNanos() {
+			return fTotalNanos;
+		}
+	}
+
+	private final Map<Class<?>, Latency> fLatencies = new HashMap<>();
+
+	void record(Class<?> commandClass, long latencyNanos) {
+		Latency latency = fLatencies.computeIfAbsent(commandClass, c -> new Latency());
+		latency.fCount++;
+		latency.fTotalNanos += latencyNanos;
+		latency.fMaxNanos = Math.max(latency.fMaxNanos, latencyNanos);
+	}
+
+	/**
+	 * Returns the latencies of the commands of the given class, or {@code null} if no result of
+	 * such a command was received.
+	 */
+	Latency get(Class<?> commandClass) {
+		return fLatencies.get(commandClass);
+	}
+
+	/**
+	 * Returns one line per command class, the classes with the highest total latency first.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder buf = new StringBuilder("MI command latencies (count, average ms, max ms):\n"); //$NON-NLS-1$
+		fLatencies.entrySet().stream()
+				.sorted(Comparator.comparingLong(
+						(Map.Entry<Class<?>, Latency> e) -> e.getValue().getTotalNanos()).reversed())
+				.forEach(e -> {
+					Latency latency = e.getValue();
+					buf.append(String.format("  %-40s %8d %10.2f %10.2f\n", e.getKey().getSimpleName(), //$NON-NLS-1$
+							latency.getCount(), toMillis(latency.getAverageNanos()),
+							toMillis(latency.getMaxNanos())));
+				});
+		return buf.toString();
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Number of MI commands that may be sent to the back end before their results are received.
+ * <p>
+ * While commands are waiting to be sent and the back end answers quickly, the window grows by
+ * one command per result, such that the commands issued by the views after a step are written
+ * ahead instead of waiting for a round trip each. A slow result halves the window. Once no more
+ * commands are waiting the window returns to its minimum, which keeps queued commands
+ * cancellable on a state change.
+ * <p>
+ * Not thread-safe, used on the DSF executor.
+ */
+final class MICommandWindow {
+	/** Results taking longer than this indicate that the back end is busy. */
+	static final long SLOW_RESULT_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+	private final int fMinSize;
+	private final int fMaxSize;
+	private int fSize;
+
+	MICommandWindow(int minSize, int maxSize) {
+		assert minSize > 0 && minSize <= maxSize;
+		fMinSize = minSize;
+		fMaxSize = maxSize;
+		fSize = minSize;
+	}
+
+	int getSize() {
+		return fSize;
+	}
+
+	/**
+	 * Adjusts the window to the result of a command.
+	 *
+	 * @param latencyNanos the time between sending the command and receiving its result.
+	 * @param backlog whether there are commands waiting to be sent.
+	 */
+	void commandCompleted(long latencyNanos, boolean backlog) {
+		if (latencyNanos > SLOW_RESULT_NANOS) {
+			fSize = Math.max(fMinSize, fSize / 2);
+		} else if (backlog) {
+			fSize = Math.min(fMaxSize, fSize + 1);
+		} else {
+			fSize = fMinSize;
+		}
+	}
+}
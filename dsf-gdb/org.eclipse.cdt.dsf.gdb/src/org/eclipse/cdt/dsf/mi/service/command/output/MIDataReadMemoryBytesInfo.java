@@ -59,9 +59,6 @@ public class MIDataReadMemoryBytesInfo extends MIInfo {
 
 	private void parse(int count, int word_size) {
 		fBlock = new MemoryByte[count * word_size];
-		// Fill the block with invalid bytes, initially.
-		for (int i = 0; i < fBlock.length; i++)
-			fBlock[i] = new MemoryByte((byte) 0, (byte) 0);
 
 		MIResult[] results = getMIOutput().getMIResultRecord().getMIResults();
 
@@ -88,16 +85,34 @@ public class MIDataReadMemoryBytesInfo extends MIInfo {
 						}
 
 						if (offset * word_size + contents.length() / 2 <= count * word_size)
-							for (int k = 0; k < contents.length() / 2; ++k) {
-								fBlock[offset * word_size + k] = new MemoryByte(
-										(byte) Integer.parseInt(contents.substring(k * 2, k * 2 + 2), 16));
-							}
+							decode(contents, offset * word_size);
 					}
 				} catch (NumberFormatException e) {
 					// Something went wrong. Stop processing this memory range.
 				}
 			}
 		}
+
+		// Fill the rest of the block with invalid bytes.
+		for (int i = 0; i < fBlock.length; i++) {
+			if (fBlock[i] == null)
+				fBlock[i] = new MemoryByte((byte) 0, (byte) 0);
+		}
+	}
+
+	/**
+	 * Decodes the hexadecimal digits of the contents directly into the block, without creating
+	 * a string per byte.
+	 */
+	private void decode(String contents, int start) {
+		int length = contents.length() / 2;
+		for (int k = 0; k < length; ++k) {
+			int high = Character.digit(contents.charAt(k * 2), 16);
+			int low = Character.digit(contents.charAt(k * 2 + 1), 16);
+			if (high < 0 || low < 0)
+				throw new NumberFormatException(contents.substring(k * 2, k * 2 + 2));
+			fBlock[start + k] = new MemoryByte((byte) (high << 4 | low));
+		}
 	}
 
 }
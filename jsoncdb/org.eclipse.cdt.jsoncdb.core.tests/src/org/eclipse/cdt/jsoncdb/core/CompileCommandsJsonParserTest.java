@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.jsoncdb.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.cdt.jsoncdb.core.internal.ParserDetection;
+import org.eclipse.cdt.jsoncdb.core.internal.ParserDetection.ParserDetectionResult;
+import org.eclipse.cdt.jsoncdb.core.participant.Arglets;
+import org.eclipse.cdt.jsoncdb.core.participant.DefaultToolCommandlineParser;
+import org.eclipse.cdt.jsoncdb.core.participant.IToolCommandlineParser;
+import org.eclipse.cdt.jsoncdb.core.participant.IToolCommandlineParser.IResult;
+import org.eclipse.cdt.jsoncdb.core.participant.ResponseFileArglets;
+import org.eclipse.cdt.jsoncdb.core.participant.builtins.IBuiltinsDetectionBehavior;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.junit.Test;
+
+public class CompileCommandsJsonParserTest {
+
+	private static DefaultToolCommandlineParser createParser() {
+		return new DefaultToolCommandlineParser(new ResponseFileArglets.At(), null, new Arglets.IncludePath_C_POSIX(),
+				new Arglets.MacroDefine_C_POSIX(), new Arglets.MacroUndefine_C_POSIX());
+	}
+
+	@Test
+	public void testThreadSafeParsers() {
+		// parsers are serialized unless they opt in
+		assertFalse(createParser().isThreadSafe());
+		assertTrue(new DefaultToolCommandlineParser(null, null) {
+			@Override
+			public boolean isThreadSafe() {
+				return true;
+			}
+		}.isThreadSafe());
+		assertFalse(new IToolCommandlineParser() {
+			@Override
+			public IResult processArgs(IPath cwd, String args) {
+				return null;
+			}
+
+			@Override
+			public Optional<IBuiltinsDetectionBehavior> getIBuiltinsDetectionBehavior() {
+				return Optional.empty();
+			}
+		}.isThreadSafe());
+		// the built-in parsers are thread-safe
+		ParserDetectionResult result = ParserDetection.determineDetector("gcc -c a.c", null, false);
+		assertNotNull(result);
+		assertTrue(result.getDetectorWithMethod().getToolDetectionParticipant().getParser().isThreadSafe());
+	}
+
+	@Test
+	public void testConcurrentProcessArgs() throws Exception {
+		final DefaultToolCommandlineParser testee = createParser();
+		final IPath cwd = new Path("/build");
+		final int count = 500;
+		List<String> cmdLines = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			cmdLines.add(String.format("-I/inc/%1$d -DVALUE_%1$d=%1$d -UNOVALUE_%1$d -c src/file%1$d.c", i));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<IResult>> futures = new ArrayList<>();
+			for (String cmdLine : cmdLines) {
+				futures.add(executor.submit(() -> testee.processArgs(cwd, cmdLine)));
+			}
+			for (int i = 0; i < count; i++) {
+				IResult expected = testee.processArgs(cwd, cmdLines.get(i));
+				IResult result = futures.get(i).get();
+				assertEquals(List.of("/inc/" + i), result.getSystemIncludePaths());
+				assertEquals(expected.getSystemIncludePaths(), result.getSystemIncludePaths());
+				assertEquals(expected.getDefines(), result.getDefines());
+				assertEquals(expected.getUndefines(), result.getUndefines());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
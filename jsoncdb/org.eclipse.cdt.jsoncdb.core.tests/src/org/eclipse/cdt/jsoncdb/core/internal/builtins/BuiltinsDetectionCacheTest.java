@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.jsoncdb.core.internal.builtins;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.CommandLauncher;
+import org.eclipse.cdt.core.ICommandLauncher;
+import org.eclipse.cdt.jsoncdb.core.participant.IRawSourceFileInfo;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuiltinsDetectionCacheTest {
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	private File compiler;
+	private CompilerBuiltinsDetector detector;
+	private Map<String, String> envp;
+
+	@Before
+	public void setUp() throws Exception {
+		compiler = tmp.newFile("cc");
+		Files.writeString(compiler.toPath(), "compiler");
+		compiler.setExecutable(true);
+		detector = new CompilerBuiltinsDetector(new GccBuiltinDetectionBehavior(), compiler.getAbsolutePath(),
+				List.of("-std=c++17"), "cpp");
+		envp = new HashMap<>();
+	}
+
+	@Test
+	public void testHit() throws IOException {
+		String key = detector.getCacheKey(new CommandLauncher(), envp);
+		assertNotNull(key);
+		assertEquals(key, detector.getCacheKey(new CommandLauncher(), envp));
+
+		RawSourceFileInfo result = new RawSourceFileInfo();
+		result.addDefine("__GNUC__", "13");
+		result.addSystemIncludePath("/usr/include");
+		java.nio.file.Path cacheFile = tmp.getRoot().toPath().resolve("cache.json");
+		BuiltinsDetectionCache cache = new BuiltinsDetectionCache(cacheFile);
+		cache.put(key, result);
+		cache.save();
+
+		// read by the next session
+		IRawSourceFileInfo cached = new BuiltinsDetectionCache(cacheFile).get(key);
+		assertNotNull(cached);
+		assertEquals(Collections.singletonMap("__GNUC__", "13"), cached.getDefines());
+		assertEquals(List.of("/usr/include"), cached.getSystemIncludePaths());
+	}
+
+	@Test
+	public void testMissOnModification() throws IOException {
+		String key = detector.getCacheKey(new CommandLauncher(), envp);
+		BuiltinsDetectionCache cache = new BuiltinsDetectionCache(null);
+		cache.put(key, new RawSourceFileInfo());
+
+		// the compiler was updated
+		Files.setLastModifiedTime(compiler.toPath(),
+				FileTime.fromMillis(Files.getLastModifiedTime(compiler.toPath()).toMillis() - 10000));
+		String newKey = detector.getCacheKey(new CommandLauncher(), envp);
+		assertNotEquals(key, newKey);
+		assertNull(cache.get(newKey));
+	}
+
+	@Test
+	public void testMissOnEnvironment() {
+		String key = detector.getCacheKey(new CommandLauncher(), envp);
+		envp.put("CPATH", "/opt/include");
+		assertNotEquals(key, detector.getCacheKey(new CommandLauncher(), envp));
+		// does not affect the built-ins
+		envp.remove("CPATH");
+		envp.put("HOME", "/home/user");
+		assertEquals(key, detector.getCacheKey(new CommandLauncher(), envp));
+	}
+
+	@Test
+	public void testNoCachingForContainers() {
+		// launchers that do not run the compiler on this host, like the container launcher
+		ICommandLauncher container = (ICommandLauncher) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { ICommandLauncher.class }, (proxy, method, args) -> null);
+		assertNull(detector.getCacheKey(container, envp));
+		// e.g. the flatpak launcher
+		assertNull(detector.getCacheKey(new CommandLauncher() {
+		}, envp));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016-2020 Martin Weber.
+ * Copyright (c) 2016-2026 Martin Weber and others.
  *
  * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
  * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
@@ -8,11 +8,18 @@
  *******************************************************************************/
 package org.eclipse.cdt.jsoncdb.core;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -21,15 +28,27 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.FilenameUtils;
+import org.eclipse.cdt.core.ICommandLauncher;
+import org.eclipse.cdt.core.resources.IConsole;
 import org.eclipse.cdt.jsoncdb.core.internal.ParserDetection;
 import org.eclipse.cdt.jsoncdb.core.internal.ParserDetection.DetectorWithMethod;
 import org.eclipse.cdt.jsoncdb.core.internal.ParserDetection.ParserDetectionResult;
 import org.eclipse.cdt.jsoncdb.core.internal.Plugin;
+import org.eclipse.cdt.jsoncdb.core.internal.builtins.BufferedConsole;
+import org.eclipse.cdt.jsoncdb.core.internal.builtins.BuiltinsDetectionCache;
 import org.eclipse.cdt.jsoncdb.core.internal.builtins.CompilerBuiltinsDetector;
 import org.eclipse.cdt.jsoncdb.core.participant.DefaultToolDetectionParticipant;
 import org.eclipse.cdt.jsoncdb.core.participant.IRawSourceFileInfo;
@@ -45,15 +64,22 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.e4.core.contexts.EclipseContextFactory;
 import org.osgi.framework.FrameworkUtil;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
 
 /**
  * Parses the file 'compile_commands.json' produced by cmake when option
@@ -74,11 +100,30 @@ public class CompileCommandsJsonParser {
 	 */
 	private static final QualifiedName TIMESTAMP_COMPILE_COMMANDS_PROPERTY = new QualifiedName(null,
 			"timestamp:compile_commands.json"); //$NON-NLS-1$
+	/**
+	 * property to store the processed command entries of the last successful
+	 * parse of the "compile_commands.json" file, to skip processing of the entries
+	 * that did not change when the file is re-generated. Being a session property,
+	 * it is discarded when the project is closed or deleted.
+	 */
+	private static final QualifiedName PROCESSED_ENTRIES_PROPERTY = new QualifiedName(null,
+			"processedEntries:compile_commands.json"); //$NON-NLS-1$
 
 	private static final String WORKBENCH_WILL_NOT_KNOW_ALL_MSG = Messages.CompileCommandsJsonParser_MSG_WORKBENCH_WILL_NOT_KNOW;
 
 	private static final String MARKER_ID = Plugin.PLUGIN_ID + ".CompileCommandsJsonParserMarker"; //$NON-NLS-1$
 
+	/**
+	 * the maximum number of command entries being processed in parallel per
+	 * processor
+	 */
+	private static final int PENDING_ENTRIES_PER_PROCESSOR = 16;
+
+	/**
+	 * the maximum number of compilers being run in parallel for built-ins detection
+	 */
+	private static final int MAX_BUILTINS_DETECTION_THREADS = 8;
+
 	private ParseRequest parseRequest;
 
 	private final IParserPreferencesAccess prefsAccess;
@@ -114,6 +159,30 @@ public class CompileCommandsJsonParser {
 	 */
 	private Map<String, String> fileToBuiltinDetectorLinks;
 
+	/**
+	 * the processed command entries of the last parse of the JSON file or
+	 * {@code null}
+	 */
+	private ProcessedEntries previousEntries;
+
+	/**
+	 * the processed command entries of the current parse of the JSON file
+	 */
+	private ProcessedEntries currentEntries;
+
+	/**
+	 * the command entries whose command-line is being parsed, in the order of the
+	 * JSON file
+	 */
+	private Deque<PendingEntry> pendingEntries;
+
+	/**
+	 * parses the command-lines of the command entries in parallel
+	 */
+	private ExecutorService executor;
+
+	private int reusedEntriesCount;
+
 	/**
 	 * Creates a new object that will try to parse the {@code compile_commands.json}
 	 * file in the build directory specified in the {@code ParseRequest#getBuildConfiguration()}.
@@ -164,20 +233,45 @@ public class CompileCommandsJsonParser {
 			// must parse json file...
 			monitor.setTaskName(Messages.CompileCommandsJsonParser_msg_processing);
 
-			try (Reader in = new FileReader(jsonDiskFile.toFile())) {
-				// parse file...
-				Gson gson = new Gson();
-				CommandEntry[] sourceFileInfos = gson.fromJson(in, CommandEntry[].class);
-				if (sourceFileInfos == null) {
+			final String settingsStamp = getSettingsStamp();
+			previousEntries = (ProcessedEntries) buildRootFolder.getSessionProperty(PROCESSED_ENTRIES_PROPERTY);
+			// forget the previous entries in case parsing fails
+			buildRootFolder.setSessionProperty(PROCESSED_ENTRIES_PROPERTY, null);
+			if (previousEntries != null && !previousEntries.settingsStamp.equals(settingsStamp)) {
+				// the command-lines might be parsed differently now
+				previousEntries = null;
+			}
+			currentEntries = new ProcessedEntries(settingsStamp);
+			pendingEntries = new ArrayDeque<>();
+			final int processors = Runtime.getRuntime().availableProcessors();
+			executor = Executors.newFixedThreadPool(processors);
+
+			try (JsonReader in = new JsonReader(new FileReader(jsonDiskFile.toFile()))) {
+				in.setLenient(true);
+				// parse file entry by entry, without reading all entries into memory...
+				if (isEmpty(in)) {
 					final String msg = String.format(Messages.CompileCommandsJsonParser_errmsg_empty_json, jsonDiskFile,
 							WORKBENCH_WILL_NOT_KNOW_ALL_MSG);
 					createMarker(jsonFile, msg);
 					return false;
 				}
-				for (CommandEntry sourceFileInfo : sourceFileInfos) {
-					processCommandEntry(sourceFileInfo, jsonFile);
+				Gson gson = new Gson();
+				final int maxPendingEntries = processors * PENDING_ENTRIES_PER_PROCESSOR;
+				in.beginArray();
+				while (in.hasNext()) {
+					CommandEntry sourceFileInfo = gson.fromJson(in, CommandEntry.class);
+					if (sourceFileInfo != null) {
+						processCommandEntry(sourceFileInfo, jsonFile);
+					}
+					while (pendingEntries.size() > maxPendingEntries) {
+						completeCommandEntry(pendingEntries.removeFirst());
+					}
+				}
+				in.endArray();
+				while (!pendingEntries.isEmpty()) {
+					completeCommandEntry(pendingEntries.removeFirst());
 				}
-			} catch (JsonSyntaxException | JsonIOException ex) {
+			} catch (JsonSyntaxException | JsonIOException | MalformedJsonException | IllegalStateException ex) {
 				// file format error
 				final String msg = String.format(Messages.CompileCommandsJsonParser_errmsg_not_json, jsonDiskFile,
 						WORKBENCH_WILL_NOT_KNOW_ALL_MSG);
@@ -188,7 +282,14 @@ public class CompileCommandsJsonParser {
 						WORKBENCH_WILL_NOT_KNOW_ALL_MSG);
 				createMarker(jsonFile, msg);
 				return false;
+			} finally {
+				executor.shutdownNow();
+				executor = null;
+				pendingEntries = null;
+				previousEntries = null;
 			}
+			buildRootFolder.setSessionProperty(PROCESSED_ENTRIES_PROPERTY, currentEntries);
+			currentEntries = null;
 
 			detectBuiltins(monitor);
 			// store time-stamp
@@ -199,8 +300,11 @@ public class CompileCommandsJsonParser {
 	}
 
 	/**
-	 * Processes an entry from a {@code compile_commands.json} file and remembers a
-	 * {@link IRawSourceFileInfo} for the given sourceFileInfo.
+	 * Processes an entry from a {@code compile_commands.json} file. The
+	 * command-line of the entry is parsed in the background, unless the entry did
+	 * not change since the last parse of the file. A {@link IRawSourceFileInfo}
+	 * for the given sourceFileInfo is remembered by
+	 * {@link #completeCommandEntry(PendingEntry)}.
 	 *
 	 * @param sourceFileInfo parsed command entry of a compile_commands.json file
 	 * @param jsonFile       the JSON file being parsed (for marker creation only)
@@ -212,28 +316,45 @@ public class CompileCommandsJsonParser {
 		// CMake-notation (directory separator are forward slashes, even on windows)
 		final String file = sourceFileInfo.getFile();
 		String cmdLine = sourceFileInfo.getCommand();
-		if (cmdLine == null) {
+		if (cmdLine == null && sourceFileInfo.getArguments() != null) {
 			cmdLine = String.join(" ", sourceFileInfo.getArguments()); //$NON-NLS-1$
 		}
 		if (file != null && !file.isEmpty() && cmdLine != null && !cmdLine.isEmpty()) {
+			// cwdStr is the absolute working directory of the compiler in
+			// CMake-notation (fileSep are forward slashes)
+			final String cwdStr = sourceFileInfo.getDirectory();
+			final byte[] hash = hashCommandEntry(file, cwdStr, cmdLine);
+			ProcessedEntry previous = previousEntries != null ? previousEntries.entries.get(file) : null;
+			if (previous != null && Arrays.equals(previous.hash, hash)) {
+				// entry did not change since the last parse
+				reusedEntriesCount++;
+				pendingEntries.addLast(new PendingEntry(file, previous));
+				return;
+			}
+
 			ParserDetection.ParserDetectionResult pdr = fastDetermineDetector(cmdLine);
 			if (pdr != null) {
 				// found a matching command-line parser
 				final IToolCommandlineParser parser = pdr.getDetectorWithMethod().getToolDetectionParticipant()
 						.getParser();
-				// cwdStr is the absolute working directory of the compiler in
-				// CMake-notation (fileSep are forward slashes)
-				final String cwdStr = sourceFileInfo.getDirectory();
-				IPath cwd = cwdStr != null ? Path.fromOSString(cwdStr) : new Path(""); //$NON-NLS-1$
-				IResult result = parser.processArgs(cwd, pdr.getReducedCommandLine().stripLeading());
-				// remember result together with file name
-				rememberFileResult(file, result);
-
-				final Optional<IBuiltinsDetectionBehavior> builtinDetection = parser.getIBuiltinsDetectionBehavior();
-				if (builtinDetection.isPresent()) {
-					rememberBuiltinsDetection(file, builtinDetection.get(), pdr.getCommandLine().getCommand(),
-							result.getBuiltinDetectionArgs());
-				}
+				final IPath cwd = cwdStr != null ? Path.fromOSString(cwdStr) : new Path(""); //$NON-NLS-1$
+				final String args = pdr.getReducedCommandLine().stripLeading();
+				final IBuiltinsDetectionBehavior builtinDetection = parser.getIBuiltinsDetectionBehavior()
+						.orElse(null);
+				final String compilerCommand = pdr.getCommandLine().getCommand();
+				final boolean threadSafe = parser.isThreadSafe();
+				CompletableFuture<ProcessedEntry> result = CompletableFuture.supplyAsync(() -> {
+					IResult parsed;
+					if (threadSafe) {
+						parsed = parser.processArgs(cwd, args);
+					} else {
+						synchronized (parser) {
+							parsed = parser.processArgs(cwd, args);
+						}
+					}
+					return new ProcessedEntry(hash, parsed, builtinDetection, compilerCommand);
+				}, executor);
+				pendingEntries.addLast(new PendingEntry(file, result));
 			} else {
 				// no matching parser found
 
@@ -259,6 +380,75 @@ public class CompileCommandsJsonParser {
 		createMarker(jsonFile, msg);
 	}
 
+	/**
+	 * Waits for the command-line of a command entry to be parsed and remembers the
+	 * {@link IRawSourceFileInfo} for the entry.
+	 */
+	private void completeCommandEntry(PendingEntry pendingEntry) {
+		ProcessedEntry entry = pendingEntry.entry;
+		if (entry == null) {
+			try {
+				entry = pendingEntry.result.join();
+			} catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				}
+				throw ex;
+			}
+		}
+		currentEntries.entries.put(pendingEntry.file, entry);
+		// remember result together with file name
+		rememberFileResult(pendingEntry.file, entry.result);
+		if (entry.builtinDetection != null) {
+			rememberBuiltinsDetection(pendingEntry.file, entry.builtinDetection, entry.compilerCommand,
+					entry.result.getBuiltinDetectionArgs());
+		}
+	}
+
+	/**
+	 * Gets whether the JSON document read by the specified reader is empty.
+	 */
+	private static boolean isEmpty(JsonReader in) throws IOException {
+		try {
+			if (in.peek() != JsonToken.NULL) {
+				return false;
+			}
+			in.nextNull();
+			return true;
+		} catch (EOFException ex) {
+			return true;
+		}
+	}
+
+	/**
+	 * Computes a hash over the properties of a command entry that affect the
+	 * results of parsing its command-line.
+	 */
+	private static byte[] hashCommandEntry(String file, String directory, String cmdLine) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			digest.update(file.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			if (directory != null) {
+				digest.update(directory.getBytes(StandardCharsets.UTF_8));
+			}
+			digest.update((byte) 0);
+			digest.update(cmdLine.getBytes(StandardCharsets.UTF_8));
+			return digest.digest();
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Gets a string describing the preferences that affect the detection of the
+	 * command-line parsers.
+	 */
+	private String getSettingsStamp() {
+		final IParserPreferences prefs = prefsAccess.getWorkspacePreferences();
+		return prefs.getTryVersionSuffix() ? prefs.getVersionSuffixPattern() : ""; //$NON-NLS-1$
+	}
+
 	/** Runs detection of compiler built-ins if supported and notifies the
 	 * {@code ISourceFileInfoConsumer} that was specified in the constructor for each source file.
 	 *
@@ -285,13 +475,8 @@ public class CompileCommandsJsonParser {
 
 			java.nio.file.Path buildDir = java.nio.file.Path.of(buildRootFolder.getLocationURI());
 			// run each built-in detector and collect the results..
-			Map<String, IRawSourceFileInfo> builtinDetectorsResults = new HashMap<>();
-			for (Entry<String, CompilerBuiltinsDetector> entry : builtinDetectorsToRun.entrySet()) {
-				IRawSourceFileInfo result = entry.getValue().detectBuiltins(jsonFile.getProject(), buildDir,
-						parseRequest.getLauncher(), parseRequest.getConsole(), monitor);
-				// store detector key with result
-				builtinDetectorsResults.put(entry.getKey(), result);
-			}
+			Map<String, IRawSourceFileInfo> builtinDetectorsResults = runBuiltinsDetectors(jsonFile.getProject(),
+					buildDir, monitor);
 			// all built-in detectors have been run at this point, reduce memory footprint
 			builtinDetectorsToRun.clear();
 
@@ -314,6 +499,110 @@ public class CompileCommandsJsonParser {
 		}
 	}
 
+	/**
+	 * Runs the built-in detectors whose results are not cached from a previous
+	 * session, in parallel if the {@code ParseRequest} provides a factory for
+	 * launchers.
+	 *
+	 * @return the results of the detectors (detector key -> result)
+	 * @throws CoreException
+	 */
+	private Map<String, IRawSourceFileInfo> runBuiltinsDetectors(IProject project, java.nio.file.Path buildDir,
+			IProgressMonitor monitor) throws CoreException {
+		final Map<String, IRawSourceFileInfo> results = new ConcurrentHashMap<>();
+		final BuiltinsDetectionCache cache = BuiltinsDetectionCache.getDefault();
+		final Map<String, String> cacheKeys = new HashMap<>();
+		final List<Entry<String, CompilerBuiltinsDetector>> detectorsToRun = new ArrayList<>();
+		for (Entry<String, CompilerBuiltinsDetector> entry : builtinDetectorsToRun.entrySet()) {
+			String cacheKey = entry.getValue().getCacheKey(project, parseRequest.getLauncher());
+			if (cacheKey != null) {
+				IRawSourceFileInfo cached = cache.get(cacheKey);
+				if (cached != null) {
+					results.put(entry.getKey(), cached);
+					continue;
+				}
+				cacheKeys.put(entry.getKey(), cacheKey);
+			}
+			detectorsToRun.add(entry);
+		}
+		if (DEBUG_TIME) {
+			System.out.printf("Built-ins detection: %d cached, %d to run%n", results.size(), //$NON-NLS-1$
+					detectorsToRun.size());
+		}
+
+		final Supplier<ICommandLauncher> launcherFactory = parseRequest.getLauncherFactory();
+		final int threads = launcherFactory == null ? 1
+				: Math.min(detectorsToRun.size(),
+						Math.min(MAX_BUILTINS_DETECTION_THREADS, Runtime.getRuntime().availableProcessors()));
+		final SubMonitor progress = SubMonitor.convert(monitor, detectorsToRun.size());
+		try {
+			if (threads <= 1) {
+				for (Entry<String, CompilerBuiltinsDetector> entry : detectorsToRun) {
+					results.put(entry.getKey(), entry.getValue().detectBuiltins(project, buildDir,
+							parseRequest.getLauncher(), parseRequest.getConsole(), progress.split(1)));
+				}
+			} else {
+				final IConsole console = parseRequest.getConsole();
+				ExecutorService pool = Executors.newFixedThreadPool(threads);
+				try {
+					List<Future<?>> futures = new ArrayList<>(detectorsToRun.size());
+					for (Entry<String, CompilerBuiltinsDetector> entry : detectorsToRun) {
+						futures.add(pool.submit(() -> {
+							// a SubMonitor must not be used by several threads, so the task only
+							// looks for cancellation, the progress is reported by this thread
+							IProgressMonitor taskMonitor = new NullProgressMonitor() {
+								@Override
+								public boolean isCanceled() {
+									return progress.isCanceled();
+								}
+							};
+							// hold back the output until the detection finished, so that it
+							// does not get mixed with the output of the other detections
+							BufferedConsole taskConsole = console == null ? null : new BufferedConsole(console);
+							try {
+								// each detector needs a launcher of its own, since launchers have state
+								results.put(entry.getKey(), entry.getValue().detectBuiltins(project, buildDir,
+										launcherFactory.get(), taskConsole, taskMonitor));
+							} finally {
+								if (taskConsole != null) {
+									taskConsole.flush();
+								}
+							}
+							return null;
+						}));
+					}
+					for (Future<?> future : futures) {
+						future.get();
+						progress.worked(1);
+					}
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException ex) {
+					if (ex.getCause() instanceof CoreException) {
+						throw (CoreException) ex.getCause();
+					} else if (ex.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) ex.getCause();
+					}
+					throw new CoreException(Status.error(ex.getCause().getLocalizedMessage(), ex.getCause()));
+				} finally {
+					pool.shutdownNow();
+				}
+			}
+		} finally {
+			// remember the successful detections for the next sessions
+			for (Entry<String, CompilerBuiltinsDetector> entry : detectorsToRun) {
+				String cacheKey = cacheKeys.get(entry.getKey());
+				IRawSourceFileInfo result = results.get(entry.getKey());
+				if (cacheKey != null && result != null && entry.getValue().hasSucceeded()) {
+					cache.put(cacheKey, result);
+				}
+			}
+			cache.save();
+		}
+		return results;
+	}
+
 	/**
 	 * Merges preprocessor symbols and macros for a source file with compiler
 	 * built-in preprocessor symbols and macros and passes them to the
@@ -457,8 +746,8 @@ public class CompileCommandsJsonParser {
 			parseRequest.getSourceFileInfoConsumer().shutdown();
 			if (DEBUG_TIME) {
 				long end = System.currentTimeMillis();
-				System.out.printf("Parsed file '%s' in %dms%n", //$NON-NLS-1$
-						parseRequest.getFile().getLocationURI().getPath(), end - start);
+				System.out.printf("Parsed file '%s' in %dms, %d unchanged entries%n", //$NON-NLS-1$
+						parseRequest.getFile().getLocationURI().getPath(), end - start, reusedEntriesCount);
 			}
 			// clean up
 			builtinDetectorsToRun = null;
@@ -535,4 +824,59 @@ public class CompileCommandsJsonParser {
 		fileToBuiltinDetectorLinks.put(sourceFileName, key);
 	}
 
+	/**
+	 * The processed command entries of a {@code compile_commands.json} file.
+	 */
+	private static class ProcessedEntries {
+		/** the preferences the command-lines were parsed with */
+		final String settingsStamp;
+		/** source file name -> processed entry */
+		final Map<String, ProcessedEntry> entries = new HashMap<>();
+
+		ProcessedEntries(String settingsStamp) {
+			this.settingsStamp = settingsStamp;
+		}
+	}
+
+	/**
+	 * The results of parsing the command-line of a command entry.
+	 */
+	private static class ProcessedEntry {
+		/** the hash of the command entry */
+		final byte[] hash;
+		final IResult result;
+		/** the built-ins detection of the compiler or {@code null} */
+		final IBuiltinsDetectionBehavior builtinDetection;
+		final String compilerCommand;
+
+		ProcessedEntry(byte[] hash, IResult result, IBuiltinsDetectionBehavior builtinDetection,
+				String compilerCommand) {
+			this.hash = hash;
+			this.result = result;
+			this.builtinDetection = builtinDetection;
+			this.compilerCommand = compilerCommand;
+		}
+	}
+
+	/**
+	 * A command entry whose command-line is parsed or was parsed before.
+	 */
+	private static class PendingEntry {
+		final String file;
+		/** the processed entry if the entry did not change since the last parse */
+		final ProcessedEntry entry;
+		final CompletableFuture<ProcessedEntry> result;
+
+		PendingEntry(String file, ProcessedEntry entry) {
+			this.file = file;
+			this.entry = entry;
+			this.result = null;
+		}
+
+		PendingEntry(String file, CompletableFuture<ProcessedEntry> result) {
+			this.file = file;
+			this.entry = null;
+			this.result = result;
+		}
+	}
 }
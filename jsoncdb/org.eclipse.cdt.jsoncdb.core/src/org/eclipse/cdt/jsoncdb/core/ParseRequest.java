@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Martin Weber.
+ * Copyright (c) 2020, 2026 Martin Weber and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
 package org.eclipse.cdt.jsoncdb.core;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.eclipse.cdt.core.ICommandLauncher;
 import org.eclipse.cdt.core.resources.IConsole;
@@ -25,6 +26,7 @@ public final class ParseRequest {
 	private final IFile compileCommandsJson;
 	private final ISourceFileInfoConsumer indexerInfoConsumer;
 	private final ICommandLauncher launcher;
+	private final Supplier<ICommandLauncher> launcherFactory;
 	private final IConsole console;
 
 	/** Creates a new ParseRequest object.
@@ -44,6 +46,30 @@ public final class ParseRequest {
 		this.compileCommandsJson = Objects.requireNonNull(compileCommandsJsonFile, "compileCommandsJsonFile"); //$NON-NLS-1$
 		this.indexerInfoConsumer = Objects.requireNonNull(indexerInfoConsumer, "indexerInfoConsumer"); //$NON-NLS-1$
 		this.launcher = Objects.requireNonNull(launcher, "launcher"); //$NON-NLS-1$
+		this.launcherFactory = null;
+		this.console = console;
+	}
+
+	/** Creates a new ParseRequest object that allows to run built-ins detection for
+	 * several compilers in parallel.
+	 *
+	 * @param compileCommandsJsonFile  the file to parse
+	 * @param indexerInfoConsumer the object that receives the indexer relevant
+	 *                            information for each source file
+	 * @param launcherFactory creates a new launcher to run a compiler for built-ins detection
+	 *                 each time it is invoked. Launchers should be capable to run in docker container,
+	 *                 if build in container is configured for the project.
+	 * @param console  the console to print the compiler output during built-ins
+	 *                 detection to or <code>null</code> if no console output is requested.
+	 *                 Ignored if workspace preferences indicate that no console output is wanted.
+	 * @since 1.5
+	 */
+	public ParseRequest(IFile compileCommandsJsonFile, ISourceFileInfoConsumer indexerInfoConsumer,
+			Supplier<ICommandLauncher> launcherFactory, IConsole console) {
+		this.compileCommandsJson = Objects.requireNonNull(compileCommandsJsonFile, "compileCommandsJsonFile"); //$NON-NLS-1$
+		this.indexerInfoConsumer = Objects.requireNonNull(indexerInfoConsumer, "indexerInfoConsumer"); //$NON-NLS-1$
+		this.launcherFactory = Objects.requireNonNull(launcherFactory, "launcherFactory"); //$NON-NLS-1$
+		this.launcher = Objects.requireNonNull(launcherFactory.get(), "launcher"); //$NON-NLS-1$
 		this.console = console;
 	}
 
@@ -66,6 +92,16 @@ public final class ParseRequest {
 		return launcher;
 	}
 
+	/** Gets the factory of launchers to run compilers for built-ins detection in parallel.
+	 *
+	 * @return the factory or <code>null</code> if built-ins detection has to use the
+	 *         {@link #getLauncher() launcher} and run the compilers one after another.
+	 * @since 1.5
+	 */
+	public Supplier<ICommandLauncher> getLauncherFactory() {
+		return launcherFactory;
+	}
+
 	/** Gets the console to print the compiler output during built-ins detection to.
 	 *
 	 * @return the console or <code>null</code> if no console output is requested.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017-2020 Martin Weber.
+ * Copyright (c) 2017-2026 Martin Weber and others.
  *
  * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
  * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
@@ -24,6 +24,7 @@ import org.eclipse.cdt.jsoncdb.core.participant.Arglets;
 import org.eclipse.cdt.jsoncdb.core.participant.DefaultToolCommandlineParser;
 import org.eclipse.cdt.jsoncdb.core.participant.DefaultToolDetectionParticipant;
 import org.eclipse.cdt.jsoncdb.core.participant.IArglet;
+import org.eclipse.cdt.jsoncdb.core.participant.IResponseFileArglet;
 import org.eclipse.cdt.jsoncdb.core.participant.IToolCommandlineParser;
 import org.eclipse.cdt.jsoncdb.core.participant.IToolDetectionParticipant;
 import org.eclipse.cdt.jsoncdb.core.participant.IToolDetectionParticipant.MatchResult;
@@ -56,6 +57,22 @@ public final class ParserDetection {
 	 */
 	private static List<IToolDetectionParticipant> parserDetectors;
 
+	/**
+	 * The parser of the tools known to this class. Its arglets keep no state, so
+	 * it may parse several command-lines concurrently.
+	 */
+	private static class BuiltinToolCommandlineParser extends DefaultToolCommandlineParser {
+		BuiltinToolCommandlineParser(IResponseFileArglet responseFileArglet,
+				IBuiltinsDetectionBehavior builtinsDetectionBehavior, IArglet... argumentParsers) {
+			super(responseFileArglet, builtinsDetectionBehavior, argumentParsers);
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			return true;
+		}
+	}
+
 	private static synchronized void init() {
 		if (parserDetectors == null) {
 			parserDetectors = new ArrayList<>(22);
@@ -72,20 +89,20 @@ public final class ParserDetection {
 
 			// POSIX compatible C compilers =================================
 			{
-				final IToolCommandlineParser cc = new DefaultToolCommandlineParser(new ResponseFileArglets.At(),
+				final IToolCommandlineParser cc = new BuiltinToolCommandlineParser(new ResponseFileArglets.At(),
 						btbGccMaybee, gcc_args);
 				parserDetectors.add(new DefaultToolDetectionParticipant("cc", true, "exe", cc));
 			}
 			// POSIX compatible C++ compilers ===============================
 			{
-				final IToolCommandlineParser cxx = new DefaultToolCommandlineParser(new ResponseFileArglets.At(),
+				final IToolCommandlineParser cxx = new BuiltinToolCommandlineParser(new ResponseFileArglets.At(),
 						btbGccMaybee, gcc_args);
 				parserDetectors.add(new DefaultToolDetectionParticipant("c\\+\\+", true, "exe", cxx));
 			}
 
 			// GNU C compatible compilers ====
 			{
-				final IToolCommandlineParser gcc = new DefaultToolCommandlineParser(new ResponseFileArglets.At(),
+				final IToolCommandlineParser gcc = new BuiltinToolCommandlineParser(new ResponseFileArglets.At(),
 						btbGcc, gcc_args);
 				parserDetectors.add(new DefaultToolDetectionParticipant("gcc", true, "exe", gcc));
 				// cross compilers, e.g. arm-none-eabi-gcc ====
@@ -93,7 +110,7 @@ public final class ParserDetection {
 			}
 			// GNU C++ compatible compilers ====
 			{
-				final IToolCommandlineParser gxx = new DefaultToolCommandlineParser(new ResponseFileArglets.At(),
+				final IToolCommandlineParser gxx = new BuiltinToolCommandlineParser(new ResponseFileArglets.At(),
 						btbGcc, gcc_args);
 				parserDetectors.add(new DefaultToolDetectionParticipant("g\\+\\+", true, "exe", gxx));
 				// cross compilers, e.g. arm-none-eabi-g++ ====
@@ -110,16 +127,16 @@ public final class ParserDetection {
 						// Clang only
 						new Arglets.Target_Clang() };
 
-				final IToolCommandlineParser clang = new DefaultToolCommandlineParser(new ResponseFileArglets.At(),
+				final IToolCommandlineParser clang = new BuiltinToolCommandlineParser(new ResponseFileArglets.At(),
 						btbGcc, clang_args);
 				parserDetectors.add(new DefaultToolDetectionParticipant("clang", true, "exe", clang));
-				final IToolCommandlineParser clangxx = new DefaultToolCommandlineParser(new ResponseFileArglets.At(),
+				final IToolCommandlineParser clangxx = new BuiltinToolCommandlineParser(new ResponseFileArglets.At(),
 						btbGcc, clang_args);
 				parserDetectors.add(new DefaultToolDetectionParticipant("clang\\+\\+", true, "exe", clangxx));
 			}
 			{
 				// cross compilers, e.g. arm-none-eabi-c++ ====
-				final IToolCommandlineParser cxx = new DefaultToolCommandlineParser(new ResponseFileArglets.At(),
+				final IToolCommandlineParser cxx = new BuiltinToolCommandlineParser(new ResponseFileArglets.At(),
 						btbGccMaybee, gcc_args);
 				parserDetectors.add(new DefaultToolDetectionParticipant("\\S+?-c\\+\\+", true, "exe", cxx));
 			}
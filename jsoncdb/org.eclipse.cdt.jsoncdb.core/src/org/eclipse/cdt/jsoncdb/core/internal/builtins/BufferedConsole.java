@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.jsoncdb.core.internal.builtins;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.cdt.core.ConsoleOutputStream;
+import org.eclipse.cdt.core.resources.IConsole;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * A console that holds back the output of a built-in detection running in
+ * parallel to others until it is {@link #flush() flushed} to the real console,
+ * so that the outputs of the detections do not get interleaved. Writes to the
+ * real console are synchronized on it.
+ */
+public class BufferedConsole implements IConsole {
+
+	private final IConsole console;
+	/** the output in the order it was written */
+	private final List<Segment> segments = new ArrayList<>();
+	private final ConsoleOutputStream out = new BufferedStream(Kind.OUTPUT);
+	private final ConsoleOutputStream info = new BufferedStream(Kind.INFO);
+	private final ConsoleOutputStream err = new BufferedStream(Kind.ERROR);
+
+	/**
+	 * @param console the real console
+	 */
+	public BufferedConsole(IConsole console) {
+		this.console = Objects.requireNonNull(console, "console"); //$NON-NLS-1$
+	}
+
+	@Override
+	public void start(IProject project) {
+		synchronized (console) {
+			console.start(project);
+		}
+	}
+
+	@Override
+	public ConsoleOutputStream getOutputStream() throws CoreException {
+		return out;
+	}
+
+	@Override
+	public ConsoleOutputStream getInfoStream() throws CoreException {
+		return info;
+	}
+
+	@Override
+	public ConsoleOutputStream getErrorStream() throws CoreException {
+		return err;
+	}
+
+	/**
+	 * Writes the output held back so far to the real console.
+	 */
+	public void flush() throws CoreException {
+		List<Segment> toWrite;
+		synchronized (segments) {
+			toWrite = new ArrayList<>(segments);
+			segments.clear();
+		}
+		if (toWrite.isEmpty()) {
+			return;
+		}
+		synchronized (console) {
+			try {
+				for (Segment segment : toWrite) {
+					switch (segment.kind) {
+					case OUTPUT:
+						console.getOutputStream().write(segment.text);
+						break;
+					case INFO:
+						console.getInfoStream().write(segment.text);
+						break;
+					case ERROR:
+						console.getErrorStream().write(segment.text);
+						break;
+					}
+				}
+			} catch (IOException ignore) {
+			}
+		}
+	}
+
+	private enum Kind {
+		OUTPUT, INFO, ERROR
+	}
+
+	private static class Segment {
+		final Kind kind;
+		final String text;
+
+		Segment(Kind kind, String text) {
+			this.kind = kind;
+			this.text = text;
+		}
+	}
+
+	private class BufferedStream extends ConsoleOutputStream {
+		private final Kind kind;
+
+		BufferedStream(Kind kind) {
+			this.kind = kind;
+		}
+
+		@Override
+		public void write(int c) throws IOException {
+			write(new byte[] { (byte) c }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			write(new String(b, off, len));
+		}
+
+		@Override
+		public void write(String msg) throws IOException {
+			synchronized (segments) {
+				segments.add(new Segment(kind, msg));
+			}
+		}
+	}
+}
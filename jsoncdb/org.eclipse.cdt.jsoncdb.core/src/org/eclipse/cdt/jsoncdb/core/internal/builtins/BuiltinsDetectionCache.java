@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.cdt.jsoncdb.core.internal.builtins;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.cdt.jsoncdb.core.internal.Plugin;
+import org.eclipse.cdt.jsoncdb.core.participant.IRawSourceFileInfo;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Persists the results of compiler built-ins detection across sessions, so
+ * that the compilers need not be run again each time the workspace is opened.
+ * The results are stored in the state location of the plugin, keyed by
+ * {@link CompilerBuiltinsDetector#getCacheKey(org.eclipse.core.resources.IProject, org.eclipse.cdt.core.ICommandLauncher)}.
+ * Results not used for {@value #MAX_UNUSED_DAYS} days are discarded.
+ */
+public final class BuiltinsDetectionCache {
+	private static final String CACHE_FILE = "builtins-detection-cache.json"; //$NON-NLS-1$
+	private static final int VERSION = 2;
+	private static final int MAX_UNUSED_DAYS = 30;
+
+	private static BuiltinsDetectionCache instance;
+
+	/** the file to persist to or {@code null} if the results are not persisted */
+	private final java.nio.file.Path cacheFile;
+	/** the cached results, lazily loaded */
+	private Map<String, CachedResult> results;
+	private boolean dirty;
+
+	BuiltinsDetectionCache(java.nio.file.Path cacheFile) {
+		this.cacheFile = cacheFile;
+	}
+
+	/**
+	 * Gets the cache of the workspace.
+	 */
+	public static synchronized BuiltinsDetectionCache getDefault() {
+		if (instance == null) {
+			Plugin plugin = Plugin.getDefault();
+			instance = new BuiltinsDetectionCache(
+					plugin == null ? null : plugin.getStateLocation().append(CACHE_FILE).toFile().toPath());
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets the cached result of a built-ins detection.
+	 *
+	 * @return the result or {@code null} if no result is cached for the specified
+	 *         key
+	 */
+	public synchronized IRawSourceFileInfo get(String key) {
+		CachedResult cached = getResults().get(key);
+		if (cached == null) {
+			return null;
+		}
+		cached.lastUsed = System.currentTimeMillis();
+		dirty = true;
+		return cached.toRawSourceFileInfo();
+	}
+
+	/**
+	 * Caches the result of a successful built-ins detection.
+	 */
+	public synchronized void put(String key, IRawSourceFileInfo result) {
+		getResults().put(key, new CachedResult(result));
+		dirty = true;
+	}
+
+	/**
+	 * Writes the cached results to disk if they changed.
+	 */
+	public synchronized void save() {
+		if (!dirty || cacheFile == null) {
+			return;
+		}
+		final long oldest = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_UNUSED_DAYS);
+		for (Iterator<CachedResult> iter = results.values().iterator(); iter.hasNext();) {
+			if (iter.next().lastUsed < oldest) {
+				iter.remove();
+			}
+		}
+		CacheContent content = new CacheContent();
+		content.version = VERSION;
+		content.results = results;
+		try {
+			Files.createDirectories(cacheFile.getParent());
+			java.nio.file.Path tmp = Files.createTempFile(cacheFile.getParent(), CACHE_FILE, null);
+			try {
+				try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+					new Gson().toJson(content, out);
+				}
+				Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+			dirty = false;
+		} catch (IOException e) {
+			Plugin.getDefault().getLog().log(new Status(IStatus.WARNING, Plugin.PLUGIN_ID, "save()", e)); //$NON-NLS-1$
+		}
+	}
+
+	private Map<String, CachedResult> getResults() {
+		if (results == null) {
+			results = load();
+		}
+		return results;
+	}
+
+	private Map<String, CachedResult> load() {
+		if (cacheFile != null && Files.exists(cacheFile)) {
+			try (Reader in = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+				CacheContent content = new Gson().fromJson(in, CacheContent.class);
+				if (content != null && content.version == VERSION && content.results != null) {
+					return content.results;
+				}
+			} catch (IOException | JsonParseException e) {
+				// treat as empty cache, the file is re-written on the next save
+			}
+		}
+		return new HashMap<>();
+	}
+
+	/**
+	 * The content of the cache file.
+	 */
+	private static class CacheContent {
+		int version;
+		Map<String, CachedResult> results;
+	}
+
+	/**
+	 * A cached result of a built-ins detection.
+	 */
+	private static class CachedResult {
+		long lastUsed;
+		Map<String, String> defines;
+		List<String> undefines;
+		List<String> includePaths;
+		List<String> systemIncludePaths;
+		List<String> macroFiles;
+		List<String> includeFiles;
+
+		CachedResult() {
+			// for deserialization
+		}
+
+		CachedResult(IRawSourceFileInfo result) {
+			lastUsed = System.currentTimeMillis();
+			defines = new HashMap<>(result.getDefines());
+			undefines = new ArrayList<>(result.getUndefines());
+			includePaths = new ArrayList<>(result.getIncludePaths());
+			systemIncludePaths = new ArrayList<>(result.getSystemIncludePaths());
+			macroFiles = new ArrayList<>(result.getMacroFiles());
+			includeFiles = new ArrayList<>(result.getIncludeFiles());
+		}
+
+		RawSourceFileInfo toRawSourceFileInfo() {
+			RawSourceFileInfo result = new RawSourceFileInfo();
+			// undefines remove defines, so add them first
+			forEach(undefines, result::addUndefine);
+			if (defines != null) {
+				defines.forEach(result::addDefine);
+			}
+			forEach(includePaths, result::addIncludePath);
+			forEach(systemIncludePaths, result::addSystemIncludePath);
+			forEach(macroFiles, result::addMacroFile);
+			forEach(includeFiles, result::addIncludeFile);
+			return result;
+		}
+
+		private static void forEach(List<String> values, Consumer<String> action) {
+			if (values != null) {
+				values.forEach(action);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018-2020 Martin Weber.
+ * Copyright (c) 2018-2026 Martin Weber and others.
  *
  * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
  * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
@@ -9,17 +9,22 @@
 
 package org.eclipse.cdt.jsoncdb.core.internal.builtins;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
 import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.CommandLauncher;
 import org.eclipse.cdt.core.ConsoleOutputStream;
 import org.eclipse.cdt.core.ICommandLauncher;
 import org.eclipse.cdt.core.build.ICBuildConfiguration;
@@ -54,6 +59,13 @@ import org.osgi.framework.FrameworkUtil;
 public class CompilerBuiltinsDetector {
 	/** error marker ID */
 	private static final String MARKER_ID = Plugin.PLUGIN_ID + ".CompilerBuiltinsDetectorMarker"; //$NON-NLS-1$
+	/**
+	 * the environment variables that change the include paths or the macros the
+	 * compiler reports
+	 */
+	private static final String[] ENV_VARS = { "CPATH", "C_INCLUDE_PATH", "CPLUS_INCLUDE_PATH", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"OBJC_INCLUDE_PATH", "OBJCPLUS_INCLUDE_PATH", "GCC_EXEC_PREFIX", "COMPILER_PATH", "SDKROOT", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			"SOURCE_DATE_EPOCH" }; //$NON-NLS-1$
 
 	private final String sourceFileExtension;
 	private final String command;
@@ -62,6 +74,7 @@ public class CompilerBuiltinsDetector {
 
 	private IProject project;
 	private java.nio.file.Path buildDirectory;
+	private boolean succeeded;
 
 	/**
 	 * @param builtinsDetectionBehavior how compiler built-ins are to be detected
@@ -140,6 +153,7 @@ public class CompilerBuiltinsDetector {
 				try {
 					// check exit status
 					final int exitValue = proc.exitValue();
+					succeeded = exitValue == 0;
 					if (exitValue != 0 && !builtinsDetectionBehavior.suppressErrormessage()) {
 						// compiler had errors...
 						String errMsg = String.format(Messages.CompilerBuiltinsDetector_errmsg_command_failed, command,
@@ -170,6 +184,121 @@ public class CompilerBuiltinsDetector {
 		return result;
 	}
 
+	/**
+	 * Gets whether the last built-in detection ran the compiler successfully, that
+	 * is, whether its result can be cached.
+	 */
+	public boolean hasSucceeded() {
+		return succeeded;
+	}
+
+	/**
+	 * Gets a key identifying the result of this built-in detection across
+	 * sessions. The key includes the location, size and modification time of the
+	 * compiler executable and the environment variables that affect the built-ins
+	 * (see {@link #ENV_VARS}), so that the result is detected again if the
+	 * compiler or its environment changes.
+	 *
+	 * @param project  the project
+	 * @param launcher the launcher for the compiler process
+	 * @return the key or {@code null} if the result must not be cached, that is,
+	 *         if the compiler does not run on this host or its executable cannot
+	 *         be found
+	 */
+	public String getCacheKey(IProject project, ICommandLauncher launcher) {
+		if (!isLocal(launcher)) {
+			return null;
+		}
+		return getCacheKey(launcher, getProjectEnvp(project));
+	}
+
+	/**
+	 * Gets the cache key for a compiler that is run in the specified environment.
+	 *
+	 * @see #getCacheKey(IProject, ICommandLauncher)
+	 */
+	String getCacheKey(ICommandLauncher launcher, Map<String, String> envp) {
+		if (!isLocal(launcher)) {
+			return null;
+		}
+		try {
+			java.nio.file.Path compiler = findCompiler(envp);
+			if (compiler == null) {
+				return null;
+			}
+			compiler = compiler.toRealPath();
+			List<String> key = new ArrayList<>();
+			key.add(compiler.toString());
+			key.add(Long.toString(Files.size(compiler)));
+			key.add(Long.toString(Files.getLastModifiedTime(compiler).toMillis()));
+			key.add(builtinsDetectionBehavior.getClass().getName());
+			key.add(String.join(" ", builtinsDetectionBehavior.getBuiltinsOutputEnablingArgs())); //$NON-NLS-1$
+			key.add(String.join(" ", builtinsDetectionArgs)); //$NON-NLS-1$
+			key.add(sourceFileExtension);
+			for (String name : ENV_VARS) {
+				key.add(name + '=' + Objects.toString(envp.get(name), "")); //$NON-NLS-1$
+			}
+			return String.join("#", key); //$NON-NLS-1$
+		} catch (IOException | InvalidPathException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets whether the specified launcher runs the compiler on this host, where
+	 * its executable can be examined. Launchers that run the compiler in a
+	 * container, on a remote host or in a sandbox (e.g. flatpak) may run a
+	 * different compiler than the one found here, so their results are not cached.
+	 * Also, the launchers of the
+	 * {@link org.eclipse.cdt.core.CommandLauncherManager} only pick the real
+	 * launcher when the command is executed.
+	 */
+	static boolean isLocal(ICommandLauncher launcher) {
+		return launcher != null && launcher.getClass() == CommandLauncher.class;
+	}
+
+	/**
+	 * Finds the compiler executable like the shell does.
+	 *
+	 * @return the compiler executable or {@code null} if it cannot be found
+	 */
+	private java.nio.file.Path findCompiler(Map<String, String> envp) {
+		java.nio.file.Path compiler = java.nio.file.Path.of(command);
+		if (compiler.isAbsolute()) {
+			return Files.isRegularFile(compiler) ? compiler : null;
+		}
+		if (compiler.getNameCount() > 1) {
+			// relative to the working directory, which is not known here
+			return null;
+		}
+		String path = null;
+		for (Map.Entry<String, String> entry : envp.entrySet()) {
+			if (entry.getKey().equalsIgnoreCase("PATH")) { //$NON-NLS-1$
+				path = entry.getValue();
+			}
+		}
+		if (path == null) {
+			return null;
+		}
+		final boolean windows = File.separatorChar == '\\';
+		for (String dir : path.split(File.pathSeparator)) {
+			if (dir.isEmpty()) {
+				continue;
+			}
+			for (String suffix : windows ? new String[] { "", ".exe" } : new String[] { "" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				try {
+					java.nio.file.Path candidate = java.nio.file.Path.of(dir, command + suffix);
+					if (Files.isRegularFile(candidate) && (windows || Files.isExecutable(candidate))) {
+						return candidate;
+					}
+				} catch (InvalidPathException e) {
+					// invalid path entry
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Gets the compiler-arguments corresponding to the builtinDetection.
 	 */
@@ -267,6 +396,8 @@ public class CompilerBuiltinsDetector {
 				// In the typical case it is sufficient to have an empty file.
 				Files.createDirectories(specFile.getParent()); // no build ran yet, must create dirs
 				Files.createFile(specFile);
+			} catch (FileAlreadyExistsException e) {
+				// created by a detection running in parallel
 			} catch (IOException e) {
 				Plugin.getDefault().getLog().log(new Status(IStatus.ERROR, Plugin.PLUGIN_ID, "getInputFile()", e)); //$NON-NLS-1$
 			}
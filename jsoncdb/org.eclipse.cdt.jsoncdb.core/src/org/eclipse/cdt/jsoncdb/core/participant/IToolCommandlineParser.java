@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016-2020 Martin Weber.
+ * Copyright (c) 2016-2026 Martin Weber and others.
  *
  * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
  * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
@@ -42,6 +42,19 @@ public interface IToolCommandlineParser {
 	 */
 	public Optional<IBuiltinsDetectionBehavior> getIBuiltinsDetectionBehavior();
 
+	/**
+	 * Gets whether {@link #processArgs(IPath, String)} may be called concurrently
+	 * for different command-lines. Calls to parsers that are not thread-safe are
+	 * serialized.
+	 *
+	 * @return {@code true} if this parser is thread-safe, the default
+	 *         implementation returns {@code false}
+	 * @since 1.5
+	 */
+	public default boolean isThreadSafe() {
+		return false;
+	}
+
 	/**
 	 * The result of processing a compiler command-line.
 	 *
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.ui.memory.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Test;
+
+public class MemorySearcherTest {
+	private static final long BASE = 0x10000;
+
+	/**
+	 * The target memory, starting at {@link #BASE}
+	 */
+	private static class Memory implements MemorySearcher.MemoryReader {
+		final byte[] fContent;
+		int fReads;
+		int fMaxReadLength = Integer.MAX_VALUE;
+
+		Memory(int size) {
+			fContent = new byte[size];
+			Arrays.fill(fContent, (byte) '.');
+		}
+
+		void write(long address, String text) {
+			byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+			System.arraycopy(bytes, 0, fContent, (int) (address - BASE), bytes.length);
+		}
+
+		@Override
+		public MemoryByte[] getBytesFromAddress(BigInteger address, long length) throws DebugException {
+			fReads++;
+			int from = (int) (address.longValue() - BASE);
+			int to = (int) Math.min(fContent.length, from + Math.min(length, fMaxReadLength));
+			MemoryByte[] bytes = new MemoryByte[to - from];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = new MemoryByte(fContent[from + i]);
+			}
+			return bytes;
+		}
+	}
+
+	private static class Phrase implements FindReplaceDialog.SearchPhrase {
+		private final byte[] fPattern;
+		private final boolean fCaseInsensitive;
+
+		Phrase(String text, boolean caseInsensitive) {
+			fPattern = text.getBytes(StandardCharsets.US_ASCII);
+			fCaseInsensitive = caseInsensitive;
+		}
+
+		@Override
+		public byte[] getPattern(boolean littleEndian) {
+			return fPattern;
+		}
+
+		@Override
+		public boolean isCaseInsensitive() {
+			return fCaseInsensitive;
+		}
+
+		@Override
+		public int getByteLength() {
+			return fPattern.length;
+		}
+	}
+
+	/**
+	 * Returns the addresses of all the occurrences of the phrase in the whole memory
+	 */
+	private static List<Long> findAll(Memory memory, String text, boolean caseInsensitive, boolean forward)
+			throws DebugException {
+		BigInteger first = BigInteger.valueOf(BASE);
+		BigInteger last = BigInteger.valueOf(BASE + memory.fContent.length - text.length());
+		return findAll(memory, new Phrase(text, caseInsensitive), first, last, forward);
+	}
+
+	private static List<Long> findAll(Memory memory, Phrase phrase, BigInteger first, BigInteger last,
+			boolean forward) throws DebugException {
+		MemorySearcher searcher = new MemorySearcher(memory, phrase, first, last, forward);
+		List<Long> addresses = new ArrayList<>();
+		BigInteger address;
+		while ((address = searcher.next(new NullProgressMonitor())) != null) {
+			addresses.add(address.longValue());
+			// The match holds the bytes of the occurrence
+			byte[] match = new byte[phrase.getByteLength()];
+			for (int i = 0; i < match.length; i++) {
+				match[i] = searcher.getMatch()[i].getValue();
+			}
+			int offset = (int) (address.longValue() - BASE);
+			assertEquals(new String(memory.fContent, offset, match.length, StandardCharsets.US_ASCII),
+					new String(match, StandardCharsets.US_ASCII));
+		}
+		return addresses;
+	}
+
+	@Test
+	public void testForward() throws DebugException {
+		Memory memory = new Memory(0x1000);
+		memory.write(BASE + 0x10, "needle");
+		memory.write(BASE + 0x100, "needle");
+		memory.write(BASE + 0x106, "needle");
+		memory.write(BASE + 0x200, "needl");
+		assertEquals(List.of(BASE + 0x10, BASE + 0x100, BASE + 0x106), findAll(memory, "needle", false, true));
+
+		// Overlapping occurrences
+		memory.write(BASE + 0x300, "nenene");
+		assertEquals(List.of(BASE + 0x300, BASE + 0x302), findAll(memory, "nene", false, true));
+	}
+
+	@Test
+	public void testBackward() throws DebugException {
+		Memory memory = new Memory(0x1000);
+		memory.write(BASE + 0x10, "needle");
+		memory.write(BASE + 0x100, "needle");
+		memory.write(BASE + 0x106, "needle");
+		memory.write(BASE + 0x200, "eedle");
+		assertEquals(List.of(BASE + 0x106, BASE + 0x100, BASE + 0x10), findAll(memory, "needle", false, false));
+
+		// Overlapping occurrences
+		memory.write(BASE + 0x300, "nenene");
+		assertEquals(List.of(BASE + 0x302, BASE + 0x300), findAll(memory, "nene", false, false));
+	}
+
+	@Test
+	public void testFirstAndLastAddress() throws DebugException {
+		Memory memory = new Memory(0x1000);
+		memory.write(BASE, "needle");
+		memory.write(BASE + 0x1000 - 6, "needle");
+		List<Long> expected = List.of(BASE, BASE + 0x1000 - 6);
+		assertEquals(expected, findAll(memory, "needle", false, true));
+		assertEquals(List.of(expected.get(1), expected.get(0)), findAll(memory, "needle", false, false));
+
+		// The occurrences starting outside of the range are not found
+		Phrase phrase = new Phrase("needle", false);
+		BigInteger first = BigInteger.valueOf(BASE + 1);
+		BigInteger last = BigInteger.valueOf(BASE + 0x1000 - 7);
+		assertEquals(List.of(), findAll(memory, phrase, first, last, true));
+		assertEquals(List.of(), findAll(memory, phrase, first, last, false));
+	}
+
+	@Test
+	public void testBlockBoundaries() throws DebugException {
+		String needle = "needle";
+		int size = MemorySearcher.BLOCK_SIZE + 0x100;
+		Memory memory = new Memory(size);
+		// The first occurrence candidate of the second block of a forward and of a backward search
+		long candidates = MemorySearcher.BLOCK_SIZE - needle.length() + 1;
+		long count = size - needle.length() + 1;
+		for (long boundary : new long[] { candidates, count - candidates }) {
+			// Occurrences before the end of the first block, ending with its last byte, starting the
+			// second block and spanning the end of the first block
+			for (long offset : new long[] { -needle.length(), -1, 0, 2 }) {
+				long address = BASE + boundary + offset;
+				memory.write(address, needle);
+				memory.fReads = 0;
+				assertEquals(List.of(address), findAll(memory, needle, false, true));
+				assertEquals(List.of(address), findAll(memory, needle, false, false));
+				assertEquals(4, memory.fReads);
+				memory.write(address, "......");
+			}
+		}
+	}
+
+	@Test
+	public void testShortRead() throws DebugException {
+		Memory memory = new Memory(0x1000);
+		memory.write(BASE + 0x10, "needle");
+		memory.write(BASE + 0x7fa, "needle");
+		memory.write(BASE + 0x801, "needle");
+		// The target returns the first half of the block only, the rest is not searched
+		memory.fMaxReadLength = 0x800;
+		assertEquals(List.of(BASE + 0x10, BASE + 0x7fa), findAll(memory, "needle", false, true));
+		assertEquals(List.of(BASE + 0x7fa, BASE + 0x10), findAll(memory, "needle", false, false));
+
+		// Nothing is found in a block shorter than the phrase
+		memory.fMaxReadLength = 5;
+		assertEquals(List.of(), findAll(memory, "needle", false, true));
+		assertEquals(List.of(), findAll(memory, "needle", false, false));
+	}
+
+	@Test
+	public void testCaseInsensitive() throws DebugException {
+		Memory memory = new Memory(0x100);
+		memory.write(BASE + 0x10, "Hello");
+		memory.write(BASE + 0x20, "hELLO");
+		memory.write(BASE + 0x30, "hello");
+		// Only ASCII letters are folded: '{' is '[' + 0x20
+		memory.write(BASE + 0x40, "{hello}");
+		memory.write(BASE + 0x50, "[hello]");
+		assertEquals(List.of(BASE + 0x30, BASE + 0x41, BASE + 0x51), findAll(memory, "hello", false, true));
+		assertEquals(List.of(BASE + 0x10, BASE + 0x20, BASE + 0x30, BASE + 0x41, BASE + 0x51),
+				findAll(memory, "HELLO", true, true));
+		assertEquals(List.of(BASE + 0x51, BASE + 0x41, BASE + 0x30, BASE + 0x20, BASE + 0x10),
+				findAll(memory, "hello", true, false));
+		assertEquals(List.of(BASE + 0x50), findAll(memory, "[HELLO]", true, true));
+		assertEquals(List.of(BASE + 0x40), findAll(memory, "{Hello}", true, false));
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.cdt.debug.ui.memory.search;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Finds the occurrences of a byte pattern in a range of target memory, in ascending or
+ * descending order. The memory is read in large blocks that overlap by the length of the pattern
+ * minus one, such that occurrences spanning two blocks are found. The blocks are scanned with
+ * the Boyer-Moore-Horspool algorithm, which skips up to the length of the pattern per comparison.
+ * A backward search scans reversed blocks for the reversed pattern.
+ */
+final class MemorySearcher {
+	/** The number of bytes read from the target at once. */
+	static final int BLOCK_SIZE = 1024 * 1024;
+
+	interface MemoryReader {
+		MemoryByte[] getBytesFromAddress(BigInteger address, long length) throws DebugException;
+	}
+
+	private final MemoryReader fReader;
+	private final BigInteger fFirst;
+	private final long fCount;
+	private final boolean fForward;
+	private final boolean fFoldCase;
+	private final int fLength;
+	private final byte[] fBigEndianPattern;
+	private final int[] fBigEndianShift;
+	private final byte[] fLittleEndianPattern;
+	private final int[] fLittleEndianShift;
+
+	// The current block
+	private long fDone;
+	private MemoryByte[] fBlock;
+	private byte[] fText;
+	private int fBlockCandidates;
+	private int fBlockEnd;
+	private int fCursor;
+	private byte[] fPattern;
+	private int[] fShift;
+
+	private MemoryByte[] fMatch;
+
+	/**
+	 * @param reader reads the target memory.
+	 * @param phrase the phrase to find.
+	 * @param first the lowest address at which an occurrence may start.
+	 * @param last the highest address at which an occurrence may start.
+	 * @param forward whether to report the occurrences in ascending order of their addresses.
+	 */
+	MemorySearcher(MemoryReader reader, FindReplaceDialog.SearchPhrase phrase, BigInteger first, BigInteger last,
+			boolean forward) {
+		fReader = reader;
+		fFirst = first;
+		fForward = forward;
+		fFoldCase = phrase.isCaseInsensitive();
+		byte[] bigEndian = phrase.getPattern(false);
+		byte[] littleEndian = phrase.getPattern(true);
+		fLength = bigEndian != null ? bigEndian.length : 0;
+		fCount = fLength == 0 || last.compareTo(first) < 0 ? 0 : last.subtract(first).longValue() + 1;
+		fBigEndianPattern = prepare(bigEndian);
+		fBigEndianShift = createShiftTable(fBigEndianPattern);
+		fLittleEndianPattern = prepare(littleEndian);
+		fLittleEndianShift = createShiftTable(fLittleEndianPattern);
+	}
+
+	/**
+	 * Returns the number of blocks read by a complete search, each reported as one unit of work.
+	 */
+	int getBlockCount() {
+		long blocks = (fCount + getCandidatesPerBlock() - 1) / getCandidatesPerBlock();
+		return (int) Math.min(blocks, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the address of the next occurrence, or {@code null} if there are no more
+	 * occurrences or the search was cancelled.
+	 */
+	BigInteger next(IProgressMonitor monitor) throws DebugException {
+		while (true) {
+			if (fText != null) {
+				int index = find(fText, fCursor, fBlockEnd);
+				if (index >= 0) {
+					fCursor = index + 1;
+					return toAddress(index);
+				}
+				fDone += fBlockCandidates;
+				fText = null;
+				monitor.worked(1);
+			}
+			if (fDone >= fCount || monitor.isCanceled())
+				return null;
+			readBlock();
+		}
+	}
+
+	/**
+	 * Returns the bytes of the occurrence last returned by {@link #next(IProgressMonitor)}.
+	 */
+	MemoryByte[] getMatch() {
+		return fMatch;
+	}
+
+	private int getCandidatesPerBlock() {
+		return Math.max(1, BLOCK_SIZE - fLength + 1);
+	}
+
+	private void readBlock() throws DebugException {
+		int candidates = (int) Math.min(getCandidatesPerBlock(), fCount - fDone);
+		int requested = candidates + fLength - 1;
+		// The offset of the lowest candidate of the block
+		long offset = fForward ? fDone : fCount - fDone - candidates;
+		MemoryByte[] block = fReader.getBytesFromAddress(fFirst.add(BigInteger.valueOf(offset)), requested);
+		// A block shorter than requested holds the lowest addresses, the missing bytes are not searched
+		int length = Math.min(block.length, requested);
+		byte[] text = new byte[requested];
+		for (int i = 0; i < length; i++) {
+			byte value = block[i].getValue();
+			text[fForward ? i : requested - 1 - i] = fFoldCase ? toUpperCase(value) : value;
+		}
+		boolean littleEndian = length > 0 && block[0].isEndianessKnown() && !block[0].isBigEndian();
+		fPattern = littleEndian ? fLittleEndianPattern : fBigEndianPattern;
+		fShift = littleEndian ? fLittleEndianShift : fBigEndianShift;
+		fBlock = block;
+		fText = text;
+		fBlockCandidates = candidates;
+		// Only the candidates whose bytes were all read are compared. A block without a pattern for
+		// its byte order has no match.
+		fCursor = fForward ? 0 : requested - length;
+		fBlockEnd = fPattern == null ? 0 : fForward ? length - fLength + 1 : candidates;
+	}
+
+	private BigInteger toAddress(int index) {
+		int start;
+		long offset;
+		if (fForward) {
+			start = index;
+			offset = fDone + index;
+		} else {
+			start = fText.length - fLength - index;
+			offset = fCount - fDone - 1 - index;
+		}
+		fMatch = Arrays.copyOfRange(fBlock, start, start + fLength);
+		return fFirst.add(BigInteger.valueOf(offset));
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the pattern starting at an index in the given
+	 * range, or -1.
+	 */
+	private int find(byte[] text, int from, int to) {
+		byte[] pattern = fPattern;
+		int[] shift = fShift;
+		int last = pattern.length - 1;
+		int i = from;
+		while (i < to) {
+			byte b = text[i + last];
+			if (b == pattern[last]) {
+				int j = last - 1;
+				while (j >= 0 && text[i + j] == pattern[j]) {
+					j--;
+				}
+				if (j < 0)
+					return i;
+			}
+			i += shift[b & 0xff];
+		}
+		return -1;
+	}
+
+	private byte[] prepare(byte[] pattern) {
+		if (pattern == null || pattern.length != fLength)
+			return null;
+		byte[] prepared = new byte[pattern.length];
+		for (int i = 0; i < pattern.length; i++) {
+			byte value = pattern[fForward ? i : pattern.length - 1 - i];
+			prepared[i] = fFoldCase ? toUpperCase(value) : value;
+		}
+		return prepared;
+	}
+
+	private static int[] createShiftTable(byte[] pattern) {
+		if (pattern == null)
+			return null;
+		int[] shift = new int[256];
+		Arrays.fill(shift, pattern.length);
+		for (int i = 0; i < pattern.length - 1; i++) {
+			shift[pattern[i] & 0xff] = pattern.length - 1 - i;
+		}
+		return shift;
+	}
+
+	private static byte toUpperCase(byte value) {
+		return value >= 'a' && value <= 'z' ? (byte) (value - ('a' - 'A')) : value;
+	}
+}